@@ -0,0 +1,94 @@
+package LinkerBell.campus_market_spring.global.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 한 캠퍼스에 키워드가 keywordCount개 있을 때 새 아이템 제목 하나를 매칭하는 비용. 기존 방식(모든 키워드에 title.contains)과 오토마톤을 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class KeywordAutomatonBenchmark {
+
+    private static final String SYLLABLES = "가나다라마바사아자차카타파하고노도로모보소오조초코토포호구누두루무부수우주추쿠투푸후";
+    private static final String[] WORDS = {"아이폰", "갤럭시", "맥북", "에어팟", "아이패드", "자전거",
+        "전공책", "모니터", "키보드", "의자", "책상", "냉장고", "camera", "nike", "ipad"};
+
+    @Param({"100000"})
+    private int keywordCount;
+
+    private List<String> keywordNames;
+    private KeywordAutomaton automaton;
+    private List<String> titles;
+    private int titleIndex;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        keywordNames = new ArrayList<>(keywordCount);
+        automaton = new KeywordAutomaton();
+        for (int i = 0; i < keywordCount; i++) {
+            String keywordName = i % 10 == 0 ? WORDS[random.nextInt(WORDS.length)]
+                : randomWord(random, 2 + random.nextInt(4));
+            keywordNames.add(keywordName);
+            automaton.add((long) i, (long) (i % 5000), keywordName);
+        }
+
+        titles = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            titles.add(WORDS[random.nextInt(WORDS.length)] + " " + randomWord(random, 6) + " 팝니다 "
+                + WORDS[random.nextInt(WORDS.length)] + " 상태 좋아요");
+        }
+        // link 계산은 첫 매칭에서 한 번만 일어나므로 측정에서 제외한다.
+        automaton.match(titles.get(0));
+    }
+
+    @Benchmark
+    public void automatonMatch(Blackhole blackhole) {
+        blackhole.consume(automaton.match(nextTitle()));
+    }
+
+    @Benchmark
+    public void containsScan(Blackhole blackhole) {
+        String title = nextTitle();
+        List<Integer> matched = new ArrayList<>();
+        for (int i = 0; i < keywordNames.size(); i++) {
+            if (title.contains(keywordNames.get(i))) {
+                matched.add(i);
+            }
+        }
+        blackhole.consume(matched);
+    }
+
+    private String nextTitle() {
+        titleIndex = (titleIndex + 1) % titles.size();
+        return titles.get(titleIndex);
+    }
+
+    private String randomWord(Random random, int length) {
+        StringBuilder word = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            word.append(SYLLABLES.charAt(random.nextInt(SYLLABLES.length())));
+        }
+        return word.toString();
+    }
+}
@@ -0,0 +1,148 @@
+package LinkerBell.campus_market_spring.repository;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 아이템 목록 한 페이지(pageSize개)의 isLiked를 계산하는 비용. 행마다 실행되는 상관 EXISTS 서브쿼리(기존 itemSearch)와, 페이지를 먼저 읽고
+ * 그 id로 likes를 한 번 IN 조회하는 방식(ItemRepositoryImpl.findLikedItemIds)을 같은 인덱스를 둔 H2 메모리 DB에서 비교한다.
+ * <p>
+ * 같은 프로세스의 H2라 네트워크 왕복 비용은 들어가지 않는다. 운영 DB에서는 IN 조회 한 번의 왕복이 더해지고, 상관 서브쿼리 쪽은 행 수만큼의 인덱스
+ * 탐색이 그대로 남는다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ItemSearchIsLikedBenchmark {
+
+    private static final long CAMPUS_ID = 1L;
+    private static final long USER_ID = 1L;
+    private static final String PAGE_COLUMNS =
+        "i.item_id, i.title, i.price, i.thumbnail, i.chat_count, i.like_count, i.created_date";
+    private static final String PAGE_CONDITION =
+        "FROM item i WHERE i.campus_id = ? AND i.is_deleted = false ORDER BY i.created_date DESC LIMIT ?";
+
+    @Param({"50"})
+    private int pageSize;
+
+    @Param({"20000"})
+    private int itemCount;
+
+    // 사용자가 좋아요한 아이템 비율 (1/likeEvery)
+    @Param({"3"})
+    private int likeEvery;
+
+    private Connection connection;
+    private PreparedStatement correlatedExists;
+    private PreparedStatement page;
+    private String likedInSql;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:is_liked;DB_CLOSE_DELAY=-1", "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE item (item_id BIGINT PRIMARY KEY, campus_id BIGINT, "
+                + "title VARCHAR(100), price INT, thumbnail VARCHAR(255), chat_count INT, like_count INT, "
+                + "is_deleted BOOLEAN, created_date TIMESTAMP)");
+            statement.execute("CREATE TABLE likes (like_id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                + "user_id BIGINT, item_id BIGINT)");
+            // db/migration V1과 같은 인덱스
+            statement.execute("CREATE INDEX idx_item_campus_deleted_created "
+                + "ON item (campus_id, is_deleted, created_date)");
+            statement.execute("CREATE INDEX idx_likes_user_item ON likes (user_id, item_id)");
+            statement.execute("INSERT INTO item SELECT x, " + CAMPUS_ID + ", CONCAT('item', x), x * 100, "
+                + "'thumbnail', 0, 0, false, DATEADD('MINUTE', x, TIMESTAMP '2024-01-01 00:00:00') "
+                + "FROM SYSTEM_RANGE(1, " + itemCount + ")");
+            // 다른 사용자의 좋아요도 섞어 둔다.
+            statement.execute("INSERT INTO likes (user_id, item_id) SELECT MOD(x, 200) + 1, x "
+                + "FROM SYSTEM_RANGE(1, " + itemCount + ") WHERE MOD(x, " + likeEvery + ") = 0");
+            statement.execute("ANALYZE");
+        }
+
+        correlatedExists = connection.prepareStatement("SELECT " + PAGE_COLUMNS + ", "
+            + "CASE WHEN EXISTS (SELECT 1 FROM likes l WHERE l.item_id = i.item_id AND l.user_id = ?) "
+            + "THEN TRUE ELSE FALSE END " + PAGE_CONDITION);
+        page = connection.prepareStatement("SELECT " + PAGE_COLUMNS + " " + PAGE_CONDITION);
+        likedInSql = "SELECT item_id FROM likes WHERE user_id = ? AND item_id IN ("
+            + String.join(", ", Collections.nCopies(pageSize, "?")) + ")";
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public void correlatedExists(Blackhole blackhole) throws SQLException {
+        correlatedExists.setLong(1, USER_ID);
+        correlatedExists.setLong(2, CAMPUS_ID);
+        correlatedExists.setInt(3, pageSize + 1);
+        try (ResultSet resultSet = correlatedExists.executeQuery()) {
+            while (resultSet.next()) {
+                blackhole.consume(resultSet.getLong(1));
+                blackhole.consume(resultSet.getBoolean(8));
+            }
+        }
+    }
+
+    @Benchmark
+    public void batchedInQuery(Blackhole blackhole) throws SQLException {
+        page.setLong(1, CAMPUS_ID);
+        page.setInt(2, pageSize + 1);
+        List<Long> itemIds = new ArrayList<>(pageSize + 1);
+        try (ResultSet resultSet = page.executeQuery()) {
+            while (resultSet.next()) {
+                itemIds.add(resultSet.getLong(1));
+            }
+        }
+
+        // hasNext 확인용 마지막 행은 빼고 페이지 id로만 조회한다.
+        List<Long> pageItemIds = itemIds.subList(0, Math.min(pageSize, itemIds.size()));
+        Set<Long> likedItemIds = new HashSet<>();
+        try (PreparedStatement likedIn = connection.prepareStatement(likedInSql)) {
+            likedIn.setLong(1, USER_ID);
+            for (int i = 0; i < pageSize; i++) {
+                // 페이지가 덜 찼으면 없는 id로 채운다.
+                likedIn.setLong(i + 2, i < pageItemIds.size() ? pageItemIds.get(i) : -1L);
+            }
+            try (ResultSet resultSet = likedIn.executeQuery()) {
+                while (resultSet.next()) {
+                    likedItemIds.add(resultSet.getLong(1));
+                }
+            }
+        }
+        for (Long itemId : pageItemIds) {
+            blackhole.consume(likedItemIds.contains(itemId));
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package LinkerBell.campus_market_spring.service;
+
+import LinkerBell.campus_market_spring.domain.ChatMessage;
+import LinkerBell.campus_market_spring.domain.ContentType;
+import LinkerBell.campus_market_spring.dto.ChatRoomMembersDto;
+import LinkerBell.campus_market_spring.dto.ChattingRequestDto;
+import LinkerBell.campus_market_spring.global.error.exception.CustomException;
+import LinkerBell.campus_market_spring.global.redis.ChatRoomSequence;
+import LinkerBell.campus_market_spring.repository.ChatMessageIdAllocator;
+import LinkerBell.campus_market_spring.repository.ChatRoomRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 서버 한 대가 STOMP 스레드 8개로 받을 수 있는 초당 채팅 메시지 수. DB는 왕복마다 dbRoundTripMicros가 걸리고 insert한 행마다 rowMicros가 더
+ * 걸리는 stub이다.
+ * <p>
+ * synchronous는 이전 경로(사용자, 채팅방 조회 + IDENTITY insert + 마지막 메시지, 안 읽은 개수 갱신)를 메시지마다 기다린다. writeBehind는
+ * ChattingService.makeChattingResponseDto를 그대로 호출하고, flusher가 묶음마다 왕복 3번(batch insert, 마지막 메시지, 안 읽은 개수)으로
+ * 저장한다. 대기열이 가득 차서 거절된 호출도 처리량에 들어가므로, flusher가 따라가는지는 rejected가 0인지로 함께 본다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class ChatWriteBehindBenchmark {
+
+    private static final int CHAT_ROOM_COUNT = 1000;
+    private static final int SYNCHRONOUS_ROUND_TRIPS = 5;
+    private static final int WRITE_BEHIND_ROUND_TRIPS = 3;
+
+    @Param({"500"})
+    private long dbRoundTripMicros;
+
+    @Param({"5"})
+    private long rowMicros;
+
+    private final AtomicLong sequence = new AtomicLong(1);
+    private final AtomicLong roomSequence = new AtomicLong();
+    private ChattingService chattingService;
+    private ChatMessageWriteBuffer chatMessageWriteBuffer;
+    private ChattingRequestDto chattingRequestDto;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Rejected {
+
+        public long rejected;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ChatMessageWriter chatMessageWriter = new ChatMessageWriter(null, null, null) {
+            @Override
+            public void write(List<ChatMessage> chatMessages) {
+                db(WRITE_BEHIND_ROUND_TRIPS, chatMessages.size());
+            }
+        };
+        ChatMessageIdAllocator chatMessageIdAllocator = new ChatMessageIdAllocator(null) {
+            @Override
+            protected long nextSequenceValue() {
+                db(1, 0);
+                return sequence.addAndGet(ChatMessage.ID_BLOCK_SIZE);
+            }
+        };
+        // 채팅방 순번은 Redis 스크립트 한 번이라 DB 왕복에 비해 무시하고 메모리에서 준다.
+        ChatRoomSequence chatRoomSequence = new ChatRoomSequence(null, null, 0) {
+            @Override
+            public long next(Long chatRoomId) {
+                return roomSequence.incrementAndGet();
+            }
+
+            @Override
+            public void complete(List<ChatMessage> chatMessages) {
+            }
+        };
+        chatMessageWriteBuffer = new ChatMessageWriteBuffer(chatMessageWriter, chatRoomSequence,
+            new SimpleMeterRegistry(), 10000, 500, 50, 3, 100, 30000);
+        chatMessageWriteBuffer.start();
+        chattingService = new ChattingService(null, null, null, null,
+            new ChatRoomMemberCache(membersRepository()), chatMessageIdAllocator,
+            chatMessageWriteBuffer, chatRoomSequence);
+        chattingRequestDto = ChattingRequestDto.builder()
+            .content("안녕하세요, 아직 판매 중인가요?")
+            .contentType(ContentType.TEXT)
+            .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        chatMessageWriteBuffer.shutdown();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void synchronous() {
+        db(SYNCHRONOUS_ROUND_TRIPS, 1);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Object writeBehind(Rejected rejected) {
+        long chatRoomId = ThreadLocalRandom.current().nextLong(CHAT_ROOM_COUNT) + 1;
+        try {
+            return chattingService.makeChattingResponseDto(1L, chatRoomId, chattingRequestDto);
+        } catch (CustomException e) {
+            rejected.rejected++;
+            return e;
+        }
+    }
+
+    private void db(int roundTrips, int rows) {
+        LockSupport.parkNanos(
+            TimeUnit.MICROSECONDS.toNanos(roundTrips * dbRoundTripMicros + rows * rowMicros));
+    }
+
+    private ChatRoomRepository membersRepository() {
+        return (ChatRoomRepository) Proxy.newProxyInstance(
+            ChatRoomRepository.class.getClassLoader(),
+            new Class<?>[]{ChatRoomRepository.class},
+            (proxy, method, args) -> switch (method.getName()) {
+                case "findMembersByChatRoomId" ->
+                    Optional.of(new ChatRoomMembersDto((Long) args[0], 1L, 2L, false,
+                        false));
+                default -> throw new UnsupportedOperationException(method.getName());
+            });
+    }
+}
@@ -0,0 +1,71 @@
+package LinkerBell.campus_market_spring.service;
+
+import LinkerBell.campus_market_spring.dto.FcmMessageDto;
+import LinkerBell.campus_market_spring.global.push.FakePushGateway;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 키워드 알림 한 건을 기기 deviceCount대에 보내는 시간. 요청 한 번에 latencyMillis가 걸리는 FakePushGateway로 토큰마다 보내는 기존
+ * 방식과 500개씩 묶어 보내는 방식을 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class FcmNotificationBenchmark {
+
+    @Param({"2000"})
+    private int deviceCount;
+
+    @Param({"1"})
+    private int latencyMillis;
+
+    private FakePushGateway pushGateway;
+    private FcmNotificationService fcmNotificationService;
+    private List<FcmMessageDto> messages;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        pushGateway = new FakePushGateway(Duration.ofMillis(latencyMillis), 0, 0, Duration.ZERO,
+            false);
+        // 잘못된 토큰이 없으므로 repository와 eventPublisher는 호출되지 않는다.
+        fcmNotificationService = new FcmNotificationService(null, pushGateway, null);
+        messages = new ArrayList<>(deviceCount);
+        for (int i = 0; i < deviceCount; i++) {
+            messages.add(FcmMessageDto.builder()
+                .targetToken("token" + i)
+                .title("camera 키워드 알림")
+                .body("sony camera")
+                .build());
+        }
+    }
+
+    @Benchmark
+    public void sendPerToken() {
+        for (FcmMessageDto message : messages) {
+            pushGateway.sendBatch(List.of(message));
+        }
+    }
+
+    @Benchmark
+    public void sendBatched() {
+        fcmNotificationService.sendNotifications(messages);
+    }
+}
@@ -0,0 +1,125 @@
+package LinkerBell.campus_market_spring.service;
+
+import LinkerBell.campus_market_spring.dto.FcmMessageDto;
+import LinkerBell.campus_market_spring.global.push.FakePushGateway;
+import LinkerBell.campus_market_spring.repository.UserFcmTokenRepository;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 초당 발송 메시지 수. 키워드 알림은 아이템 한 건에 기기 KEYWORD_DEVICE_COUNT대로 퍼지고, 채팅은 메시지 한 건이 상대방 기기 CHAT_DEVICE_COUNT대로
+ * 간다. invalidTokenRate 비율의 토큰은 UNREGISTERED로 응답하므로, 토큰 삭제 호출 수(cleanupCalls)와 삭제된 토큰 수(deletedTokens)를 같이
+ * 본다. 삭제 repository는 호출 수만 세는 stub이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class PushFanOutBenchmark {
+
+    private static final int KEYWORD_DEVICE_COUNT = 2000;
+    private static final int CHAT_DEVICE_COUNT = 2;
+
+    @Param({"0", "0.05"})
+    private double invalidTokenRate;
+
+    @Param({"1"})
+    private int latencyMillis;
+
+    private final AtomicLong cleanupCalls = new AtomicLong();
+    private final AtomicLong deletedTokens = new AtomicLong();
+    private FcmNotificationService fcmNotificationService;
+    private List<FcmMessageDto> keywordMessages;
+    private List<FcmMessageDto> chatMessages;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Cleanup {
+
+        public long cleanupCalls;
+        public long deletedTokens;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        FakePushGateway pushGateway = new FakePushGateway(Duration.ofMillis(latencyMillis),
+            invalidTokenRate, 0, Duration.ZERO, false);
+        fcmNotificationService = new FcmNotificationService(countingRepository(), pushGateway,
+            event -> {
+            });
+        keywordMessages = createMessages("keyword", KEYWORD_DEVICE_COUNT);
+        chatMessages = createMessages("chat", CHAT_DEVICE_COUNT);
+    }
+
+    @Benchmark
+    @Threads(1)
+    @OperationsPerInvocation(KEYWORD_DEVICE_COUNT)
+    public void keywordFanOut(Cleanup cleanup) {
+        fcmNotificationService.sendNotifications(keywordMessages);
+        drain(cleanup);
+    }
+
+    // 채팅 메시지는 여러 채팅방에서 동시에 들어오므로 여러 스레드로 보낸다.
+    @Benchmark
+    @Threads(8)
+    @OperationsPerInvocation(CHAT_DEVICE_COUNT)
+    public void chatFanOut(Cleanup cleanup) {
+        fcmNotificationService.sendNotifications(chatMessages);
+        drain(cleanup);
+    }
+
+    private void drain(Cleanup cleanup) {
+        cleanup.cleanupCalls += cleanupCalls.getAndSet(0);
+        cleanup.deletedTokens += deletedTokens.getAndSet(0);
+    }
+
+    private UserFcmTokenRepository countingRepository() {
+        return (UserFcmTokenRepository) Proxy.newProxyInstance(
+            UserFcmTokenRepository.class.getClassLoader(),
+            new Class<?>[]{UserFcmTokenRepository.class},
+            (proxy, method, args) -> switch (method.getName()) {
+                case "deleteByFcmTokenIn" -> {
+                    int size = ((Collection<?>) args[0]).size();
+                    cleanupCalls.incrementAndGet();
+                    deletedTokens.addAndGet(size);
+                    yield size;
+                }
+                case "findUserIdsByFcmTokenIn" -> List.of();
+                default -> throw new UnsupportedOperationException(method.getName());
+            });
+    }
+
+    private List<FcmMessageDto> createMessages(String prefix, int count) {
+        List<FcmMessageDto> messages = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            messages.add(FcmMessageDto.builder()
+                .targetToken(prefix + "-token" + i)
+                .title(prefix + " 알림")
+                .body("sony camera")
+                .build());
+        }
+        return messages;
+    }
+}
@@ -21,7 +21,11 @@ import LinkerBell.campus_market_spring.dto.ItemDetailsViewResponseDto;
 import LinkerBell.campus_market_spring.dto.SliceResponse;
 import LinkerBell.campus_market_spring.dto.UserInfoDto;
 import LinkerBell.campus_market_spring.global.auth.Login;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -29,6 +33,8 @@ import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.data.web.SortDefault;
 import org.springframework.data.web.SortDefault.SortDefaults;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -72,6 +78,29 @@ public class AdminController {
         return ResponseEntity.ok(response);
     }
 
+    // 조회 조건은 getAllItems와 같고, 페이지 없이 전체 결과를 CSV로 내려준다.
+    @GetMapping(value = "/items/export", produces = "text/csv")
+    public void exportItems(HttpServletResponse response,
+        @RequestParam(required = false) String name,
+        @RequestParam(required = false) Category category,
+        @RequestParam(required = false) Integer minPrice,
+        @RequestParam(required = false) Integer maxPrice,
+        @RequestParam(required = false) Boolean isDeleted,
+        @RequestParam(required = false) Long campusId,
+        @RequestParam(required = false) ItemStatus itemStatus) throws IOException {
+        response.setContentType("text/csv");
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+            .filename("items.csv").build().toString());
+
+        Writer writer = response.getWriter();
+        // 엑셀에서 한글이 깨지지 않도록 BOM을 먼저 쓴다.
+        writer.write('\uFEFF');
+        adminService.exportItems(writer, name, category, minPrice, maxPrice, isDeleted, campusId,
+            itemStatus);
+        writer.flush();
+    }
+
     @GetMapping("/items/report")
     public ResponseEntity<SliceResponse<ItemReportSearchResponseDto>> getItemReports(
         @RequestParam(defaultValue = "all", name = "status") String status,
@@ -157,6 +186,12 @@ public class AdminController {
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/items/search-index")
+    public ResponseEntity<?> rebuildItemSearchIndex() {
+        adminService.rebuildItemSearchIndex();
+        return ResponseEntity.noContent().build();
+    }
+
     @DeleteMapping("/items/{itemId}")
     public ResponseEntity<?> deleteItem(@PathVariable("itemId") Long itemId) {
         adminService.deleteItem(itemId);
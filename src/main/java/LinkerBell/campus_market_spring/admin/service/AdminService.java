@@ -25,6 +25,10 @@ import LinkerBell.campus_market_spring.dto.SliceResponse;
 import LinkerBell.campus_market_spring.dto.UserInfoDto;
 import LinkerBell.campus_market_spring.global.error.ErrorCode;
 import LinkerBell.campus_market_spring.global.error.exception.CustomException;
+import LinkerBell.campus_market_spring.global.event.ItemChangeType;
+import LinkerBell.campus_market_spring.global.event.ItemChangedEvent;
+import LinkerBell.campus_market_spring.global.event.ItemFacetChangedEvent;
+import LinkerBell.campus_market_spring.global.event.ItemFacetChangedEvent.ItemFacet;
 import LinkerBell.campus_market_spring.global.jwt.JwtUtils;
 import LinkerBell.campus_market_spring.repository.BlacklistRepository;
 import LinkerBell.campus_market_spring.repository.CampusRepository;
@@ -35,11 +39,18 @@ import LinkerBell.campus_market_spring.repository.UserReportRepository;
 import LinkerBell.campus_market_spring.repository.UserRepository;
 import LinkerBell.campus_market_spring.service.FcmService;
 import LinkerBell.campus_market_spring.service.GoogleAuthService;
+import LinkerBell.campus_market_spring.service.ItemSearchIndexService;
+import com.opencsv.CSVWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
@@ -51,6 +62,10 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 public class AdminService {
 
+    private static final String[] ITEM_EXPORT_HEADER = {"itemId", "userId", "nickname", "title",
+        "price", "chatCount", "likeCount", "itemStatus", "universityName", "campusRegion",
+        "campusId", "createdDate", "lastModifiedDate", "isDeleted", "thumbnail"};
+
     private final GoogleAuthService googleAuthService;
     private final UserRepository userRepository;
     private final JwtUtils jwtUtils;
@@ -61,6 +76,8 @@ public class AdminService {
     private final QaRepository qaRepository;
     private final CampusRepository campusRepository;
     private final FcmService fcmService;
+    private final ItemSearchIndexService itemSearchIndexService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public AuthResponseDto adminLogin(String idToken) {
         String email = googleAuthService.getEmailWithVerifyIdToken(idToken);
@@ -120,6 +137,25 @@ public class AdminService {
             campusId, itemStatus, pageable);
     }
 
+    /**
+     * 조건에 맞는 아이템을 한 행씩 읽어 바로 CSV로 쓴다. 결과 전체를 메모리에 올리지 않으므로 아이템 수와 관계없이 사용하는 메모리가 일정하다.
+     */
+    @Transactional(readOnly = true)
+    public void exportItems(Writer writer, String name, Category category, Integer minPrice,
+        Integer maxPrice, Boolean isDeleted, Long campusId, ItemStatus itemStatus) {
+        CSVWriter csvWriter = new CSVWriter(writer);
+        csvWriter.writeNext(ITEM_EXPORT_HEADER);
+        try (Stream<AdminItemSearchResponseDto> items = itemRepository.streamAdminItems(name,
+            category, minPrice, maxPrice, isDeleted, campusId, itemStatus)) {
+            items.forEach(item -> csvWriter.writeNext(toItemExportRow(item)));
+        }
+        try {
+            csvWriter.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     @Transactional(readOnly = true)
     public ItemReportResponseDto getItemReport(Long itemReportId) {
         ItemReport itemReport = itemReportRepository.findById(itemReportId)
@@ -143,8 +179,12 @@ public class AdminService {
         if (itemReport.getItem() == null) {
             throw new CustomException(ErrorCode.ITEM_NOT_FOUND);
         }
+        ItemFacet before = ItemFacet.of(itemReport.getItem());
         itemReport.getItem().setDeleted(isDeleted);
         itemReport.setCompleted(true);
+        eventPublisher.publishEvent(ItemChangedEvent.of(itemReport.getItem(),
+            isDeleted ? ItemChangeType.DELETED : ItemChangeType.UPDATED));
+        eventPublisher.publishEvent(ItemFacetChangedEvent.of(itemReport.getItem(), before));
     }
 
     public void receiveUserReport(Long userReportId, boolean isSuspended,
@@ -216,11 +256,19 @@ public class AdminService {
         return itemRepository.findByItemDetails(userId, itemId);
     }
 
+    @Transactional(readOnly = true)
+    public int rebuildItemSearchIndex() {
+        return itemSearchIndexService.rebuild();
+    }
+
     public void deleteItem(Long itemId) {
         Item item = itemRepository.findById(itemId)
             .orElseThrow(() -> new CustomException(ErrorCode.ITEM_NOT_FOUND));
 
+        ItemFacet before = ItemFacet.of(item);
         item.setDeleted(true);
+        eventPublisher.publishEvent(ItemChangedEvent.of(item, ItemChangeType.DELETED));
+        eventPublisher.publishEvent(ItemFacetChangedEvent.of(item, before));
     }
 
     @Transactional(readOnly = true)
@@ -244,4 +292,32 @@ public class AdminService {
         Slice<UserInfoDto> users = userRepository.findUserInfoAll(Role.USER, pageable);
         return new SliceResponse<>(users);
     }
+
+    private String[] toItemExportRow(AdminItemSearchResponseDto item) {
+        return new String[]{
+            String.valueOf(item.getItemId()),
+            String.valueOf(item.getUserId()),
+            escapeFormula(item.getNickname()),
+            escapeFormula(item.getTitle()),
+            String.valueOf(item.getPrice()),
+            String.valueOf(item.getChatCount()),
+            String.valueOf(item.getLikeCount()),
+            String.valueOf(item.getItemStatus()),
+            item.getUniversityName(),
+            item.getCampusRegion(),
+            String.valueOf(item.getCampusId()),
+            String.valueOf(item.getCreatedDate()),
+            String.valueOf(item.getLastModifiedDate()),
+            String.valueOf(item.getIsDeleted()),
+            item.getThumbnail()
+        };
+    }
+
+    // 사용자가 입력한 값이 스프레드시트에서 수식으로 실행되지 않도록 앞에 '를 붙인다. 탭, 캐리지 리턴 뒤의 수식도 실행될 수 있어 함께 막는다.
+    private String escapeFormula(String value) {
+        if (value != null && !value.isEmpty() && "=+-@\t\r".indexOf(value.charAt(0)) >= 0) {
+            return "'" + value;
+        }
+        return value;
+    }
 }
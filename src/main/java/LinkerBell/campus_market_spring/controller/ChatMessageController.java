@@ -1,30 +1,42 @@
 package LinkerBell.campus_market_spring.controller;
 
 import LinkerBell.campus_market_spring.dto.AuthUserDto;
-import LinkerBell.campus_market_spring.dto.ChatMessageResponseDto;
-import LinkerBell.campus_market_spring.dto.CollectionResponse.ChatMessageCollectionResponseDto;
+import LinkerBell.campus_market_spring.dto.ChatSyncRequestDto;
+import LinkerBell.campus_market_spring.dto.ChatSyncResponseDto;
 import LinkerBell.campus_market_spring.dto.GetMessageContentsRequestDto;
 import LinkerBell.campus_market_spring.dto.ReadMessageRequestDto;
 import LinkerBell.campus_market_spring.dto.RecentChatMessageResponseDto;
 import LinkerBell.campus_market_spring.global.auth.Login;
+import LinkerBell.campus_market_spring.global.error.ErrorCode;
+import LinkerBell.campus_market_spring.global.error.exception.CustomException;
 import LinkerBell.campus_market_spring.service.ChatMessageService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Collections;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Slf4j
 @RestController
 @RequiredArgsConstructor
 public class ChatMessageController {
 
+    private static final int MAX_CONTENTS_SIZE = 1000;
+
     private final ChatMessageService chatMessageService;
+    private final ObjectMapper objectMapper;
 
     // 최근 7일간 메시지 목록 가져오기
     @GetMapping("api/v1/chat/recent-message")
@@ -47,16 +59,52 @@ public class ChatMessageController {
     }
 
     // 메시지 내용들 가져오기
+    // id는 MAX_CONTENTS_SIZE개까지 받고, 응답을 한 번에 만들지 않고 조회한 묶음부터 {"messageList": [...], "missingMessageIdList": [...]}로
+    // 흘려 보낸다. 응답을 쓰기 시작한 뒤에는 상태 코드를 바꿀 수 없으므로 개수는 그 전에 확인한다.
     @PostMapping("api/v1/chat/message")
-    public ResponseEntity<ChatMessageCollectionResponseDto> getMessageContents(
+    public ResponseEntity<StreamingResponseBody> getMessageContents(
         @RequestBody GetMessageContentsRequestDto getMessageContentsRequestDto) {
-        if (getMessageContentsRequestDto == null || getMessageContentsRequestDto.getMessageIdList()
-            .isEmpty()) {
-            return ResponseEntity.ok(new ChatMessageCollectionResponseDto(Collections.emptyList()));
+        List<Long> messageIdList = getMessageContentsRequestDto == null
+            || getMessageContentsRequestDto.getMessageIdList() == null ? Collections.emptyList()
+            : getMessageContentsRequestDto.getMessageIdList();
+        if (messageIdList.size() > MAX_CONTENTS_SIZE) {
+            log.error("getMessageContents: too many message ids. size = {}", messageIdList.size());
+            throw new CustomException(ErrorCode.TOO_MANY_MESSAGE_IDS);
         }
-        List<Long> messageIdList = getMessageContentsRequestDto.getMessageIdList();
-        List<ChatMessageResponseDto> chatMessageResponseDtoList = chatMessageService.getMessageContents(
-            messageIdList);
-        return ResponseEntity.ok(ChatMessageCollectionResponseDto.from(chatMessageResponseDtoList));
+
+        StreamingResponseBody responseBody = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.writeStartObject();
+                generator.writeArrayFieldStart("messageList");
+                List<Long> missingMessageIdList;
+                try {
+                    missingMessageIdList = chatMessageService.fetchMessageContents(messageIdList,
+                        message -> {
+                            try {
+                                generator.writeObject(message);
+                            } catch (IOException e) {
+                                throw new UncheckedIOException(e);
+                            }
+                        });
+                } catch (UncheckedIOException e) {
+                    throw e.getCause();
+                }
+                generator.writeEndArray();
+                generator.writeObjectField("missingMessageIdList", missingMessageIdList);
+                generator.writeEndObject();
+            }
+        };
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(responseBody);
+    }
+
+    // 채팅방별 커서 이후 메시지 동기화하기
+    @PostMapping("api/v1/chat/sync")
+    public ResponseEntity<ChatSyncResponseDto> syncMessages(@Login AuthUserDto authUserDto,
+        @Valid @RequestBody ChatSyncRequestDto chatSyncRequestDto) {
+        ChatSyncResponseDto chatSyncResponseDto = chatMessageService.syncMessages(
+            authUserDto.getUserId(), chatSyncRequestDto);
+        return ResponseEntity.ok(chatSyncResponseDto);
     }
 }
@@ -3,10 +3,13 @@ package LinkerBell.campus_market_spring.controller;
 import LinkerBell.campus_market_spring.domain.Category;
 import LinkerBell.campus_market_spring.domain.ItemStatus;
 import LinkerBell.campus_market_spring.dto.AuthUserDto;
+import LinkerBell.campus_market_spring.dto.CursorSliceResponse;
 import LinkerBell.campus_market_spring.dto.ItemCategoryResponseDto;
 import LinkerBell.campus_market_spring.dto.ItemDetailsViewResponseDto;
+import LinkerBell.campus_market_spring.dto.ItemFacetsResponseDto;
 import LinkerBell.campus_market_spring.dto.ItemRegisterRequestDto;
 import LinkerBell.campus_market_spring.dto.ItemRegisterResponseDto;
+import LinkerBell.campus_market_spring.dto.ItemSearchCursor;
 import LinkerBell.campus_market_spring.dto.ItemSearchRequestDto;
 import LinkerBell.campus_market_spring.dto.ItemSearchResponseDto;
 import LinkerBell.campus_market_spring.dto.ItemStatusChangeRequestDto;
@@ -73,6 +76,37 @@ public class ItemController {
         return ResponseEntity.ok(sliceResponse);
     }
 
+    // cursor 파라미터가 있으면 offset 대신 keyset 방식으로 조회한다. 첫 페이지는 빈 cursor로 요청
+    @GetMapping(params = "cursor")
+    public ResponseEntity<CursorSliceResponse<ItemSearchResponseDto>> itemSearchByCursor(
+        @Login AuthUserDto user,
+        @RequestParam String cursor,
+        @RequestParam(required = false) String name,
+        @RequestParam(required = false) Category category,
+        @RequestParam(required = false) Integer minPrice,
+        @RequestParam(required = false) Integer maxPrice,
+        @RequestParam(required = false) ItemStatus itemStatus,
+        @PageableDefault(size = 10, sort = "createdDate", direction = Sort.Direction.DESC) Pageable pageable) {
+
+        ItemSearchRequestDto itemSearchRequestDto = new ItemSearchRequestDto();
+        itemSearchRequestDto.setName(name);
+        itemSearchRequestDto.setCategory(category);
+
+        priceValidate(minPrice, maxPrice);
+
+        itemSearchRequestDto.setMinPrice(minPrice);
+        itemSearchRequestDto.setMaxPrice(maxPrice);
+        itemSearchRequestDto.setItemStatus(itemStatus);
+        pageableValidate(pageable);
+
+        itemSearchRequestDto.setPageable(pageable);
+        itemSearchRequestDto.setCursor(ItemSearchCursor.decode(cursor));
+
+        CursorSliceResponse<ItemSearchResponseDto> cursorSliceResponse = itemService.itemSearchByCursor(
+            user.getUserId(), itemSearchRequestDto);
+        return ResponseEntity.ok(cursorSliceResponse);
+    }
+
     @PostMapping
     public ResponseEntity<ItemRegisterResponseDto> itemRegister(@Login AuthUserDto authUserDto,
         @Valid @RequestBody ItemRegisterRequestDto itemRegisterRequestDto) {
@@ -92,6 +126,12 @@ public class ItemController {
         return ResponseEntity.ok(new ItemCategoryResponseDto(Category.values()));
     }
 
+    // 필터 칩에 표시할 캠퍼스별 카테고리, 판매 상태, 가격 구간 개수
+    @GetMapping("/facets")
+    public ResponseEntity<ItemFacetsResponseDto> itemFacets(@Login AuthUserDto authUserDto) {
+        return ResponseEntity.ok(itemService.getItemFacets(authUserDto.getUserId()));
+    }
+
     @GetMapping("/{itemId}")
     public ResponseEntity<ItemDetailsViewResponseDto> viewItemDetails(
         @Login AuthUserDto authUserDto,
@@ -1,7 +1,9 @@
 package LinkerBell.campus_market_spring.controller;
 
 import LinkerBell.campus_market_spring.dto.AuthUserDto;
+import LinkerBell.campus_market_spring.dto.CursorSliceResponse;
 import LinkerBell.campus_market_spring.dto.NotificationHistoryResponseDto;
+import LinkerBell.campus_market_spring.dto.NotificationUnreadCountResponseDto;
 import LinkerBell.campus_market_spring.dto.SliceResponse;
 import LinkerBell.campus_market_spring.global.auth.Login;
 import LinkerBell.campus_market_spring.global.error.ErrorCode;
@@ -12,8 +14,10 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -42,6 +46,46 @@ public class NotificationHistoryController {
         return ResponseEntity.ok(notificationHistory);
     }
 
+    // cursor 파라미터가 있으면 offset 대신 id 기준 keyset 방식으로 조회한다. 첫 페이지는 빈 cursor로 요청
+    @GetMapping(params = "cursor")
+    public ResponseEntity<CursorSliceResponse<NotificationHistoryResponseDto>> getNotificationHistoryByCursor(
+        @Login AuthUserDto user,
+        @RequestParam String cursor,
+        @RequestParam(defaultValue = "10") int size
+    ) {
+        validSize(size);
+        CursorSliceResponse<NotificationHistoryResponseDto> notificationHistory = notificationHistoryService.getNotificationHistoryByCursor(
+            user.getUserId(), decodeCursor(cursor), size);
+
+        return ResponseEntity.ok(notificationHistory);
+    }
+
+    @GetMapping("/unread-count")
+    public ResponseEntity<NotificationUnreadCountResponseDto> getUnreadCount(
+        @Login AuthUserDto user
+    ) {
+        long unreadCount = notificationHistoryService.getUnreadCount(user.getUserId());
+        return ResponseEntity.ok(new NotificationUnreadCountResponseDto(unreadCount));
+    }
+
+    @PatchMapping("/{notificationId}/read")
+    public ResponseEntity<?> readNotificationHistory(
+        @Login AuthUserDto user,
+        @PathVariable(name = "notificationId") Long notificationId
+    ) {
+        validNotificationId(notificationId);
+        notificationHistoryService.readNotification(user.getUserId(), notificationId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PatchMapping("/read")
+    public ResponseEntity<?> readAllNotificationHistory(
+        @Login AuthUserDto user
+    ) {
+        notificationHistoryService.readAllNotification(user.getUserId());
+        return ResponseEntity.noContent().build();
+    }
+
     @DeleteMapping("/{notificationId}")
     public ResponseEntity<?> deleteNotificationHistory(
         @Login AuthUserDto user,
@@ -60,6 +104,28 @@ public class NotificationHistoryController {
         return ResponseEntity.noContent().build();
     }
 
+    // 빈 커서는 첫 페이지를 의미한다.
+    private Long decodeCursor(String cursor) {
+        if (!StringUtils.hasText(cursor)) {
+            return null;
+        }
+        try {
+            long lastId = Long.parseLong(cursor);
+            if (lastId < 1) {
+                throw new CustomException(ErrorCode.INVALID_CURSOR);
+            }
+            return lastId;
+        } catch (NumberFormatException e) {
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    private void validSize(int size) {
+        if (size < 1) {
+            throw new CustomException(ErrorCode.INVALID_PAGEABLE_SIZE);
+        }
+    }
+
     private void validNotificationId(Long notificationId) {
 
         if (notificationId == null) {
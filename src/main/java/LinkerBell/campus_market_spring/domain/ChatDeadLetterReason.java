@@ -0,0 +1,10 @@
+package LinkerBell.campus_market_spring.domain;
+
+public enum ChatDeadLetterReason {
+    // 이미 있는 message_id. 입력 문제가 아니라 id 발급 오류이다.
+    DUPLICATE_ID,
+    // 채팅방, 사용자 삭제 등 이 행만의 제약 조건 위반
+    CONSTRAINT_VIOLATION,
+    // 종료 중 재시도 횟수를 넘긴 DB 오류
+    WRITE_FAILED
+}
@@ -9,8 +9,11 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -18,6 +21,9 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
+@Table(indexes = {
+    @Index(name = "idx_chat_message_room_sequence", columnList = "chat_room_id, room_sequence")
+})
 @Builder
 @Getter
 @Setter
@@ -25,8 +31,15 @@ import lombok.Setter;
 @AllArgsConstructor
 public class ChatMessage extends BaseEntity {
 
+    public static final String ID_SEQUENCE = "chat_message_seq";
+    public static final int ID_BLOCK_SIZE = 1000;
+
+    // STOMP 경로는 저장 전에 ChatMessageIdAllocator로 id를 받는다. JPA(pooled optimizer)와 allocator 모두 sequence 값
+    // v를 [v - ID_BLOCK_SIZE + 1, v] 블록으로 쓰므로 서로 다른 값을 받은 두 블록은 겹치지 않는다.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = ID_SEQUENCE)
+    @SequenceGenerator(name = ID_SEQUENCE, sequenceName = ID_SEQUENCE,
+        allocationSize = ID_BLOCK_SIZE)
     private Long messageId;
     @ManyToOne(fetch = LAZY)
     @JoinColumn(name = "chat_room_id", nullable = false)
@@ -40,4 +53,6 @@ public class ChatMessage extends BaseEntity {
     @Enumerated(EnumType.STRING)
     private ContentType contentType;
     private boolean isRead;
+    // 채팅방 안에서 보낸 순서대로 커지는 번호. 동기화 커서로 쓴다.
+    private Long roomSequence;
 }
@@ -0,0 +1,49 @@
+package LinkerBell.campus_market_spring.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 이미 브로드캐스트했지만 chat_message에 저장하지 못한 메시지. 채팅방, 사용자가 삭제되었어도 남아야 하므로 연관관계 없이 id만 가지고,
+ * message_id도 중복될 수 있어 고유 제약을 두지 않는다. 원인을 확인한 뒤 수동으로 다시 넣는다.
+ */
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ChatMessageDeadLetter extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long chatMessageDeadLetterId;
+
+    private Long messageId;
+    private Long chatRoomId;
+    private Long userId;
+    @Column(length = 2000)
+    private String content;
+    // MariaDB에서는 enum 타입이 기본이라 migration의 varchar와 맞춘다. (ddl-auto=validate)
+    @Enumerated(EnumType.STRING)
+    @Column(columnDefinition = "varchar(255)")
+    private ContentType contentType;
+    private Long roomSequence;
+    // 서버가 메시지를 받은 시각 (브로드캐스트한 createdAt)
+    private LocalDateTime receivedAt;
+
+    @Enumerated(EnumType.STRING)
+    @Column(columnDefinition = "varchar(30)")
+    private ChatDeadLetterReason reason;
+    @Column(length = 500)
+    private String lastError;
+}
@@ -7,15 +7,22 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Entity
+@Table(indexes = {
+    @Index(name = "idx_chat_properties_user_chat_room", columnList = "user_id, chat_room_id")
+})
+@DynamicUpdate
 @Builder
 @Getter
 @Setter
@@ -38,4 +45,8 @@ public class ChatProperties extends BaseEntity {
     @Column(length = 150)
     private String title;
     private boolean isExited;
+    // 상대방이 보낸 메시지 중 아직 읽지 않은 개수
+    private int unreadCount;
+    // 상대방이 보낸 메시지 중 마지막으로 읽은 메시지 id
+    private Long lastReadMessageId;
 }
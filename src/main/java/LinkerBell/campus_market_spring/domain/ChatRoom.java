@@ -7,15 +7,23 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Entity
+@Table(indexes = {
+    @Index(name = "idx_chat_room_user_item", columnList = "user_id, item_id")
+})
+@DynamicUpdate
 @Builder
 @Getter
 @Setter
@@ -34,4 +42,11 @@ public class ChatRoom extends BaseEntity {
     @JoinColumn(name = "item_id")
     private Item item;
     private int userCount;
+
+    // 채팅방 목록에서 메시지 테이블을 읽지 않도록 마지막 메시지를 채팅방에 함께 둔다.
+    private Long lastMessageId;
+    @Column(length = 100)
+    private String lastMessagePreview;
+    private LocalDateTime lastActivityAt;
+    private Long lastSequence;
 }
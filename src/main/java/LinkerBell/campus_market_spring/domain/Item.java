@@ -9,15 +9,26 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Entity
+@Table(indexes = {
+    @Index(name = "idx_item_campus_deleted_status_created",
+        columnList = "campus_id, is_deleted, item_status, created_date"),
+    @Index(name = "idx_item_campus_deleted_created",
+        columnList = "campus_id, is_deleted, created_date"),
+    @Index(name = "idx_item_last_modified_date", columnList = "last_modified_date")
+})
+@DynamicUpdate
 @Getter
 @Setter
 @NoArgsConstructor
@@ -57,4 +68,10 @@ public class Item extends BaseEntity {
     @Builder.Default
     private boolean isDeleted = false;
 
+    // 목록 조회에서 join + countDistinct를 피하기 위한 비정규화 카운터. ItemRepository의 update 쿼리로만 변경
+    @Builder.Default
+    private int chatCount = 0;
+    @Builder.Default
+    private int likeCount = 0;
+
 }
@@ -0,0 +1,98 @@
+package LinkerBell.campus_market_spring.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 아이템 등록과 같은 트랜잭션에서 저장되는 키워드 알림 작업. 키워드 매칭, 알림 내역 저장, 푸시 발송은 KeywordAlertDispatcher가 커밋 이후에
+ * 처리한다. 아이템이 삭제되어도 작업은 남아야 하므로 item은 연관관계 없이 id만 가진다.
+ */
+@Entity
+@Table(indexes = {
+    @Index(name = "idx_keyword_alert_outbox_status_next",
+        columnList = "status, next_attempt_at")
+})
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class KeywordAlertOutbox extends BaseEntity {
+
+    private static final int LAST_ERROR_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long keywordAlertOutboxId;
+
+    private Long itemId;
+
+    @Builder.Default
+    @Enumerated(EnumType.STRING)
+    // MariaDB에서는 enum 타입이 기본이라 migration의 varchar와 맞춘다. (ddl-auto=validate)
+    @Column(columnDefinition = "varchar(20)")
+    private OutboxStatus status = OutboxStatus.PENDING;
+
+    // claim 할 때마다 1씩 증가한다.
+    @Builder.Default
+    private int attemptCount = 0;
+
+    // 재시도 때 알림 내역이 중복 저장되지 않도록 저장 여부를 같은 트랜잭션에서 기록한다.
+    @Builder.Default
+    private boolean historySaved = false;
+
+    private LocalDateTime nextAttemptAt;
+
+    // PROCESSING 상태에서 이 시각이 지나면 서버가 중간에 종료된 것으로 보고 다시 처리한다.
+    private LocalDateTime lockedUntil;
+
+    @Column(length = LAST_ERROR_LENGTH)
+    private String lastError;
+
+    public static KeywordAlertOutbox pending(Long itemId) {
+        return KeywordAlertOutbox.builder()
+            .itemId(itemId)
+            .nextAttemptAt(LocalDateTime.now())
+            .build();
+    }
+
+    public void markHistorySaved() {
+        this.historySaved = true;
+    }
+
+    public void markDone() {
+        this.status = OutboxStatus.DONE;
+        this.lockedUntil = null;
+    }
+
+    public void retryAt(LocalDateTime nextAttemptAt, String error) {
+        this.status = OutboxStatus.PENDING;
+        this.nextAttemptAt = nextAttemptAt;
+        this.lockedUntil = null;
+        this.lastError = truncate(error);
+    }
+
+    public void markFailed(String error) {
+        this.status = OutboxStatus.FAILED;
+        this.lockedUntil = null;
+        this.lastError = truncate(error);
+    }
+
+    private String truncate(String error) {
+        if (error == null || error.length() <= LAST_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, LAST_ERROR_LENGTH);
+    }
+}
@@ -7,14 +7,20 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Table(indexes = {
+    @Index(name = "idx_notification_history_user_id",
+        columnList = "user_id, notification_history_id")
+})
 @Getter
 @Builder
 @AllArgsConstructor
@@ -38,5 +44,11 @@ public class NotificationHistory extends BaseEntity {
     private String description;
     @Column(length = 200)
     private String deeplink;
+    @Builder.Default
+    private boolean isRead = false;
+
+    public void read() {
+        this.isRead = true;
+    }
 }
 
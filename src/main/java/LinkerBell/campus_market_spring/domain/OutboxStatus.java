@@ -0,0 +1,5 @@
+package LinkerBell.campus_market_spring.domain;
+
+public enum OutboxStatus {
+    PENDING, PROCESSING, DONE, FAILED
+}
@@ -0,0 +1,29 @@
+package LinkerBell.campus_market_spring.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 가격 필터 칩에 쓰는 고정 가격 구간. minPrice 이상 maxPrice 미만, 마지막 구간은 상한 없음
+@Getter
+@RequiredArgsConstructor
+public enum PriceBucket {
+    UNDER_5000(0, 5_000),
+    UNDER_10000(5_000, 10_000),
+    UNDER_30000(10_000, 30_000),
+    UNDER_50000(30_000, 50_000),
+    UNDER_100000(50_000, 100_000),
+    UNDER_300000(100_000, 300_000),
+    OVER_300000(300_000, null);
+
+    private final int minPrice;
+    private final Integer maxPrice;
+
+    public static PriceBucket of(int price) {
+        for (PriceBucket bucket : values()) {
+            if (bucket.maxPrice == null || price < bucket.maxPrice) {
+                return bucket;
+            }
+        }
+        return OVER_300000;
+    }
+}
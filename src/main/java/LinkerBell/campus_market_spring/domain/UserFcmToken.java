@@ -7,14 +7,20 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+// fcm_token(1050자)은 utf8mb4 인덱스 길이 제한을 넘으므로 prefix 인덱스는 db/migration 스크립트에서만 만든다.
+@Table(indexes = {
+    @Index(name = "idx_user_fcm_token_user", columnList = "user_id")
+})
 @Builder
 @Getter
 @AllArgsConstructor
@@ -2,11 +2,13 @@ package LinkerBell.campus_market_spring.dto;
 
 import LinkerBell.campus_market_spring.domain.ContentType;
 import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
 @Getter
 @Builder
+@AllArgsConstructor
 public class ChatMessageResponseDto {
 
     private Long messageId;
@@ -15,4 +17,5 @@ public class ChatMessageResponseDto {
     private String content;
     private ContentType contentType;
     private LocalDateTime createdAt;
+    private Long roomSequence;
 }
@@ -1,11 +1,14 @@
 package LinkerBell.campus_market_spring.dto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
 @Getter
 @Builder
+@AllArgsConstructor
 public class ChatRoomDataResponseDto {
 
     private Long chatRoomId;
@@ -16,4 +19,8 @@ public class ChatRoomDataResponseDto {
     @JsonProperty(value = "isAlarm")
     private Boolean isAlarm;
     private Long messageId;
+    private Long lastMessageId;
+    private String lastMessagePreview;
+    private LocalDateTime lastActivityAt;
+    private Integer unreadCount;
 }
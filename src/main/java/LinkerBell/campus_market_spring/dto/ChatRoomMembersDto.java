@@ -0,0 +1,11 @@
+package LinkerBell.campus_market_spring.dto;
+
+public record ChatRoomMembersDto(Long chatRoomId, Long buyerId, Long sellerId,
+                                 boolean buyerExited, boolean sellerExited) {
+
+    // 채팅방을 나가지 않은 참여자인지 확인한다.
+    public boolean contains(Long userId) {
+        return (buyerId.equals(userId) && !buyerExited)
+            || (sellerId.equals(userId) && !sellerExited);
+    }
+}
@@ -0,0 +1,17 @@
+package LinkerBell.campus_market_spring.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ChatSyncCursorDto {
+
+    private Long chatRoomId;
+    // 이 채팅방에서 마지막으로 받은 메시지의 순번
+    private Long roomSequence;
+}
@@ -0,0 +1,22 @@
+package LinkerBell.campus_market_spring.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ChatSyncRequestDto {
+
+    // 커서가 없는 채팅방은 처음부터 받는다.
+    private List<ChatSyncCursorDto> cursors;
+    @Min(1)
+    @Max(500)
+    private Integer size;
+}
@@ -0,0 +1,15 @@
+package LinkerBell.campus_market_spring.dto;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class ChatSyncResponseDto {
+
+    private List<ChatMessageResponseDto> messageList;
+    // 다음 요청에 그대로 보내면 되는 채팅방별 커서
+    private List<ChatSyncCursorDto> cursors;
+    private boolean hasMore;
+}
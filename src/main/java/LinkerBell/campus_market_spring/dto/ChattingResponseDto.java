@@ -23,4 +23,5 @@ public class ChattingResponseDto {
     private String content;
     private ContentType contentType;
     private LocalDateTime createdAt;
+    private Long roomSequence;
 }
@@ -0,0 +1,20 @@
+package LinkerBell.campus_market_spring.dto;
+
+import java.util.List;
+import lombok.Getter;
+
+@Getter
+public class CursorSliceResponse<T> {
+
+    private final List<T> content;
+    private final int size;
+    private final boolean hasNext;
+    private final String nextCursor;
+
+    public CursorSliceResponse(List<T> content, int size, boolean hasNext, String nextCursor) {
+        this.content = content;
+        this.size = size;
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+    }
+}
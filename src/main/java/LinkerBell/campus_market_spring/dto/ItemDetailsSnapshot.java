@@ -0,0 +1,31 @@
+package LinkerBell.campus_market_spring.dto;
+
+// 아이템 상세 조회 중 사용자와 무관한 부분. 캐시에 저장되므로 응답마다 복사해서 isLiked를 채운다.
+public record ItemDetailsSnapshot(ItemDetailsViewResponseDto details, String universityName,
+                                  boolean isDeleted) {
+
+    public ItemDetailsViewResponseDto toResponse(boolean isLiked) {
+        return toResponse(isLiked, details.getLikeCount());
+    }
+
+    public ItemDetailsViewResponseDto toResponse(boolean isLiked, Integer likeCount) {
+        return ItemDetailsViewResponseDto.builder()
+            .itemId(details.getItemId())
+            .userId(details.getUserId())
+            .campusId(details.getCampusId())
+            .nickname(details.getNickname())
+            .title(details.getTitle())
+            .description(details.getDescription())
+            .price(details.getPrice())
+            .category(details.getCategory())
+            .thumbnail(details.getThumbnail())
+            .images(details.getImages())
+            .chatCount(details.getChatCount())
+            .likeCount(likeCount)
+            .isLiked(isLiked)
+            .itemStatus(details.getItemStatus())
+            .createdDate(details.getCreatedDate())
+            .lastModifiedDate(details.getLastModifiedDate())
+            .build();
+    }
+}
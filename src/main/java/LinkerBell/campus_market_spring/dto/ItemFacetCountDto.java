@@ -0,0 +1,10 @@
+package LinkerBell.campus_market_spring.dto;
+
+import LinkerBell.campus_market_spring.domain.Category;
+import LinkerBell.campus_market_spring.domain.ItemStatus;
+import LinkerBell.campus_market_spring.domain.PriceBucket;
+
+public record ItemFacetCountDto(Long campusId, Category category, ItemStatus itemStatus,
+                                PriceBucket priceBucket, long count) {
+
+}
@@ -0,0 +1,47 @@
+package LinkerBell.campus_market_spring.dto;
+
+import LinkerBell.campus_market_spring.domain.Category;
+import LinkerBell.campus_market_spring.domain.ItemStatus;
+import LinkerBell.campus_market_spring.domain.PriceBucket;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ItemFacetsResponseDto {
+
+    private Map<Category, Long> categories;
+    private Map<ItemStatus, Long> itemStatuses;
+    private List<PriceBucketCount> priceBuckets;
+
+    // 개수가 0인 항목도 모두 채워 enum 선언 순서대로 돌려준다.
+    public static ItemFacetsResponseDto of(Map<Category, Long> categoryCounts,
+        Map<ItemStatus, Long> itemStatusCounts, Map<PriceBucket, Long> priceBucketCounts) {
+        Map<Category, Long> categories = new LinkedHashMap<>();
+        for (Category category : Category.values()) {
+            categories.put(category, categoryCounts.getOrDefault(category, 0L));
+        }
+        Map<ItemStatus, Long> itemStatuses = new LinkedHashMap<>();
+        for (ItemStatus itemStatus : ItemStatus.values()) {
+            itemStatuses.put(itemStatus, itemStatusCounts.getOrDefault(itemStatus, 0L));
+        }
+        List<PriceBucketCount> priceBuckets = Arrays.stream(PriceBucket.values())
+            .map(bucket -> new PriceBucketCount(bucket.getMinPrice(), bucket.getMaxPrice(),
+                priceBucketCounts.getOrDefault(bucket, 0L)))
+            .toList();
+        return new ItemFacetsResponseDto(categories, itemStatuses, priceBuckets);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class PriceBucketCount {
+
+        private int minPrice;
+        private Integer maxPrice;
+        private long count;
+    }
+}
@@ -0,0 +1,55 @@
+package LinkerBell.campus_market_spring.dto;
+
+import LinkerBell.campus_market_spring.global.error.ErrorCode;
+import LinkerBell.campus_market_spring.global.error.exception.CustomException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.util.StringUtils;
+
+// 마지막으로 내려준 아이템의 (price, createdDate, itemId) 정렬 키
+@Getter
+@AllArgsConstructor
+public class ItemSearchCursor {
+
+    private static final String DELIMITER = ",";
+
+    private final Long itemId;
+    private final LocalDateTime createdDate;
+    private final Integer price;
+
+    public static ItemSearchCursor from(ItemSearchResponseDto lastItem) {
+        return new ItemSearchCursor(lastItem.getItemId(), lastItem.getCreatedDate(),
+            lastItem.getPrice());
+    }
+
+    // 빈 커서는 첫 페이지를 의미한다.
+    public static ItemSearchCursor decode(String cursor) {
+        if (!StringUtils.hasText(cursor)) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor),
+                StandardCharsets.UTF_8);
+            String[] tokens = decoded.split(DELIMITER, -1);
+            if (tokens.length != 3) {
+                throw new CustomException(ErrorCode.INVALID_CURSOR);
+            }
+            Long itemId = Long.valueOf(tokens[0]);
+            LocalDateTime createdDate = LocalDateTime.parse(tokens[1]);
+            Integer price = tokens[2].isEmpty() ? null : Integer.valueOf(tokens[2]);
+            return new ItemSearchCursor(itemId, createdDate, price);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    public String encode() {
+        String raw = itemId + DELIMITER + createdDate + DELIMITER + (price == null ? "" : price);
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -20,4 +20,5 @@ public class ItemSearchRequestDto {
     private Integer maxPrice;
     private ItemStatus itemStatus;
     private Pageable pageable;
+    private ItemSearchCursor cursor;
 }
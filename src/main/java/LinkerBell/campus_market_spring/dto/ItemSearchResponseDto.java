@@ -28,7 +28,15 @@ public class ItemSearchResponseDto {
     @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
     LocalDateTime lastModifiedDate;
 
+    // isLiked는 조회 후 사용자별로 채운다.
     @QueryProjection
+    public ItemSearchResponseDto(Long itemId, Long userId, String nickname, String thumbnail,
+        String title, Integer price, Integer chatCount, Integer likeCount, ItemStatus itemStatus,
+        LocalDateTime createdDate, LocalDateTime lastModifiedDate) {
+        this(itemId, userId, nickname, thumbnail, title, price, chatCount, likeCount, itemStatus,
+            false, createdDate, lastModifiedDate);
+    }
+
     public ItemSearchResponseDto(Long itemId, Long userId, String nickname, String thumbnail,
         String title, Integer price, Integer chatCount, Integer likeCount, ItemStatus itemStatus,
         boolean isLiked, LocalDateTime createdDate, LocalDateTime lastModifiedDate) {
@@ -45,4 +53,10 @@ public class ItemSearchResponseDto {
         this.createdDate = createdDate;
         this.lastModifiedDate = lastModifiedDate;
     }
+
+    // 캐시된 목록을 사용자별 좋아요 여부로 덮어쓸 때 공유 객체를 건드리지 않도록 복사한다.
+    public ItemSearchResponseDto withLiked(boolean isLiked) {
+        return new ItemSearchResponseDto(itemId, userId, nickname, thumbnail, title, price,
+            chatCount, likeCount, itemStatus, isLiked, createdDate, lastModifiedDate);
+    }
 }
@@ -0,0 +1,41 @@
+package LinkerBell.campus_market_spring.dto;
+
+import LinkerBell.campus_market_spring.domain.Keyword;
+import LinkerBell.campus_market_spring.domain.User;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 한 아이템에 매칭된 키워드를 받는 사람 단위로 묶은 것. 같은 사용자의 키워드가 여러 개 매칭되어도 알림 내역과 푸시는 한 건씩만 만든다.
+ */
+public record KeywordAlertRecipient(User user, List<String> keywordNames) {
+
+    // NotificationHistory.title 컬럼 길이
+    private static final int MAX_TITLE_LENGTH = 100;
+    private static final String TITLE_SUFFIX = " 키워드 알림";
+
+    public static List<KeywordAlertRecipient> groupByUser(List<Keyword> keywords) {
+        Map<Long, KeywordAlertRecipient> recipients = new LinkedHashMap<>();
+        for (Keyword keyword : keywords) {
+            recipients.computeIfAbsent(keyword.getUser().getUserId(),
+                    userId -> new KeywordAlertRecipient(keyword.getUser(), new ArrayList<>()))
+                .keywordNames().add(keyword.getKeywordName());
+        }
+        return List.copyOf(recipients.values());
+    }
+
+    public Long userId() {
+        return user.getUserId();
+    }
+
+    public String title() {
+        String keywordNames = String.join(", ", this.keywordNames);
+        int maxLength = MAX_TITLE_LENGTH - TITLE_SUFFIX.length();
+        if (keywordNames.length() > maxLength) {
+            keywordNames = keywordNames.substring(0, maxLength - 1) + "…";
+        }
+        return keywordNames + TITLE_SUFFIX;
+    }
+}
@@ -0,0 +1,5 @@
+package LinkerBell.campus_market_spring.dto;
+
+public record KeywordIndexDto(Long keywordId, Long userId, Long campusId, String keywordName) {
+
+}
@@ -1,6 +1,7 @@
 package LinkerBell.campus_market_spring.dto;
 
 import LinkerBell.campus_market_spring.domain.NotificationHistory;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -16,13 +17,16 @@ public class NotificationHistoryResponseDto {
     private String title;
     private String description;
     private String deeplink;
+    @JsonProperty(value = "isRead")
+    private boolean isRead;
 
     public static NotificationHistoryResponseDto fromEntity(NotificationHistory entity) {
         return new NotificationHistoryResponseDto(
             entity.getNotificationHistoryId(),
             entity.getTitle(),
             entity.getDescription(),
-            entity.getDeeplink()
+            entity.getDeeplink(),
+            entity.isRead()
         );
     }
 }
@@ -0,0 +1,11 @@
+package LinkerBell.campus_market_spring.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class NotificationUnreadCountResponseDto {
+
+    private long unreadCount;
+}
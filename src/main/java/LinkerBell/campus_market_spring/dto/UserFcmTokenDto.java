@@ -0,0 +1,5 @@
+package LinkerBell.campus_market_spring.dto;
+
+public record UserFcmTokenDto(Long userId, String fcmToken) {
+
+}
@@ -5,26 +5,40 @@ import LinkerBell.campus_market_spring.global.error.exception.CustomException;
 import com.google.auth.oauth2.GoogleCredentials;
 import com.google.firebase.FirebaseApp;
 import com.google.firebase.FirebaseOptions;
+import com.google.firebase.messaging.FirebaseMessaging;
 import jakarta.annotation.PostConstruct;
 import java.io.FileInputStream;
 import java.io.InputStream;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+// push.gateway=fake 이면 인증 파일 없이 실행할 수 있도록 Firebase를 초기화하지 않는다.
 @Configuration
 @Slf4j
+@ConditionalOnProperty(name = "push.gateway", havingValue = "firebase", matchIfMissing = true)
 public class FirebaseConfig {
 
     @Value("${firebase.json_path}")
     String firebasePath;
 
+    // FCM이 느려져도 발송 스레드가 오래 묶이지 않도록 요청마다 제한 시간을 둔다.
+    @Value("${firebase.connect_timeout_millis:5000}")
+    int connectTimeoutMillis;
+
+    @Value("${firebase.read_timeout_millis:10000}")
+    int readTimeoutMillis;
+
     @PostConstruct
     public void init() {
         try {
             InputStream serviceAccount = new FileInputStream(firebasePath);
             FirebaseOptions options = FirebaseOptions.builder()
                 .setCredentials(GoogleCredentials.fromStream(serviceAccount))
+                .setConnectTimeout(connectTimeoutMillis)
+                .setReadTimeout(readTimeoutMillis)
                 .build();
 
             if (FirebaseApp.getApps().isEmpty()) {
@@ -35,4 +49,9 @@ public class FirebaseConfig {
             throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
         }
     }
-}
\ No newline at end of file
+
+    @Bean
+    public FirebaseMessaging firebaseMessaging() {
+        return FirebaseMessaging.getInstance();
+    }
+}
@@ -0,0 +1,28 @@
+package LinkerBell.campus_market_spring.global.config;
+
+import LinkerBell.campus_market_spring.global.push.FakePushGateway;
+import LinkerBell.campus_market_spring.global.push.PushGateway;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// 로컬 부하 테스트용. push.gateway=fake 이면 FCM 대신 프로세스 안에서 응답하는 FakePushGateway로 보낸다.
+@Configuration
+@Slf4j
+@ConditionalOnProperty(name = "push.gateway", havingValue = "fake")
+public class PushGatewayConfig {
+
+    @Bean
+    public PushGateway fakePushGateway(
+        @Value("${push.fake.latency_millis:50}") long latencyMillis,
+        @Value("${push.fake.invalid_token_rate:0}") double invalidTokenRate,
+        @Value("${push.fake.timeout_rate:0}") double timeoutRate,
+        @Value("${push.fake.timeout_millis:10000}") long timeoutMillis) {
+        log.warn("FakePushGateway를 사용합니다. 실제 푸시는 발송되지 않습니다.");
+        return new FakePushGateway(Duration.ofMillis(latencyMillis), invalidTokenRate, timeoutRate,
+            Duration.ofMillis(timeoutMillis), false);
+    }
+}
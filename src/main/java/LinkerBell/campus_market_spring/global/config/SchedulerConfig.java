@@ -2,12 +2,14 @@ package LinkerBell.campus_market_spring.global.config;
 
 import LinkerBell.campus_market_spring.domain.Blacklist;
 import LinkerBell.campus_market_spring.repository.BlacklistRepository;
+import LinkerBell.campus_market_spring.repository.ItemRepository;
 import java.time.LocalDateTime;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Component
@@ -16,7 +18,10 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 public class SchedulerConfig {
 
+    private static final long ITEM_COUNTER_CHUNK_SIZE = 1000L;
+
     private final BlacklistRepository blacklistRepository;
+    private final ItemRepository itemRepository;
 
     @Scheduled(cron = "${cron.recovery}")
     public void recoveryUser() {
@@ -27,4 +32,17 @@ public class SchedulerConfig {
         }).toList();
         blacklistRepository.deleteAll(userList);
     }
+
+    // Item의 chatCount, likeCount를 Likes, ChatRoom 테이블 기준으로 다시 계산한다.
+    // 긴 잠금을 피하려고 itemId 구간마다 별도 트랜잭션으로 실행
+    @Scheduled(cron = "${cron.item_counter:0 0 4 * * *}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void reconcileItemCounters() {
+        long maxItemId = itemRepository.findMaxItemId();
+        int updated = 0;
+        for (long from = 1; from <= maxItemId; from += ITEM_COUNTER_CHUNK_SIZE) {
+            updated += itemRepository.reconcileCounts(from, from + ITEM_COUNTER_CHUNK_SIZE - 1);
+        }
+        log.info("reconcileItemCounters: {} items", updated);
+    }
 }
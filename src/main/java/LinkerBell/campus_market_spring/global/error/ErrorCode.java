@@ -83,8 +83,11 @@ public enum ErrorCode {
     INVALID_IMAGE_URL(HttpStatus.BAD_REQUEST, 4071, "잘못된 이미지 url 입니다."),
     INVALID_NICKNAME(HttpStatus.BAD_REQUEST, 4072, "닉네임은 2자이상 10자 이하입니다."),
     CAMPUS_ID_NOT_NULL(HttpStatus.BAD_REQUEST, 4073, "캠퍼스 id가 필요합니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, 4074, "잘못된 커서 값입니다."),
+    TOO_MANY_MESSAGE_IDS(HttpStatus.BAD_REQUEST, 4075, "메시지 id는 한 번에 1000개까지 요청할 수 있습니다."),
 
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, 5000, "서버 내부 오류입니다."),
+    CHAT_SERVER_BUSY(HttpStatus.SERVICE_UNAVAILABLE, 5001, "채팅 메시지가 몰려 있습니다. 잠시 후 다시 보내 주세요."),
 
     FCM_INVALID_ARGUMENT(HttpStatus.BAD_REQUEST, 6001, "유효하지 않은 FCM 토큰입니다."),
     FCM_UNREGISTERED(HttpStatus.NOT_FOUND, 6002, "만료된 FCM 토큰입니다.");
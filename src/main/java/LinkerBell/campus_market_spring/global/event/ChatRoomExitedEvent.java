@@ -0,0 +1,15 @@
+package LinkerBell.campus_market_spring.global.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@ToString
+@AllArgsConstructor
+public class ChatRoomExitedEvent {
+
+    private final Long chatRoomId;
+    // 채팅방을 나간 사용자
+    private final Long userId;
+}
@@ -0,0 +1,15 @@
+package LinkerBell.campus_market_spring.global.event;
+
+import java.util.Collection;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@ToString
+@AllArgsConstructor
+public class FcmTokenChangedEvent {
+
+    // 토큰이 추가, 삭제된 사용자
+    private final Collection<Long> userIds;
+}
@@ -0,0 +1,10 @@
+package LinkerBell.campus_market_spring.global.event;
+
+public enum ItemChangeType {
+    REGISTERED, UPDATED, DELETED, STATUS_CHANGED, LIKED, CHATTED;
+
+    // 제목이나 삭제 여부가 바뀔 수 있는 변경인지
+    public boolean changesContent() {
+        return this != LIKED && this != CHATTED;
+    }
+}
@@ -0,0 +1,21 @@
+package LinkerBell.campus_market_spring.global.event;
+
+import LinkerBell.campus_market_spring.domain.Item;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+// 아이템 변경 후 검색 색인, 캐시 등을 갱신하기 위한 이벤트. 커밋 이후에 처리된다.
+@Getter
+@ToString
+@AllArgsConstructor
+public class ItemChangedEvent {
+
+    private final Long itemId;
+    private final Long campusId;
+    private final ItemChangeType changeType;
+
+    public static ItemChangedEvent of(Item item, ItemChangeType changeType) {
+        return new ItemChangedEvent(item.getItemId(), item.getCampus().getCampusId(), changeType);
+    }
+}
@@ -0,0 +1,42 @@
+package LinkerBell.campus_market_spring.global.event;
+
+import LinkerBell.campus_market_spring.domain.Category;
+import LinkerBell.campus_market_spring.domain.Item;
+import LinkerBell.campus_market_spring.domain.ItemStatus;
+import LinkerBell.campus_market_spring.domain.PriceBucket;
+import java.util.Objects;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+// 캠퍼스별 필터 개수를 갱신하기 위한 이벤트. before가 null이면 새로 보이게 된 아이템, after가 null이면 삭제된 아이템
+@Getter
+@ToString
+@AllArgsConstructor
+public class ItemFacetChangedEvent {
+
+    private final Long campusId;
+    private final ItemFacet before;
+    private final ItemFacet after;
+
+    public static ItemFacetChangedEvent of(Item item, ItemFacet before) {
+        return new ItemFacetChangedEvent(item.getCampus().getCampusId(), before,
+            ItemFacet.of(item));
+    }
+
+    public boolean isChanged() {
+        return !Objects.equals(before, after);
+    }
+
+    public record ItemFacet(Category category, ItemStatus itemStatus, PriceBucket priceBucket) {
+
+        // 삭제된 아이템은 어떤 개수에도 포함되지 않으므로 null
+        public static ItemFacet of(Item item) {
+            if (item.isDeleted()) {
+                return null;
+            }
+            return new ItemFacet(item.getCategory(), item.getItemStatus(),
+                PriceBucket.of(item.getPrice()));
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package LinkerBell.campus_market_spring.global.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+// 알림 키워드 추가, 삭제 후 키워드 매칭 오토마톤을 갱신하기 위한 이벤트. 커밋 이후에 처리된다.
+@Getter
+@ToString
+@AllArgsConstructor
+public class KeywordChangedEvent {
+
+    private final Long keywordId;
+    private final Long userId;
+    private final Long campusId;
+    private final String keywordName;
+    private final boolean added;
+}
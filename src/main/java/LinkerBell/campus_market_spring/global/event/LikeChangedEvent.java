@@ -0,0 +1,15 @@
+package LinkerBell.campus_market_spring.global.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@ToString
+@AllArgsConstructor
+public class LikeChangedEvent {
+
+    private final Long itemId;
+    private final Long userId;
+    private final boolean liked;
+}
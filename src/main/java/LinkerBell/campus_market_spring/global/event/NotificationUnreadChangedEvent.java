@@ -0,0 +1,27 @@
+package LinkerBell.campus_market_spring.global.event;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@ToString
+@AllArgsConstructor
+public class NotificationUnreadChangedEvent {
+
+    // userId -> 안 읽은 알림 수 변화량
+    private final Map<Long, Long> deltaByUserId;
+    // 변화량을 알 수 없어 다음 조회 때 DB에서 다시 세야 하는 사용자
+    private final Collection<Long> evictedUserIds;
+
+    public static NotificationUnreadChangedEvent of(Long userId, long delta) {
+        return new NotificationUnreadChangedEvent(Map.of(userId, delta), List.of());
+    }
+
+    public static NotificationUnreadChangedEvent evict(Collection<Long> userIds) {
+        return new NotificationUnreadChangedEvent(Map.of(), userIds);
+    }
+}
@@ -0,0 +1,137 @@
+package LinkerBell.campus_market_spring.global.push;
+
+import LinkerBell.campus_market_spring.dto.FcmMessageDto;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * FCM 없이 발송 경로를 테스트, 벤치마크하기 위한 구현. push.gateway=fake 이면 {@link FirebasePushGateway} 대신 등록된다. 요청 한 번마다
+ * latency만큼 기다리고, 토큰별로 지정한 오류나 비율로 뽑힌 오류를 FCM과 같은 결과로 돌려준다.
+ * <ul>
+ *     <li>UNREGISTERED, INVALID_ARGUMENT : INVALID_TOKEN (호출 측이 토큰을 삭제)</li>
+ *     <li>TIMEOUT, UNAVAILABLE : 메시지 한 건만 FAILED (호출 측이 다시 시도)</li>
+ *     <li>timeoutRate : 요청 전체가 timeout만큼 걸린 뒤 모두 FAILED</li>
+ * </ul>
+ */
+public class FakePushGateway implements PushGateway {
+
+    public enum FakeError {
+        UNREGISTERED, INVALID_ARGUMENT, TIMEOUT, UNAVAILABLE
+    }
+
+    private final Duration latency;
+    private final double invalidTokenRate;
+    private final double timeoutRate;
+    private final Duration timeout;
+    private final boolean recordSentMessages;
+    private final Map<String, FakeError> errorsByToken = new ConcurrentHashMap<>();
+    private final List<FcmMessageDto> sentMessages = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final AtomicLong sentCount = new AtomicLong();
+
+    public FakePushGateway() {
+        this(Duration.ZERO);
+    }
+
+    public FakePushGateway(Duration latency) {
+        this(latency, 0, 0, Duration.ZERO, true);
+    }
+
+    /**
+     * @param invalidTokenRate   UNREGISTERED로 응답할 토큰 비율. 같은 토큰은 항상 같은 결과를 받는다.
+     * @param timeoutRate        요청 전체가 시간 초과로 실패할 확률
+     * @param recordSentMessages 보낸 메시지를 보관할지 여부. 벤치마크처럼 오래 보낼 때는 개수만 센다.
+     */
+    public FakePushGateway(Duration latency, double invalidTokenRate, double timeoutRate,
+        Duration timeout, boolean recordSentMessages) {
+        this.latency = latency;
+        this.invalidTokenRate = invalidTokenRate;
+        this.timeoutRate = timeoutRate;
+        this.timeout = timeout;
+        this.recordSentMessages = recordSentMessages;
+    }
+
+    public void addInvalidToken(String targetToken) {
+        addError(targetToken, FakeError.UNREGISTERED);
+    }
+
+    public void addError(String targetToken, FakeError error) {
+        errorsByToken.put(targetToken, error);
+    }
+
+    @Override
+    public List<PushResult> sendBatch(List<FcmMessageDto> messages) {
+        requestCount.incrementAndGet();
+        if (timeoutRate > 0 && ThreadLocalRandom.current().nextDouble() < timeoutRate) {
+            sleep(timeout);
+            return messages.stream()
+                .map(message -> PushResult.failed(message.getTargetToken(), "DEADLINE_EXCEEDED"))
+                .toList();
+        }
+        sleep(latency);
+        List<PushResult> results = new ArrayList<>(messages.size());
+        for (FcmMessageDto message : messages) {
+            results.add(send(message));
+        }
+        return results;
+    }
+
+    public List<FcmMessageDto> getSentMessages() {
+        return List.copyOf(sentMessages);
+    }
+
+    public long getSentCount() {
+        return sentCount.get();
+    }
+
+    public int getRequestCount() {
+        return requestCount.get();
+    }
+
+    private PushResult send(FcmMessageDto message) {
+        String targetToken = message.getTargetToken();
+        FakeError error = errorsByToken.get(targetToken);
+        if (error == null && isSampledInvalid(targetToken)) {
+            error = FakeError.UNREGISTERED;
+        }
+        if (error == FakeError.TIMEOUT) {
+            return PushResult.failed(targetToken, "DEADLINE_EXCEEDED");
+        }
+        if (error == FakeError.UNAVAILABLE) {
+            return PushResult.failed(targetToken, error.name());
+        }
+        if (error != null) {
+            return PushResult.invalidToken(targetToken, error.name());
+        }
+        sentCount.incrementAndGet();
+        if (recordSentMessages) {
+            sentMessages.add(message);
+        }
+        return PushResult.success(targetToken);
+    }
+
+    private boolean isSampledInvalid(String targetToken) {
+        if (invalidTokenRate <= 0) {
+            return false;
+        }
+        return Math.floorMod(targetToken.hashCode(), 10_000) < invalidTokenRate * 10_000;
+    }
+
+    private void sleep(Duration duration) {
+        if (duration.isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
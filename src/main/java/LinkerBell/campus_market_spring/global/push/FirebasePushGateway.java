@@ -0,0 +1,80 @@
+package LinkerBell.campus_market_spring.global.push;
+
+import LinkerBell.campus_market_spring.dto.FcmMessageDto;
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.Notification;
+import com.google.firebase.messaging.SendResponse;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * FCM sendEach로 최대 500개 메시지를 한 번에 보낸다. 요청 전체가 실패하면 모든 메시지를 FAILED로 돌려준다. push.gateway 설정이 없거나
+ * firebase일 때 등록된다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "push.gateway", havingValue = "firebase", matchIfMissing = true)
+public class FirebasePushGateway implements PushGateway {
+
+    private final FirebaseMessaging firebaseMessaging;
+
+    @Override
+    public List<PushResult> sendBatch(List<FcmMessageDto> messages) {
+        if (messages.isEmpty()) {
+            return List.of();
+        }
+        List<Message> firebaseMessages = messages.stream().map(this::toMessage).toList();
+        BatchResponse batchResponse;
+        try {
+            batchResponse = firebaseMessaging.sendEach(firebaseMessages);
+        } catch (FirebaseMessagingException e) {
+            log.error("FCM batch send failed. size = {}", messages.size(), e);
+            return messages.stream()
+                .map(message -> PushResult.failed(message.getTargetToken(), e.getMessage()))
+                .toList();
+        }
+
+        List<SendResponse> responses = batchResponse.getResponses();
+        List<PushResult> results = new ArrayList<>(messages.size());
+        for (int i = 0; i < messages.size(); i++) {
+            results.add(toResult(messages.get(i).getTargetToken(), responses.get(i)));
+        }
+        return results;
+    }
+
+    private PushResult toResult(String targetToken, SendResponse response) {
+        if (response.isSuccessful()) {
+            return PushResult.success(targetToken);
+        }
+        FirebaseMessagingException exception = response.getException();
+        MessagingErrorCode errorCode = exception.getMessagingErrorCode();
+        if (errorCode == MessagingErrorCode.INVALID_ARGUMENT
+            || errorCode == MessagingErrorCode.UNREGISTERED) {
+            return PushResult.invalidToken(targetToken, exception.getMessage());
+        }
+        return PushResult.failed(targetToken, exception.getMessage());
+    }
+
+    private Message toMessage(FcmMessageDto fcmMessageDto) {
+        Message.Builder messageBuilder = Message.builder()
+            .setToken(fcmMessageDto.getTargetToken())
+            .setNotification(Notification.builder()
+                .setTitle(fcmMessageDto.getTitle())
+                .setBody(fcmMessageDto.getBody())
+                .build());
+
+        if (fcmMessageDto.getDeeplinkUrl() != null) {
+            messageBuilder.putData("deeplink", fcmMessageDto.getDeeplinkUrl());
+        }
+        return messageBuilder.build();
+    }
+}
@@ -0,0 +1,17 @@
+package LinkerBell.campus_market_spring.global.push;
+
+import lombok.Getter;
+
+/**
+ * 다시 보내면 성공할 수 있는 실패(UNAVAILABLE, INTERNAL, 시간 초과 등)가 남은 발송. 잘못된 토큰은 삭제로 처리되므로 포함하지 않는다.
+ */
+@Getter
+public class PushFailedException extends RuntimeException {
+
+    private final int failedCount;
+
+    public PushFailedException(int failedCount, int totalCount) {
+        super(failedCount + " of " + totalCount + " push messages failed");
+        this.failedCount = failedCount;
+    }
+}
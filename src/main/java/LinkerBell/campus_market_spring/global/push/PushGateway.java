@@ -0,0 +1,16 @@
+package LinkerBell.campus_market_spring.global.push;
+
+import LinkerBell.campus_market_spring.dto.FcmMessageDto;
+import java.util.List;
+
+/**
+ * 푸시 발송 수단. FcmNotificationService가 메시지를 {@link #MAX_BATCH_SIZE}개 이하로 나누어 넘기고, 구현체는 한 번의 요청으로 보낸
+ * 뒤 입력과 같은 순서로 결과를 돌려준다.
+ */
+public interface PushGateway {
+
+    // FCM sendEach가 한 번에 받는 최대 메시지 수
+    int MAX_BATCH_SIZE = 500;
+
+    List<PushResult> sendBatch(List<FcmMessageDto> messages);
+}
@@ -0,0 +1,6 @@
+package LinkerBell.campus_market_spring.global.push;
+
+// 발송 lane. 채팅처럼 늦으면 의미가 없는 푸시는 HIGH, 키워드 알림과 묶음 알림은 LOW로 보낸다.
+public enum PushPriority {
+    HIGH, LOW
+}
@@ -0,0 +1,27 @@
+package LinkerBell.campus_market_spring.global.push;
+
+/**
+ * 메시지 한 건의 발송 결과. INVALID_TOKEN이면 호출 측이 토큰을 삭제한다.
+ */
+public record PushResult(String targetToken, Status status, String error) {
+
+    public enum Status {
+        SUCCESS, INVALID_TOKEN, FAILED
+    }
+
+    public static PushResult success(String targetToken) {
+        return new PushResult(targetToken, Status.SUCCESS, null);
+    }
+
+    public static PushResult invalidToken(String targetToken, String error) {
+        return new PushResult(targetToken, Status.INVALID_TOKEN, error);
+    }
+
+    public static PushResult failed(String targetToken, String error) {
+        return new PushResult(targetToken, Status.FAILED, error);
+    }
+
+    public boolean isInvalidToken() {
+        return status == Status.INVALID_TOKEN;
+    }
+}
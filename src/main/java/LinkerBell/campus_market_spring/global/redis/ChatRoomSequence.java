@@ -0,0 +1,188 @@
+package LinkerBell.campus_market_spring.global.redis;
+
+import LinkerBell.campus_market_spring.domain.ChatMessage;
+import LinkerBell.campus_market_spring.global.error.ErrorCode;
+import LinkerBell.campus_market_spring.global.error.exception.CustomException;
+import LinkerBell.campus_market_spring.repository.ChatRoomRepository;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+/**
+ * 채팅방별 메시지 순번을 Redis 문자열(chat:sequence:room:{id})의 INCR로 나눠 준다. 여러 서버가 같은 채팅방 메시지를 받아도 받은 순서대로 커지는
+ * 번호가 붙으므로, 메시지를 저장하기 전에 브로드캐스트할 수 있다.
+ * <p>
+ * 키가 없으면(처음 쓰는 채팅방, TTL 만료, Redis 재시작) DB에 저장된 채팅방의 마지막 순번에 SAFETY_GAP을 더한 값에서 시작한다. 아직 저장되지 않은
+ * 메시지가 받은 번호와 겹치지 않게 하기 위해서이고, 이때 번호가 한 번 건너뛴다. 순번은 커지기만 하고 연속된다는 보장은 없다.
+ * <p>
+ * 순번은 발급과 같은 스크립트에서 저장 대기 중 목록(chat:sequence:pending:{id}, score = 순번)에 들어가고, 저장(또는 dead letter)이 끝나면
+ * complete로 빠진다. 서버마다 write-behind로 저장 시점이 달라 큰 순번이 먼저 보일 수 있으므로, 동기화는 getWatermarks가 돌려준 순번까지만
+ * 내보낸다. 서버가 죽어 빠지지 못한 순번은 pendingTimeout이 지나면 무시한다.
+ */
+@Slf4j
+@Service
+public class ChatRoomSequence {
+
+    private static final String KEY_PREFIX = "chat:sequence:room:";
+    private static final String PENDING_KEY_PREFIX = "chat:sequence:pending:";
+    private static final Duration TTL = Duration.ofDays(7);
+    static final long SAFETY_GAP = 10_000L;
+    // 저장 대기 중인 순번이 없고 순번 키도 없는 채팅방. 동기화 결과를 자르지 않는다.
+    public static final long NO_WATERMARK = -1L;
+
+    // 이미 적재된 키만 올린다. 키가 없으면 -1을 돌려주고 호출 측이 DB 값으로 채운다.
+    // 저장 대기 목록의 member는 "순번:발급 시각(ms)"이다.
+    private static final RedisScript<Long> NEXT_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('exists', KEYS[1]) == 0 then return -1 end " +
+            "local sequence = redis.call('incr', KEYS[1]) " +
+            "redis.call('expire', KEYS[1], ARGV[1]) " +
+            "redis.call('zadd', KEYS[2], sequence, sequence .. ':' .. ARGV[2]) " +
+            "redis.call('expire', KEYS[2], ARGV[1]) " +
+            "return sequence", Long.class);
+
+    // KEYS는 채팅방마다 (순번 키, 저장 대기 키) 쌍이다. 가장 작은 대기 순번 - 1, 대기 중인 순번이 없으면 현재 순번을 돌려준다.
+    // 오래된 대기 순번은 지우고 다음 것을 본다.
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> WATERMARK_SCRIPT = new DefaultRedisScript<>(
+        "local result = {} " +
+            "for i = 1, #KEYS, 2 do " +
+            "  local watermark = -1 " +
+            "  local current = redis.call('get', KEYS[i]) " +
+            "  if current then " +
+            "    watermark = tonumber(current) " +
+            "    while true do " +
+            "      local first = redis.call('zrange', KEYS[i + 1], 0, 0, 'WITHSCORES') " +
+            "      if #first == 0 then break end " +
+            "      local assignedAt = tonumber(string.match(first[1], ':(%d+)$')) " +
+            "      if assignedAt and tonumber(ARGV[1]) - assignedAt > tonumber(ARGV[2]) then " +
+            "        redis.call('zrem', KEYS[i + 1], first[1]) " +
+            "      else " +
+            "        watermark = tonumber(first[2]) - 1 " +
+            "        break " +
+            "      end " +
+            "    end " +
+            "  end " +
+            "  result[#result + 1] = watermark " +
+            "end " +
+            "return result", List.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ChatRoomRepository chatRoomRepository;
+    private final long pendingTimeoutMillis;
+
+    public ChatRoomSequence(StringRedisTemplate stringRedisTemplate,
+        ChatRoomRepository chatRoomRepository,
+        @Value("${chat.sequence.pending_timeout_millis:300000}") long pendingTimeoutMillis) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.chatRoomRepository = chatRoomRepository;
+        this.pendingTimeoutMillis = pendingTimeoutMillis;
+    }
+
+    public long next(Long chatRoomId) {
+        List<String> keys = List.of(key(chatRoomId), pendingKey(chatRoomId));
+        String ttlSeconds = String.valueOf(TTL.toSeconds());
+        try {
+            Long sequence = stringRedisTemplate.execute(NEXT_SCRIPT, keys, ttlSeconds,
+                String.valueOf(System.currentTimeMillis()));
+            if (sequence != null && sequence > 0) {
+                return sequence;
+            }
+            long start = chatRoomRepository.findLastSequence(chatRoomId).orElse(0L) + SAFETY_GAP;
+            // 다른 서버가 먼저 채웠으면 그 값을 그대로 쓴다.
+            stringRedisTemplate.opsForValue().setIfAbsent(key(chatRoomId), String.valueOf(start), TTL);
+            return stringRedisTemplate.execute(NEXT_SCRIPT, keys, ttlSeconds,
+                String.valueOf(System.currentTimeMillis()));
+        } catch (DataAccessException e) {
+            log.error("채팅방 순번 발급에 실패했습니다. chatRoomId = {}", chatRoomId, e);
+            throw new CustomException(ErrorCode.CHAT_SERVER_BUSY);
+        }
+    }
+
+    // 저장이 끝난 메시지의 순번을 저장 대기 목록에서 뺀다. 실패해도 pendingTimeout이 지나면 무시된다.
+    public void complete(List<ChatMessage> chatMessages) {
+        try {
+            stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, String> redisOperations =
+                        (RedisOperations<String, String>) operations;
+                    for (ChatMessage chatMessage : chatMessages) {
+                        Long sequence = chatMessage.getRoomSequence();
+                        if (sequence == null) {
+                            continue;
+                        }
+                        redisOperations.opsForZSet().removeRangeByScore(
+                            pendingKey(chatMessage.getChatRoom().getChatRoomId()), sequence,
+                            sequence);
+                    }
+                    return null;
+                }
+            });
+        } catch (DataAccessException e) {
+            log.warn("저장 대기 순번을 지우지 못했습니다. {}ms 뒤 무시됩니다. size = {}", pendingTimeoutMillis,
+                chatMessages.size(), e);
+        }
+    }
+
+    // 저장 대기열에 넣지 못한 메시지의 순번을 바로 뺀다. 남겨 두면 pendingTimeout 동안 그 뒤 메시지가 동기화되지 않는다.
+    public void abandon(Long chatRoomId, long sequence) {
+        try {
+            stringRedisTemplate.opsForZSet().removeRangeByScore(pendingKey(chatRoomId), sequence,
+                sequence);
+        } catch (DataAccessException e) {
+            log.warn("버린 순번을 지우지 못했습니다. {}ms 뒤 무시됩니다. chatRoomId = {}, sequence = {}",
+                pendingTimeoutMillis, chatRoomId, sequence, e);
+        }
+    }
+
+    /**
+     * 채팅방마다 이 순번 이하의 메시지는 모두 저장되었음을 보장하는 값을 돌려준다. 저장 대기 순번이 없으면 지금까지 발급한 마지막 순번이고, 순번 키가
+     * 없으면 NO_WATERMARK이다. 동기화 쿼리보다 먼저 읽어야 그 사이에 발급, 저장된 순번을 건너뛰지 않는다.
+     */
+    @SuppressWarnings("unchecked")
+    public Map<Long, Long> getWatermarks(Collection<Long> chatRoomIds) {
+        Map<Long, Long> watermarks = new HashMap<>();
+        if (chatRoomIds.isEmpty()) {
+            return watermarks;
+        }
+        List<Long> roomIds = new ArrayList<>(chatRoomIds);
+        List<String> keys = new ArrayList<>(roomIds.size() * 2);
+        roomIds.forEach(chatRoomId -> {
+            keys.add(key(chatRoomId));
+            keys.add(pendingKey(chatRoomId));
+        });
+        try {
+            List<Long> result = stringRedisTemplate.execute(WATERMARK_SCRIPT, keys,
+                String.valueOf(System.currentTimeMillis()), String.valueOf(pendingTimeoutMillis));
+            for (int i = 0; i < roomIds.size(); i++) {
+                watermarks.put(roomIds.get(i), result.get(i));
+            }
+            return watermarks;
+        } catch (DataAccessException e) {
+            // 어디까지 저장되었는지 모르면 커서가 아직 저장되지 않은 메시지를 넘어갈 수 있으므로 동기화하지 않는다.
+            log.error("채팅방 순번 watermark 조회에 실패했습니다. chatRoomIds = {}", chatRoomIds, e);
+            throw new CustomException(ErrorCode.CHAT_SERVER_BUSY);
+        }
+    }
+
+    private String key(Long chatRoomId) {
+        return KEY_PREFIX + chatRoomId;
+    }
+
+    private String pendingKey(Long chatRoomId) {
+        return PENDING_KEY_PREFIX + chatRoomId;
+    }
+}
@@ -0,0 +1,180 @@
+package LinkerBell.campus_market_spring.global.redis;
+
+import LinkerBell.campus_market_spring.dto.UserFcmTokenDto;
+import LinkerBell.campus_market_spring.global.event.FcmTokenChangedEvent;
+import LinkerBell.campus_market_spring.repository.UserFcmTokenRepository;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 사용자별 FCM 토큰을 Redis set(fcm:tokens:user:{id})으로 캐싱한다. 여러 사용자의 토큰을 파이프라인 한 번으로 조회하고, 없는 사용자만 DB에서
+ * IN 조회 한 번으로 채운다. 토큰이 없는 사용자도 다시 조회하지 않도록 빈 문자열 멤버로 적재 여부를 표시한다. 토큰 추가, 삭제가 커밋되면 해당 사용자의
+ * 키를 지우고, 놓친 변경은 TTL이 지나면 정리된다.
+ * <p>
+ * 캐시를 지우는 쪽은 사용자별 버전(fcm:tokens:version:{id})을 먼저 올리고 키를 지운다. 채우는 쪽은 캐시를 읽을 때 함께 읽은 버전이 그대로이고
+ * 키가 없을 때만 저장하므로, DB를 읽는 사이에 변경이 커밋되어 지워진 키에 옛 토큰을 다시 쓰지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FcmTokenStore {
+
+    private static final String KEY_PREFIX = "fcm:tokens:user:";
+    private static final String VERSION_KEY_PREFIX = "fcm:tokens:version:";
+    // 버전 키가 없으면 빈 문자열로 비교한다.
+    private static final String NO_VERSION = "";
+    private static final String LOADED_MARKER = "";
+    private static final Duration TTL = Duration.ofMinutes(30);
+
+    // KEYS는 사용자마다 (토큰 키, 버전 키) 쌍이고, ARGV는 TTL(초) 다음에 사용자마다 (읽은 버전, 토큰 수, 적재 표시, 토큰...)이다.
+    private static final RedisScript<Long> CACHE_SCRIPT = new DefaultRedisScript<>(
+        "local argIndex = 2 " +
+            "local cached = 0 " +
+            "for i = 1, #KEYS, 2 do " +
+            "  local version = redis.call('get', KEYS[i + 1]) or '' " +
+            "  local count = tonumber(ARGV[argIndex + 1]) " +
+            "  if version == ARGV[argIndex] and redis.call('exists', KEYS[i]) == 0 then " +
+            "    for j = 0, count do redis.call('sadd', KEYS[i], ARGV[argIndex + 2 + j]) end " +
+            "    redis.call('expire', KEYS[i], ARGV[1]) " +
+            "    cached = cached + 1 " +
+            "  end " +
+            "  argIndex = argIndex + 3 + count " +
+            "end " +
+            "return cached", Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final UserFcmTokenRepository userFcmTokenRepository;
+
+    public Map<Long, List<String>> getTokens(Collection<Long> userIds) {
+        List<Long> distinctUserIds = userIds.stream().distinct().toList();
+        Map<Long, List<String>> tokensByUserId = new HashMap<>();
+        if (distinctUserIds.isEmpty()) {
+            return tokensByUserId;
+        }
+
+        List<Long> missedUserIds = new ArrayList<>();
+        Map<Long, String> versions = new HashMap<>();
+        boolean cacheAvailable = true;
+        try {
+            List<Object> results = stringRedisTemplate.executePipelined(
+                new SessionCallback<Object>() {
+                    @Override
+                    @SuppressWarnings("unchecked")
+                    public <K, V> Object execute(RedisOperations<K, V> operations) {
+                        RedisOperations<String, String> redisOperations =
+                            (RedisOperations<String, String>) operations;
+                        distinctUserIds.forEach(userId -> {
+                            redisOperations.opsForSet().members(key(userId));
+                            redisOperations.opsForValue().get(versionKey(userId));
+                        });
+                        return null;
+                    }
+                });
+            for (int i = 0; i < distinctUserIds.size(); i++) {
+                @SuppressWarnings("unchecked")
+                Set<String> members = (Set<String>) results.get(2 * i);
+                if (members == null || members.isEmpty()) {
+                    String version = (String) results.get(2 * i + 1);
+                    missedUserIds.add(distinctUserIds.get(i));
+                    versions.put(distinctUserIds.get(i), version == null ? NO_VERSION : version);
+                    continue;
+                }
+                tokensByUserId.put(distinctUserIds.get(i), members.stream()
+                    .filter(member -> !member.isEmpty())
+                    .toList());
+            }
+        } catch (DataAccessException e) {
+            log.error("FCM 토큰 캐시 조회에 실패했습니다.", e);
+            missedUserIds = distinctUserIds;
+            cacheAvailable = false;
+        }
+
+        if (!missedUserIds.isEmpty()) {
+            Map<Long, List<String>> loaded = loadFromDatabase(missedUserIds);
+            tokensByUserId.putAll(loaded);
+            // 버전을 읽지 못했으면 옛 값을 쓰지 않았다고 보장할 수 없으므로 채우지 않는다.
+            if (cacheAvailable) {
+                cache(loaded, versions);
+            }
+        }
+        return tokensByUserId;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFcmTokenChanged(FcmTokenChangedEvent event) {
+        if (event.getUserIds().isEmpty()) {
+            return;
+        }
+        try {
+            // 버전을 먼저 올려야 그 사이에 DB를 읽은 쪽이 지운 키에 다시 쓰지 못한다.
+            stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, String> redisOperations =
+                        (RedisOperations<String, String>) operations;
+                    event.getUserIds().forEach(userId -> {
+                        redisOperations.opsForValue().increment(versionKey(userId));
+                        redisOperations.expire(versionKey(userId), TTL);
+                        redisOperations.delete(key(userId));
+                    });
+                    return null;
+                }
+            });
+        } catch (DataAccessException e) {
+            log.error("FCM 토큰 캐시를 지우지 못했습니다. event = {}", event, e);
+        }
+    }
+
+    private Map<Long, List<String>> loadFromDatabase(List<Long> userIds) {
+        Map<Long, List<String>> tokensByUserId = new HashMap<>();
+        userIds.forEach(userId -> tokensByUserId.put(userId, new ArrayList<>()));
+        for (UserFcmTokenDto userFcmToken : userFcmTokenRepository.findUserFcmTokensByUserIdIn(
+            userIds)) {
+            tokensByUserId.get(userFcmToken.userId()).add(userFcmToken.fcmToken());
+        }
+        return tokensByUserId;
+    }
+
+    private void cache(Map<Long, List<String>> tokensByUserId, Map<Long, String> versions) {
+        List<String> keys = new ArrayList<>();
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(TTL.toSeconds()));
+        tokensByUserId.forEach((userId, tokens) -> {
+            keys.add(key(userId));
+            keys.add(versionKey(userId));
+            args.add(versions.get(userId));
+            args.add(String.valueOf(tokens.size()));
+            args.add(LOADED_MARKER);
+            args.addAll(tokens);
+        });
+        try {
+            stringRedisTemplate.execute(CACHE_SCRIPT, keys, args.toArray());
+        } catch (DataAccessException e) {
+            log.error("FCM 토큰 캐시 저장에 실패했습니다.", e);
+        }
+    }
+
+    private String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+
+    private String versionKey(Long userId) {
+        return VERSION_KEY_PREFIX + userId;
+    }
+}
@@ -0,0 +1,290 @@
+package LinkerBell.campus_market_spring.global.redis;
+
+import LinkerBell.campus_market_spring.domain.Category;
+import LinkerBell.campus_market_spring.domain.ItemStatus;
+import LinkerBell.campus_market_spring.domain.PriceBucket;
+import LinkerBell.campus_market_spring.dto.ItemFacetCountDto;
+import LinkerBell.campus_market_spring.dto.ItemFacetsResponseDto;
+import LinkerBell.campus_market_spring.global.event.ItemFacetChangedEvent;
+import LinkerBell.campus_market_spring.global.event.ItemFacetChangedEvent.ItemFacet;
+import LinkerBell.campus_market_spring.repository.ItemRepository;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 캠퍼스별 카테고리, 판매 상태, 가격 구간 개수를 Redis hash 하나(facets:campus:{id})에 유지한다. 아이템 등록, 수정, 상태 변경, 삭제가 커밋되면
+ * HINCRBY로 바뀐 필드만 갱신하므로 조회는 캠퍼스 아이템 수와 관계없이 HGETALL 한 번이다. ready 키가 없으면 호출 측이 DB로 집계한다.
+ * <p>
+ * 재집계 중에는 recording 키가 있는 동안 증감을 캠퍼스별 delta hash(facets:delta:{id})에도 남기고, 교체할 때 임시 hash에 더한 뒤 같은
+ * 스크립트에서 RENAME한다. DB 집계 직전에 커밋된 변경은 두 번 더해질 수 있지만 빠지지는 않고, 다음 재집계 때 맞춰진다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ItemFacetStore {
+
+    private static final String KEY_PREFIX = "facets:campus:";
+    private static final String READY_KEY = "facets:ready";
+    private static final String REBUILD_LOCK_KEY = "facets:rebuilding";
+    private static final String RECORDING_KEY = "facets:recording";
+    private static final String DELTA_KEY_PREFIX = "facets:delta:";
+    private static final Duration REBUILD_LOCK_TIMEOUT = Duration.ofMinutes(10);
+    private static final String CATEGORY_FIELD = "category:";
+    private static final String STATUS_FIELD = "status:";
+    private static final String PRICE_FIELD = "price:";
+
+    // KEYS = [캠퍼스 hash, delta hash, recording 키], ARGV는 (필드, 증감) 쌍이다.
+    private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>(
+        "local recording = redis.call('exists', KEYS[3]) == 1 " +
+            "for i = 1, #ARGV, 2 do " +
+            "  redis.call('hincrby', KEYS[1], ARGV[i], ARGV[i + 1]) " +
+            "  if recording then redis.call('hincrby', KEYS[2], ARGV[i], ARGV[i + 1]) end " +
+            "end " +
+            "return 1", Long.class);
+
+    // KEYS = [임시 hash, 캠퍼스 hash, delta hash]. 재집계 중 쌓인 증감을 임시 hash에 더해 교체한다. 둘 다 비어 있으면 캠퍼스 hash를 지운다.
+    private static final RedisScript<Long> SWAP_SCRIPT = new DefaultRedisScript<>(
+        "local delta = redis.call('hgetall', KEYS[3]) " +
+            "for i = 1, #delta, 2 do redis.call('hincrby', KEYS[1], delta[i], delta[i + 1]) end " +
+            "redis.call('del', KEYS[3]) " +
+            "if redis.call('exists', KEYS[1]) == 1 then " +
+            "  redis.call('rename', KEYS[1], KEYS[2]) " +
+            "else " +
+            "  redis.call('del', KEYS[2]) " +
+            "end " +
+            "return 1", Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ItemRepository itemRepository;
+
+    public Optional<ItemFacetsResponseDto> getFacets(Long campusId) {
+        try {
+            List<Object> results = stringRedisTemplate.executePipelined(
+                new SessionCallback<Object>() {
+                    @Override
+                    @SuppressWarnings("unchecked")
+                    public <K, V> Object execute(RedisOperations<K, V> operations) {
+                        RedisOperations<String, String> redisOperations =
+                            (RedisOperations<String, String>) operations;
+                        redisOperations.hasKey(READY_KEY);
+                        redisOperations.opsForHash().entries(key(campusId));
+                        return null;
+                    }
+                });
+            if (!Boolean.TRUE.equals(results.get(0))) {
+                return Optional.empty();
+            }
+            @SuppressWarnings("unchecked")
+            Map<Object, Object> fields = (Map<Object, Object>) results.get(1);
+            return Optional.of(toResponse(fields));
+        } catch (DataAccessException e) {
+            log.error("필터 개수 조회에 실패했습니다. campusId = {}", campusId, e);
+            return Optional.empty();
+        }
+    }
+
+    // Redis를 쓸 수 없을 때만 사용하는 DB 집계
+    public ItemFacetsResponseDto countFromDatabase(Long campusId) {
+        Map<String, Long> fields = new HashMap<>();
+        itemRepository.countFacets(campusId).forEach(row -> addCounts(fields, row));
+        return toResponse(fields);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemFacetChanged(ItemFacetChangedEvent event) {
+        if (!event.isChanged()) {
+            return;
+        }
+        List<String> args = new ArrayList<>();
+        addIncrements(args, event.getBefore(), -1);
+        addIncrements(args, event.getAfter(), 1);
+        Long campusId = event.getCampusId();
+        try {
+            stringRedisTemplate.execute(INCREMENT_SCRIPT,
+                List.of(key(campusId), deltaKey(campusId), RECORDING_KEY), args.toArray());
+        } catch (DataAccessException e) {
+            // 반영하지 못한 변경이 있으면 다음 재집계까지 DB로 조회하도록 ready 키를 지운다.
+            log.error("필터 개수 갱신에 실패했습니다. event = {}", event, e);
+            markNotReady();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${facets.check_delay:300000}",
+        initialDelayString = "${facets.check_delay:300000}")
+    public void rebuildIfNotReady() {
+        try {
+            if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(READY_KEY))) {
+                return;
+            }
+            rebuild();
+        } catch (DataAccessException e) {
+            log.error("필터 개수 집계에 실패했습니다.", e);
+        }
+    }
+
+    // 증감 중 누락이 있어도 하루 한 번 DB 기준으로 맞춘다.
+    @Scheduled(cron = "${cron.item_facets:0 10 4 * * *}")
+    public void reconcile() {
+        try {
+            rebuild();
+        } catch (DataAccessException e) {
+            log.error("필터 개수 재집계에 실패했습니다.", e);
+        }
+    }
+
+    /**
+     * 전체 캠퍼스를 한 번의 group by로 집계해 캠퍼스마다 임시 hash를 만든 뒤 그동안 쌓인 delta를 더해 RENAME으로 교체한다. 교체 전까지는 이전 값을
+     * 그대로 조회한다.
+     */
+    public void rebuild() {
+        Boolean locked = stringRedisTemplate.opsForValue()
+            .setIfAbsent(REBUILD_LOCK_KEY, "1", REBUILD_LOCK_TIMEOUT);
+        if (!Boolean.TRUE.equals(locked)) {
+            return;
+        }
+        try {
+            // DB 집계보다 먼저 켜야 집계 이후 커밋된 변경이 빠지지 않는다.
+            deleteKeys(DELTA_KEY_PREFIX + "*");
+            stringRedisTemplate.opsForValue().set(RECORDING_KEY, "1", REBUILD_LOCK_TIMEOUT);
+            Map<Long, Map<String, Long>> countsByCampus = new HashMap<>();
+            for (ItemFacetCountDto row : itemRepository.countFacets(null)) {
+                addCounts(countsByCampus.computeIfAbsent(row.campusId(), id -> new HashMap<>()),
+                    row);
+            }
+
+            countsByCampus.forEach((campusId, counts) -> {
+                Map<String, String> fields = new HashMap<>();
+                counts.forEach((field, count) -> fields.put(field, String.valueOf(count)));
+                String tempKey = key(campusId) + ":rebuilding";
+                stringRedisTemplate.delete(tempKey);
+                stringRedisTemplate.opsForHash().putAll(tempKey, fields);
+                swap(tempKey, key(campusId), deltaKey(campusId));
+            });
+            resetCampusesWithoutItems(countsByCampus.keySet());
+
+            stringRedisTemplate.opsForValue().set(READY_KEY, "1");
+            log.info("필터 개수 집계 완료. campusCount = {}", countsByCampus.size());
+        } finally {
+            // 교체 뒤에 남은 delta는 이미 캠퍼스 hash에 반영된 값이다.
+            stringRedisTemplate.delete(RECORDING_KEY);
+            deleteKeys(DELTA_KEY_PREFIX + "*");
+            stringRedisTemplate.delete(REBUILD_LOCK_KEY);
+        }
+    }
+
+    private void addIncrements(List<String> args, ItemFacet facet, long delta) {
+        if (facet == null) {
+            return;
+        }
+        String value = String.valueOf(delta);
+        args.addAll(List.of(CATEGORY_FIELD + facet.category(), value));
+        args.addAll(List.of(STATUS_FIELD + facet.itemStatus(), value));
+        args.addAll(List.of(PRICE_FIELD + facet.priceBucket(), value));
+    }
+
+    private void swap(String tempKey, String key, String deltaKey) {
+        stringRedisTemplate.execute(SWAP_SCRIPT, List.of(tempKey, key, deltaKey));
+    }
+
+    private void addCounts(Map<String, Long> fields, ItemFacetCountDto row) {
+        fields.merge(CATEGORY_FIELD + row.category(), row.count(), Long::sum);
+        fields.merge(STATUS_FIELD + row.itemStatus(), row.count(), Long::sum);
+        fields.merge(PRICE_FIELD + row.priceBucket(), row.count(), Long::sum);
+    }
+
+    private ItemFacetsResponseDto toResponse(Map<?, ?> fields) {
+        Map<Category, Long> categories = new EnumMap<>(Category.class);
+        Map<ItemStatus, Long> itemStatuses = new EnumMap<>(ItemStatus.class);
+        Map<PriceBucket, Long> priceBuckets = new EnumMap<>(PriceBucket.class);
+        fields.forEach((field, value) -> {
+            String name = String.valueOf(field);
+            long count = Math.max(0L, Long.parseLong(String.valueOf(value)));
+            try {
+                if (name.startsWith(CATEGORY_FIELD)) {
+                    categories.put(Category.valueOf(name.substring(CATEGORY_FIELD.length())), count);
+                } else if (name.startsWith(STATUS_FIELD)) {
+                    itemStatuses.put(ItemStatus.valueOf(name.substring(STATUS_FIELD.length())),
+                        count);
+                } else if (name.startsWith(PRICE_FIELD)) {
+                    priceBuckets.put(PriceBucket.valueOf(name.substring(PRICE_FIELD.length())),
+                        count);
+                }
+            } catch (IllegalArgumentException e) {
+                // 더 이상 없는 enum 값은 다음 재집계 때 정리된다.
+                log.warn("알 수 없는 필터 필드입니다. field = {}", name);
+            }
+        });
+        return ItemFacetsResponseDto.of(categories, itemStatuses, priceBuckets);
+    }
+
+    // DB에 아이템이 없는 캠퍼스는 재집계 중 쌓인 delta만 남기고, 그것도 없으면 지운다.
+    private void resetCampusesWithoutItems(Set<Long> campusIds) {
+        Set<String> liveKeys = new HashSet<>();
+        campusIds.forEach(campusId -> liveKeys.add(key(campusId)));
+        Set<String> staleKeys = new HashSet<>();
+        try (Cursor<String> cursor = scan(KEY_PREFIX + "*")) {
+            while (cursor.hasNext()) {
+                String key = cursor.next();
+                if (!liveKeys.contains(key) && !key.endsWith(":rebuilding")) {
+                    staleKeys.add(key);
+                }
+            }
+        }
+        staleKeys.forEach(key -> swap(key + ":rebuilding", key,
+            DELTA_KEY_PREFIX + key.substring(KEY_PREFIX.length())));
+    }
+
+    private void deleteKeys(String pattern) {
+        Set<String> keys = new HashSet<>();
+        try (Cursor<String> cursor = scan(pattern)) {
+            cursor.forEachRemaining(keys::add);
+        }
+        if (!keys.isEmpty()) {
+            stringRedisTemplate.delete(keys);
+        }
+    }
+
+    private Cursor<String> scan(String pattern) {
+        return stringRedisTemplate.scan(
+            ScanOptions.scanOptions().match(pattern).count(1000).build());
+    }
+
+    private void markNotReady() {
+        try {
+            stringRedisTemplate.delete(READY_KEY);
+        } catch (DataAccessException e) {
+            log.error("필터 개수 ready 키를 지우지 못했습니다.", e);
+        }
+    }
+
+    private String key(Long campusId) {
+        return KEY_PREFIX + campusId;
+    }
+
+    private String deltaKey(Long campusId) {
+        return DELTA_KEY_PREFIX + campusId;
+    }
+}
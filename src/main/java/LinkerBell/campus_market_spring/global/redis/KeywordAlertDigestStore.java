@@ -0,0 +1,147 @@
+package LinkerBell.campus_market_spring.global.redis;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+/**
+ * 키워드 알림 푸시를 사용자마다 window 동안 한 번만 바로 보내고, 그 사이에 들어온 알림은 모아 두었다가 window가 끝나면 묶음 푸시 한 건으로 보낸다.
+ * <ul>
+ *     <li>alerts:digest:window:{userId} - 마지막 푸시 이후 window 동안 존재하는 키</li>
+ *     <li>alerts:digest:pending:{userId} - 묶음 푸시로 보낼 아이템 (itemId:title)</li>
+ *     <li>alerts:digest:due - 묶음 푸시를 보낼 사용자와 보낼 시각(score)</li>
+ * </ul>
+ * Redis를 쓸 수 없으면 모든 알림을 바로 보낸다.
+ */
+@Slf4j
+@Service
+public class KeywordAlertDigestStore {
+
+    private static final String WINDOW_KEY_PREFIX = "alerts:digest:window:";
+    private static final String PENDING_KEY_PREFIX = "alerts:digest:pending:";
+    private static final String DUE_KEY = "alerts:digest:due";
+    // 목록을 읽고 지우는 사이에 추가된 아이템을 잃지 않도록 한 번에 실행한다.
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> POP_ALL_SCRIPT = new DefaultRedisScript<>(
+        "local entries = redis.call('LRANGE', KEYS[1], 0, -1) "
+            + "redis.call('DEL', KEYS[1]) "
+            + "return entries", List.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Duration window;
+
+    public KeywordAlertDigestStore(StringRedisTemplate stringRedisTemplate,
+        @Value("${keyword_alert.digest_window_seconds:300}") long windowSeconds) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.window = Duration.ofSeconds(windowSeconds);
+    }
+
+    public record DigestEntry(Long itemId, String title) {
+
+        private static DigestEntry parse(String value) {
+            int separator = value.indexOf(':');
+            return new DigestEntry(Long.valueOf(value.substring(0, separator)),
+                value.substring(separator + 1));
+        }
+
+        private String format() {
+            return itemId + ":" + title;
+        }
+    }
+
+    /**
+     * 지금 바로 보낼 수 있으면 true. window 안에 이미 보낸 푸시가 있으면 아이템을 묶음 푸시 대기열에 넣고 false를 돌려준다.
+     */
+    public boolean admit(Long userId, Long itemId, String title) {
+        if (window.isZero()) {
+            return true;
+        }
+        try {
+            Boolean opened = stringRedisTemplate.opsForValue()
+                .setIfAbsent(windowKey(userId), "1", window);
+            if (Boolean.TRUE.equals(opened)) {
+                return true;
+            }
+            long dueAt = System.currentTimeMillis() + window.toMillis();
+            stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, String> redisOperations =
+                        (RedisOperations<String, String>) operations;
+                    redisOperations.opsForList().rightPush(pendingKey(userId),
+                        new DigestEntry(itemId, title).format());
+                    redisOperations.expire(pendingKey(userId), window.multipliedBy(3));
+                    redisOperations.opsForZSet().addIfAbsent(DUE_KEY, String.valueOf(userId),
+                        dueAt);
+                    return null;
+                }
+            });
+            return false;
+        } catch (DataAccessException e) {
+            log.error("키워드 알림 묶음 처리에 실패해 바로 보냅니다. userId = {}", userId, e);
+            return true;
+        }
+    }
+
+    /**
+     * 보낼 시각이 지난 사용자의 대기 아이템을 꺼낸다. 같은 사용자를 여러 서버가 동시에 꺼내지 않도록 ZREM에 성공한 서버만 가져간다. 꺼낸 사용자는 다시
+     * window를 시작한다.
+     */
+    public Map<Long, List<DigestEntry>> pollDue(int limit) {
+        Map<Long, List<DigestEntry>> digests = new LinkedHashMap<>();
+        try {
+            Set<String> userIds = stringRedisTemplate.opsForZSet()
+                .rangeByScore(DUE_KEY, 0, System.currentTimeMillis(), 0, limit);
+            if (userIds == null) {
+                return digests;
+            }
+            for (String value : userIds) {
+                Long removed = stringRedisTemplate.opsForZSet().remove(DUE_KEY, value);
+                if (removed == null || removed == 0) {
+                    continue;
+                }
+                Long userId = Long.valueOf(value);
+                List<DigestEntry> entries = popAll(userId);
+                if (!entries.isEmpty()) {
+                    digests.put(userId, entries);
+                    stringRedisTemplate.opsForValue().set(windowKey(userId), "1", window);
+                }
+            }
+        } catch (DataAccessException e) {
+            log.error("키워드 알림 묶음 조회에 실패했습니다.", e);
+        }
+        return digests;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<DigestEntry> popAll(Long userId) {
+        List<String> values = stringRedisTemplate.execute(POP_ALL_SCRIPT,
+            List.of(pendingKey(userId)));
+        List<DigestEntry> entries = new ArrayList<>();
+        if (values != null) {
+            values.forEach(value -> entries.add(DigestEntry.parse(value)));
+        }
+        return entries;
+    }
+
+    private String windowKey(Long userId) {
+        return WINDOW_KEY_PREFIX + userId;
+    }
+
+    private String pendingKey(Long userId) {
+        return PENDING_KEY_PREFIX + userId;
+    }
+}
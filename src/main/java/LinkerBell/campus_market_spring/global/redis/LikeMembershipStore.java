@@ -0,0 +1,219 @@
+package LinkerBell.campus_market_spring.global.redis;
+
+import LinkerBell.campus_market_spring.dto.LikeIdsDto;
+import LinkerBell.campus_market_spring.global.event.LikeChangedEvent;
+import LinkerBell.campus_market_spring.repository.LikeRepository;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 아이템별 좋아요한 사용자 id를 Redis set으로 유지한다. 좋아요 여부(SISMEMBER)와 개수(SCARD)를 O(1)로 확인하고, 작은 set은 Redis가 intset으로
+ * 압축해서 저장한다. 전체 적재가 끝나 ready 키가 있을 때만 값을 돌려주고, 그 외에는 호출 측이 DB로 조회한다.
+ * <p>
+ * 적재 중에는 recording 키가 있는 동안 모든 서버의 좋아요 변경을 목록(likes:rebuild:changes)에도 남기고, 묶음을 적재할 때마다 목록을 순서대로
+ * 다시 반영한다. DB에서 읽은 뒤 취소된 좋아요가 늦게 적재된 SADD로 되살아나지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LikeMembershipStore {
+
+    private static final String KEY_PREFIX = "likes:item:";
+    private static final String READY_KEY = "likes:ready";
+    private static final String REBUILD_LOCK_KEY = "likes:rebuilding";
+    private static final Duration REBUILD_LOCK_TIMEOUT = Duration.ofMinutes(10);
+    private static final int REBUILD_CHUNK_SIZE = 1000;
+    private static final String RECORDING_KEY = "likes:recording";
+    private static final String CHANGES_KEY = "likes:rebuild:changes";
+
+    // KEYS = [아이템 set, recording 키, 변경 목록], ARGV = [userId, 좋아요면 1, 목록에 남길 값, 목록 TTL(초)]
+    private static final RedisScript<Long> CHANGE_SCRIPT = new DefaultRedisScript<>(
+        "if ARGV[2] == '1' then redis.call('sadd', KEYS[1], ARGV[1]) " +
+            "else redis.call('srem', KEYS[1], ARGV[1]) end " +
+            "if redis.call('exists', KEYS[2]) == 1 then " +
+            "  redis.call('rpush', KEYS[3], ARGV[3]) " +
+            "  redis.call('expire', KEYS[3], ARGV[4]) " +
+            "end " +
+            "return 1", Long.class);
+
+    // KEYS = [변경 목록], ARGV = [set 키 prefix]. 목록의 "itemId:userId:좋아요 여부"를 순서대로 다시 반영한다.
+    private static final RedisScript<Long> REPLAY_SCRIPT = new DefaultRedisScript<>(
+        "local changes = redis.call('lrange', KEYS[1], 0, -1) " +
+            "for _, change in ipairs(changes) do " +
+            "  local itemId, userId, liked = string.match(change, '^(%d+):(%d+):(%d)$') " +
+            "  if liked == '1' then redis.call('sadd', ARGV[1] .. itemId, userId) " +
+            "  else redis.call('srem', ARGV[1] .. itemId, userId) end " +
+            "end " +
+            "return #changes", Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final LikeRepository likeRepository;
+
+    public record LikeState(boolean isLiked, long likeCount) {
+
+    }
+
+    public Optional<LikeState> getLikeState(Long itemId, Long userId) {
+        try {
+            List<Object> results = stringRedisTemplate.executePipelined(
+                new SessionCallback<Object>() {
+                    @Override
+                    @SuppressWarnings("unchecked")
+                    public <K, V> Object execute(RedisOperations<K, V> operations) {
+                        RedisOperations<String, String> redisOperations =
+                            (RedisOperations<String, String>) operations;
+                        redisOperations.hasKey(READY_KEY);
+                        redisOperations.opsForSet().isMember(key(itemId), String.valueOf(userId));
+                        redisOperations.opsForSet().size(key(itemId));
+                        return null;
+                    }
+                });
+            if (!Boolean.TRUE.equals(results.get(0))) {
+                return Optional.empty();
+            }
+            return Optional.of(new LikeState(Boolean.TRUE.equals(results.get(1)),
+                (Long) results.get(2)));
+        } catch (DataAccessException e) {
+            log.error("좋아요 set 조회에 실패했습니다. itemId = {}", itemId, e);
+            return Optional.empty();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLikeChanged(LikeChangedEvent event) {
+        String liked = event.isLiked() ? "1" : "0";
+        try {
+            stringRedisTemplate.execute(CHANGE_SCRIPT,
+                List.of(key(event.getItemId()), RECORDING_KEY, CHANGES_KEY),
+                String.valueOf(event.getUserId()), liked,
+                event.getItemId() + ":" + event.getUserId() + ":" + liked,
+                String.valueOf(REBUILD_LOCK_TIMEOUT.toSeconds()));
+        } catch (DataAccessException e) {
+            // 반영하지 못한 변경이 있으면 다음 재적재까지 DB로 조회하도록 ready 키를 지운다.
+            log.error("좋아요 set 갱신에 실패했습니다. event = {}", event, e);
+            markNotReady();
+        }
+    }
+
+    // Redis가 비었거나 갱신에 실패해 ready 키가 없으면 Likes 테이블에서 다시 적재한다.
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${likes.membership_check_delay:300000}",
+        initialDelayString = "${likes.membership_check_delay:300000}")
+    public void rebuildIfNotReady() {
+        try {
+            if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(READY_KEY))) {
+                return;
+            }
+            rebuild();
+        } catch (DataAccessException e) {
+            log.error("좋아요 set 적재에 실패했습니다.", e);
+        }
+    }
+
+    /**
+     * 여러 서버가 동시에 적재하지 않도록 lock 키를 잡고, 기존 set을 지운 뒤 likeId 순으로 나눠 적재한다. 묶음마다 적재 중 들어온 좋아요 변경을 다시
+     * 반영하므로 묶음을 읽은 뒤 취소된 좋아요도 지워진 채로 남는다.
+     */
+    public void rebuild() {
+        Boolean locked = stringRedisTemplate.opsForValue()
+            .setIfAbsent(REBUILD_LOCK_KEY, "1", REBUILD_LOCK_TIMEOUT);
+        if (!Boolean.TRUE.equals(locked)) {
+            return;
+        }
+        try {
+            markNotReady();
+            stringRedisTemplate.delete(CHANGES_KEY);
+            stringRedisTemplate.opsForValue().set(RECORDING_KEY, "1", REBUILD_LOCK_TIMEOUT);
+            deleteAllSets();
+
+            long likeCount = 0;
+            Long lastLikeId = 0L;
+            List<LikeIdsDto> likes;
+            do {
+                likes = likeRepository.findLikeIdsAfter(lastLikeId,
+                    PageRequest.of(0, REBUILD_CHUNK_SIZE));
+                if (likes.isEmpty()) {
+                    break;
+                }
+                addAll(likes);
+                stringRedisTemplate.execute(REPLAY_SCRIPT, List.of(CHANGES_KEY), KEY_PREFIX);
+                likeCount += likes.size();
+                lastLikeId = likes.get(likes.size() - 1).likeId();
+            } while (likes.size() == REBUILD_CHUNK_SIZE);
+
+            stringRedisTemplate.opsForValue().set(READY_KEY, "1");
+            log.info("좋아요 set 적재 완료. likeCount = {}", likeCount);
+        } finally {
+            stringRedisTemplate.delete(List.of(RECORDING_KEY, CHANGES_KEY));
+            stringRedisTemplate.delete(REBUILD_LOCK_KEY);
+        }
+    }
+
+    private void addAll(List<LikeIdsDto> likes) {
+        stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> redisOperations =
+                    (RedisOperations<String, String>) operations;
+                likes.stream()
+                    .collect(Collectors.groupingBy(LikeIdsDto::itemId,
+                        Collectors.mapping(like -> String.valueOf(like.userId()),
+                            Collectors.toSet())))
+                    .forEach((itemId, userIds) -> redisOperations.opsForSet()
+                        .add(key(itemId), userIds.toArray(String[]::new)));
+                return null;
+            }
+        });
+    }
+
+    private void deleteAllSets() {
+        ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*")
+            .count(REBUILD_CHUNK_SIZE).build();
+        try (Cursor<String> cursor = stringRedisTemplate.scan(options)) {
+            Set<String> keys = new HashSet<>();
+            while (cursor.hasNext()) {
+                keys.add(cursor.next());
+                if (keys.size() == REBUILD_CHUNK_SIZE) {
+                    stringRedisTemplate.delete(keys);
+                    keys.clear();
+                }
+            }
+            if (!keys.isEmpty()) {
+                stringRedisTemplate.delete(keys);
+            }
+        }
+    }
+
+    private void markNotReady() {
+        try {
+            stringRedisTemplate.delete(READY_KEY);
+        } catch (DataAccessException e) {
+            log.error("좋아요 set ready 키를 지우지 못했습니다.", e);
+        }
+    }
+
+    private String key(Long itemId) {
+        return KEY_PREFIX + itemId;
+    }
+}
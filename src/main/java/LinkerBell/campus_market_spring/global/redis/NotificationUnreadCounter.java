@@ -0,0 +1,111 @@
+package LinkerBell.campus_market_spring.global.redis;
+
+import LinkerBell.campus_market_spring.global.event.NotificationUnreadChangedEvent;
+import LinkerBell.campus_market_spring.repository.NotificationHistoryRepository;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 사용자별 안 읽은 알림 수를 Redis 문자열(notification:unread:user:{id})로 유지해 배지를 그릴 때 행을 세지 않게 한다. 키가 없으면 DB에서 한 번
+ * 세어 채우고, 이후에는 알림 저장, 읽음, 삭제가 커밋될 때 변화량만 더한다. 키가 없는 사용자는 더하지 않고 다음 조회 때 DB 값으로 채우며, 놓친 변경은
+ * TTL이 지나면 정리된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationUnreadCounter {
+
+    private static final String KEY_PREFIX = "notification:unread:user:";
+    private static final Duration TTL = Duration.ofHours(1);
+
+    // 이미 적재된 키에만 변화량을 더한다. 음수가 되면 어긋난 값이므로 지우고 다시 센다.
+    private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>(
+        "for i, key in ipairs(KEYS) do " +
+            "if redis.call('exists', key) == 1 and " +
+            "redis.call('incrby', key, ARGV[i]) < 0 then " +
+            "redis.call('del', key) end " +
+            "end " +
+            "return #KEYS", Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final NotificationHistoryRepository notificationHistoryRepository;
+
+    public long getUnreadCount(Long userId) {
+        try {
+            String cached = stringRedisTemplate.opsForValue().get(key(userId));
+            if (cached != null) {
+                return Math.max(0L, Long.parseLong(cached));
+            }
+        } catch (DataAccessException e) {
+            log.error("안 읽은 알림 수 조회에 실패했습니다. userId = {}", userId, e);
+            return notificationHistoryRepository.countByUser_UserIdAndIsReadFalse(userId);
+        }
+
+        long unreadCount = notificationHistoryRepository.countByUser_UserIdAndIsReadFalse(userId);
+        try {
+            // 세는 동안 먼저 채워진 값이 있으면 그 값을 유지한다.
+            stringRedisTemplate.opsForValue()
+                .setIfAbsent(key(userId), String.valueOf(unreadCount), TTL);
+        } catch (DataAccessException e) {
+            log.error("안 읽은 알림 수 저장에 실패했습니다. userId = {}", userId, e);
+        }
+        return unreadCount;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNotificationUnreadChanged(NotificationUnreadChangedEvent event) {
+        try {
+            if (!event.getEvictedUserIds().isEmpty()) {
+                stringRedisTemplate.delete(
+                    event.getEvictedUserIds().stream().map(this::key).toList());
+            }
+            increment(event.getDeltaByUserId());
+        } catch (DataAccessException e) {
+            log.error("안 읽은 알림 수 갱신에 실패했습니다. event = {}", event, e);
+            evictQuietly(event);
+        }
+    }
+
+    private void increment(Map<Long, Long> deltaByUserId) {
+        if (deltaByUserId.isEmpty()) {
+            return;
+        }
+        List<String> keys = new ArrayList<>();
+        List<String> deltas = new ArrayList<>();
+        deltaByUserId.forEach((userId, delta) -> {
+            if (delta != 0) {
+                keys.add(key(userId));
+                deltas.add(String.valueOf(delta));
+            }
+        });
+        if (!keys.isEmpty()) {
+            stringRedisTemplate.execute(INCREMENT_SCRIPT, keys, deltas.toArray());
+        }
+    }
+
+    // 반영하지 못한 변화량이 남지 않도록 키를 지워 다음 조회 때 DB에서 다시 세게 한다.
+    private void evictQuietly(NotificationUnreadChangedEvent event) {
+        try {
+            List<String> keys = new ArrayList<>();
+            event.getDeltaByUserId().keySet().forEach(userId -> keys.add(key(userId)));
+            event.getEvictedUserIds().forEach(userId -> keys.add(key(userId)));
+            stringRedisTemplate.delete(keys);
+        } catch (DataAccessException e) {
+            log.error("안 읽은 알림 수 키를 지우지 못했습니다. event = {}", event, e);
+        }
+    }
+
+    private String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+}
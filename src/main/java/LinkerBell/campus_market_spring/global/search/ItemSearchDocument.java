@@ -0,0 +1,5 @@
+package LinkerBell.campus_market_spring.global.search;
+
+public record ItemSearchDocument(Long itemId, Long campusId, String title) {
+
+}
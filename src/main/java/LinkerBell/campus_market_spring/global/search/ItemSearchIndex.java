@@ -0,0 +1,334 @@
+package LinkerBell.campus_market_spring.global.search;
+
+import jakarta.annotation.PreDestroy;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.ko.KoreanAnalyzer;
+import org.apache.lucene.analysis.ko.KoreanPartOfSpeechStopFilter;
+import org.apache.lucene.analysis.ko.KoreanTokenizer.DecompoundMode;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause.Occur;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TopFieldDocs;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 캠퍼스별로 분리된 아이템 제목 색인. 한국어 형태소 분석(Nori) 후 토큰 단위 접두어 검색을 하고, 일치한 아이템 id를 최신순으로 돌려준다.
+ * <p>
+ * 수정, 삭제는 NRT(near real-time) searcher로 바로 검색에 반영하고, 디스크 커밋(fsync)은 commitAll()에서 주기적으로 모아서 한다.
+ * 커밋할 때 어느 시점까지의 DB 변경이 반영됐는지를 커밋 user data에 함께 남겨, 다시 열 때 그 이후만 동기화할 수 있게 한다.
+ */
+@Slf4j
+@Component
+public class ItemSearchIndex {
+
+    private static final String ITEM_ID = "itemId";
+    private static final String ITEM_ID_SORT = "itemIdSort";
+    private static final String TITLE = "title";
+    private static final String CAMPUS_DIRECTORY_PREFIX = "campus-";
+    private static final String SYNCED_UNTIL = "syncedUntil";
+    // 변경이 없는 캠퍼스 색인도 이보다 오래된 syncedUntil은 다시 커밋해, 재시작 시 다시 동기화할 범위가 한없이 길어지지 않게 한다.
+    private static final Duration SYNCED_UNTIL_MAX_AGE = Duration.ofHours(1);
+
+    private final Path indexRoot;
+    // 일치한 아이템이 이보다 많으면 id 목록 대신 LIKE 검색으로 대체한다. (SQL IN 목록 크기 제한)
+    private final int maxHits;
+    // 색인 시에는 복합명사와 분해된 명사를 모두 남기고, 검색어는 분해된 명사로만 찾는다.
+    private final Analyzer indexAnalyzer = new KoreanAnalyzer(null, DecompoundMode.MIXED,
+        KoreanPartOfSpeechStopFilter.DEFAULT_STOP_TAGS, false);
+    private final Analyzer queryAnalyzer = new KoreanAnalyzer(null, DecompoundMode.DISCARD,
+        KoreanPartOfSpeechStopFilter.DEFAULT_STOP_TAGS, false);
+    private final Map<Long, CampusIndex> campusIndexes = new ConcurrentHashMap<>();
+
+    public ItemSearchIndex(@Value("${search.item_index_path:./item-index}") String indexPath,
+        @Value("${search.item_index_max_hits:2000}") int maxHits) {
+        this.indexRoot = Path.of(indexPath);
+        this.maxHits = maxHits;
+    }
+
+    public boolean isEmpty() {
+        if (!Files.isDirectory(indexRoot)) {
+            return true;
+        }
+        try (Stream<Path> campusDirectories = Files.list(indexRoot)) {
+            return campusDirectories.findAny().isEmpty();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void upsert(ItemSearchDocument document) {
+        try {
+            CampusIndex index = getOrOpen(document.campusId());
+            updateDocument(index, document);
+            index.refresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void delete(Long campusId, Long itemId) {
+        try {
+            CampusIndex index = getOrOpen(campusId);
+            index.writer.deleteDocuments(new Term(ITEM_ID, String.valueOf(itemId)));
+            index.refresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 전체 재색인용. 커밋은 commitAll()에서 한 번에 한다.
+    public void addAll(List<ItemSearchDocument> documents) {
+        try {
+            for (ItemSearchDocument document : documents) {
+                updateDocument(getOrOpen(document.campusId()), document);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void deleteAll() {
+        try {
+            openExistingCampusIndexes();
+            for (CampusIndex index : campusIndexes.values()) {
+                index.writer.deleteAll();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 모든 캠퍼스 색인을 커밋한다. syncedUntil은 이 시점 이전의 DB 변경이 모두 색인에 반영됐다는 기준 시각으로, 커밋 user data에 함께 저장된다.
+     */
+    public void commitAll(LocalDateTime syncedUntil) {
+        try {
+            for (CampusIndex index : campusIndexes.values()) {
+                index.commit(syncedUntil);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 디스크에 커밋된 색인이 반영하고 있는 DB 변경 시각. 캠퍼스 색인마다 커밋 시점이 다르므로 가장 이른 값을 돌려주고, 기준 시각이 없는 캠퍼스
+     * 색인이 하나라도 있으면 빈 Optional을 돌려준다.
+     */
+    public Optional<LocalDateTime> getCommittedSyncedUntil() {
+        try {
+            openExistingCampusIndexes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        LocalDateTime committedSyncedUntil = null;
+        for (CampusIndex index : campusIndexes.values()) {
+            if (index.committedSyncedUntil == null) {
+                return Optional.empty();
+            }
+            if (committedSyncedUntil == null || index.committedSyncedUntil.isBefore(committedSyncedUntil)) {
+                committedSyncedUntil = index.committedSyncedUntil;
+            }
+        }
+        return Optional.ofNullable(committedSyncedUntil);
+    }
+
+    /**
+     * 검색어에서 추출한 모든 토큰을 접두어로 포함하는 아이템 id를 최신순으로 돌려준다. 검색어에서 토큰을 하나도 얻지 못하거나 일치한 아이템이 maxHits개보다
+     * 많으면 빈 Optional을 돌려주므로 호출 측에서 LIKE 검색으로 대체해야 한다. (잘린 id 목록으로는 가격순 정렬, 뒤 페이지가 틀려진다)
+     */
+    public Optional<List<Long>> search(Long campusId, String keyword) {
+        try {
+            List<String> tokens = analyze(keyword);
+            if (tokens.isEmpty()) {
+                return Optional.empty();
+            }
+
+            CampusIndex index = campusIndexes.get(campusId);
+            if (index == null) {
+                if (!Files.isDirectory(campusPath(campusId))) {
+                    return Optional.of(List.of());
+                }
+                index = getOrOpen(campusId);
+            }
+
+            BooleanQuery.Builder query = new BooleanQuery.Builder();
+            tokens.forEach(token -> query.add(new PrefixQuery(new Term(TITLE, token)), Occur.MUST));
+
+            IndexSearcher searcher = index.searcherManager.acquire();
+            try {
+                // 하나 더 찾아 잘렸는지 확인한다.
+                TopFieldDocs topDocs = searcher.search(query.build(), maxHits + 1,
+                    new Sort(new SortField(ITEM_ID_SORT, SortField.Type.LONG, true)));
+                if (topDocs.scoreDocs.length > maxHits) {
+                    log.info("검색 결과가 많아 LIKE 검색으로 대체합니다. campusId = {}, keyword = {}",
+                        campusId, keyword);
+                    return Optional.empty();
+                }
+                StoredFields storedFields = searcher.storedFields();
+                List<Long> itemIds = new ArrayList<>(topDocs.scoreDocs.length);
+                for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                    itemIds.add(Long.valueOf(storedFields.document(scoreDoc.doc).get(ITEM_ID)));
+                }
+                return Optional.of(itemIds);
+            } finally {
+                index.searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        for (CampusIndex index : campusIndexes.values()) {
+            try {
+                index.close();
+            } catch (IOException e) {
+                log.error("아이템 검색 색인을 닫지 못했습니다.", e);
+            }
+        }
+        campusIndexes.clear();
+        indexAnalyzer.close();
+        queryAnalyzer.close();
+    }
+
+    private void updateDocument(CampusIndex index, ItemSearchDocument document) throws IOException {
+        Document doc = new Document();
+        doc.add(new StringField(ITEM_ID, String.valueOf(document.itemId()), Field.Store.YES));
+        doc.add(new NumericDocValuesField(ITEM_ID_SORT, document.itemId()));
+        doc.add(new TextField(TITLE, document.title(), Field.Store.NO));
+        index.writer.updateDocument(new Term(ITEM_ID, String.valueOf(document.itemId())), doc);
+    }
+
+    private List<String> analyze(String keyword) throws IOException {
+        List<String> tokens = new ArrayList<>();
+        try (TokenStream tokenStream = queryAnalyzer.tokenStream(TITLE, keyword)) {
+            CharTermAttribute term = tokenStream.addAttribute(CharTermAttribute.class);
+            tokenStream.reset();
+            while (tokenStream.incrementToken()) {
+                tokens.add(term.toString());
+            }
+            tokenStream.end();
+        }
+        return tokens;
+    }
+
+    private void openExistingCampusIndexes() throws IOException {
+        if (!Files.isDirectory(indexRoot)) {
+            return;
+        }
+        try (Stream<Path> campusDirectories = Files.list(indexRoot)) {
+            for (Path directory : campusDirectories.toList()) {
+                String name = directory.getFileName().toString();
+                if (name.startsWith(CAMPUS_DIRECTORY_PREFIX)) {
+                    getOrOpen(Long.valueOf(name.substring(CAMPUS_DIRECTORY_PREFIX.length())));
+                }
+            }
+        }
+    }
+
+    private CampusIndex getOrOpen(Long campusId) throws IOException {
+        CampusIndex index = campusIndexes.get(campusId);
+        if (index != null) {
+            return index;
+        }
+        synchronized (campusIndexes) {
+            index = campusIndexes.get(campusId);
+            if (index == null) {
+                index = new CampusIndex(campusPath(campusId), indexAnalyzer);
+                campusIndexes.put(campusId, index);
+            }
+            return index;
+        }
+    }
+
+    private Path campusPath(Long campusId) {
+        return indexRoot.resolve(CAMPUS_DIRECTORY_PREFIX + campusId);
+    }
+
+    private static class CampusIndex implements Closeable {
+
+        private final Directory directory;
+        private final IndexWriter writer;
+        private final SearcherManager searcherManager;
+        // 마지막 커밋에 저장된 syncedUntil. 한 번도 기준 시각과 함께 커밋되지 않았으면 null이다.
+        private volatile LocalDateTime committedSyncedUntil;
+
+        CampusIndex(Path path, Analyzer analyzer) throws IOException {
+            Files.createDirectories(path);
+            this.directory = FSDirectory.open(path);
+            this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer));
+            this.searcherManager = new SearcherManager(writer, null);
+            this.committedSyncedUntil = readCommittedSyncedUntil(writer);
+        }
+
+        void refresh() throws IOException {
+            searcherManager.maybeRefresh();
+        }
+
+        // 바뀐 것이 없으면 syncedUntil이 SYNCED_UNTIL_MAX_AGE보다 오래됐을 때만 fsync한다.
+        void commit(LocalDateTime syncedUntil) throws IOException {
+            if (writer.hasUncommittedChanges() || committedSyncedUntil == null
+                || committedSyncedUntil.isBefore(syncedUntil.minus(SYNCED_UNTIL_MAX_AGE))) {
+                writer.setLiveCommitData(Map.of(SYNCED_UNTIL, syncedUntil.toString()).entrySet());
+                writer.commit();
+                committedSyncedUntil = syncedUntil;
+            }
+            searcherManager.maybeRefresh();
+        }
+
+        private static LocalDateTime readCommittedSyncedUntil(IndexWriter writer) {
+            Iterable<Map.Entry<String, String>> commitData = writer.getLiveCommitData();
+            if (commitData == null) {
+                return null;
+            }
+            for (Map.Entry<String, String> entry : commitData) {
+                if (SYNCED_UNTIL.equals(entry.getKey())) {
+                    return LocalDateTime.parse(entry.getValue());
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public void close() throws IOException {
+            searcherManager.close();
+            writer.close();
+            directory.close();
+        }
+    }
+}
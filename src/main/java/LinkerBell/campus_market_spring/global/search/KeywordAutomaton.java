@@ -0,0 +1,148 @@
+package LinkerBell.campus_market_spring.global.search;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 한 캠퍼스의 알림 키워드로 만든 Aho-Corasick 오토마톤. 제목을 한 번 훑으면서 제목에 포함된 모든 키워드를 찾으므로 매칭 비용은 키워드 수와 관계없이
+ * O(제목 길이 + 매칭 수)이다.
+ * <p>
+ * 키워드 추가는 trie에 경로만 더하고 failure link는 다음 매칭 때 이 캠퍼스만 다시 계산한다. 삭제는 끝 노드의 출력에서만 지우고 trie 구조는 그대로
+ * 둔다. (주기적인 전체 재적재 때 정리된다)
+ */
+public class KeywordAutomaton {
+
+    private final Node root = new Node();
+    private final Map<Long, Node> terminalByKeywordId = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private boolean linksDirty = false;
+
+    public record KeywordMatch(Long keywordId, Long userId) {
+
+    }
+
+    public void add(Long keywordId, Long userId, String keywordName) {
+        if (keywordName == null || keywordName.isEmpty()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            removeInternal(keywordId);
+            Node node = root;
+            for (int i = 0; i < keywordName.length(); i++) {
+                node = node.children.computeIfAbsent(keywordName.charAt(i), c -> new Node());
+            }
+            node.outputs.put(keywordId, userId);
+            terminalByKeywordId.put(keywordId, node);
+            linksDirty = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long keywordId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(keywordId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return terminalByKeywordId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<KeywordMatch> match(String text) {
+        List<KeywordMatch> matches = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return matches;
+        }
+        lock.readLock().lock();
+        // 키워드가 추가된 뒤 첫 매칭이면 write lock으로 바꿔 link를 계산하고 다시 read lock으로 내려온다.
+        while (linksDirty) {
+            lock.readLock().unlock();
+            lock.writeLock().lock();
+            try {
+                if (linksDirty) {
+                    buildLinks();
+                }
+                lock.readLock().lock();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        try {
+            Node node = root;
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                while (node != root && !node.children.containsKey(c)) {
+                    node = node.fail;
+                }
+                node = node.children.getOrDefault(c, root);
+                for (Node output = node; output != null; output = output.outputLink) {
+                    output.outputs.forEach(
+                        (keywordId, userId) -> matches.add(new KeywordMatch(keywordId, userId)));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return matches;
+    }
+
+    private void removeInternal(Long keywordId) {
+        Node node = terminalByKeywordId.remove(keywordId);
+        if (node != null) {
+            node.outputs.remove(keywordId);
+        }
+    }
+
+    // BFS로 failure link와, 출력이 있는 가장 가까운 suffix 노드(outputLink)를 다시 계산한다.
+    private void buildLinks() {
+        Queue<Node> queue = new ArrayDeque<>();
+        root.fail = root;
+        root.outputLink = null;
+        for (Node child : root.children.values()) {
+            child.fail = root;
+            child.outputLink = null;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            Node node = queue.poll();
+            for (Map.Entry<Character, Node> entry : node.children.entrySet()) {
+                char c = entry.getKey();
+                Node child = entry.getValue();
+                Node fail = node.fail;
+                while (fail != root && !fail.children.containsKey(c)) {
+                    fail = fail.fail;
+                }
+                Node next = fail.children.get(c);
+                child.fail = next != null && next != child ? next : root;
+                child.outputLink = child.fail.outputs.isEmpty() ? child.fail.outputLink
+                    : child.fail;
+                queue.add(child);
+            }
+        }
+        linksDirty = false;
+    }
+
+    private static class Node {
+
+        private final Map<Character, Node> children = new HashMap<>(4);
+        // keywordId -> 키워드를 등록한 userId
+        private final Map<Long, Long> outputs = new HashMap<>(2);
+        private Node fail;
+        private Node outputLink;
+    }
+}
@@ -0,0 +1,124 @@
+package LinkerBell.campus_market_spring.repository;
+
+import LinkerBell.campus_market_spring.domain.ChatDeadLetterReason;
+import LinkerBell.campus_market_spring.domain.ChatMessage;
+import LinkerBell.campus_market_spring.domain.ChatProperties;
+import LinkerBell.campus_market_spring.domain.ItemPhotos;
+import LinkerBell.campus_market_spring.domain.NotificationHistory;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 한 번에 여러 행이 쌓이는 테이블의 insert를 JDBC batch로 보낸다. IDENTITY 전략을 쓰는 엔티티는 Hibernate가 insert마다 생성된 id를 받아야 해서
+ * batch가 꺼지므로, 저장 후 id를 쓰지 않는 경우에만 이 repository를 사용한다. (채팅 메시지는 미리 받은 id를 함께 넣는다) JPA auditing을
+ * 거치지 않으므로 생성, 수정 시각은 직접 채운다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BatchInsertRepository {
+
+    static final int BATCH_SIZE = 500;
+
+    private static final String NOTIFICATION_HISTORY_SQL = "insert into notification_history "
+        + "(user_id, item_id, title, description, deeplink, is_read, created_date, last_modified_date) "
+        + "values (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String ITEM_PHOTOS_SQL = "insert into item_photos "
+        + "(item_id, image_address, created_date, last_modified_date) "
+        + "values (?, ?, ?, ?)";
+    private static final String CHAT_PROPERTIES_SQL = "insert into chat_properties "
+        + "(user_id, chat_room_id, is_alarm, title, is_exited, unread_count, created_date, "
+        + "last_modified_date) values (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String CHAT_MESSAGE_SQL = "insert into chat_message "
+        + "(message_id, chat_room_id, user_id, content, content_type, is_read, room_sequence, "
+        + "created_date, last_modified_date) values (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String CHAT_MESSAGE_DEAD_LETTER_SQL = "insert into chat_message_dead_letter "
+        + "(message_id, chat_room_id, user_id, content, content_type, room_sequence, received_at, "
+        + "reason, last_error, created_date, last_modified_date) "
+        + "values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void saveNotificationHistories(List<NotificationHistory> notificationHistories) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(NOTIFICATION_HISTORY_SQL, notificationHistories, BATCH_SIZE,
+            (ps, notificationHistory) -> {
+                ps.setLong(1, notificationHistory.getUser().getUserId());
+                ps.setLong(2, notificationHistory.getItem().getItemId());
+                ps.setString(3, notificationHistory.getTitle());
+                ps.setString(4, notificationHistory.getDescription());
+                ps.setString(5, notificationHistory.getDeeplink());
+                ps.setBoolean(6, notificationHistory.isRead());
+                ps.setTimestamp(7, now);
+                ps.setTimestamp(8, now);
+            });
+    }
+
+    public void saveItemPhotos(List<ItemPhotos> itemPhotos) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(ITEM_PHOTOS_SQL, itemPhotos, BATCH_SIZE, (ps, itemPhoto) -> {
+            ps.setLong(1, itemPhoto.getItem().getItemId());
+            ps.setString(2, itemPhoto.getImageAddress());
+            ps.setTimestamp(3, now);
+            ps.setTimestamp(4, now);
+        });
+    }
+
+    public void saveChatProperties(List<ChatProperties> chatProperties) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(CHAT_PROPERTIES_SQL, chatProperties, BATCH_SIZE,
+            (ps, chatProperty) -> {
+                ps.setLong(1, chatProperty.getUser().getUserId());
+                ps.setLong(2, chatProperty.getChatRoom().getChatRoomId());
+                ps.setBoolean(3, chatProperty.isAlarm());
+                ps.setString(4, chatProperty.getTitle());
+                ps.setBoolean(5, chatProperty.isExited());
+                ps.setInt(6, chatProperty.getUnreadCount());
+                ps.setTimestamp(7, now);
+                ps.setTimestamp(8, now);
+            });
+    }
+
+    // 메시지를 받은 시각을 생성 시각으로 저장해 브로드캐스트한 createdAt과 맞춘다.
+    public void saveChatMessages(List<ChatMessage> chatMessages) {
+        jdbcTemplate.batchUpdate(CHAT_MESSAGE_SQL, chatMessages, BATCH_SIZE,
+            (ps, chatMessage) -> {
+                Timestamp createdDate = Timestamp.valueOf(chatMessage.getCreatedDate());
+                ps.setLong(1, chatMessage.getMessageId());
+                ps.setLong(2, chatMessage.getChatRoom().getChatRoomId());
+                ps.setLong(3, chatMessage.getUser().getUserId());
+                ps.setString(4, chatMessage.getContent());
+                ps.setString(5, chatMessage.getContentType().name());
+                ps.setBoolean(6, chatMessage.isRead());
+                ps.setLong(7, chatMessage.getRoomSequence());
+                ps.setTimestamp(8, createdDate);
+                ps.setTimestamp(9, createdDate);
+            });
+    }
+
+    public void saveChatMessageDeadLetters(List<ChatMessage> chatMessages,
+        ChatDeadLetterReason reason, String lastError) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(CHAT_MESSAGE_DEAD_LETTER_SQL, chatMessages, BATCH_SIZE,
+            (ps, chatMessage) -> {
+                ps.setObject(1, chatMessage.getMessageId(), Types.BIGINT);
+                ps.setObject(2, chatMessage.getChatRoom().getChatRoomId(), Types.BIGINT);
+                ps.setObject(3, chatMessage.getUser().getUserId(), Types.BIGINT);
+                ps.setString(4, chatMessage.getContent());
+                ps.setString(5, chatMessage.getContentType() == null ? null
+                    : chatMessage.getContentType().name());
+                ps.setObject(6, chatMessage.getRoomSequence(), Types.BIGINT);
+                ps.setTimestamp(7, chatMessage.getCreatedDate() == null ? null
+                    : Timestamp.valueOf(chatMessage.getCreatedDate()));
+                ps.setString(8, reason.name());
+                ps.setString(9, lastError);
+                ps.setTimestamp(10, now);
+                ps.setTimestamp(11, now);
+            });
+    }
+}
@@ -0,0 +1,49 @@
+package LinkerBell.campus_market_spring.repository;
+
+import LinkerBell.campus_market_spring.domain.ChatMessage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 채팅 메시지를 저장하기 전에 id를 나눠 준다. chat_message_seq에서 한 번에 ID_BLOCK_SIZE개의 블록을 받아 메모리에서 차례로 꺼내므로, DB
+ * 왕복은 블록마다 한 번이다.
+ * <p>
+ * Hibernate pooled optimizer와 똑같이 sequence 값 v를 [v - ID_BLOCK_SIZE + 1, v] 블록의 끝(포함)으로 본다. sequence 값 하나는 한
+ * 번만 나오므로 JPA save로 저장되는 메시지와 이 allocator가 나눠 주는 id는 겹치지 않는다. 서버가 재시작되면 쓰지 않은 블록의 나머지는
+ * 버려진다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChatMessageIdAllocator {
+
+    private static final String NEXT_VALUE_SQL = "select next value for " + ChatMessage.ID_SEQUENCE;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 다음에 나눠 줄 id와 현재 블록의 끝 (끝도 나눠 준다)
+    private long nextId = 1;
+    private long blockEnd;
+
+    public synchronized long nextId() {
+        if (nextId > blockEnd) {
+            allocateBlock();
+        }
+        return nextId++;
+    }
+
+    protected long nextSequenceValue() {
+        return jdbcTemplate.queryForObject(NEXT_VALUE_SQL, Long.class);
+    }
+
+    private void allocateBlock() {
+        long end = nextSequenceValue();
+        // 블록이 1보다 작은 id를 포함하는 값(새로 만든 sequence의 첫 값 1)은 버리고 한 번 더 받는다. 이 값은 이 서버만 받았으므로 JPA와
+        // 겹치지 않는다.
+        while (end - ChatMessage.ID_BLOCK_SIZE + 1 < 1) {
+            end = nextSequenceValue();
+        }
+        nextId = end - ChatMessage.ID_BLOCK_SIZE + 1;
+        blockEnd = end;
+    }
+}
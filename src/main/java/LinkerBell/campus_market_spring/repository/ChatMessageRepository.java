@@ -2,21 +2,31 @@ package LinkerBell.campus_market_spring.repository;
 
 import LinkerBell.campus_market_spring.domain.ChatMessage;
 import LinkerBell.campus_market_spring.domain.ChatRoom;
+import LinkerBell.campus_market_spring.dto.ChatMessageResponseDto;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long> {
+public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>,
+    ChatMessageRepositoryCustom {
 
     ChatMessage findTopByIsReadTrueOrderByCreatedDateDesc();
 
     @Query("SELECT cm.messageId FROM ChatMessage cm WHERE cm.chatRoom = :chatRoom AND cm.createdDate >= :sevenDaysAgo ORDER BY cm.createdDate DESC")
     List<Long> findMessageIdsByChatRoomAndRecentDays(@Param("chatRoom") ChatRoom chatRoom,
         @Param("sevenDaysAgo") LocalDateTime sevenDaysAgo);
-}
 
+    // 응답에 필요한 컬럼만 읽어 채팅방, 사용자를 따로 조회하지 않는다.
+    @Query("select new LinkerBell.campus_market_spring.dto.ChatMessageResponseDto(" +
+        "cm.messageId, cm.chatRoom.chatRoomId, cm.user.userId, cm.content, cm.contentType, " +
+        "cm.createdDate, cm.roomSequence) " +
+        "from ChatMessage cm where cm.messageId in :messageIds")
+    List<ChatMessageResponseDto> findMessageContentsByIds(
+        @Param("messageIds") Collection<Long> messageIds);
+}
@@ -0,0 +1,11 @@
+package LinkerBell.campus_market_spring.repository;
+
+import LinkerBell.campus_market_spring.dto.ChatMessageResponseDto;
+import java.util.List;
+import java.util.Map;
+
+public interface ChatMessageRepositoryCustom {
+
+    List<ChatMessageResponseDto> findMessagesAfter(Long userId, Map<Long, Long> cursors,
+        int limit);
+}
@@ -0,0 +1,58 @@
+package LinkerBell.campus_market_spring.repository;
+
+import LinkerBell.campus_market_spring.domain.QChatMessage;
+import LinkerBell.campus_market_spring.domain.QChatProperties;
+import LinkerBell.campus_market_spring.dto.ChatMessageResponseDto;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import java.util.Map;
+
+public class ChatMessageRepositoryImpl implements ChatMessageRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    public ChatMessageRepositoryImpl(EntityManager em) {
+        queryFactory = new JPAQueryFactory(em);
+    }
+
+    /**
+     * 사용자가 참여 중인 모든 채팅방에서 채팅방별 커서보다 큰 순번의 메시지를 채팅방, 순번 순으로 limit개까지 가져온다. 커서가 없는 채팅방은 처음부터
+     * 가져온다. 채팅방마다 (chat_room_id, room_sequence) 인덱스의 범위만 읽으므로 기간 조건 없이도 받을 메시지만 읽는다.
+     */
+    @Override
+    public List<ChatMessageResponseDto> findMessagesAfter(Long userId, Map<Long, Long> cursors,
+        int limit) {
+        QChatMessage chatMessage = QChatMessage.chatMessage;
+        QChatProperties chatProperties = QChatProperties.chatProperties;
+
+        BooleanBuilder afterCursor = new BooleanBuilder();
+        cursors.forEach((chatRoomId, sequence) -> afterCursor.or(
+            chatMessage.chatRoom.chatRoomId.eq(chatRoomId)
+                .and(chatMessage.roomSequence.gt(sequence))));
+        afterCursor.or(cursors.isEmpty() ? chatMessage.roomSequence.isNotNull()
+            : chatMessage.chatRoom.chatRoomId.notIn(cursors.keySet()));
+
+        return queryFactory
+            .select(Projections.constructor(ChatMessageResponseDto.class,
+                chatMessage.messageId,
+                chatMessage.chatRoom.chatRoomId,
+                chatMessage.user.userId,
+                chatMessage.content,
+                chatMessage.contentType,
+                chatMessage.createdDate,
+                chatMessage.roomSequence))
+            .from(chatProperties)
+            .join(chatMessage).on(chatMessage.chatRoom.eq(chatProperties.chatRoom))
+            .where(
+                chatProperties.user.userId.eq(userId),
+                chatProperties.isExited.isFalse(),
+                afterCursor
+            )
+            .orderBy(chatMessage.chatRoom.chatRoomId.asc(), chatMessage.roomSequence.asc())
+            .limit(limit)
+            .fetch();
+    }
+}
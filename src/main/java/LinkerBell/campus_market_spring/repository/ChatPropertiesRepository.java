@@ -3,11 +3,42 @@ package LinkerBell.campus_market_spring.repository;
 import LinkerBell.campus_market_spring.domain.ChatProperties;
 import LinkerBell.campus_market_spring.domain.ChatRoom;
 import LinkerBell.campus_market_spring.domain.User;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface ChatPropertiesRepository extends JpaRepository<ChatProperties, Long> {
 
     ChatProperties findByUserAndChatRoom(User user, ChatRoom chatRoom);
+
+    // 유저가 나가지 않은 채팅방 id 목록
+    @Query("select cp.chatRoom.chatRoomId from ChatProperties cp " +
+        "where cp.user.userId = :userId and cp.isExited = false")
+    List<Long> findActiveChatRoomIds(@Param("userId") Long userId);
+
+    // 메시지를 보낸 사람을 제외한 채팅방 참여자의 안 읽은 개수를 count만큼 늘린다.
+    @Modifying
+    @Query("update ChatProperties cp set cp.unreadCount = cp.unreadCount + :count " +
+        "where cp.chatRoom.chatRoomId = :chatRoomId and cp.user.userId <> :senderId")
+    int increaseUnreadCount(@Param("chatRoomId") Long chatRoomId,
+        @Param("senderId") Long senderId, @Param("count") int count);
+
+    @Modifying
+    @Query("update ChatProperties cp set cp.unreadCount = cp.unreadCount - 1 " +
+        "where cp.chatRoom.chatRoomId = :chatRoomId and cp.user.userId <> :senderId " +
+        "and cp.unreadCount > 0")
+    int decreaseUnreadCount(@Param("chatRoomId") Long chatRoomId,
+        @Param("senderId") Long senderId);
+
+    // 읽음 요청이 순서를 거슬러 와도 되돌아가지 않도록 더 큰 id일 때만 바꾼다.
+    @Modifying
+    @Query("update ChatProperties cp set cp.lastReadMessageId = :messageId " +
+        "where cp.chatRoom.chatRoomId = :chatRoomId and cp.user.userId <> :senderId " +
+        "and (cp.lastReadMessageId is null or cp.lastReadMessageId < :messageId)")
+    int updateLastReadMessageId(@Param("chatRoomId") Long chatRoomId,
+        @Param("senderId") Long senderId, @Param("messageId") Long messageId);
 }
@@ -2,8 +2,13 @@ package LinkerBell.campus_market_spring.repository;
 
 import LinkerBell.campus_market_spring.domain.ChatRoom;
 import LinkerBell.campus_market_spring.domain.User;
+import LinkerBell.campus_market_spring.dto.ChatRoomDataResponseDto;
+import LinkerBell.campus_market_spring.dto.ChatRoomMembersDto;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -17,4 +22,63 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
 
     @Query("SELECT c FROM ChatRoom c WHERE c.user = :user OR c.item.user = :user")
     List<ChatRoom> findByUserOrItemSeller(@Param("user") User user);
+
+    String CHAT_ROOM_DATA_SELECT = "select new LinkerBell.campus_market_spring.dto.ChatRoomDataResponseDto(" +
+        "cr.chatRoomId, " +
+        "case when buyer.userId = :userId then seller.userId else buyer.userId end, " +
+        "i.itemId, " +
+        "case when buyer.userId = :userId then seller.nickname else buyer.nickname end, " +
+        "i.thumbnail, " +
+        "cp.isAlarm, " +
+        "coalesce(cp.lastReadMessageId, -1L), " +
+        "cr.lastMessageId, " +
+        "cr.lastMessagePreview, " +
+        "cr.lastActivityAt, " +
+        "cp.unreadCount) " +
+        "from ChatProperties cp " +
+        "join cp.chatRoom cr " +
+        "join cr.user buyer " +
+        "join cr.item i " +
+        "join i.user seller ";
+
+    /**
+     * 사용자가 나가지 않은 채팅방 목록. 사용자의 채팅방 설정에서 시작해 채팅방, 아이템, 구매자, 판매자를 한 번에 조인하고, 제목과 userId는 상대방
+     * 기준으로 채운다. messageId는 사용자가 마지막으로 읽은 메시지 id이고 없으면 -1이다. 읽은 위치, 마지막 메시지와 안 읽은 개수는 채팅방,
+     * 채팅방 설정에 저장된 값을 그대로 쓰므로 메시지 테이블을 읽지 않고, 최근 활동 순으로 정렬한다.
+     */
+    @Query(CHAT_ROOM_DATA_SELECT +
+        "where cp.user.userId = :userId and cp.isExited = false " +
+        "order by cr.lastActivityAt desc, cr.chatRoomId desc")
+    List<ChatRoomDataResponseDto> findChatRoomDataByUserId(@Param("userId") Long userId);
+
+    @Query(CHAT_ROOM_DATA_SELECT +
+        "where cp.user.userId = :userId and cr.chatRoomId = :chatRoomId")
+    Optional<ChatRoomDataResponseDto> findChatRoomDataByUserIdAndChatRoomId(
+        @Param("userId") Long userId, @Param("chatRoomId") Long chatRoomId);
+
+    @Query("select new LinkerBell.campus_market_spring.dto.ChatRoomMembersDto(" +
+        "cr.chatRoomId, cr.user.userId, i.user.userId, " +
+        "coalesce(buyerProperties.isExited, false), coalesce(sellerProperties.isExited, false)) " +
+        "from ChatRoom cr join cr.item i " +
+        "left join ChatProperties buyerProperties " +
+        "on buyerProperties.chatRoom = cr and buyerProperties.user = cr.user " +
+        "left join ChatProperties sellerProperties " +
+        "on sellerProperties.chatRoom = cr and sellerProperties.user = i.user " +
+        "where cr.chatRoomId = :chatRoomId")
+    Optional<ChatRoomMembersDto> findMembersByChatRoomId(@Param("chatRoomId") Long chatRoomId);
+
+    @Query("select cr.lastSequence from ChatRoom cr " +
+        "where cr.chatRoomId = :chatRoomId and cr.lastSequence is not null")
+    Optional<Long> findLastSequence(@Param("chatRoomId") Long chatRoomId);
+
+    // 여러 서버에서 저장된 메시지가 순서를 거슬러 덮어쓰지 않도록 채팅방 순번이 더 클 때만 바꾼다.
+    @Modifying
+    @Query("update ChatRoom cr set cr.lastMessageId = :messageId, " +
+        "cr.lastMessagePreview = :preview, cr.lastActivityAt = :activityAt, " +
+        "cr.lastSequence = :sequence " +
+        "where cr.chatRoomId = :chatRoomId " +
+        "and (cr.lastSequence is null or cr.lastSequence < :sequence)")
+    int updateLastMessage(@Param("chatRoomId") Long chatRoomId,
+        @Param("messageId") Long messageId, @Param("sequence") Long sequence,
+        @Param("preview") String preview, @Param("activityAt") LocalDateTime activityAt);
 }
@@ -2,7 +2,9 @@ package LinkerBell.campus_market_spring.repository;
 
 import LinkerBell.campus_market_spring.domain.Item;
 import LinkerBell.campus_market_spring.domain.User;
+import LinkerBell.campus_market_spring.global.search.ItemSearchDocument;
 import java.time.LocalDateTime;
+import java.util.List;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -10,6 +12,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface ItemRepository extends JpaRepository<Item, Long>, ItemRepositoryCustom {
@@ -19,6 +22,36 @@ public interface ItemRepository extends JpaRepository<Item, Long>, ItemRepositor
     void updateCreatedDate(@Param("itemId") Long itemId,
         @Param("createdDate") LocalDateTime createdDate);
 
+    @Modifying
+    @Query("update Item i set i.likeCount = i.likeCount + 1 where i.itemId = :itemId")
+    void increaseLikeCount(@Param("itemId") Long itemId);
+
+    @Modifying
+    @Query("update Item i set i.likeCount = i.likeCount - 1 where i.itemId = :itemId and i.likeCount > 0")
+    void decreaseLikeCount(@Param("itemId") Long itemId);
+
+    @Modifying
+    @Query("update Item i set i.chatCount = i.chatCount + 1 where i.itemId = :itemId")
+    void increaseChatCount(@Param("itemId") Long itemId);
+
+    @Query("select coalesce(max(i.itemId), 0) from Item i")
+    Long findMaxItemId();
+
+    @Transactional
+    @Modifying
+    @Query("update Item i set "
+        + "i.likeCount = (select count(l) from Like l where l.item = i), "
+        + "i.chatCount = (select count(c) from ChatRoom c where c.item = i) "
+        + "where i.itemId between :fromItemId and :toItemId")
+    int reconcileCounts(@Param("fromItemId") Long fromItemId, @Param("toItemId") Long toItemId);
+
+    @Query("select new LinkerBell.campus_market_spring.global.search.ItemSearchDocument(i.itemId, i.campus.campusId, i.title) "
+        + "from Item i where i.itemId > :lastItemId and i.isDeleted = false order by i.itemId")
+    List<ItemSearchDocument> findSearchDocumentsAfter(@Param("lastItemId") Long lastItemId,
+        Pageable pageable);
+
+    List<Item> findByLastModifiedDateGreaterThanEqual(LocalDateTime lastModifiedDate);
+
     @Query("SELECT i FROM Item i WHERE (i.user = :requestedUser AND i.isDeleted = false) OR i.userBuyer = :requestedUser")
     Slice<Item> findAllHistoryByUser(@Param("requestedUser") User requestedUser, Pageable pageable);
 
@@ -3,20 +3,41 @@ package LinkerBell.campus_market_spring.repository;
 import LinkerBell.campus_market_spring.admin.dto.AdminItemSearchResponseDto;
 import LinkerBell.campus_market_spring.domain.Category;
 import LinkerBell.campus_market_spring.domain.ItemStatus;
+import LinkerBell.campus_market_spring.dto.CursorSliceResponse;
+import LinkerBell.campus_market_spring.dto.ItemDetailsSnapshot;
 import LinkerBell.campus_market_spring.dto.ItemDetailsViewResponseDto;
+import LinkerBell.campus_market_spring.dto.ItemFacetCountDto;
+import LinkerBell.campus_market_spring.dto.ItemSearchCursor;
 import LinkerBell.campus_market_spring.dto.ItemSearchResponseDto;
 import LinkerBell.campus_market_spring.dto.SliceResponse;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 import org.springframework.data.domain.Pageable;
 
 public interface ItemRepositoryCustom {
 
     SliceResponse<ItemSearchResponseDto> itemSearch(Long userId, Long campusId, String name,
-        Category category, Integer minPrice, Integer maxPrice, ItemStatus itemStatus,
+        List<Long> itemIds, Category category, Integer minPrice, Integer maxPrice, ItemStatus itemStatus,
         Pageable pageable);
 
+    CursorSliceResponse<ItemSearchResponseDto> itemSearchByCursor(Long userId, Long campusId,
+        String name, List<Long> itemIds, Category category, Integer minPrice, Integer maxPrice,
+        ItemStatus itemStatus, ItemSearchCursor cursor, Pageable pageable);
+
     ItemDetailsViewResponseDto findByItemDetails(Long userId, Long itemId);
 
+    Optional<ItemDetailsSnapshot> findItemDetailsSnapshot(Long itemId);
+
+    // 삭제되지 않은 아이템의 (캠퍼스, 카테고리, 판매 상태, 가격 구간)별 개수. campusId가 null이면 전체 캠퍼스
+    List<ItemFacetCountDto> countFacets(Long campusId);
+
     SliceResponse<AdminItemSearchResponseDto> adminItemSearch(Long userId, String name,
         Category category, Integer minPrice, Integer maxPrice, Boolean isDeleted, Long campusId,
         ItemStatus itemStatus, Pageable pageable);
+
+    // 호출 측 트랜잭션 안에서 소비하고 닫아야 한다.
+    Stream<AdminItemSearchResponseDto> streamAdminItems(String name, Category category,
+        Integer minPrice, Integer maxPrice, Boolean isDeleted, Long campusId,
+        ItemStatus itemStatus);
 }
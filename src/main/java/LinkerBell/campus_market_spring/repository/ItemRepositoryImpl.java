@@ -6,35 +6,46 @@ import LinkerBell.campus_market_spring.admin.dto.AdminItemSearchResponseDto;
 import LinkerBell.campus_market_spring.domain.Category;
 import LinkerBell.campus_market_spring.domain.Item;
 import LinkerBell.campus_market_spring.domain.ItemStatus;
-import LinkerBell.campus_market_spring.domain.Like;
+import LinkerBell.campus_market_spring.domain.PriceBucket;
 import LinkerBell.campus_market_spring.domain.QCampus;
-import LinkerBell.campus_market_spring.domain.QChatRoom;
 import LinkerBell.campus_market_spring.domain.QItem;
 import LinkerBell.campus_market_spring.domain.QItemPhotos;
 import LinkerBell.campus_market_spring.domain.QLike;
 import LinkerBell.campus_market_spring.domain.QUser;
+import LinkerBell.campus_market_spring.dto.CursorSliceResponse;
+import LinkerBell.campus_market_spring.dto.ItemDetailsSnapshot;
 import LinkerBell.campus_market_spring.dto.ItemDetailsViewResponseDto;
+import LinkerBell.campus_market_spring.dto.ItemFacetCountDto;
+import LinkerBell.campus_market_spring.dto.ItemSearchCursor;
 import LinkerBell.campus_market_spring.dto.ItemSearchResponseDto;
 import LinkerBell.campus_market_spring.dto.QItemSearchResponseDto;
 import LinkerBell.campus_market_spring.dto.SliceResponse;
 import LinkerBell.campus_market_spring.global.error.ErrorCode;
 import LinkerBell.campus_market_spring.global.error.exception.CustomException;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.core.types.dsl.CaseBuilder;
-import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 
 public class ItemRepositoryImpl implements ItemRepositoryCustom {
 
+    private static final int EXPORT_FETCH_SIZE = 1000;
+
     private final JPAQueryFactory queryFactory;
 
     public ItemRepositoryImpl(EntityManager em) {
@@ -44,79 +55,120 @@ public class ItemRepositoryImpl implements ItemRepositoryCustom {
 
     @Override
     public SliceResponse<ItemSearchResponseDto> itemSearch(Long userId, Long campusId, String name,
-        Category category, Integer minPrice, Integer maxPrice, ItemStatus itemStatus,
-        Pageable pageable) {
+        List<Long> itemIds, Category category, Integer minPrice, Integer maxPrice,
+        ItemStatus itemStatus, Pageable pageable) {
+        if (itemIds != null && itemIds.isEmpty()) {
+            return new SliceResponse<ItemSearchResponseDto>(
+                new SliceImpl<>(new ArrayList<>(), pageable, false));
+        }
+        JPAQuery<ItemSearchResponseDto> query = itemSearchQuery(campusId, name, itemIds,
+            category, minPrice, maxPrice, itemStatus)
+            .offset(pageable.getOffset())
+            .limit(pageable.getPageSize() + 1)
+            .orderBy(itemSearchSort(pageable));
+
+        List<ItemSearchResponseDto> content = query.fetch();
+
+        boolean hasNext = false;
+        if (content.size() > pageable.getPageSize()) {
+            content.remove(content.size() - 1);
+            hasNext = true;
+        }
+        Set<Long> likedItemIds = findLikedItemIds(userId,
+            content.stream().map(ItemSearchResponseDto::getItemId).toList());
+        content.forEach(dto -> dto.setLiked(likedItemIds.contains(dto.getItemId())));
+        return new SliceResponse<ItemSearchResponseDto>(
+            new SliceImpl<>(content, pageable, hasNext));
+    }
+
+    @Override
+    public CursorSliceResponse<ItemSearchResponseDto> itemSearchByCursor(Long userId,
+        Long campusId, String name, List<Long> itemIds, Category category, Integer minPrice,
+        Integer maxPrice, ItemStatus itemStatus, ItemSearchCursor cursor, Pageable pageable) {
+        if (itemIds != null && itemIds.isEmpty()) {
+            return new CursorSliceResponse<>(new ArrayList<>(), pageable.getPageSize(), false,
+                null);
+        }
+        JPAQuery<ItemSearchResponseDto> query = itemSearchQuery(campusId, name, itemIds,
+            category, minPrice, maxPrice, itemStatus)
+            .where(itemAfterCursor(cursor, pageable))
+            .limit(pageable.getPageSize() + 1)
+            .orderBy(itemSearchSort(pageable));
+
+        List<ItemSearchResponseDto> content = query.fetch();
+
+        boolean hasNext = false;
+        if (content.size() > pageable.getPageSize()) {
+            content.remove(content.size() - 1);
+            hasNext = true;
+        }
+        Set<Long> likedItemIds = findLikedItemIds(userId,
+            content.stream().map(ItemSearchResponseDto::getItemId).toList());
+        content.forEach(dto -> dto.setLiked(likedItemIds.contains(dto.getItemId())));
+        String nextCursor = hasNext
+            ? ItemSearchCursor.from(content.get(content.size() - 1)).encode() : null;
+        return new CursorSliceResponse<>(content, pageable.getPageSize(), hasNext, nextCursor);
+    }
+
+    private JPAQuery<ItemSearchResponseDto> itemSearchQuery(Long campusId, String name,
+        List<Long> itemIds, Category category, Integer minPrice, Integer maxPrice,
+        ItemStatus itemStatus) {
         QItem item = QItem.item;
         QUser user = QUser.user;
-        QChatRoom chatRoom = QChatRoom.chatRoom;
-        QLike like = QLike.like;
 
-        JPAQuery<ItemSearchResponseDto> query = queryFactory
+        return queryFactory
             .select(new QItemSearchResponseDto(
                 item.itemId,
-                item.user.userId,
-                item.user.nickname,
+                user.userId,
+                user.nickname,
                 item.thumbnail,
                 item.title,
                 item.price,
-                chatRoom.countDistinct().intValue(),
-                like.countDistinct().intValue(),
+                item.chatCount,
+                item.likeCount,
                 item.itemStatus,
-                new CaseBuilder()
-                    .when(
-                        JPAExpressions.selectFrom(like)
-                            .where(like.user.userId.eq(userId)
-                                .and(like.item.eq(item)))
-                            .exists()
-                    ).then(true)
-                    .otherwise(false)
-                    .as("isLiked"),
                 item.createdDate,
                 item.lastModifiedDate
             ))
             .from(item)
             .leftJoin(item.user, user)
-            .leftJoin(chatRoom).on(chatRoom.item.eq(item))
-            .leftJoin(like).on(like.item.eq(item))
             .where(
                 itemNameContains(name),
+                itemIdIn(itemIds),
                 itemCategoryEq(category),
                 itemPriceBetween(minPrice, maxPrice),
                 item.campus.campusId.eq(campusId),
                 itemStatusEq(itemStatus),
                 item.isDeleted.eq(false)
-            )
-            .groupBy(item.itemId)
-            .offset(pageable.getOffset())
-            .limit(pageable.getPageSize() + 1)
-            .orderBy(itemSearchSort(pageable));
-
-        List<ItemSearchResponseDto> content = query.fetch();
-
-        boolean hasNext = false;
-        if (content.size() > pageable.getPageSize()) {
-            content.remove(content.size() - 1);
-            hasNext = true;
-        }
-        return new SliceResponse<ItemSearchResponseDto>(
-            new SliceImpl<>(content, pageable, hasNext));
+            );
     }
 
     @Override
     public ItemDetailsViewResponseDto findByItemDetails(Long userId, Long itemId) {
+        ItemDetailsSnapshot snapshot = findItemDetailsSnapshot(itemId)
+            .orElseThrow(() -> new CustomException(ErrorCode.ITEM_NOT_FOUND));
+        return snapshot.toResponse(!findLikedItemIds(userId, List.of(itemId)).isEmpty());
+    }
+
+    @Override
+    public Optional<ItemDetailsSnapshot> findItemDetailsSnapshot(Long itemId) {
         QItem item = QItem.item;
         QUser user = QUser.user;
         QCampus campus = QCampus.campus;
-        QLike like = QLike.like;
         QItemPhotos itemPhotos = QItemPhotos.itemPhotos;
-        QChatRoom chatRoom = QChatRoom.chatRoom;
 
-        Item itemEntity = queryFactory
-            .selectFrom(item)
+        // 카운터는 영속성 컨텍스트의 엔티티 대신 DB 값을 그대로 읽는다. (벌크 update로만 변경되므로)
+        Tuple row = queryFactory
+            .select(item, item.chatCount, item.likeCount)
+            .from(item)
             .join(item.user, user).fetchJoin()
             .join(item.campus, campus).fetchJoin()
             .where(item.itemId.eq(itemId))
             .fetchOne();
+        if (row == null) {
+            return Optional.empty();
+        }
+        Item itemEntity = row.get(item);
 
         List<String> images = queryFactory
             .select(itemPhotos.imageAddress)
@@ -124,27 +176,28 @@ public class ItemRepositoryImpl implements ItemRepositoryCustom {
             .where(itemPhotos.item.itemId.eq(itemId))
             .fetch();
 
-        Integer chatCount = queryFactory
-            .select(chatRoom.countDistinct().intValue())
-            .from(chatRoom)
-            .where(chatRoom.item.itemId.eq(itemId))
-            .fetchOne();
-        if (chatCount == null) {
-            chatCount = 0;
-        }
-
-        List<Like> likeEntity = queryFactory
-            .selectFrom(like)
-            .join(like.user, user).fetchJoin()
-            .where(like.item.itemId.eq(itemId))
-            .fetch();
+        ItemDetailsViewResponseDto details = itemDetailsToItemDetailsViewResponseDto(itemEntity,
+            List.copyOf(images), row.get(item.chatCount), row.get(item.likeCount), false);
+        return Optional.of(new ItemDetailsSnapshot(details,
+            itemEntity.getCampus().getUniversityName(), itemEntity.isDeleted()));
+    }
 
-        int likeCount = likeEntity.size();
-        boolean isLiked = likeEntity.stream()
-            .anyMatch(injectLike -> injectLike.getUser().getUserId().equals(userId));
+    @Override
+    public List<ItemFacetCountDto> countFacets(Long campusId) {
+        NumberExpression<Integer> priceBucket = priceBucketExpression();
+        NumberExpression<Long> count = item.count();
 
-        return itemDetailsToItemDetailsViewResponseDto(itemEntity, images, chatCount, likeCount,
-            isLiked);
+        return queryFactory
+            .select(item.campus.campusId, item.category, item.itemStatus, priceBucket, count)
+            .from(item)
+            .where(item.isDeleted.isFalse(), itemCampusEq(campusId))
+            .groupBy(item.campus.campusId, item.category, item.itemStatus, priceBucket)
+            .fetch()
+            .stream()
+            .map(row -> new ItemFacetCountDto(row.get(item.campus.campusId),
+                row.get(item.category), row.get(item.itemStatus),
+                PriceBucket.values()[row.get(priceBucket)], row.get(count)))
+            .toList();
     }
 
     @Override
@@ -153,40 +206,29 @@ public class ItemRepositoryImpl implements ItemRepositoryCustom {
         ItemStatus itemStatus, Pageable pageable) {
         QItem item = QItem.item;
         QUser user = QUser.user;
-        QChatRoom chatRoom = QChatRoom.chatRoom;
-        QLike like = QLike.like;
+        QCampus campus = QCampus.campus;
 
         JPAQuery<AdminItemSearchResponseDto> query = queryFactory
-            .select(Projections.constructor(AdminItemSearchResponseDto.class,
+            .select(Projections.fields(AdminItemSearchResponseDto.class,
                 item.itemId,
-                item.user.userId,
-                item.user.nickname,
+                user.userId,
+                user.nickname,
                 item.thumbnail,
                 item.title,
                 item.price,
-                chatRoom.countDistinct().intValue(),
-                like.countDistinct().intValue(),
+                item.chatCount,
+                item.likeCount,
                 item.itemStatus,
-                new CaseBuilder()
-                    .when(
-                        JPAExpressions.selectFrom(like)
-                            .where(like.user.userId.eq(userId)
-                                .and(like.item.eq(item)))
-                            .exists()
-                    ).then(true)
-                    .otherwise(false)
-                    .as("isLiked"),
-                item.campus.universityName,
-                item.campus.region,
-                item.campus.campusId,
+                campus.universityName,
+                campus.region.as("campusRegion"),
+                campus.campusId,
                 item.createdDate,
                 item.lastModifiedDate,
                 item.isDeleted
             ))
             .from(item)
             .leftJoin(item.user, user)
-            .leftJoin(chatRoom).on(chatRoom.item.eq(item))
-            .leftJoin(like).on(like.item.eq(item))
+            .leftJoin(item.campus, campus)
             .where(
                 itemNameContains(name),
                 itemCategoryEq(category),
@@ -195,7 +237,6 @@ public class ItemRepositoryImpl implements ItemRepositoryCustom {
                 itemIsDeletedEq(isDeleted),
                 itemStatusEq(itemStatus)
             )
-            .groupBy(item.itemId)
             .offset(pageable.getOffset())
             .limit(pageable.getPageSize() + 1)
             .orderBy(itemSearchSort(pageable));
@@ -207,11 +248,57 @@ public class ItemRepositoryImpl implements ItemRepositoryCustom {
             content.remove(content.size() - 1);
             hasNext = true;
         }
+        Set<Long> likedItemIds = findLikedItemIds(userId,
+            content.stream().map(AdminItemSearchResponseDto::getItemId).toList());
+        content.forEach(dto -> dto.setIsLiked(likedItemIds.contains(dto.getItemId())));
         return new SliceResponse<AdminItemSearchResponseDto>(
             new SliceImpl<>(content, pageable, hasNext));
 
     }
 
+    @Override
+    public Stream<AdminItemSearchResponseDto> streamAdminItems(String name, Category category,
+        Integer minPrice, Integer maxPrice, Boolean isDeleted, Long campusId,
+        ItemStatus itemStatus) {
+        QUser user = QUser.user;
+        QCampus campus = QCampus.campus;
+
+        // DTO projection이라 영속성 컨텍스트에 쌓이지 않고, fetch size 단위로 드라이버에서 행을 받아온다.
+        return queryFactory
+            .select(Projections.fields(AdminItemSearchResponseDto.class,
+                item.itemId,
+                user.userId,
+                user.nickname,
+                item.thumbnail,
+                item.title,
+                item.price,
+                item.chatCount,
+                item.likeCount,
+                item.itemStatus,
+                campus.universityName,
+                campus.region.as("campusRegion"),
+                campus.campusId,
+                item.createdDate,
+                item.lastModifiedDate,
+                item.isDeleted
+            ))
+            .from(item)
+            .leftJoin(item.user, user)
+            .leftJoin(item.campus, campus)
+            .where(
+                itemNameContains(name),
+                itemCategoryEq(category),
+                itemPriceBetween(minPrice, maxPrice),
+                itemCampusEq(campusId),
+                itemIsDeletedEq(isDeleted),
+                itemStatusEq(itemStatus)
+            )
+            .orderBy(item.itemId.asc())
+            .setHint(HibernateHints.HINT_FETCH_SIZE, EXPORT_FETCH_SIZE)
+            .setHint(HibernateHints.HINT_READ_ONLY, true)
+            .stream();
+    }
+
     private ItemDetailsViewResponseDto itemDetailsToItemDetailsViewResponseDto(Item itemEntity,
         List<String> images, Integer chatCount, Integer likeCount, boolean isLiked) {
         return ItemDetailsViewResponseDto.builder()
@@ -235,10 +322,29 @@ public class ItemRepositoryImpl implements ItemRepositoryCustom {
     }
 
 
+    // 행마다 실행되는 상관 서브쿼리 대신, 조회된 페이지의 아이템 id로 좋아요 여부를 한 번에 가져온다.
+    private Set<Long> findLikedItemIds(Long userId, List<Long> itemIds) {
+        if (userId == null || itemIds.isEmpty()) {
+            return Set.of();
+        }
+        QLike like = QLike.like;
+
+        return new HashSet<>(queryFactory
+            .select(like.item.itemId)
+            .from(like)
+            .where(like.user.userId.eq(userId),
+                like.item.itemId.in(itemIds))
+            .fetch());
+    }
+
     private BooleanExpression itemNameContains(String name) {
         return name != null ? item.title.containsIgnoreCase(name) : null;
     }
 
+    private BooleanExpression itemIdIn(List<Long> itemIds) {
+        return itemIds != null ? item.itemId.in(itemIds) : null;
+    }
+
     private BooleanExpression itemCategoryEq(Category category) {
         return category != null ? item.category.eq(category) : null;
     }
@@ -266,6 +372,54 @@ public class ItemRepositoryImpl implements ItemRepositoryCustom {
         return campusId != null ? item.campus.campusId.eq(campusId) : null;
     }
 
+    // itemSearchSort와 같은 tie-breaker 순서로 커서 이후의 행만 남긴다.
+    private BooleanExpression itemAfterCursor(ItemSearchCursor cursor, Pageable pageable) {
+        if (cursor == null) {
+            return null;
+        }
+        if (cursor.getItemId() == null || cursor.getCreatedDate() == null) {
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+
+        BooleanExpression afterCreatedDateAndId = item.createdDate.lt(cursor.getCreatedDate())
+            .or(item.createdDate.eq(cursor.getCreatedDate())
+                .and(item.itemId.lt(cursor.getItemId())));
+
+        Sort.Order order = pageable.getSort().iterator().next();
+        switch (order.getProperty()) {
+            case "price":
+                if (cursor.getPrice() == null) {
+                    throw new CustomException(ErrorCode.INVALID_CURSOR);
+                }
+                return (order.isAscending() ? item.price.gt(cursor.getPrice())
+                    : item.price.lt(cursor.getPrice()))
+                    .or(item.price.eq(cursor.getPrice()).and(afterCreatedDateAndId));
+            case "createdDate":
+                if (order.isAscending()) {
+                    return item.createdDate.gt(cursor.getCreatedDate())
+                        .or(item.createdDate.eq(cursor.getCreatedDate())
+                            .and(item.itemId.lt(cursor.getItemId())));
+                }
+                return afterCreatedDateAndId;
+            default:
+                throw new CustomException(ErrorCode.INVALID_SORT);
+        }
+    }
+
+    // PriceBucket의 ordinal을 돌려주는 case 식. select와 group by에 같은 문자열이 들어가도록 숫자를 그대로 넣는다.
+    private NumberExpression<Integer> priceBucketExpression() {
+        StringBuilder template = new StringBuilder("case");
+        PriceBucket[] buckets = PriceBucket.values();
+        for (PriceBucket bucket : buckets) {
+            if (bucket.getMaxPrice() != null) {
+                template.append(" when {0} < ").append(bucket.getMaxPrice())
+                    .append(" then ").append(bucket.ordinal());
+            }
+        }
+        template.append(" else ").append(buckets[buckets.length - 1].ordinal()).append(" end");
+        return Expressions.numberTemplate(Integer.class, template.toString(), item.price);
+    }
+
     private OrderSpecifier<?>[] itemSearchSort(Pageable pageable) {
         List<OrderSpecifier<?>> orderSpecifiers = new ArrayList<>();
 
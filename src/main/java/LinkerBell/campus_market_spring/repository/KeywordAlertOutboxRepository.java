@@ -0,0 +1,44 @@
+package LinkerBell.campus_market_spring.repository;
+
+import LinkerBell.campus_market_spring.domain.KeywordAlertOutbox;
+import LinkerBell.campus_market_spring.domain.OutboxStatus;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface KeywordAlertOutboxRepository extends JpaRepository<KeywordAlertOutbox, Long> {
+
+    // 처리할 차례가 된 작업과, 처리 중 서버가 종료되어 lock 시간이 지난 작업
+    @Query("select o.keywordAlertOutboxId from KeywordAlertOutbox o "
+        + "where (o.status = :pending and o.nextAttemptAt <= :now) "
+        + "or (o.status = :processing and o.lockedUntil < :now) "
+        + "order by o.keywordAlertOutboxId")
+    List<Long> findDispatchableIds(@Param("pending") OutboxStatus pending,
+        @Param("processing") OutboxStatus processing, @Param("now") LocalDateTime now,
+        Pageable pageable);
+
+    // 조건부 update로 한 서버만 작업을 가져간다. 0이 반환되면 다른 서버가 먼저 가져간 것이다.
+    @Transactional
+    @Modifying
+    @Query("update KeywordAlertOutbox o "
+        + "set o.status = :processing, o.lockedUntil = :lockedUntil, "
+        + "o.attemptCount = o.attemptCount + 1 "
+        + "where o.keywordAlertOutboxId = :outboxId "
+        + "and ((o.status = :pending and o.nextAttemptAt <= :now) "
+        + "or (o.status = :processing and o.lockedUntil < :now))")
+    int claim(@Param("outboxId") Long outboxId, @Param("pending") OutboxStatus pending,
+        @Param("processing") OutboxStatus processing, @Param("now") LocalDateTime now,
+        @Param("lockedUntil") LocalDateTime lockedUntil);
+
+    @Transactional
+    @Modifying
+    @Query("delete from KeywordAlertOutbox o "
+        + "where o.status = :status and o.lastModifiedDate < :before")
+    int deleteByStatusAndLastModifiedDateBefore(@Param("status") OutboxStatus status,
+        @Param("before") LocalDateTime before);
+}
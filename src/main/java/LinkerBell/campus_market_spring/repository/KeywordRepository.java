@@ -1,10 +1,15 @@
 package LinkerBell.campus_market_spring.repository;
 
 import LinkerBell.campus_market_spring.domain.Keyword;
+import LinkerBell.campus_market_spring.dto.KeywordIndexDto;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface KeywordRepository extends JpaRepository<Keyword, Long> {
 
@@ -15,4 +20,23 @@ public interface KeywordRepository extends JpaRepository<Keyword, Long> {
 
     List<Keyword> findKeywordByUser_UserId(Long userId);
 
+    @Query("select k from Keyword k " +
+        "join fetch k.user u " +
+        "join fetch u.campus " +
+        "where k.keywordId in :keywordIds")
+    List<Keyword> findKeywordsWithUserAndCampusByKeywordIdIn(
+        @Param("keywordIds") Collection<Long> keywordIds);
+
+    @Query("select new LinkerBell.campus_market_spring.dto.KeywordIndexDto(k.keywordId, u.userId, c.campusId, k.keywordName) " +
+        "from Keyword k join k.user u join u.campus c " +
+        "where k.keywordId > :lastKeywordId order by k.keywordId")
+    List<KeywordIndexDto> findKeywordIndexAfter(@Param("lastKeywordId") Long lastKeywordId,
+        Pageable pageable);
+
+    @Query("select new LinkerBell.campus_market_spring.dto.KeywordIndexDto(k.keywordId, u.userId, c.campusId, k.keywordName) " +
+        "from Keyword k join k.user u join u.campus c " +
+        "where k.createdDate >= :createdDate")
+    List<KeywordIndexDto> findKeywordIndexCreatedAfter(
+        @Param("createdDate") LocalDateTime createdDate);
+
 }
@@ -3,13 +3,17 @@ package LinkerBell.campus_market_spring.repository;
 import LinkerBell.campus_market_spring.domain.Item;
 import LinkerBell.campus_market_spring.domain.Like;
 import LinkerBell.campus_market_spring.domain.User;
+import LinkerBell.campus_market_spring.dto.LikeIdsDto;
 import LinkerBell.campus_market_spring.dto.SliceResponse;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -18,4 +22,14 @@ public interface LikeRepository extends JpaRepository<Like, Long>, LikeRepositor
     Slice<Like> findAllByUser(User user, Pageable pageable);
 
     Optional<Like> findByUserAndItem(User user, Item item);
+
+    boolean existsByUser_userIdAndItem_itemId(Long userId, Long itemId);
+
+    @Query("select new LinkerBell.campus_market_spring.dto.LikeIdsDto(l.likeId, l.item.itemId, l.user.userId) "
+        + "from Like l where l.likeId > :lastLikeId order by l.likeId")
+    List<LikeIdsDto> findLikeIdsAfter(@Param("lastLikeId") Long lastLikeId, Pageable pageable);
+
+    @Query("select l.item.itemId from Like l where l.user.userId = :userId and l.item.itemId in :itemIds")
+    List<Long> findLikedItemIds(@Param("userId") Long userId,
+        @Param("itemIds") Collection<Long> itemIds);
 }
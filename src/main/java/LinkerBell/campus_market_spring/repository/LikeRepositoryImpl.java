@@ -1,6 +1,5 @@
 package LinkerBell.campus_market_spring.repository;
 
-import LinkerBell.campus_market_spring.domain.QChatRoom;
 import LinkerBell.campus_market_spring.domain.QItem;
 import LinkerBell.campus_market_spring.domain.QLike;
 import LinkerBell.campus_market_spring.domain.QUser;
@@ -30,49 +29,35 @@ public class LikeRepositoryImpl implements LikeRepositoryCustom {
         QLike like = QLike.like;
         QItem item = QItem.item;
         QUser user = QUser.user;
-        QChatRoom chatRoom = QChatRoom.chatRoom;
 
         JPAQuery<LikeSearchResponseDto> query = queryFactory
             .select(Projections.constructor(LikeSearchResponseDto.class,
                 like.likeId,
                 new QItemSearchResponseDto(
-                    like.item.itemId,
-                    like.item.user.userId,
-                    like.item.user.nickname,
-                    like.item.thumbnail,
-                    like.item.title,
-                    like.item.price,
-                    chatRoom.countDistinct().intValue(),
-                    like.count().intValue(),
-                    like.item.itemStatus,
-                    Expressions.TRUE, like.item.createdDate, like.item.lastModifiedDate)
+                    item.itemId,
+                    user.userId,
+                    user.nickname,
+                    item.thumbnail,
+                    item.title,
+                    item.price,
+                    item.chatCount,
+                    item.likeCount,
+                    item.itemStatus,
+                    Expressions.TRUE, item.createdDate, item.lastModifiedDate)
             ))
             .from(like)
             .leftJoin(like.item, item)
             .leftJoin(item.user, user)
-            .leftJoin(chatRoom).on(chatRoom.item.eq(like.item))
             .where(
                 like.user.userId.eq(userId),
                 item.isDeleted.isFalse()
             )
-            .groupBy(like.likeId)
             .offset(pageable.getOffset())
             .limit(pageable.getPageSize() + 1)
             .orderBy(like.createdDate.desc());
 
         List<LikeSearchResponseDto> content = query.fetch();
 
-        content.forEach(likeResponseDto -> {
-            Integer likeCount = queryFactory
-                .select(like.countDistinct().intValue())
-                .from(item)
-                .where(item.itemId.eq(likeResponseDto.getItem().getItemId()))
-                .leftJoin(like).on(like.item.eq(item))
-                .groupBy(item.itemId)
-                .fetch().get(0);
-            likeResponseDto.getItem().setLikeCount(likeCount);
-        });
-
         boolean hasNext = false;
         if (content.size() > pageable.getPageSize()) {
             content.remove(content.size() - 1);
@@ -1,6 +1,8 @@
 package LinkerBell.campus_market_spring.repository;
 
 import LinkerBell.campus_market_spring.domain.NotificationHistory;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
@@ -8,11 +10,26 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface NotificationHistoryRepository extends JpaRepository<NotificationHistory, Long> {
 
     Slice<NotificationHistory> findByUser_UserId(Long userId, Pageable pageable);
 
+    // keyset 페이지 조회. (user_id, notification_history_id) 인덱스 순서대로 읽는다.
+    @Query("select nh from NotificationHistory nh " +
+        "where nh.user.userId = :userId and nh.notificationHistoryId < :lastId " +
+        "order by nh.notificationHistoryId desc")
+    List<NotificationHistory> findPageBefore(@Param("userId") Long userId,
+        @Param("lastId") Long lastId, Pageable pageable);
+
+    long countByUser_UserIdAndIsReadFalse(Long userId);
+
+    @Modifying
+    @Query("update NotificationHistory nh set nh.isRead = true " +
+        "where nh.user.userId = :userId and nh.isRead = false")
+    int readAllByUserId(@Param("userId") Long userId);
+
     @Query("select nh from NotificationHistory nh " +
         "join fetch nh.user " +
         "join fetch nh.item " +
@@ -23,4 +40,50 @@ public interface NotificationHistoryRepository extends JpaRepository<Notificatio
     @Modifying
     @Query("delete from NotificationHistory nh where nh.user.userId = :userId")
     int deleteByUserId(@Param("userId") Long userId);
+
+    @Query("select coalesce(min(nh.notificationHistoryId), 0) from NotificationHistory nh")
+    Long findMinNotificationHistoryId();
+
+    @Query("select coalesce(max(nh.notificationHistoryId), 0) from NotificationHistory nh")
+    Long findMaxNotificationHistoryId();
+
+    // 기간 보존 정책 purge. PK 구간 하나만 지우므로 잠금 범위가 구간 크기로 제한된다.
+    @Transactional
+    @Modifying
+    @Query("delete from NotificationHistory nh " +
+        "where nh.notificationHistoryId between :fromId and :toId " +
+        "and nh.createdDate < :createdBefore")
+    int deleteCreatedBeforeBetween(@Param("fromId") Long fromId, @Param("toId") Long toId,
+        @Param("createdBefore") LocalDateTime createdBefore);
+
+    // 기간 보존 정책 purge로 지워질 안 읽은 알림의 사용자. 안 읽은 알림 수 캐시를 비우는 데 쓴다.
+    @Query("select distinct nh.user.userId from NotificationHistory nh " +
+        "where nh.notificationHistoryId between :fromId and :toId " +
+        "and nh.createdDate < :createdBefore and nh.isRead = false")
+    List<Long> findUnreadUserIdsCreatedBeforeBetween(@Param("fromId") Long fromId,
+        @Param("toId") Long toId, @Param("createdBefore") LocalDateTime createdBefore);
+
+    @Query("select count(nh) from NotificationHistory nh " +
+        "where nh.notificationHistoryId between :fromId and :toId")
+    long countBetween(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Query("select nh.user.userId from NotificationHistory nh " +
+        "group by nh.user.userId having count(nh) > :maxCount")
+    List<Long> findUserIdsHavingMoreThan(@Param("maxCount") long maxCount);
+
+    // 사용자의 알림 중 최신순으로 offset번째(0부터) 알림의 id
+    @Query(value = "select notification_history_id from notification_history " +
+        "where user_id = :userId order by notification_history_id desc limit 1 offset :offset",
+        nativeQuery = true)
+    Long findNotificationHistoryIdAtOffset(@Param("userId") Long userId,
+        @Param("offset") long offset);
+
+    // 개수 보존 정책 purge. 한 번에 limit개까지만 지운다.
+    @Transactional
+    @Modifying
+    @Query(value = "delete from notification_history " +
+        "where user_id = :userId and notification_history_id < :beforeId limit :limit",
+        nativeQuery = true)
+    int deleteByUserIdBefore(@Param("userId") Long userId, @Param("beforeId") Long beforeId,
+        @Param("limit") int limit);
 }
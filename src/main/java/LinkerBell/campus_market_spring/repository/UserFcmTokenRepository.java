@@ -1,12 +1,16 @@
 package LinkerBell.campus_market_spring.repository;
 
 import LinkerBell.campus_market_spring.domain.UserFcmToken;
+import LinkerBell.campus_market_spring.dto.UserFcmTokenDto;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface UserFcmTokenRepository extends JpaRepository<UserFcmToken, Long> {
@@ -17,7 +21,18 @@ public interface UserFcmTokenRepository extends JpaRepository<UserFcmToken, Long
         "where uft.user.userId = :userId")
     List<String> findFcmTokenByUser_UserId(@Param("userId") Long userId);
 
-    void deleteByFcmToken(String fcmToken);
+    @Query("select new LinkerBell.campus_market_spring.dto.UserFcmTokenDto(uft.user.userId, uft.fcmToken) " +
+        "from UserFcmToken uft where uft.user.userId in :userIds")
+    List<UserFcmTokenDto> findUserFcmTokensByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
+    @Query("select distinct uft.user.userId from UserFcmToken uft " +
+        "where uft.fcmToken in :fcmTokens")
+    List<Long> findUserIdsByFcmTokenIn(@Param("fcmTokens") Collection<String> fcmTokens);
+
+    @Transactional
+    @Modifying
+    @Query("delete from UserFcmToken uft where uft.fcmToken in :fcmTokens")
+    int deleteByFcmTokenIn(@Param("fcmTokens") Collection<String> fcmTokens);
 
     void deleteByUser_UserId(Long userId);
 }
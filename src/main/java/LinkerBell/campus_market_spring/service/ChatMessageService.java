@@ -4,10 +4,15 @@ import LinkerBell.campus_market_spring.domain.ChatMessage;
 import LinkerBell.campus_market_spring.domain.ChatRoom;
 import LinkerBell.campus_market_spring.domain.User;
 import LinkerBell.campus_market_spring.dto.ChatMessageResponseDto;
+import LinkerBell.campus_market_spring.dto.ChatSyncCursorDto;
+import LinkerBell.campus_market_spring.dto.ChatSyncRequestDto;
+import LinkerBell.campus_market_spring.dto.ChatSyncResponseDto;
 import LinkerBell.campus_market_spring.dto.RecentChatMessageResponseDto;
 import LinkerBell.campus_market_spring.global.error.ErrorCode;
 import LinkerBell.campus_market_spring.global.error.exception.CustomException;
+import LinkerBell.campus_market_spring.global.redis.ChatRoomSequence;
 import LinkerBell.campus_market_spring.repository.ChatMessageRepository;
+import LinkerBell.campus_market_spring.repository.ChatPropertiesRepository;
 import LinkerBell.campus_market_spring.repository.ChatRoomRepository;
 import LinkerBell.campus_market_spring.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -17,16 +22,26 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ChatMessageService {
 
+    private static final int DEFAULT_SYNC_SIZE = 100;
+    private static final int CONTENTS_CHUNK_SIZE = 500;
+
     private final ChatMessageRepository chatMessageRepository;
     private final ChatRoomRepository chatRoomRepository;
+    private final ChatPropertiesRepository chatPropertiesRepository;
     private final UserRepository userRepository;
+    private final ChatRoomSequence chatRoomSequence;
 
     // 최근 7일간 메시지 목록들 가져오기
     @Transactional(readOnly = true)
@@ -61,28 +76,106 @@ public class ChatMessageService {
         ChatMessage chatMessage = chatMessageRepository.findById(messageId)
             .orElseThrow(() -> new CustomException(ErrorCode.MESSAGE_NOT_FOUND));
 
+        if (chatMessage.isRead()) {
+            return;
+        }
         chatMessage.setRead(true);
+        Long chatRoomId = chatMessage.getChatRoom().getChatRoomId();
+        Long senderId = chatMessage.getUser().getUserId();
+        chatPropertiesRepository.decreaseUnreadCount(chatRoomId, senderId);
+        chatPropertiesRepository.updateLastReadMessageId(chatRoomId, senderId, messageId);
+    }
+
+    /**
+     * 요청한 순서대로 메시지 내용을 consumer에 넘기고, 존재하지 않는 id 목록을 돌려준다. 중복 id는 한 번만 넘긴다. id를 CONTENTS_CHUNK_SIZE개씩
+     * 나눠 IN 조회하므로 쿼리 수는 요청 크기 / CONTENTS_CHUNK_SIZE개이고, 메모리에는 한 묶음만 올라간다.
+     * <p>
+     * 응답을 보내는 동안 커넥션을 잡고 있지 않도록 트랜잭션 없이 묶음마다 따로 조회한다.
+     */
+    public List<Long> fetchMessageContents(List<Long> messageIdList,
+        Consumer<ChatMessageResponseDto> consumer) {
+        List<Long> messageIds = messageIdList.stream()
+            .filter(Objects::nonNull)
+            .distinct()
+            .toList();
+
+        List<Long> missingMessageIdList = new ArrayList<>();
+        for (int from = 0; from < messageIds.size(); from += CONTENTS_CHUNK_SIZE) {
+            List<Long> chunk = messageIds.subList(from,
+                Math.min(from + CONTENTS_CHUNK_SIZE, messageIds.size()));
+            Map<Long, ChatMessageResponseDto> messageById = new HashMap<>();
+            chatMessageRepository.findMessageContentsByIds(chunk)
+                .forEach(message -> messageById.put(message.getMessageId(), message));
+
+            for (Long messageId : chunk) {
+                ChatMessageResponseDto message = messageById.get(messageId);
+                if (message == null) {
+                    missingMessageIdList.add(messageId);
+                } else {
+                    consumer.accept(message);
+                }
+            }
+        }
+        return missingMessageIdList;
     }
 
-    // 메시지 내용들 가져오기
+    /**
+     * 채팅방별 커서 이후의 메시지를 내용까지 한 번에 돌려준다. 한 번에 size개까지만 주고, 더 남아 있으면 hasMore와 함께 돌려준 커서로 이어서 요청하면
+     * 된다.
+     * <p>
+     * 순번은 저장보다 먼저 붙으므로 다른 서버가 받은 작은 순번이 아직 저장되지 않았을 수 있다. 그래서 채팅방마다 ChatRoomSequence의 watermark
+     * 이하의 메시지만 돌려주고 커서도 그 이상 넘기지 않는다. 잘린 메시지는 다음 동기화에서 받는다.
+     */
     @Transactional(readOnly = true)
-    public List<ChatMessageResponseDto> getMessageContents(List<Long> messageIdList) {
-        List<ChatMessageResponseDto> chatMessageResponseDtoList = new ArrayList<>();
-        for (Long messageId : messageIdList) {
-            ChatMessage chatMessage = chatMessageRepository.findById(messageId)
-                .orElseThrow(() -> new CustomException(ErrorCode.MESSAGE_NOT_FOUND));
-
-            ChatMessageResponseDto chatMessageResponseDto = ChatMessageResponseDto.builder()
-                .messageId(chatMessage.getMessageId())
-                .chatRoomId(chatMessage.getChatRoom().getChatRoomId())
-                .userId(chatMessage.getUser().getUserId())
-                .content(chatMessage.getContent())
-                .contentType((chatMessage.getContentType()))
-                .createdAt(chatMessage.getCreatedDate())
-                .build();
-            chatMessageResponseDtoList.add(chatMessageResponseDto);
+    public ChatSyncResponseDto syncMessages(Long userId, ChatSyncRequestDto chatSyncRequestDto) {
+        Map<Long, Long> cursors = new LinkedHashMap<>();
+        if (chatSyncRequestDto.getCursors() != null) {
+            for (ChatSyncCursorDto cursor : chatSyncRequestDto.getCursors()) {
+                if (cursor.getChatRoomId() == null) {
+                    continue;
+                }
+                cursors.put(cursor.getChatRoomId(),
+                    cursor.getRoomSequence() == null ? 0L : cursor.getRoomSequence());
+            }
+        }
+        int size = chatSyncRequestDto.getSize() == null ? DEFAULT_SYNC_SIZE
+            : chatSyncRequestDto.getSize();
+
+        // watermark는 메시지 조회보다 먼저 읽는다. 그 사이에 저장된 메시지는 다음 동기화에서 받는다.
+        Map<Long, Long> watermarks = chatRoomSequence.getWatermarks(
+            chatPropertiesRepository.findActiveChatRoomIds(userId));
+
+        // 하나 더 가져와 다음 페이지가 있는지 확인한다.
+        List<ChatMessageResponseDto> messageList = new ArrayList<>(
+            chatMessageRepository.findMessagesAfter(userId, cursors, size + 1));
+        boolean hasMore = false;
+        if (messageList.size() > size) {
+            messageList.remove(messageList.size() - 1);
+            hasMore = true;
+        }
+        messageList.removeIf(message -> !isPersisted(message, watermarks));
+
+        for (ChatMessageResponseDto message : messageList) {
+            cursors.merge(message.getChatRoomId(), message.getRoomSequence(), Math::max);
         }
+        List<ChatSyncCursorDto> nextCursors = new ArrayList<>();
+        cursors.forEach((chatRoomId, roomSequence) -> nextCursors.add(ChatSyncCursorDto.builder()
+            .chatRoomId(chatRoomId)
+            .roomSequence(roomSequence)
+            .build()));
 
-        return chatMessageResponseDtoList;
+        return ChatSyncResponseDto.builder()
+            .messageList(messageList)
+            .cursors(nextCursors)
+            .hasMore(hasMore)
+            .build();
+    }
+
+    private boolean isPersisted(ChatMessageResponseDto message, Map<Long, Long> watermarks) {
+        Long watermark = watermarks.get(message.getChatRoomId());
+        if (watermark == null || watermark == ChatRoomSequence.NO_WATERMARK) {
+            return true;
+        }
+        return message.getRoomSequence() <= watermark;
     }
 }
@@ -0,0 +1,240 @@
+package LinkerBell.campus_market_spring.service;
+
+import LinkerBell.campus_market_spring.domain.ChatDeadLetterReason;
+import LinkerBell.campus_market_spring.domain.ChatMessage;
+import LinkerBell.campus_market_spring.global.error.ErrorCode;
+import LinkerBell.campus_market_spring.global.error.exception.CustomException;
+import LinkerBell.campus_market_spring.global.redis.ChatRoomSequence;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * STOMP로 받은 채팅 메시지를 write-behind로 저장한다. 메시지는 id를 받은 뒤 바로 브로드캐스트되고, 크기가 정해진 대기열에 쌓였다가 flusher
+ * 스레드 하나가 그동안 쌓인 만큼(최대 batchSize) 묶어 ChatMessageWriter로 한 번에 저장한다. 한가할 때는 한 건씩, 몰릴 때는 큰 묶음으로 저장되므로
+ * 저장을 위해 따로 기다리는 시간은 없다.
+ * <p>
+ * 대기열이 가득 차면 offerTimeout만큼 기다린 뒤 CHAT_SERVER_BUSY로 거절해 보내는 쪽을 늦춘다. DB 오류가 나면 물러났다가 같은 묶음을 다시
+ * 저장하고, 그동안 새 메시지는 대기열에서 기다린다. 특정 행 때문에 묶음이 실패하면(채팅방 삭제 등) 한 건씩 다시 넣고, 그래도 실패한 행은
+ * 이미 브로드캐스트된 메시지이므로 버리지 않고 chat_message_dead_letter에 원인과 함께 남긴다. message_id 중복은 입력이 아니라 id 발급
+ * 오류이므로 chat.flush.duplicate_id로 따로 센다. dead letter마저 저장하지 못하면 chat.flush.dropped를 올리고 메시지 내용을 에러 로그에
+ * 남긴다. (세 지표 모두 0이 아니면 알림 대상이다)
+ * <p>
+ * 묶음 처리가 끝나면(저장, dead letter 모두) ChatRoomSequence.complete로 순번을 저장 대기 목록에서 빼서 동기화 watermark가 올라가게 한다.
+ * <p>
+ * 종료할 때는 새 메시지를 받지 않고 대기열을 끝까지 저장한 뒤 내려간다. 프로세스가 강제로 죽으면 아직 저장하지 않은 메시지(대기열 길이만큼)는
+ * 잃는다. 저장 전의 메시지는 읽음 처리, 내용 조회에서 아직 보이지 않는다.
+ */
+@Service
+@Slf4j
+public class ChatMessageWriteBuffer {
+
+    private static final long POLL_MILLIS = 100L;
+    private static final long MAX_RETRY_BACKOFF_MILLIS = 5000L;
+    private static final int LAST_ERROR_LENGTH = 500;
+
+    private final ChatMessageWriter chatMessageWriter;
+    private final ChatRoomSequence chatRoomSequence;
+    private final BlockingQueue<ChatMessage> queue;
+    private final int batchSize;
+    private final long offerTimeoutMillis;
+    private final int maxAttemptsOnShutdown;
+    private final long retryBackoffMillis;
+    private final long drainTimeoutMillis;
+    private final Thread flusher;
+    private final Timer flushLatency;
+    private final DistributionSummary flushSize;
+    private final Counter rejected;
+    private final Counter deadLettered;
+    private final Counter duplicateIds;
+    private final Counter dropped;
+
+    private volatile boolean accepting = true;
+    private volatile boolean running = true;
+
+    public ChatMessageWriteBuffer(ChatMessageWriter chatMessageWriter,
+        ChatRoomSequence chatRoomSequence,
+        MeterRegistry meterRegistry,
+        @Value("${chat.buffer.capacity:10000}") int capacity,
+        @Value("${chat.buffer.batch_size:500}") int batchSize,
+        @Value("${chat.buffer.offer_timeout_millis:50}") long offerTimeoutMillis,
+        @Value("${chat.buffer.max_attempts_on_shutdown:3}") int maxAttemptsOnShutdown,
+        @Value("${chat.buffer.retry_backoff_millis:100}") long retryBackoffMillis,
+        @Value("${chat.buffer.drain_timeout_millis:30000}") long drainTimeoutMillis) {
+        this.chatMessageWriter = chatMessageWriter;
+        this.chatRoomSequence = chatRoomSequence;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.offerTimeoutMillis = offerTimeoutMillis;
+        this.maxAttemptsOnShutdown = maxAttemptsOnShutdown;
+        this.retryBackoffMillis = retryBackoffMillis;
+        this.drainTimeoutMillis = drainTimeoutMillis;
+        this.flusher = new CustomizableThreadFactory("chat-flusher-").newThread(this::runFlusher);
+        Gauge.builder("chat.buffer.depth", queue, BlockingQueue::size).register(meterRegistry);
+        this.flushLatency = Timer.builder("chat.flush.latency").register(meterRegistry);
+        this.flushSize = DistributionSummary.builder("chat.flush.size").register(meterRegistry);
+        this.rejected = Counter.builder("chat.buffer.rejected").register(meterRegistry);
+        this.deadLettered = Counter.builder("chat.flush.dead_lettered").register(meterRegistry);
+        this.duplicateIds = Counter.builder("chat.flush.duplicate_id").register(meterRegistry);
+        this.dropped = Counter.builder("chat.flush.dropped").register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        flusher.start();
+    }
+
+    /**
+     * 메시지를 저장 대기열에 넣는다. offerTimeout 안에 자리가 나지 않거나 종료 중이면 CHAT_SERVER_BUSY를 던진다.
+     */
+    public void submit(ChatMessage chatMessage) {
+        if (!accepting) {
+            throw new CustomException(ErrorCode.CHAT_SERVER_BUSY);
+        }
+        try {
+            if (!queue.offer(chatMessage, offerTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                rejected.increment();
+                log.warn("채팅 메시지 대기열이 가득 찼습니다. chatRoomId = {}",
+                    chatMessage.getChatRoom().getChatRoomId());
+                throw new CustomException(ErrorCode.CHAT_SERVER_BUSY);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorCode.CHAT_SERVER_BUSY);
+        }
+    }
+
+    int getQueueSize() {
+        return queue.size();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        accepting = false;
+        running = false;
+        flusher.join(drainTimeoutMillis);
+        if (flusher.isAlive()) {
+            log.error("채팅 메시지를 모두 저장하지 못하고 종료합니다. 남은 메시지 수 = {}", queue.size());
+            return;
+        }
+        // flusher가 끝난 뒤 막 들어온 메시지는 종료 스레드에서 저장한다.
+        List<ChatMessage> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            flush(remaining);
+        }
+    }
+
+    private void runFlusher() {
+        List<ChatMessage> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                ChatMessage first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.error("채팅 메시지 flusher가 중단되었습니다. 남은 메시지 수 = {}", queue.size());
+                return;
+            } catch (RuntimeException e) {
+                log.error("채팅 메시지 flusher에서 예외가 발생했습니다.", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<ChatMessage> batch) throws InterruptedException {
+        long startedAt = System.nanoTime();
+        write(batch);
+        chatRoomSequence.complete(batch);
+        flushLatency.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        flushSize.record(batch.size());
+    }
+
+    private void write(List<ChatMessage> batch) throws InterruptedException {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                chatMessageWriter.write(batch);
+                return;
+            } catch (DataIntegrityViolationException e) {
+                if (batch.size() == 1) {
+                    deadLetter(batch, e instanceof DuplicateKeyException
+                        ? ChatDeadLetterReason.DUPLICATE_ID
+                        : ChatDeadLetterReason.CONSTRAINT_VIOLATION, e);
+                    return;
+                }
+                log.warn("채팅 메시지 묶음 저장에 실패해 한 건씩 다시 저장합니다. size = {}", batch.size(), e);
+                for (ChatMessage chatMessage : batch) {
+                    write(List.of(chatMessage));
+                }
+                return;
+            } catch (RuntimeException e) {
+                // 실행 중에는 DB가 돌아올 때까지 다시 시도하고, 종료 중에는 정해진 횟수만 시도한다.
+                if (!running && attempt >= maxAttemptsOnShutdown) {
+                    deadLetter(batch, ChatDeadLetterReason.WRITE_FAILED, e);
+                    return;
+                }
+                long backoff = Math.min(retryBackoffMillis << Math.min(attempt - 1, 10),
+                    MAX_RETRY_BACKOFF_MILLIS);
+                log.warn("채팅 메시지 저장에 실패했습니다. {}ms 뒤 다시 시도합니다. size = {}, attempt = {}",
+                    backoff, batch.size(), attempt, e);
+                Thread.sleep(backoff);
+            }
+        }
+    }
+
+    private void deadLetter(List<ChatMessage> batch, ChatDeadLetterReason reason,
+        RuntimeException e) {
+        List<Long> messageIds = batch.stream().map(ChatMessage::getMessageId).toList();
+        if (reason == ChatDeadLetterReason.DUPLICATE_ID) {
+            duplicateIds.increment(batch.size());
+            log.error("이미 있는 채팅 메시지 id입니다. ChatMessageIdAllocator와 chat_message_seq를 확인해야 합니다. "
+                + "messageIds = {}", messageIds, e);
+        }
+        try {
+            chatMessageWriter.writeDeadLetters(batch, reason, lastError(e));
+            deadLettered.increment(batch.size());
+            log.error("채팅 메시지를 저장하지 못해 dead letter로 남깁니다. reason = {}, messageIds = {}",
+                reason, messageIds, e);
+        } catch (RuntimeException deadLetterException) {
+            // dead letter도 저장하지 못하면 로그에서 복구할 수 있도록 메시지 내용까지 남긴다.
+            dropped.increment(batch.size());
+            for (ChatMessage chatMessage : batch) {
+                log.error("채팅 메시지를 잃었습니다. reason = {}, messageId = {}, chatRoomId = {}, userId = {}, "
+                        + "roomSequence = {}, createdAt = {}, contentType = {}, content = {}", reason,
+                    chatMessage.getMessageId(), chatMessage.getChatRoom().getChatRoomId(),
+                    chatMessage.getUser().getUserId(), chatMessage.getRoomSequence(),
+                    chatMessage.getCreatedDate(), chatMessage.getContentType(),
+                    chatMessage.getContent());
+            }
+            log.error("채팅 메시지 dead letter 저장에 실패했습니다. messageIds = {}", messageIds,
+                deadLetterException);
+        }
+    }
+
+    private String lastError(RuntimeException e) {
+        String message = String.valueOf(e.getMessage());
+        return message.length() <= LAST_ERROR_LENGTH ? message
+            : message.substring(0, LAST_ERROR_LENGTH);
+    }
+}
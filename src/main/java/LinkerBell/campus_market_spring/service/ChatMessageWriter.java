@@ -0,0 +1,73 @@
+package LinkerBell.campus_market_spring.service;
+
+import LinkerBell.campus_market_spring.domain.ChatDeadLetterReason;
+import LinkerBell.campus_market_spring.domain.ChatMessage;
+import LinkerBell.campus_market_spring.domain.ContentType;
+import LinkerBell.campus_market_spring.repository.BatchInsertRepository;
+import LinkerBell.campus_market_spring.repository.ChatPropertiesRepository;
+import LinkerBell.campus_market_spring.repository.ChatRoomRepository;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * ChatMessageWriteBuffer가 모은 메시지 묶음을 한 트랜잭션으로 저장한다. 메시지는 JDBC batch 한 번으로 넣고, 채팅방의 마지막 메시지는 채팅방마다
+ * 채팅방 순번이 가장 큰 메시지로 한 번, 안 읽은 개수는 채팅방, 보낸 사람마다 한 번 갱신한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ChatMessageWriter {
+
+    private static final int PREVIEW_LENGTH = 100;
+
+    private final BatchInsertRepository batchInsertRepository;
+    private final ChatRoomRepository chatRoomRepository;
+    private final ChatPropertiesRepository chatPropertiesRepository;
+
+    @Transactional
+    public void write(List<ChatMessage> chatMessages) {
+        batchInsertRepository.saveChatMessages(chatMessages);
+
+        // 여러 서버의 flusher가 같은 채팅방을 갱신해도 잠금 순서가 엇갈리지 않도록 채팅방 id 순으로 갱신한다.
+        Map<Long, ChatMessage> lastMessageByChatRoom = new TreeMap<>();
+        Map<Long, Map<Long, Integer>> countBySenderByChatRoom = new TreeMap<>();
+        for (ChatMessage chatMessage : chatMessages) {
+            Long chatRoomId = chatMessage.getChatRoom().getChatRoomId();
+            lastMessageByChatRoom.merge(chatRoomId, chatMessage, (before, after) ->
+                after.getRoomSequence() > before.getRoomSequence() ? after : before);
+            countBySenderByChatRoom.computeIfAbsent(chatRoomId, id -> new TreeMap<>())
+                .merge(chatMessage.getUser().getUserId(), 1, Integer::sum);
+        }
+
+        lastMessageByChatRoom.forEach((chatRoomId, lastMessage) ->
+            chatRoomRepository.updateLastMessage(chatRoomId, lastMessage.getMessageId(),
+                lastMessage.getRoomSequence(), makePreview(lastMessage), lastMessage.getCreatedDate()));
+        countBySenderByChatRoom.forEach((chatRoomId, countBySender) ->
+            countBySender.forEach((senderId, count) ->
+                chatPropertiesRepository.increaseUnreadCount(chatRoomId, senderId, count)));
+    }
+
+    // chat_message에 저장하지 못한 메시지를 원인과 함께 남긴다. 채팅방, 안 읽은 개수는 갱신하지 않는다.
+    @Transactional
+    public void writeDeadLetters(List<ChatMessage> chatMessages, ChatDeadLetterReason reason,
+        String lastError) {
+        batchInsertRepository.saveChatMessageDeadLetters(chatMessages, reason, lastError);
+    }
+
+    private String makePreview(ChatMessage chatMessage) {
+        if (chatMessage.getContentType() == ContentType.IMAGE) {
+            return "사진";
+        }
+        if (chatMessage.getContentType() == ContentType.TIMETABLE) {
+            return "시간표";
+        }
+        String content = chatMessage.getContent();
+        if (content == null || content.length() <= PREVIEW_LENGTH) {
+            return content;
+        }
+        return content.substring(0, PREVIEW_LENGTH);
+    }
+}
@@ -0,0 +1,51 @@
+package LinkerBell.campus_market_spring.service;
+
+import LinkerBell.campus_market_spring.dto.ChatRoomMembersDto;
+import LinkerBell.campus_market_spring.global.error.ErrorCode;
+import LinkerBell.campus_market_spring.global.error.exception.CustomException;
+import LinkerBell.campus_market_spring.global.event.ChatRoomExitedEvent;
+import LinkerBell.campus_market_spring.repository.ChatRoomRepository;
+import com.google.common.base.Throwables;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 채팅방의 구매자, 판매자 id와 나갔는지 여부 캐시. 메시지를 보낼 때마다 사용자와 채팅방을 조회하지 않도록 한다. 채팅방을 나가면 커밋 후 이 서버의
+ * 항목을 지우고, 다른 서버의 항목은 저장 후 EXPIRE_MINUTES가 지나면 다시 읽는다.
+ */
+@Component
+public class ChatRoomMemberCache {
+
+    private static final long EXPIRE_MINUTES = 1L;
+
+    private final LoadingCache<Long, ChatRoomMembersDto> members;
+
+    public ChatRoomMemberCache(ChatRoomRepository chatRoomRepository) {
+        this.members = CacheBuilder.newBuilder()
+            .maximumSize(50_000)
+            // 계속 메시지를 보내도 나간 사용자가 남지 않도록 조회가 아니라 저장 시각으로 만료시킨다.
+            .expireAfterWrite(EXPIRE_MINUTES, TimeUnit.MINUTES)
+            .build(CacheLoader.from(chatRoomId -> chatRoomRepository
+                .findMembersByChatRoomId(chatRoomId)
+                .orElseThrow(() -> new CustomException(ErrorCode.CHATROOM_NOT_FOUND))));
+    }
+
+    public ChatRoomMembersDto get(Long chatRoomId) {
+        try {
+            return members.getUnchecked(chatRoomId);
+        } catch (UncheckedExecutionException e) {
+            Throwables.throwIfUnchecked(e.getCause());
+            throw e;
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChatRoomExited(ChatRoomExitedEvent event) {
+        members.invalidate(event.getChatRoomId());
+    }
+}
@@ -1,6 +1,5 @@
 package LinkerBell.campus_market_spring.service;
 
-import LinkerBell.campus_market_spring.domain.ChatMessage;
 import LinkerBell.campus_market_spring.domain.ChatProperties;
 import LinkerBell.campus_market_spring.domain.ChatRoom;
 import LinkerBell.campus_market_spring.domain.Item;
@@ -11,13 +10,17 @@ import LinkerBell.campus_market_spring.dto.ChatRoomRequestDto;
 import LinkerBell.campus_market_spring.dto.ChatRoomResponseDto;
 import LinkerBell.campus_market_spring.global.error.ErrorCode;
 import LinkerBell.campus_market_spring.global.error.exception.CustomException;
+import LinkerBell.campus_market_spring.global.event.ChatRoomExitedEvent;
+import LinkerBell.campus_market_spring.global.event.ItemChangeType;
+import LinkerBell.campus_market_spring.global.event.ItemChangedEvent;
 import LinkerBell.campus_market_spring.repository.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Slf4j
@@ -29,7 +32,8 @@ public class ChatRoomService {
     private final UserRepository userRepository;
     private final ItemRepository itemRepository;
     private final ChatPropertiesRepository chatPropertiesRepository;
-    private final ChatMessageRepository chatMessageRepository;
+    private final BatchInsertRepository batchInsertRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 채팅방 만들기. 채팅방 설정도 2개 만듦
     @Transactional
@@ -52,18 +56,21 @@ public class ChatRoomService {
             .user(buyer)
             .item(item)
             .userCount(1)
+            .lastActivityAt(LocalDateTime.now())
             .build();
 
         chatRoomRepository.save(chatRoom);
+        itemRepository.increaseChatCount(item.getItemId());
+        eventPublisher.publishEvent(ItemChangedEvent.of(item, ItemChangeType.CHATTED));
 
         // 채팅방 설정 2개 만들기
         ChatProperties buyerChatProperties = ChatProperties.builder().user(buyer).chatRoom(chatRoom)
             .isAlarm(true).title(seller.getNickname()).isExited(false).build();
-        chatPropertiesRepository.save(buyerChatProperties);
 
         ChatProperties sellerChatProperties = ChatProperties.builder().user(seller)
             .chatRoom(chatRoom).isAlarm(true).title(buyer.getNickname()).isExited(false).build();
-        chatPropertiesRepository.save(sellerChatProperties);
+        batchInsertRepository.saveChatProperties(
+            List.of(buyerChatProperties, sellerChatProperties));
 
         ChatRoomResponseDto chatRoomResponseDto = ChatRoomResponseDto.builder()
             .chatRoomId(chatRoom.getChatRoomId()).userId(chatRoom.getUser().getUserId())
@@ -74,58 +81,13 @@ public class ChatRoomService {
         return chatRoomResponseDto;
     }
 
-    // 채팅방 목록 가져오기
+    // 채팅방 목록 가져오기. 사용자가 참여한 채팅방만 쿼리 한 번으로 가져온다.
     @Transactional(readOnly = true)
     public List<ChatRoomDataResponseDto> getChatRooms(AuthUserDto authUserDto) {
-        List<ChatRoomDataResponseDto> chatRoomDataResponseDtoList = new ArrayList<>();
-        User user = userRepository.findById(authUserDto.getUserId())
-            .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
-        chatRoomRepository.findAll().forEach(chatRoom -> {
-            // 나간 채팅방인 경우, 유저가 포함되지 않은 채팅방인 경우
-            ChatProperties chatProperties = chatPropertiesRepository.findByUserAndChatRoom(user,
-                chatRoom);
-            if (chatProperties == null || chatProperties.isExited()) {
-                return;
-            }
-
-            // 채팅방에 메시지가 없는 경우
-            ChatMessage recentChatMessage = chatMessageRepository.findTopByIsReadTrueOrderByCreatedDateDesc();
-            Long messageId;
-            if (recentChatMessage == null) {
-                messageId = -1L;
-            } else {
-                messageId = recentChatMessage.getMessageId();
-            }
-
-            // 내가 구매자인 경우
-            if (chatRoom.getUser().getUserId().equals(user.getUserId())) {
-                ChatRoomDataResponseDto tempChatRoomDataResponseDto = ChatRoomDataResponseDto.builder()
-                    .chatRoomId(chatRoom.getChatRoomId())
-                    .userId(chatRoom.getItem().getUser().getUserId())
-                    .itemId(chatRoom.getItem().getItemId())
-                    .title(chatRoom.getItem().getUser().getNickname()) // 판매자의 닉네임이 제목에 보이게
-                    .thumbnail(chatRoom.getItem().getThumbnail())
-                    .isAlarm(
-                        chatPropertiesRepository.findByUserAndChatRoom(user, chatRoom).isAlarm())
-                    .messageId(messageId).build();
-
-                chatRoomDataResponseDtoList.add(tempChatRoomDataResponseDto);
-            } else if (chatRoom.getItem().getUser().getUserId()
-                .equals(user.getUserId())) { // 내가 판매자인 경우
-                ChatRoomDataResponseDto tempChatRoomDataResponseDto = ChatRoomDataResponseDto.builder()
-                    .chatRoomId(chatRoom.getChatRoomId()).userId(chatRoom.getUser().getUserId())
-                    .itemId(chatRoom.getItem().getItemId())
-                    .title(chatRoom.getUser().getNickname()) // 구매자의 닉네임이 제목에 보이게
-                    .thumbnail(chatRoom.getItem().getThumbnail())
-                    .isAlarm(
-                        chatPropertiesRepository.findByUserAndChatRoom(user, chatRoom).isAlarm())
-                    .messageId(messageId).build();
-
-                chatRoomDataResponseDtoList.add(tempChatRoomDataResponseDto);
-            }
-        });
-
-        return chatRoomDataResponseDtoList;
+        if (!userRepository.existsById(authUserDto.getUserId())) {
+            throw new CustomException(ErrorCode.USER_NOT_FOUND);
+        }
+        return chatRoomRepository.findChatRoomDataByUserId(authUserDto.getUserId());
     }
 
     // 채팅방 나가기
@@ -144,51 +106,23 @@ public class ChatRoomService {
 
         // 채팅방에서 userCount - 1 하기
         chatRoom.setUserCount(chatRoom.getUserCount() - 1);
+
+        // 나간 사용자가 캐시된 참여자 정보로 메시지를 보내지 못하게 한다.
+        eventPublisher.publishEvent(new ChatRoomExitedEvent(chatRoomId, user.getUserId()));
     }
 
     // 채팅방 1개 정보 가져오기
     @Transactional(readOnly = true)
     public ChatRoomDataResponseDto getChatRoom(Long userId, Long chatRoomId) {
-        ChatRoomDataResponseDto chatRoomDataResponseDto;
-
-        User user = userRepository.findById(userId)
-            .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
-
-        ChatRoom chatRoom = chatRoomRepository.findById(chatRoomId)
-            .orElseThrow(() -> new CustomException(ErrorCode.CHATROOM_NOT_FOUND));
-
-        // 채팅방에 메시지가 없는 경우
-        ChatMessage recentChatMessage = chatMessageRepository.findTopByIsReadTrueOrderByCreatedDateDesc();
-        Long messageId;
-        if (recentChatMessage == null) {
-            messageId = -1L;
-        } else {
-            messageId = recentChatMessage.getMessageId();
-        }
-
-        // 내가 구매자인 경우
-        if (chatRoom.getUser().getUserId().equals(user.getUserId())) {
-            chatRoomDataResponseDto = ChatRoomDataResponseDto.builder()
-                .chatRoomId(chatRoom.getChatRoomId())
-                .userId(chatRoom.getItem().getUser().getUserId())
-                .itemId(chatRoom.getItem().getItemId())
-                .title(chatRoom.getItem().getUser().getNickname()) // 판매자의 닉네임이 제목에 보이게
-                .thumbnail(chatRoom.getItem().getThumbnail())
-                .isAlarm(
-                    chatPropertiesRepository.findByUserAndChatRoom(user, chatRoom).isAlarm())
-                .messageId(messageId).build();
-        } else { // 내가 판매자인 경우
-
-            chatRoomDataResponseDto = ChatRoomDataResponseDto.builder()
-                .chatRoomId(chatRoom.getChatRoomId()).userId(chatRoom.getUser().getUserId())
-                .itemId(chatRoom.getItem().getItemId())
-                .title(chatRoom.getUser().getNickname()) // 구매자의 닉네임이 제목에 보이게
-                .thumbnail(chatRoom.getItem().getThumbnail())
-                .isAlarm(
-                    chatPropertiesRepository.findByUserAndChatRoom(user, chatRoom).isAlarm())
-                .messageId(messageId).build();
-        }
-
-        return chatRoomDataResponseDto;
+        return chatRoomRepository.findChatRoomDataByUserIdAndChatRoomId(userId, chatRoomId)
+            .orElseThrow(() -> {
+                if (!userRepository.existsById(userId)) {
+                    return new CustomException(ErrorCode.USER_NOT_FOUND);
+                }
+                if (!chatRoomRepository.existsById(chatRoomId)) {
+                    return new CustomException(ErrorCode.CHATROOM_NOT_FOUND);
+                }
+                return new CustomException(ErrorCode.CHAT_PROPERTIES_NOT_FOUND);
+            });
     }
 }
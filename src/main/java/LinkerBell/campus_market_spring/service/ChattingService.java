@@ -5,14 +5,17 @@ import LinkerBell.campus_market_spring.domain.ChatProperties;
 import LinkerBell.campus_market_spring.domain.ChatRoom;
 import LinkerBell.campus_market_spring.domain.ContentType;
 import LinkerBell.campus_market_spring.domain.User;
+import LinkerBell.campus_market_spring.dto.ChatRoomMembersDto;
 import LinkerBell.campus_market_spring.dto.ChattingRequestDto;
 import LinkerBell.campus_market_spring.dto.ChattingResponseDto;
 import LinkerBell.campus_market_spring.global.error.ErrorCode;
 import LinkerBell.campus_market_spring.global.error.exception.CustomException;
-import LinkerBell.campus_market_spring.repository.ChatMessageRepository;
+import LinkerBell.campus_market_spring.global.redis.ChatRoomSequence;
+import LinkerBell.campus_market_spring.repository.ChatMessageIdAllocator;
 import LinkerBell.campus_market_spring.repository.ChatPropertiesRepository;
 import LinkerBell.campus_market_spring.repository.ChatRoomRepository;
 import LinkerBell.campus_market_spring.repository.UserRepository;
+import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -23,27 +26,32 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class ChattingService {
 
-    private final ChatMessageRepository chatMessageRepository;
     private final ChatRoomRepository chatRoomRepository;
     private final ChatPropertiesRepository chatPropertiesRepository;
     private final UserRepository userRepository;
     private final FcmService fcmService;
-
-    @Transactional
+    private final ChatRoomMemberCache chatRoomMemberCache;
+    private final ChatMessageIdAllocator chatMessageIdAllocator;
+    private final ChatMessageWriteBuffer chatMessageWriteBuffer;
+    private final ChatRoomSequence chatRoomSequence;
+
+    /**
+     * 메시지에 id, 채팅방 순번과 받은 시각을 붙여 저장 대기열에 넣고 바로 응답을 만든다. 저장은 ChatMessageWriteBuffer가 묶어서 하므로 이
+     * 메서드는 DB를 기다리지 않는다. (채팅방 참여자는 캐시에서 확인한다)
+     */
     public ChattingResponseDto makeChattingResponseDto(Long userId, Long chatRoomId,
         ChattingRequestDto chattingRequestDto) {
-        // 메시지 정보를 db에 저장
-        User user = userRepository.findById(userId)
-            .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
-
-        ChatRoom chatRoom = chatRoomRepository.findById(chatRoomId)
-            .orElseThrow(() -> new CustomException(ErrorCode.CHATROOM_NOT_FOUND));
-
         if (chattingRequestDto.getContentType() == null) {
             log.error("makeChattingResponseDto: contentType is null");
             throw new CustomException(ErrorCode.INVALID_CONTENT_TYPE);
         }
 
+        ChatRoomMembersDto members = chatRoomMemberCache.get(chatRoomId);
+        if (!members.contains(userId)) {
+            log.error("makeChattingResponseDto: user is not a member of chat room");
+            throw new CustomException(ErrorCode.CHAT_PROPERTIES_NOT_FOUND);
+        }
+
         String content = "";
 
         if (chattingRequestDto.getContentType() == ContentType.TIMETABLE) {
@@ -53,23 +61,33 @@ public class ChattingService {
         }
 
         ChatMessage chatMessage = ChatMessage.builder()
-            .chatRoom(chatRoom)
-            .user(user)
+            .messageId(chatMessageIdAllocator.nextId())
+            .chatRoom(ChatRoom.builder().chatRoomId(chatRoomId).build())
+            .user(User.builder().userId(userId).build())
             .content(content)
             .contentType(chattingRequestDto.getContentType())
             .isRead(false)
+            .roomSequence(chatRoomSequence.next(chatRoomId))
             .build();
-
-        ChatMessage savedChatMessage = chatMessageRepository.save(chatMessage);
+        chatMessage.setCreatedDate(LocalDateTime.now());
+
+        // 대기열이 가득 차면 브로드캐스트하지 않고 CHAT_SERVER_BUSY로 거절된다.
+        try {
+            chatMessageWriteBuffer.submit(chatMessage);
+        } catch (CustomException e) {
+            chatRoomSequence.abandon(chatRoomId, chatMessage.getRoomSequence());
+            throw e;
+        }
 
         // chattingResponseDto 리턴
         ChattingResponseDto chattingResponseDto = ChattingResponseDto.builder()
-            .messageId(savedChatMessage.getMessageId())
+            .messageId(chatMessage.getMessageId())
             .chatRoomId(chatRoomId)
             .userId(userId)
-            .content(savedChatMessage.getContent())
+            .content(chatMessage.getContent())
             .contentType(chattingRequestDto.getContentType())
-            .createdAt(savedChatMessage.getCreatedDate())
+            .createdAt(chatMessage.getCreatedDate())
+            .roomSequence(chatMessage.getRoomSequence())
             .build();
 
         return chattingResponseDto;
@@ -1,68 +1,81 @@
 package LinkerBell.campus_market_spring.service;
 
 import LinkerBell.campus_market_spring.dto.FcmMessageDto;
+import LinkerBell.campus_market_spring.global.event.FcmTokenChangedEvent;
+import LinkerBell.campus_market_spring.global.push.PushGateway;
+import LinkerBell.campus_market_spring.global.push.PushResult;
 import LinkerBell.campus_market_spring.repository.UserFcmTokenRepository;
-import com.google.firebase.messaging.FirebaseMessaging;
-import com.google.firebase.messaging.FirebaseMessagingException;
-import com.google.firebase.messaging.Message;
-import com.google.firebase.messaging.Notification;
-import java.util.concurrent.ExecutionException;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
-@Transactional
+// 발송 중에는 DB 커넥션을 잡지 않는다. 토큰 삭제는 repository의 트랜잭션으로 따로 실행된다.
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
 public class FcmNotificationService {
 
     private final UserFcmTokenRepository userFcmTokenRepository;
+    private final PushGateway pushGateway;
+    private final ApplicationEventPublisher eventPublisher;
 
     public void sendNotification(FcmMessageDto fcmMessageDto) {
-        Message.Builder messageBuilder = Message.builder()
-            .setToken(fcmMessageDto.getTargetToken())
-            .setNotification(Notification.builder()
-                .setTitle(fcmMessageDto.getTitle())
-                .setBody(fcmMessageDto.getBody())
-                .build());
+        sendNotifications(List.of(fcmMessageDto));
+    }
 
-        if (fcmMessageDto.getDeeplinkUrl() != null) {
-            messageBuilder.putData("deeplink", fcmMessageDto.getDeeplinkUrl());
-        }
-        Message message = messageBuilder.build();
-        try {
-            String response = FirebaseMessaging.getInstance().sendAsync(message).get();
-        } catch (ExecutionException e) {
-            Throwable cause = e.getCause();
-            if (cause instanceof FirebaseMessagingException messagingException) {
-                handleFirebaseMessagingException(messagingException,
-                    fcmMessageDto.getTargetToken());
-            } else {
-                log.error("Unexpected error occurred while sending notification", e);
+    /**
+     * 메시지를 {@link PushGateway#MAX_BATCH_SIZE}개씩 나누어 보내고, 만료되었거나 잘못된 토큰은 모아서 한 번에 삭제한다.
+     *
+     * @return 다시 보내면 성공할 수 있는 실패(UNAVAILABLE, INTERNAL, 시간 초과, 요청 오류) 수. 삭제한 잘못된 토큰은 포함하지 않는다.
+     */
+    public int sendNotifications(List<FcmMessageDto> fcmMessageDtos) {
+        List<String> invalidTokens = new ArrayList<>();
+        int failedCount = 0;
+        for (int from = 0; from < fcmMessageDtos.size(); from += PushGateway.MAX_BATCH_SIZE) {
+            List<FcmMessageDto> batch = fcmMessageDtos.subList(from,
+                Math.min(from + PushGateway.MAX_BATCH_SIZE, fcmMessageDtos.size()));
+            try {
+                for (PushResult result : pushGateway.sendBatch(batch)) {
+                    if (!handleResult(result, invalidTokens)) {
+                        failedCount++;
+                    }
+                }
+            } catch (RuntimeException e) {
+                log.error("Unexpected error occurred while sending notifications. size = {}",
+                    batch.size(), e);
+                failedCount += batch.size();
             }
+        }
 
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            log.error("Notification sending was interrupted", e);
-        } catch (Throwable e) {
-            log.error("invalid error={}", e.getMessage());
+        if (!invalidTokens.isEmpty()) {
+            List<Long> userIds = userFcmTokenRepository.findUserIdsByFcmTokenIn(invalidTokens);
+            userFcmTokenRepository.deleteByFcmTokenIn(invalidTokens);
+            eventPublisher.publishEvent(new FcmTokenChangedEvent(userIds));
         }
+        return failedCount;
     }
 
-    private void handleFirebaseMessagingException(FirebaseMessagingException ex,
-        String targetToken) {
-        switch (ex.getMessagingErrorCode()) {
-            case INVALID_ARGUMENT -> {
-                log.error("Invalid FCM token, removing token: {}", targetToken);
-                userFcmTokenRepository.deleteByFcmToken(targetToken);
+    private boolean handleResult(PushResult result, List<String> invalidTokens) {
+        switch (result.status()) {
+            case SUCCESS -> {
+                return true;
+            }
+            case INVALID_TOKEN -> {
+                log.error("Invalid FCM token, removing token: {}", result.targetToken());
+                invalidTokens.add(result.targetToken());
+                return true;
             }
-            case UNREGISTERED -> {
-                log.error("Unregistered FCM token, removing token: {}", targetToken);
-                userFcmTokenRepository.deleteByFcmToken(targetToken);
+            default -> {
+                log.error("FCM send failed. token = {}, error = {}", result.targetToken(),
+                    result.error());
+                return false;
             }
-            default -> log.error("Unexpected FirebaseMessagingException occurred", ex);
         }
     }
 }
@@ -5,13 +5,24 @@ import LinkerBell.campus_market_spring.domain.Keyword;
 import LinkerBell.campus_market_spring.domain.User;
 import LinkerBell.campus_market_spring.domain.UserFcmToken;
 import LinkerBell.campus_market_spring.dto.FcmMessageDto;
+import LinkerBell.campus_market_spring.dto.KeywordAlertRecipient;
+import LinkerBell.campus_market_spring.global.event.FcmTokenChangedEvent;
+import LinkerBell.campus_market_spring.global.push.PushPriority;
+import LinkerBell.campus_market_spring.global.redis.FcmTokenStore;
+import LinkerBell.campus_market_spring.global.redis.KeywordAlertDigestStore;
+import LinkerBell.campus_market_spring.global.redis.KeywordAlertDigestStore.DigestEntry;
 import LinkerBell.campus_market_spring.repository.UserFcmTokenRepository;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -21,33 +32,78 @@ import org.springframework.transaction.annotation.Transactional;
 public class FcmService {
 
     private final UserFcmTokenRepository userFcmTokenRepository;
-    private final FcmNotificationService fcmNotificationService;
+    private final PushDispatcher pushDispatcher;
+    private final FcmTokenStore fcmTokenStore;
+    private final KeywordAlertDigestStore keywordAlertDigestStore;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${deeplink.keyword_url}")
     private String deeplinkKeywordUrl;
     @Value("${deeplink.chat_url}")
     private String deeplinkChatUrl;
 
+    /**
+     * 사용자마다 매칭된 키워드를 모아 푸시 한 건으로 보낸다. window 안에 이미 키워드 푸시를 받은 사용자는 바로 보내지 않고 묶음 푸시 대기열에 넣는다.
+     * LOW lane에서 발송이 끝날 때까지 기다리고, 거절되면 예외를 던져 outbox가 다시 시도하게 한다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void sendFcmMessageWithKeywords(List<Keyword> sendingKeywords, Item savedItem) {
-        for (Keyword sendingKeyword : sendingKeywords) {
-            List<String> fcmTokens = userFcmTokenRepository.findFcmTokenByUser_UserId(
-                sendingKeyword.getUser().getUserId());
-            for (String fcmToken : fcmTokens) {
-                FcmMessageDto sendingKeywordMessage = createKeywordFcmMessage(sendingKeyword,
-                    fcmToken,
-                    savedItem);
+        List<KeywordAlertRecipient> recipients = KeywordAlertRecipient.groupByUser(sendingKeywords)
+            .stream()
+            .filter(recipient -> keywordAlertDigestStore.admit(recipient.userId(),
+                savedItem.getItemId(), savedItem.getTitle()))
+            .toList();
+        if (recipients.isEmpty()) {
+            return;
+        }
 
-                fcmNotificationService.sendNotification(sendingKeywordMessage);
+        Map<Long, List<String>> fcmTokensByUserId = fcmTokenStore.getTokens(
+            recipients.stream().map(KeywordAlertRecipient::userId).toList());
+        List<FcmMessageDto> sendingKeywordMessages = new ArrayList<>();
+        for (KeywordAlertRecipient recipient : recipients) {
+            for (String fcmToken : fcmTokensByUserId.getOrDefault(recipient.userId(),
+                List.of())) {
+                sendingKeywordMessages.add(createKeywordFcmMessage(recipient, fcmToken,
+                    savedItem));
             }
+        }
+        pushDispatcher.dispatch(PushPriority.LOW, sendingKeywordMessages).join();
+    }
 
+    // window 동안 모인 키워드 알림을 사용자마다 한 건으로 보낸다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void sendKeywordDigests(Map<Long, List<DigestEntry>> digests) {
+        if (digests.isEmpty()) {
+            return;
+        }
+        Map<Long, List<String>> fcmTokensByUserId = fcmTokenStore.getTokens(digests.keySet());
+        List<FcmMessageDto> digestMessages = new ArrayList<>();
+        digests.forEach((userId, entries) -> {
+            DigestEntry latest = entries.get(entries.size() - 1);
+            String body = entries.size() == 1 ? latest.title()
+                : latest.title() + " 외 " + (entries.size() - 1) + "건";
+            for (String fcmToken : fcmTokensByUserId.getOrDefault(userId, List.of())) {
+                digestMessages.add(FcmMessageDto.builder()
+                    .targetToken(fcmToken)
+                    .title("새 키워드 알림 " + entries.size() + "건")
+                    .body(body)
+                    .deeplinkUrl(deeplinkKeywordUrl + latest.itemId())
+                    .build());
+            }
+        });
+        try {
+            pushDispatcher.dispatch(PushPriority.LOW, digestMessages).join();
+        } catch (CompletionException e) {
+            // 대기열에서 이미 꺼낸 묶음 알림이므로 다시 보내지 않는다.
+            log.error("키워드 묶음 알림을 보내지 못했습니다. userCount = {}", digests.size(), e);
         }
     }
 
-    private FcmMessageDto createKeywordFcmMessage(Keyword sendingKeyword, String fcmToken,
-        Item savedItem) {
+    private FcmMessageDto createKeywordFcmMessage(KeywordAlertRecipient recipient,
+        String fcmToken, Item savedItem) {
         return FcmMessageDto.builder()
             .targetToken(fcmToken)
-            .title(sendingKeyword.getKeywordName() + " 키워드 알림")
+            .title(recipient.title())
             .body(savedItem.getTitle())
             .deeplinkUrl(deeplinkKeywordUrl + savedItem.getItemId())
             .build();
@@ -61,26 +117,35 @@ public class FcmService {
                 UserFcmToken userFcmToken = UserFcmToken.builder().fcmToken(firebaseToken)
                     .user(user).build();
                 userFcmTokenRepository.save(userFcmToken);
+                eventPublisher.publishEvent(new FcmTokenChangedEvent(List.of(user.getUserId())));
             });
     }
 
+    // 채팅 푸시는 HIGH lane에 넣고 기다리지 않는다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void sendFcmMessageWithChat(Long userId, Long chatRoomId, String title, String content) {
-        List<String> fcmTokens = userFcmTokenRepository.findFcmTokenByUser_UserId(userId);
+        List<String> fcmTokens = fcmTokenStore.getTokens(List.of(userId))
+            .getOrDefault(userId, List.of());
 
-        for (String fcmToken : fcmTokens) {
-            FcmMessageDto fcmMessageDto = FcmMessageDto.builder()
+        List<FcmMessageDto> fcmMessageDtos = fcmTokens.stream()
+            .map(fcmToken -> FcmMessageDto.builder()
                 .targetToken(fcmToken)
                 .title(title)
                 .body(content)
                 .deeplinkUrl(deeplinkChatUrl + chatRoomId)
-                .build();
+                .build())
+            .toList();
 
-            fcmNotificationService.sendNotification(fcmMessageDto);
-        }
+        pushDispatcher.dispatch(PushPriority.HIGH, fcmMessageDtos)
+            .exceptionally(e -> {
+                log.error("채팅 알림을 보내지 못했습니다. chatRoomId = {}", chatRoomId, e);
+                return null;
+            });
     }
 
     public void deleteFcmTokenAllByUserId(Long userId) {
         userFcmTokenRepository.deleteByUser_UserId(userId);
+        eventPublisher.publishEvent(new FcmTokenChangedEvent(List.of(userId)));
     }
 
 }
@@ -0,0 +1,78 @@
+package LinkerBell.campus_market_spring.service;
+
+import LinkerBell.campus_market_spring.dto.ItemDetailsSnapshot;
+import LinkerBell.campus_market_spring.global.error.ErrorCode;
+import LinkerBell.campus_market_spring.global.error.exception.CustomException;
+import LinkerBell.campus_market_spring.global.event.ItemChangedEvent;
+import LinkerBell.campus_market_spring.repository.ItemRepository;
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 아이템 상세 조회 read-through 캐시. 같은 아이템에 대한 동시 miss는 LoadingCache가 한 번의 조회로 합친다. 아이템 변경 이벤트(수정, 삭제, 상태 변경,
+ * 좋아요, 채팅방 생성)가 커밋되면 해당 아이템을 버린다.
+ */
+@Component
+public class ItemDetailsCache {
+
+    private static final long EXPIRE_MINUTES = 1L;
+
+    private final LoadingCache<Long, LoadedSnapshot> snapshots;
+    // 무효화 직전에 시작된 조회가 무효화 이후 저장한 이전 값을 걸러내기 위한 마지막 무효화 시각
+    private final Cache<Long, Long> invalidatedAt = CacheBuilder.newBuilder()
+        .maximumSize(10_000)
+        .expireAfterWrite(EXPIRE_MINUTES, TimeUnit.MINUTES)
+        .build();
+
+    public ItemDetailsCache(ItemRepository itemRepository) {
+        this.snapshots = CacheBuilder.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(EXPIRE_MINUTES, TimeUnit.MINUTES)
+            .build(CacheLoader.from(itemId -> {
+                long loadStartedAt = System.nanoTime();
+                ItemDetailsSnapshot snapshot = itemRepository.findItemDetailsSnapshot(itemId)
+                    .orElseThrow(() -> new CustomException(ErrorCode.ITEM_NOT_FOUND));
+                return new LoadedSnapshot(snapshot, loadStartedAt);
+            }));
+    }
+
+    public ItemDetailsSnapshot get(Long itemId) {
+        LoadedSnapshot loaded = load(itemId);
+        Long lastInvalidatedAt = invalidatedAt.getIfPresent(itemId);
+        if (lastInvalidatedAt != null && loaded.loadStartedAt() <= lastInvalidatedAt) {
+            snapshots.invalidate(itemId);
+            loaded = load(itemId);
+        }
+        return loaded.snapshot();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemChanged(ItemChangedEvent event) {
+        invalidate(event.getItemId());
+    }
+
+    public void invalidate(Long itemId) {
+        invalidatedAt.put(itemId, System.nanoTime());
+        snapshots.invalidate(itemId);
+    }
+
+    private LoadedSnapshot load(Long itemId) {
+        try {
+            return snapshots.getUnchecked(itemId);
+        } catch (UncheckedExecutionException e) {
+            Throwables.throwIfUnchecked(e.getCause());
+            throw e;
+        }
+    }
+
+    private record LoadedSnapshot(ItemDetailsSnapshot snapshot, long loadStartedAt) {
+
+    }
+}
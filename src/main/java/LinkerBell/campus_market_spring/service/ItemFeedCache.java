@@ -0,0 +1,82 @@
+package LinkerBell.campus_market_spring.service;
+
+import LinkerBell.campus_market_spring.domain.Category;
+import LinkerBell.campus_market_spring.domain.ItemStatus;
+import LinkerBell.campus_market_spring.dto.ItemSearchRequestDto;
+import LinkerBell.campus_market_spring.dto.ItemSearchResponseDto;
+import LinkerBell.campus_market_spring.dto.SliceResponse;
+import LinkerBell.campus_market_spring.global.event.ItemChangedEvent;
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+
+/**
+ * 캠퍼스별 아이템 목록 앞쪽 페이지 캐시. 검색어, 가격 필터가 없는 요청만 캐시하고, 사용자마다 다른 isLiked 값은 호출 측에서 덮어쓴다.
+ * 아이템 변경 이벤트가 오면 해당 캠퍼스의 페이지를 모두 버린다. 다른 서버의 변경은 만료 시간까지만 늦게 반영된다.
+ */
+@Component
+public class ItemFeedCache {
+
+    private static final int CACHED_PAGE_COUNT = 3;
+
+    private final Cache<FeedKey, SliceResponse<ItemSearchResponseDto>> pages = CacheBuilder.newBuilder()
+        .maximumSize(2000)
+        .expireAfterWrite(30, TimeUnit.SECONDS)
+        .build();
+
+    // 무효화 이전에 시작된 조회 결과가 무효화 이후에 저장되어도 다시 읽히지 않도록 키에 캠퍼스 버전을 포함한다.
+    private final ConcurrentMap<Long, AtomicLong> campusVersions = new ConcurrentHashMap<>();
+
+    public boolean isCacheable(ItemSearchRequestDto itemSearchRequestDto) {
+        return !StringUtils.hasText(itemSearchRequestDto.getName())
+            && itemSearchRequestDto.getMinPrice() == null
+            && itemSearchRequestDto.getMaxPrice() == null
+            && itemSearchRequestDto.getCursor() == null
+            && itemSearchRequestDto.getPageable().getPageNumber() < CACHED_PAGE_COUNT;
+    }
+
+    public SliceResponse<ItemSearchResponseDto> get(Long campusId,
+        ItemSearchRequestDto itemSearchRequestDto,
+        Supplier<SliceResponse<ItemSearchResponseDto>> loader) {
+        FeedKey key = new FeedKey(campusId, campusVersion(campusId).get(),
+            itemSearchRequestDto.getCategory(), itemSearchRequestDto.getItemStatus(),
+            itemSearchRequestDto.getPageable());
+        try {
+            return pages.get(key, loader::get);
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            Throwables.throwIfUnchecked(e.getCause());
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemChanged(ItemChangedEvent event) {
+        invalidate(event.getCampusId());
+    }
+
+    public void invalidate(Long campusId) {
+        long version = campusVersion(campusId).incrementAndGet();
+        pages.asMap().keySet()
+            .removeIf(key -> key.campusId().equals(campusId) && key.version() < version);
+    }
+
+    private AtomicLong campusVersion(Long campusId) {
+        return campusVersions.computeIfAbsent(campusId, id -> new AtomicLong());
+    }
+
+    private record FeedKey(Long campusId, long version, Category category,
+                           ItemStatus itemStatus, Pageable pageable) {
+
+    }
+}
@@ -0,0 +1,145 @@
+package LinkerBell.campus_market_spring.service;
+
+import LinkerBell.campus_market_spring.domain.Item;
+import LinkerBell.campus_market_spring.global.event.ItemChangedEvent;
+import LinkerBell.campus_market_spring.global.search.ItemSearchDocument;
+import LinkerBell.campus_market_spring.global.search.ItemSearchIndex;
+import LinkerBell.campus_market_spring.repository.ItemRepository;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ItemSearchIndexService {
+
+    private static final int REBUILD_CHUNK_SIZE = 500;
+    // 동기화 주기 경계에서 커밋이 늦은 변경을 놓치지 않도록 겹쳐서 조회한다.
+    private static final long SYNC_OVERLAP_SECONDS = 10L;
+    private static final long INDEX_COMMIT_DELAY_MILLIS = 60_000L;
+
+    private final ItemRepository itemRepository;
+    private final ItemSearchIndex itemSearchIndex;
+
+    // 이 시각 이전의 DB 변경은 모두 색인에 반영됐다. 시작할 때 마지막 커밋에 저장된 값으로 초기화되며, 그 전과 재색인 중에는 null이라 동기화와 커밋을 건너뛴다.
+    private volatile LocalDateTime syncedUntil;
+
+    /**
+     * 색인에서 제목이 일치하는 아이템 id를 찾는다. 색인을 사용할 수 없으면 빈 Optional을 돌려주고, 호출 측은 LIKE 검색으로 대체한다.
+     */
+    public Optional<List<Long>> searchItemIds(Long campusId, String name) {
+        try {
+            return itemSearchIndex.search(campusId, name);
+        } catch (UncheckedIOException e) {
+            log.error("아이템 검색 색인 조회에 실패했습니다. campusId = {}", campusId, e);
+            return Optional.empty();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemChanged(ItemChangedEvent event) {
+        if (!event.getChangeType().changesContent()) {
+            return;
+        }
+        try {
+            itemRepository.findById(event.getItemId()).ifPresentOrElse(this::reindex,
+                () -> itemSearchIndex.delete(event.getCampusId(), event.getItemId()));
+        } catch (UncheckedIOException e) {
+            log.error("아이템 검색 색인 갱신에 실패했습니다. event = {}", event, e);
+        }
+    }
+
+    // 다른 서버에서 변경된 아이템과 이벤트 없이 변경된 아이템(관리자 삭제 등)을 주기적으로 반영한다.
+    @Scheduled(fixedDelayString = "${search.item_index_sync_delay:30000}")
+    public void syncModifiedItems() {
+        LocalDateTime from = syncedUntil;
+        if (from == null) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            itemRepository.findByLastModifiedDateGreaterThanEqual(
+                    from.minusSeconds(SYNC_OVERLAP_SECONDS))
+                .forEach(this::reindex);
+            syncedUntil = now;
+        } catch (UncheckedIOException e) {
+            log.error("아이템 검색 색인 동기화에 실패했습니다.", e);
+        }
+    }
+
+    // 수정, 삭제는 검색에 바로 반영되고 fsync는 여기서 모아서 한다. 커밋 전에 읽은 syncedUntil을 함께 저장해 재시작 시 그 이후만 동기화한다.
+    @Scheduled(fixedDelay = INDEX_COMMIT_DELAY_MILLIS)
+    public void commitIndex() {
+        LocalDateTime committedUntil = syncedUntil;
+        if (committedUntil == null) {
+            return;
+        }
+        try {
+            itemSearchIndex.commitAll(committedUntil);
+        } catch (UncheckedIOException e) {
+            log.error("아이템 검색 색인 커밋에 실패했습니다.", e);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (itemSearchIndex.isEmpty()) {
+            log.info("아이템 검색 색인이 비어 있어 전체 색인을 시작합니다.");
+            rebuild();
+            return;
+        }
+        Optional<LocalDateTime> committedSyncedUntil = itemSearchIndex.getCommittedSyncedUntil();
+        if (committedSyncedUntil.isEmpty()) {
+            log.info("아이템 검색 색인에 동기화 기준 시각이 없어 전체 색인을 시작합니다.");
+            rebuild();
+            return;
+        }
+        syncedUntil = committedSyncedUntil.get();
+        log.info("아이템 검색 색인을 {} 이후 변경부터 동기화합니다.", syncedUntil);
+    }
+
+    public int rebuild() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        // 다 채워지지 않은 색인이 이전 기준 시각으로 커밋되지 않도록 재색인이 끝날 때까지 동기화와 커밋을 멈춘다.
+        syncedUntil = null;
+        itemSearchIndex.deleteAll();
+
+        int indexedCount = 0;
+        Long lastItemId = 0L;
+        List<ItemSearchDocument> documents;
+        do {
+            documents = itemRepository.findSearchDocumentsAfter(lastItemId,
+                PageRequest.of(0, REBUILD_CHUNK_SIZE));
+            if (documents.isEmpty()) {
+                break;
+            }
+            itemSearchIndex.addAll(documents);
+            indexedCount += documents.size();
+            lastItemId = documents.get(documents.size() - 1).itemId();
+        } while (documents.size() == REBUILD_CHUNK_SIZE);
+
+        itemSearchIndex.commitAll(startedAt);
+        syncedUntil = startedAt;
+        log.info("아이템 검색 색인 완료. indexedCount = {}", indexedCount);
+        return indexedCount;
+    }
+
+    private void reindex(Item item) {
+        Long campusId = item.getCampus().getCampusId();
+        if (item.isDeleted()) {
+            itemSearchIndex.delete(campusId, item.getItemId());
+            return;
+        }
+        itemSearchIndex.upsert(new ItemSearchDocument(item.getItemId(), campusId, item.getTitle()));
+    }
+}
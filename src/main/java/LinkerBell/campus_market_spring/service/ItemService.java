@@ -3,9 +3,11 @@ package LinkerBell.campus_market_spring.service;
 import LinkerBell.campus_market_spring.domain.Item;
 import LinkerBell.campus_market_spring.domain.ItemPhotos;
 import LinkerBell.campus_market_spring.domain.ItemStatus;
-import LinkerBell.campus_market_spring.domain.Keyword;
 import LinkerBell.campus_market_spring.domain.User;
+import LinkerBell.campus_market_spring.dto.CursorSliceResponse;
+import LinkerBell.campus_market_spring.dto.ItemDetailsSnapshot;
 import LinkerBell.campus_market_spring.dto.ItemDetailsViewResponseDto;
+import LinkerBell.campus_market_spring.dto.ItemFacetsResponseDto;
 import LinkerBell.campus_market_spring.dto.ItemRegisterRequestDto;
 import LinkerBell.campus_market_spring.dto.ItemRegisterResponseDto;
 import LinkerBell.campus_market_spring.dto.ItemSearchRequestDto;
@@ -14,16 +16,29 @@ import LinkerBell.campus_market_spring.dto.ItemStatusChangeRequestDto;
 import LinkerBell.campus_market_spring.dto.SliceResponse;
 import LinkerBell.campus_market_spring.global.error.ErrorCode;
 import LinkerBell.campus_market_spring.global.error.exception.CustomException;
+import LinkerBell.campus_market_spring.global.event.ItemChangeType;
+import LinkerBell.campus_market_spring.global.event.ItemChangedEvent;
+import LinkerBell.campus_market_spring.global.event.ItemFacetChangedEvent;
+import LinkerBell.campus_market_spring.global.event.ItemFacetChangedEvent.ItemFacet;
+import LinkerBell.campus_market_spring.global.redis.ItemFacetStore;
+import LinkerBell.campus_market_spring.global.redis.LikeMembershipStore;
+import LinkerBell.campus_market_spring.repository.BatchInsertRepository;
 import LinkerBell.campus_market_spring.repository.ChatRoomRepository;
 import LinkerBell.campus_market_spring.repository.ItemPhotosRepository;
 import LinkerBell.campus_market_spring.repository.ItemRepository;
+import LinkerBell.campus_market_spring.repository.LikeRepository;
 import LinkerBell.campus_market_spring.repository.UserRepository;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -36,24 +51,64 @@ public class ItemService {
     private final UserRepository userRepository;
     private final ItemPhotosRepository itemPhotosRepository;
     private final ChatRoomRepository chatRoomRepository;
+    private final LikeRepository likeRepository;
+    private final BatchInsertRepository batchInsertRepository;
 
     private final S3Service s3Service;
-    private final FcmService fcmService;
-    private final KeywordService keywordService;
-    private final NotificationHistoryService notificationHistoryService;
+    private final KeywordAlertService keywordAlertService;
+    private final ItemSearchIndexService itemSearchIndexService;
+    private final ItemFeedCache itemFeedCache;
+    private final ItemDetailsCache itemDetailsCache;
+    private final LikeMembershipStore likeMembershipStore;
+    private final ItemFacetStore itemFacetStore;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public SliceResponse<ItemSearchResponseDto> itemSearch(Long userId,
         ItemSearchRequestDto itemSearchRequestDto) {
         User user = getUserWithCampus(userId);
+        Long campusId = user.getCampus().getCampusId();
+
+        if (itemFeedCache.isCacheable(itemSearchRequestDto)) {
+            SliceResponse<ItemSearchResponseDto> cachedPage = itemFeedCache.get(campusId,
+                itemSearchRequestDto, () -> itemRepository.itemSearch(null, campusId, null, null,
+                    itemSearchRequestDto.getCategory(), null, null,
+                    itemSearchRequestDto.getItemStatus(), itemSearchRequestDto.getPageable()));
+            return withLikedItems(userId, cachedPage, itemSearchRequestDto);
+        }
+
+        List<Long> matchedItemIds = findItemIdsByTitle(campusId, itemSearchRequestDto.getName());
 
-        return itemRepository.itemSearch(userId, user.getCampus().getCampusId(),
-            itemSearchRequestDto.getName(),
+        return itemRepository.itemSearch(userId, campusId,
+            matchedItemIds == null ? itemSearchRequestDto.getName() : null, matchedItemIds,
             itemSearchRequestDto.getCategory(), itemSearchRequestDto.getMinPrice(),
             itemSearchRequestDto.getMaxPrice(), itemSearchRequestDto.getItemStatus(),
             itemSearchRequestDto.getPageable());
     }
 
+    @Transactional(readOnly = true)
+    public CursorSliceResponse<ItemSearchResponseDto> itemSearchByCursor(Long userId,
+        ItemSearchRequestDto itemSearchRequestDto) {
+        User user = getUserWithCampus(userId);
+        Long campusId = user.getCampus().getCampusId();
+        List<Long> matchedItemIds = findItemIdsByTitle(campusId, itemSearchRequestDto.getName());
+
+        return itemRepository.itemSearchByCursor(userId, campusId,
+            matchedItemIds == null ? itemSearchRequestDto.getName() : null, matchedItemIds,
+            itemSearchRequestDto.getCategory(), itemSearchRequestDto.getMinPrice(),
+            itemSearchRequestDto.getMaxPrice(), itemSearchRequestDto.getItemStatus(),
+            itemSearchRequestDto.getCursor(), itemSearchRequestDto.getPageable());
+    }
+
+    @Transactional(readOnly = true)
+    public ItemFacetsResponseDto getItemFacets(Long userId) {
+        User user = getUserWithCampus(userId);
+        Long campusId = user.getCampus().getCampusId();
+
+        return itemFacetStore.getFacets(campusId)
+            .orElseGet(() -> itemFacetStore.countFromDatabase(campusId));
+    }
+
     public ItemRegisterResponseDto itemRegister(Long userId,
         ItemRegisterRequestDto itemRegisterRequestDto) {
         User user = getUserWithCampus(userId);
@@ -64,14 +119,13 @@ public class ItemService {
         if (itemRegisterRequestDto.getImages() != null && !itemRegisterRequestDto.getImages()
             .isEmpty()) {
             List<ItemPhotos> itemPhotos = imagesToItemPhotos(itemRegisterRequestDto, savedItem);
-            itemPhotosRepository.saveAll(itemPhotos);
+            batchInsertRepository.saveItemPhotos(itemPhotos);
         }
 
-        List<Keyword> sendingKeywords = keywordService.findKeywordsWithSameItemCampusAndTitle(
-            savedItem);
-
-        notificationHistoryService.saveNotificationHistory(sendingKeywords, savedItem);
-        fcmService.sendFcmMessageWithKeywords(sendingKeywords, savedItem);
+        // 키워드 매칭, 알림 내역 저장, 푸시 발송은 커밋 이후 KeywordAlertDispatcher가 처리한다.
+        keywordAlertService.enqueue(savedItem);
+        publishItemChanged(savedItem, ItemChangeType.REGISTERED);
+        publishItemFacetChanged(savedItem, null);
 
         return new ItemRegisterResponseDto(savedItem.getItemId());
 
@@ -81,17 +135,22 @@ public class ItemService {
     public ItemDetailsViewResponseDto viewItemDetails(Long userId, Long itemId) {
         User user = getUserWithCampus(userId);
 
-        Item item = getItem(itemId);
+        ItemDetailsSnapshot snapshot = itemDetailsCache.get(itemId);
 
-        if (item.isDeleted()) {
+        if (snapshot.isDeleted()) {
             throw new CustomException(ErrorCode.DELETED_ITEM_ID);
         }
 
-        if (UserCampusUniversityIsMatchedByItemCampusUniversity(user, item)) {
+        if (!user.getCampus().getUniversityName().equals(snapshot.universityName())) {
             throw new CustomException(ErrorCode.NOT_MATCH_USER_UNIVERSITY_WITH_ITEM_UNIVERSITY);
         }
 
-        return itemRepository.findByItemDetails(userId, itemId);
+        // 좋아요 set이 준비되어 있으면 다른 서버에서 바뀐 좋아요도 바로 반영된 값을 쓴다.
+        return likeMembershipStore.getLikeState(itemId, userId)
+            .map(likeState -> snapshot.toResponse(likeState.isLiked(),
+                (int) likeState.likeCount()))
+            .orElseGet(() -> snapshot.toResponse(
+                likeRepository.existsByUser_userIdAndItem_itemId(userId, itemId)));
 
     }
 
@@ -123,8 +182,10 @@ public class ItemService {
         updateItemPhotos(existingItemPhotos, newImageAddresses,
             itemRegisterRequestDto.getThumbnail(), item);
 
+        ItemFacet before = ItemFacet.of(item);
         updateItemProperties(itemRegisterRequestDto, item);
-
+        publishItemChanged(item, ItemChangeType.UPDATED);
+        publishItemFacetChanged(item, before);
     }
 
     public void deleteItem(Long userId, Long itemId) {
@@ -144,7 +205,10 @@ public class ItemService {
             throw new CustomException(ErrorCode.NOT_MATCH_USER_ID_WITH_ITEM_USER_ID);
         }
 
+        ItemFacet before = ItemFacet.of(item);
         item.setDeleted(true);
+        publishItemChanged(item, ItemChangeType.DELETED);
+        publishItemFacetChanged(item, before);
     }
 
     public void changeItemStatus(Long userId, Long itemId,
@@ -176,8 +240,47 @@ public class ItemService {
         if (isChatRoomExistsForUserBuyerAndItem(userBuyer, item)) {
             throw new CustomException(ErrorCode.INVALID_ITEM_BUYER);
         }
+        ItemFacet before = ItemFacet.of(item);
         item.setItemStatus(itemStatusChangeRequestDto.getItemStatus());
         item.setUserBuyer(userBuyer);
+        publishItemChanged(item, ItemChangeType.STATUS_CHANGED);
+        publishItemFacetChanged(item, before);
+    }
+
+    // 캐시된 페이지는 여러 사용자가 공유하므로 복사본에 요청한 사용자의 좋아요 여부를 채운다.
+    private SliceResponse<ItemSearchResponseDto> withLikedItems(Long userId,
+        SliceResponse<ItemSearchResponseDto> cachedPage,
+        ItemSearchRequestDto itemSearchRequestDto) {
+        List<Long> itemIds = cachedPage.getContent().stream()
+            .map(ItemSearchResponseDto::getItemId)
+            .toList();
+        Set<Long> likedItemIds = itemIds.isEmpty() ? Set.of()
+            : new HashSet<>(likeRepository.findLikedItemIds(userId, itemIds));
+
+        List<ItemSearchResponseDto> content = cachedPage.getContent().stream()
+            .map(dto -> dto.withLiked(likedItemIds.contains(dto.getItemId())))
+            .toList();
+        return new SliceResponse<>(new SliceImpl<>(content, itemSearchRequestDto.getPageable(),
+            cachedPage.isHasNext()));
+    }
+
+    // 색인에서 찾은 id 목록, 색인을 쓸 수 없거나 검색어가 없으면 null (LIKE 검색)
+    private List<Long> findItemIdsByTitle(Long campusId, String name) {
+        if (!StringUtils.hasText(name)) {
+            return null;
+        }
+        return itemSearchIndexService.searchItemIds(campusId, name).orElse(null);
+    }
+
+    private void publishItemChanged(Item item, ItemChangeType changeType) {
+        eventPublisher.publishEvent(ItemChangedEvent.of(item, changeType));
+    }
+
+    private void publishItemFacetChanged(Item item, ItemFacet before) {
+        ItemFacetChangedEvent event = ItemFacetChangedEvent.of(item, before);
+        if (event.isChanged()) {
+            eventPublisher.publishEvent(event);
+        }
     }
 
     private boolean isChatRoomExistsForUserBuyerAndItem(User userBuyer, Item item) {
@@ -211,13 +314,17 @@ public class ItemService {
             .map(ItemPhotos::getImageAddress)
             .toList();
 
-        newImageAddresses.stream()
+        List<ItemPhotos> newPhotos = newImageAddresses.stream()
             .filter(address -> !existingAddresses.contains(address))
-            .forEach(address -> {
+            .map(address -> {
                 ItemPhotos newPhoto = new ItemPhotos();
                 newPhoto.registerItemPhotos(item, address);
-                itemPhotosRepository.save(newPhoto);
-            });
+                return newPhoto;
+            })
+            .toList();
+        if (!newPhotos.isEmpty()) {
+            batchInsertRepository.saveItemPhotos(newPhotos);
+        }
 
         existingItemPhotos.stream()
             .filter(photo -> !newImageAddresses.contains(photo.getImageAddress()))
@@ -0,0 +1,134 @@
+package LinkerBell.campus_market_spring.service;
+
+import LinkerBell.campus_market_spring.domain.OutboxStatus;
+import LinkerBell.campus_market_spring.global.redis.KeywordAlertDigestStore;
+import LinkerBell.campus_market_spring.global.redis.KeywordAlertDigestStore.DigestEntry;
+import LinkerBell.campus_market_spring.repository.KeywordAlertOutboxRepository;
+import LinkerBell.campus_market_spring.service.KeywordAlertService.KeywordAlert;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * 키워드 알림 outbox를 주기적으로 가져와 고정 크기 작업 스레드에서 처리한다. 동시에 처리 중인 작업 수는 maxInFlight로 제한하고, 처리 중 서버가
+ * 종료되면 lockTimeout이 지난 뒤 다른 서버(또는 재시작한 서버)가 다시 가져가므로 알림은 최소 한 번 발송된다.
+ */
+@Service
+@Slf4j
+public class KeywordAlertDispatcher {
+
+    private static final long RETENTION_DAYS = 7L;
+    private static final int DIGEST_FLUSH_SIZE = 500;
+
+    private final KeywordAlertOutboxRepository keywordAlertOutboxRepository;
+    private final KeywordAlertService keywordAlertService;
+    private final FcmService fcmService;
+    private final KeywordAlertDigestStore keywordAlertDigestStore;
+    private final long lockTimeoutSeconds;
+    private final Semaphore inFlight;
+    private final ThreadPoolExecutor executor;
+
+    public KeywordAlertDispatcher(KeywordAlertOutboxRepository keywordAlertOutboxRepository,
+        KeywordAlertService keywordAlertService, FcmService fcmService,
+        KeywordAlertDigestStore keywordAlertDigestStore,
+        @Value("${keyword_alert.workers:4}") int workers,
+        @Value("${keyword_alert.max_in_flight:100}") int maxInFlight,
+        @Value("${keyword_alert.lock_timeout_seconds:300}") long lockTimeoutSeconds) {
+        this.keywordAlertOutboxRepository = keywordAlertOutboxRepository;
+        this.keywordAlertService = keywordAlertService;
+        this.fcmService = fcmService;
+        this.keywordAlertDigestStore = keywordAlertDigestStore;
+        this.lockTimeoutSeconds = lockTimeoutSeconds;
+        this.inFlight = new Semaphore(maxInFlight);
+        this.executor = new ThreadPoolExecutor(workers, workers, 60, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(maxInFlight),
+            new CustomizableThreadFactory("keywordAlertExecutor-"));
+    }
+
+    @Scheduled(fixedDelayString = "${keyword_alert.poll_delay:1000}")
+    public void dispatch() {
+        int available = inFlight.availablePermits();
+        if (available == 0) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> outboxIds = keywordAlertOutboxRepository.findDispatchableIds(
+            OutboxStatus.PENDING, OutboxStatus.PROCESSING, now, PageRequest.of(0, available));
+
+        for (Long outboxId : outboxIds) {
+            if (!inFlight.tryAcquire()) {
+                return;
+            }
+            if (keywordAlertOutboxRepository.claim(outboxId, OutboxStatus.PENDING,
+                OutboxStatus.PROCESSING, now, now.plusSeconds(lockTimeoutSeconds)) == 0) {
+                inFlight.release();
+                continue;
+            }
+            try {
+                executor.execute(() -> {
+                    try {
+                        process(outboxId);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                // 종료 중이면 lock 시간이 지난 뒤 다시 처리된다.
+                inFlight.release();
+                log.warn("키워드 알림 작업을 넘기지 못했습니다. outboxId = {}", outboxId);
+            }
+        }
+    }
+
+    void process(Long outboxId) {
+        try {
+            Optional<KeywordAlert> keywordAlert = keywordAlertService.prepare(outboxId);
+            if (keywordAlert.isEmpty()) {
+                return;
+            }
+            fcmService.sendFcmMessageWithKeywords(keywordAlert.get().keywords(),
+                keywordAlert.get().item());
+            keywordAlertService.complete(outboxId);
+        } catch (RuntimeException e) {
+            keywordAlertService.fail(outboxId, e);
+        }
+    }
+
+    // window가 끝난 사용자의 대기 알림을 묶음 푸시로 보낸다.
+    @Scheduled(fixedDelayString = "${keyword_alert.digest_flush_delay:5000}")
+    public void flushDigests() {
+        Map<Long, List<DigestEntry>> digests;
+        do {
+            digests = keywordAlertDigestStore.pollDue(DIGEST_FLUSH_SIZE);
+            fcmService.sendKeywordDigests(digests);
+        } while (digests.size() == DIGEST_FLUSH_SIZE);
+    }
+
+    @Scheduled(cron = "${cron.keyword_alert_outbox:0 20 4 * * *}")
+    public void purgeDone() {
+        int deleted = keywordAlertOutboxRepository.deleteByStatusAndLastModifiedDateBefore(
+            OutboxStatus.DONE, LocalDateTime.now().minusDays(RETENTION_DAYS));
+        log.info("purgeDone: {} keyword alert outbox rows", deleted);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+}
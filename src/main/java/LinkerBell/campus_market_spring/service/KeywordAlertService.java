@@ -0,0 +1,100 @@
+package LinkerBell.campus_market_spring.service;
+
+import LinkerBell.campus_market_spring.domain.Item;
+import LinkerBell.campus_market_spring.domain.Keyword;
+import LinkerBell.campus_market_spring.domain.KeywordAlertOutbox;
+import LinkerBell.campus_market_spring.domain.OutboxStatus;
+import LinkerBell.campus_market_spring.repository.ItemRepository;
+import LinkerBell.campus_market_spring.repository.KeywordAlertOutboxRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 키워드 알림 outbox의 상태 전이를 담당한다. 각 메서드는 짧은 트랜잭션 하나로 끝나고, 푸시 발송은 KeywordAlertDispatcher가 트랜잭션 밖에서
+ * 한다.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+@Transactional
+public class KeywordAlertService {
+
+    private final KeywordAlertOutboxRepository keywordAlertOutboxRepository;
+    private final ItemRepository itemRepository;
+    private final KeywordService keywordService;
+    private final NotificationHistoryService notificationHistoryService;
+
+    @Value("${keyword_alert.max_attempts:8}")
+    private int maxAttempts;
+    @Value("${keyword_alert.initial_backoff_seconds:5}")
+    private long initialBackoffSeconds;
+    @Value("${keyword_alert.max_backoff_seconds:1800}")
+    private long maxBackoffSeconds;
+
+    public record KeywordAlert(Item item, List<Keyword> keywords) {
+
+    }
+
+    // 아이템 등록 트랜잭션 안에서 호출되어 아이템과 함께 커밋된다.
+    public void enqueue(Item savedItem) {
+        keywordAlertOutboxRepository.save(KeywordAlertOutbox.pending(savedItem.getItemId()));
+    }
+
+    /**
+     * 키워드를 매칭하고 처음 처리하는 작업이면 알림 내역을 저장한다. 보낼 대상이 없으면 작업을 완료 처리하고 빈 Optional을 돌려준다.
+     */
+    public Optional<KeywordAlert> prepare(Long outboxId) {
+        KeywordAlertOutbox outbox = keywordAlertOutboxRepository.findById(outboxId).orElse(null);
+        if (outbox == null || outbox.getStatus() != OutboxStatus.PROCESSING) {
+            return Optional.empty();
+        }
+        Item item = itemRepository.findById(outbox.getItemId()).orElse(null);
+        if (item == null || item.isDeleted()) {
+            outbox.markDone();
+            return Optional.empty();
+        }
+
+        List<Keyword> keywords = keywordService.findKeywordsWithSameItemCampusAndTitle(item);
+        if (keywords.isEmpty()) {
+            outbox.markDone();
+            return Optional.empty();
+        }
+        if (!outbox.isHistorySaved()) {
+            notificationHistoryService.saveNotificationHistory(keywords, item);
+            outbox.markHistorySaved();
+        }
+        return Optional.of(new KeywordAlert(item, keywords));
+    }
+
+    public void complete(Long outboxId) {
+        keywordAlertOutboxRepository.findById(outboxId).ifPresent(KeywordAlertOutbox::markDone);
+    }
+
+    // 지수 backoff로 다시 시도하고, 최대 시도 횟수를 넘으면 FAILED로 남긴다.
+    public void fail(Long outboxId, Exception e) {
+        keywordAlertOutboxRepository.findById(outboxId).ifPresent(outbox -> {
+            String error = e.getClass().getSimpleName() + ": " + e.getMessage();
+            if (outbox.getAttemptCount() >= maxAttempts) {
+                log.error("키워드 알림을 보내지 못했습니다. outboxId = {}, itemId = {}", outboxId,
+                    outbox.getItemId(), e);
+                outbox.markFailed(error);
+                return;
+            }
+            log.warn("키워드 알림 처리에 실패해 다시 시도합니다. outboxId = {}, attemptCount = {}", outboxId,
+                outbox.getAttemptCount(), e);
+            outbox.retryAt(LocalDateTime.now().plus(backoff(outbox.getAttemptCount())), error);
+        });
+    }
+
+    private Duration backoff(int attemptCount) {
+        long seconds = initialBackoffSeconds << Math.min(Math.max(attemptCount - 1, 0), 20);
+        return Duration.ofSeconds(Math.min(seconds, maxBackoffSeconds));
+    }
+}
@@ -0,0 +1,156 @@
+package LinkerBell.campus_market_spring.service;
+
+import LinkerBell.campus_market_spring.dto.KeywordIndexDto;
+import LinkerBell.campus_market_spring.global.event.KeywordChangedEvent;
+import LinkerBell.campus_market_spring.global.search.KeywordAutomaton;
+import LinkerBell.campus_market_spring.global.search.KeywordAutomaton.KeywordMatch;
+import LinkerBell.campus_market_spring.repository.KeywordRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 캠퍼스별 {@link KeywordAutomaton}을 메모리에 유지해 새 아이템 제목에 포함된 알림 키워드를 찾는다. 이 서버의 키워드 추가, 삭제는 커밋 직후 반영하고,
+ * 다른 서버에서 추가된 키워드는 주기적으로 가져온다. 다른 서버에서 삭제된 키워드는 호출 측이 DB에서 다시 조회하며 걸러낸다.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class KeywordMatchService {
+
+    private static final int REBUILD_CHUNK_SIZE = 1000;
+    // 동기화 주기 경계에서 커밋이 늦은 키워드를 놓치지 않도록 겹쳐서 조회한다.
+    private static final long SYNC_OVERLAP_SECONDS = 10L;
+
+    private final KeywordRepository keywordRepository;
+
+    private volatile Map<Long, KeywordAutomaton> automatonByCampus = new ConcurrentHashMap<>();
+    private volatile boolean ready = false;
+    private volatile LocalDateTime syncedUntil = LocalDateTime.now();
+    private final Object rebuildLock = new Object();
+    // 재적재 중 들어온 변경. 새 오토마톤으로 교체하기 전에 다시 반영한다.
+    private List<KeywordChangedEvent> pendingChanges;
+
+    /**
+     * 제목에 포함된 키워드 id를 찾는다. 아이템 작성자 본인의 키워드는 제외한다. 아직 적재 전이면 빈 Optional을 돌려주고, 호출 측은 DB 전체 조회로 대체한다.
+     */
+    public Optional<List<Long>> findMatchedKeywordIds(Long campusId, String title,
+        Long excludeUserId) {
+        if (!ready) {
+            return Optional.empty();
+        }
+        KeywordAutomaton automaton = automatonByCampus.get(campusId);
+        if (automaton == null) {
+            return Optional.of(List.of());
+        }
+        return Optional.of(automaton.match(title).stream()
+            .filter(match -> !Objects.equals(match.userId(), excludeUserId))
+            .map(KeywordMatch::keywordId)
+            .distinct()
+            .toList());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onKeywordChanged(KeywordChangedEvent event) {
+        synchronized (rebuildLock) {
+            apply(automatonByCampus, event);
+            if (pendingChanges != null) {
+                pendingChanges.add(event);
+            }
+        }
+    }
+
+    // 다른 서버에서 추가된 키워드를 반영한다.
+    @Scheduled(fixedDelayString = "${keywords.matcher_sync_delay:30000}")
+    public void syncCreatedKeywords() {
+        if (!ready) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<KeywordIndexDto> keywords = keywordRepository.findKeywordIndexCreatedAfter(
+            syncedUntil.minusSeconds(SYNC_OVERLAP_SECONDS));
+        synchronized (rebuildLock) {
+            keywords.forEach(keyword -> add(automatonByCampus, keyword));
+        }
+        syncedUntil = now;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    // 삭제 후 남은 trie 노드를 정리하고, 다른 서버에서 삭제된 키워드를 반영하기 위해 주기적으로 새로 만든다.
+    @Scheduled(fixedDelayString = "${keywords.matcher_rebuild_delay:600000}",
+        initialDelayString = "${keywords.matcher_rebuild_delay:600000}")
+    public int rebuild() {
+        synchronized (rebuildLock) {
+            if (pendingChanges != null) {
+                return 0;
+            }
+            pendingChanges = new ArrayList<>();
+        }
+        LocalDateTime startedAt = LocalDateTime.now();
+        Map<Long, KeywordAutomaton> rebuilt = new ConcurrentHashMap<>();
+        int keywordCount = 0;
+        try {
+            Long lastKeywordId = 0L;
+            List<KeywordIndexDto> keywords;
+            do {
+                keywords = keywordRepository.findKeywordIndexAfter(lastKeywordId,
+                    PageRequest.of(0, REBUILD_CHUNK_SIZE));
+                if (keywords.isEmpty()) {
+                    break;
+                }
+                keywords.forEach(keyword -> add(rebuilt, keyword));
+                keywordCount += keywords.size();
+                lastKeywordId = keywords.get(keywords.size() - 1).keywordId();
+            } while (keywords.size() == REBUILD_CHUNK_SIZE);
+        } catch (RuntimeException e) {
+            synchronized (rebuildLock) {
+                pendingChanges = null;
+            }
+            log.error("키워드 오토마톤 적재에 실패했습니다.", e);
+            return 0;
+        }
+
+        synchronized (rebuildLock) {
+            pendingChanges.forEach(event -> apply(rebuilt, event));
+            pendingChanges = null;
+            automatonByCampus = rebuilt;
+            syncedUntil = startedAt;
+            ready = true;
+        }
+        log.info("키워드 오토마톤 적재 완료. keywordCount = {}", keywordCount);
+        return keywordCount;
+    }
+
+    private void apply(Map<Long, KeywordAutomaton> automata, KeywordChangedEvent event) {
+        if (event.isAdded()) {
+            automata.computeIfAbsent(event.getCampusId(), id -> new KeywordAutomaton())
+                .add(event.getKeywordId(), event.getUserId(), event.getKeywordName());
+            return;
+        }
+        KeywordAutomaton automaton = automata.get(event.getCampusId());
+        if (automaton != null) {
+            automaton.remove(event.getKeywordId());
+        }
+    }
+
+    private void add(Map<Long, KeywordAutomaton> automata, KeywordIndexDto keyword) {
+        automata.computeIfAbsent(keyword.campusId(), id -> new KeywordAutomaton())
+            .add(keyword.keywordId(), keyword.userId(), keyword.keywordName());
+    }
+}
@@ -8,12 +8,15 @@ import LinkerBell.campus_market_spring.dto.KeywordRegisterResponseDto;
 import LinkerBell.campus_market_spring.dto.KeywordResponseDto;
 import LinkerBell.campus_market_spring.global.error.ErrorCode;
 import LinkerBell.campus_market_spring.global.error.exception.CustomException;
+import LinkerBell.campus_market_spring.global.event.KeywordChangedEvent;
 import LinkerBell.campus_market_spring.repository.KeywordRepository;
 import LinkerBell.campus_market_spring.repository.UserRepository;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,11 +28,23 @@ public class KeywordService {
 
     private final KeywordRepository keywordRepository;
     private final UserRepository userRepository;
+    private final KeywordMatchService keywordMatchService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public List<Keyword> findKeywordsWithSameItemCampusAndTitle(Item savedItem) {
-        return keywordRepository.findKeywordsWithUserAndCampus()
-            .stream()
+        Optional<List<Long>> matchedKeywordIds = keywordMatchService.findMatchedKeywordIds(
+            savedItem.getCampus().getCampusId(), savedItem.getTitle(),
+            savedItem.getUser().getUserId());
+        if (matchedKeywordIds.isPresent() && matchedKeywordIds.get().isEmpty()) {
+            return List.of();
+        }
+        List<Keyword> candidates = matchedKeywordIds
+            .map(keywordRepository::findKeywordsWithUserAndCampusByKeywordIdIn)
+            .orElseGet(keywordRepository::findKeywordsWithUserAndCampus);
+
+        // 오토마톤이 다른 서버의 삭제나 사용자의 캠퍼스 변경을 늦게 반영할 수 있어 DB 값으로 다시 확인한다.
+        return candidates.stream()
             .filter(k -> k.getUser().getCampus() != null)
             .filter(k -> !Objects.equals(k.getUser().getUserId(),
                 savedItem.getUser().getUserId()))
@@ -52,6 +67,8 @@ public class KeywordService {
         Keyword newKeyword = createNewKeyword(keywordName, user);
 
         Keyword savedKeyword = keywordRepository.save(newKeyword);
+        eventPublisher.publishEvent(new KeywordChangedEvent(savedKeyword.getKeywordId(), userId,
+            user.getCampus().getCampusId(), keywordName, true));
         return KeywordRegisterResponseDto.builder().keywordId(savedKeyword.getKeywordId()).build();
     }
 
@@ -69,6 +86,8 @@ public class KeywordService {
         validateUserAndKeywordUser(user, keywordToDelete);
 
         keywordRepository.delete(keywordToDelete);
+        eventPublisher.publishEvent(new KeywordChangedEvent(keywordId, userId,
+            user.getCampus().getCampusId(), keywordToDelete.getKeywordName(), false));
     }
 
     private void validateUserAndKeywordUser(User user, Keyword keywordToDelete) {
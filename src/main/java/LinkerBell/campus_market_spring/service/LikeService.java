@@ -9,11 +9,15 @@ import LinkerBell.campus_market_spring.dto.LikeSearchResponseDto;
 import LinkerBell.campus_market_spring.dto.SliceResponse;
 import LinkerBell.campus_market_spring.global.error.ErrorCode;
 import LinkerBell.campus_market_spring.global.error.exception.CustomException;
+import LinkerBell.campus_market_spring.global.event.ItemChangeType;
+import LinkerBell.campus_market_spring.global.event.ItemChangedEvent;
+import LinkerBell.campus_market_spring.global.event.LikeChangedEvent;
 import LinkerBell.campus_market_spring.repository.ItemRepository;
 import LinkerBell.campus_market_spring.repository.LikeRepository;
 import LinkerBell.campus_market_spring.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -26,6 +30,7 @@ public class LikeService {
     private final LikeRepository likeRepository;
     private final UserRepository userRepository;
     private final ItemRepository itemRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public LikeResponseDto likeItem(Long userId, Long itemId) {
         User user = userRepository.findById(userId)
@@ -38,7 +43,11 @@ public class LikeService {
             .orElseGet(() -> {
                 Like newLike = Like.builder()
                     .user(user).item(item).build();
-                return likeRepository.save(newLike);
+                Like savedLike = likeRepository.save(newLike);
+                itemRepository.increaseLikeCount(itemId);
+                eventPublisher.publishEvent(ItemChangedEvent.of(item, ItemChangeType.LIKED));
+                eventPublisher.publishEvent(new LikeChangedEvent(itemId, userId, true));
+                return savedLike;
             });
 
         return LikeResponseDto.builder()
@@ -60,6 +69,9 @@ public class LikeService {
 
         likeRepository.findByUserAndItem(user, item).ifPresent(like -> {
             likeRepository.deleteById(like.getLikeId());
+            itemRepository.decreaseLikeCount(itemId);
+            eventPublisher.publishEvent(ItemChangedEvent.of(item, ItemChangeType.LIKED));
+            eventPublisher.publishEvent(new LikeChangedEvent(itemId, userId, false));
         });
 
         return LikeDeleteResponseDto.builder()
@@ -0,0 +1,116 @@
+package LinkerBell.campus_market_spring.service;
+
+import LinkerBell.campus_market_spring.global.event.NotificationUnreadChangedEvent;
+import LinkerBell.campus_market_spring.repository.NotificationHistoryRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 알림 내역 보존 정책. retentionDays보다 오래된 알림과, 사용자마다 최신 maxPerUser개를 넘는 알림을 지운다. 삭제는 chunk 단위의 짧은 트랜잭션으로
+ * 나누어 긴 잠금을 피한다. 지운 행 수는 notification_history.purged, 소요 시간은 notification_history.purge 로 남긴다.
+ */
+@Service
+@Slf4j
+public class NotificationHistoryRetentionService {
+
+    static final int PURGE_CHUNK_SIZE = 1000;
+
+    private final NotificationHistoryRepository notificationHistoryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final long retentionDays;
+    private final long maxPerUser;
+    private final Counter purgedByAge;
+    private final Counter purgedByCount;
+    private final Timer purgeTimer;
+
+    public NotificationHistoryRetentionService(
+        NotificationHistoryRepository notificationHistoryRepository,
+        ApplicationEventPublisher eventPublisher, MeterRegistry meterRegistry,
+        @Value("${notification_history.retention_days:90}") long retentionDays,
+        @Value("${notification_history.max_per_user:300}") long maxPerUser) {
+        this.notificationHistoryRepository = notificationHistoryRepository;
+        this.eventPublisher = eventPublisher;
+        this.retentionDays = retentionDays;
+        this.maxPerUser = maxPerUser;
+        this.purgedByAge = Counter.builder("notification_history.purged")
+            .tag("policy", "age")
+            .register(meterRegistry);
+        this.purgedByCount = Counter.builder("notification_history.purged")
+            .tag("policy", "count")
+            .register(meterRegistry);
+        this.purgeTimer = Timer.builder("notification_history.purge")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${cron.notification_history_purge:0 30 4 * * *}")
+    public void purge() {
+        purgeTimer.record(() -> {
+            int byAge = purgeExpired(LocalDateTime.now().minusDays(retentionDays));
+            int byCount = purgeExceeded();
+            log.info("purgeNotificationHistory: age = {}, count = {}", byAge, byCount);
+        });
+    }
+
+    /**
+     * id가 작은 쪽부터 PK 구간마다 기준 시각 이전 알림을 지운다. id는 생성 순서이므로 구간에 남은 행이 있으면 이후 구간은 모두 기준 시각 이후이다.
+     * 안 읽은 알림이 지워진 사용자는 안 읽은 알림 수를 다음 조회 때 다시 세게 한다.
+     */
+    int purgeExpired(LocalDateTime createdBefore) {
+        long fromId = notificationHistoryRepository.findMinNotificationHistoryId();
+        long maxId = notificationHistoryRepository.findMaxNotificationHistoryId();
+        int purged = 0;
+        Set<Long> unreadUserIds = new HashSet<>();
+        while (fromId > 0 && fromId <= maxId) {
+            long toId = fromId + PURGE_CHUNK_SIZE - 1;
+            unreadUserIds.addAll(notificationHistoryRepository.findUnreadUserIdsCreatedBeforeBetween(
+                fromId, toId, createdBefore));
+            int deleted = notificationHistoryRepository.deleteCreatedBeforeBetween(fromId, toId,
+                createdBefore);
+            purged += deleted;
+            purgedByAge.increment(deleted);
+            if (notificationHistoryRepository.countBetween(fromId, toId) > 0) {
+                break;
+            }
+            fromId = toId + 1;
+        }
+        if (!unreadUserIds.isEmpty()) {
+            eventPublisher.publishEvent(NotificationUnreadChangedEvent.evict(unreadUserIds));
+        }
+        return purged;
+    }
+
+    // 최신 maxPerUser개보다 오래된 알림을 사용자마다 chunk 단위로 지운다.
+    int purgeExceeded() {
+        List<Long> userIds = notificationHistoryRepository.findUserIdsHavingMoreThan(maxPerUser);
+        int purged = 0;
+        for (Long userId : userIds) {
+            Long oldestKeptId = notificationHistoryRepository.findNotificationHistoryIdAtOffset(
+                userId, maxPerUser - 1);
+            if (oldestKeptId == null) {
+                continue;
+            }
+            int deleted;
+            do {
+                deleted = notificationHistoryRepository.deleteByUserIdBefore(userId, oldestKeptId,
+                    PURGE_CHUNK_SIZE);
+                purged += deleted;
+                purgedByCount.increment(deleted);
+            } while (deleted == PURGE_CHUNK_SIZE);
+        }
+        // 지운 알림 중 안 읽은 알림 수는 알 수 없으므로 다음 조회 때 다시 세게 한다.
+        if (!userIds.isEmpty()) {
+            eventPublisher.publishEvent(NotificationUnreadChangedEvent.evict(userIds));
+        }
+        return purged;
+    }
+}
@@ -4,18 +4,27 @@ import LinkerBell.campus_market_spring.domain.Item;
 import LinkerBell.campus_market_spring.domain.Keyword;
 import LinkerBell.campus_market_spring.domain.NotificationHistory;
 import LinkerBell.campus_market_spring.domain.User;
+import LinkerBell.campus_market_spring.dto.CursorSliceResponse;
+import LinkerBell.campus_market_spring.dto.KeywordAlertRecipient;
 import LinkerBell.campus_market_spring.dto.NotificationHistoryResponseDto;
 import LinkerBell.campus_market_spring.dto.SliceResponse;
 import LinkerBell.campus_market_spring.global.error.ErrorCode;
 import LinkerBell.campus_market_spring.global.error.exception.CustomException;
+import LinkerBell.campus_market_spring.global.event.NotificationUnreadChangedEvent;
+import LinkerBell.campus_market_spring.global.redis.NotificationUnreadCounter;
+import LinkerBell.campus_market_spring.repository.BatchInsertRepository;
 import LinkerBell.campus_market_spring.repository.NotificationHistoryRepository;
 import LinkerBell.campus_market_spring.repository.UserRepository;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
@@ -30,18 +39,27 @@ public class NotificationHistoryService {
 
     private final NotificationHistoryRepository notificationHistoryRepository;
     private final UserRepository userRepository;
+    private final BatchInsertRepository batchInsertRepository;
+    private final NotificationUnreadCounter notificationUnreadCounter;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${deeplink.keyword_url}")
     private String deeplinkKeywordUrl;
 
+    // 같은 사용자의 키워드가 여러 개 매칭되면 키워드를 모아 한 건으로 저장한다.
     public void saveNotificationHistory(List<Keyword> sendingKeywords, Item savedItem) {
         List<NotificationHistory> notificationHistories = new ArrayList<>();
-        for (Keyword sendingKeyword : sendingKeywords) {
-            NotificationHistory notificationHistory = createNotificationHistory(sendingKeyword,
+        Map<Long, Long> unreadDeltaByUserId = new LinkedHashMap<>();
+        for (KeywordAlertRecipient recipient : KeywordAlertRecipient.groupByUser(
+            sendingKeywords)) {
+            NotificationHistory notificationHistory = createNotificationHistory(recipient,
                 savedItem);
             notificationHistories.add(notificationHistory);
+            unreadDeltaByUserId.merge(recipient.userId(), 1L, Long::sum);
         }
-        notificationHistoryRepository.saveAll(notificationHistories);
+        batchInsertRepository.saveNotificationHistories(notificationHistories);
+        eventPublisher.publishEvent(
+            new NotificationUnreadChangedEvent(unreadDeltaByUserId, List.of()));
     }
 
     @Transactional(readOnly = true)
@@ -59,6 +77,53 @@ public class NotificationHistoryService {
         return new SliceResponse<>(new SliceImpl<>(content, pageable, slice.hasNext()));
     }
 
+    // lastId보다 id가 작은 알림을 최신순으로 가져온다. lastId가 없으면 첫 페이지
+    @Transactional(readOnly = true)
+    public CursorSliceResponse<NotificationHistoryResponseDto> getNotificationHistoryByCursor(
+        Long userId, Long lastId, int size) {
+        User user = getUserWithCampus(userId);
+        List<NotificationHistory> notificationHistories = notificationHistoryRepository.findPageBefore(
+            userId, lastId == null ? Long.MAX_VALUE : lastId, PageRequest.of(0, size + 1));
+
+        boolean hasNext = notificationHistories.size() > size;
+        List<NotificationHistoryResponseDto> content = notificationHistories.stream()
+            .limit(size)
+            .map(NotificationHistoryResponseDto::fromEntity)
+            .toList();
+        String nextCursor = hasNext ? String.valueOf(
+            content.get(content.size() - 1).getNotificationHistoryId()) : null;
+
+        return new CursorSliceResponse<>(content, size, hasNext, nextCursor);
+    }
+
+    @Transactional(readOnly = true)
+    public long getUnreadCount(Long userId) {
+        return notificationUnreadCounter.getUnreadCount(userId);
+    }
+
+    public void readNotification(Long userId, Long notificationId) {
+        User user = getUserWithCampus(userId);
+        NotificationHistory notificationHistory = notificationHistoryRepository.findByIdWithUserAndItem(
+                notificationId)
+            .orElseThrow(() -> new CustomException(ErrorCode.INVALID_NOTIFICATION_ID));
+
+        MatchUserAndNotificationUser(user, notificationHistory);
+
+        if (!notificationHistory.isRead()) {
+            notificationHistory.read();
+            eventPublisher.publishEvent(NotificationUnreadChangedEvent.of(userId, -1L));
+        }
+    }
+
+    public void readAllNotification(Long userId) {
+        User user = getUserWithCampus(userId);
+        int readCount = notificationHistoryRepository.readAllByUserId(userId);
+
+        if (readCount > 0) {
+            eventPublisher.publishEvent(NotificationUnreadChangedEvent.of(userId, -readCount));
+        }
+    }
+
     public void deleteNotification(Long userId, Long notificationId) {
         User user = getUserWithCampus(userId);
         NotificationHistory notificationHistory = notificationHistoryRepository.findByIdWithUserAndItem(
@@ -68,6 +133,9 @@ public class NotificationHistoryService {
         MatchUserAndNotificationUser(user, notificationHistory);
 
         notificationHistoryRepository.delete(notificationHistory);
+        if (!notificationHistory.isRead()) {
+            eventPublisher.publishEvent(NotificationUnreadChangedEvent.of(userId, -1L));
+        }
     }
 
     public void deleteAllNotification(Long userId) {
@@ -77,6 +145,7 @@ public class NotificationHistoryService {
         if (deleteCount == 0) {
             throw new CustomException(ErrorCode.INVALID_NOTIFICATION_ID);
         }
+        eventPublisher.publishEvent(NotificationUnreadChangedEvent.evict(List.of(userId)));
     }
 
     private void MatchUserAndNotificationUser(User user, NotificationHistory notificationHistory) {
@@ -96,11 +165,12 @@ public class NotificationHistoryService {
     }
 
 
-    private NotificationHistory createNotificationHistory(Keyword sendingKeyword, Item savedItem) {
+    private NotificationHistory createNotificationHistory(KeywordAlertRecipient recipient,
+        Item savedItem) {
         return NotificationHistory.builder()
-            .user(sendingKeyword.getUser())
+            .user(recipient.user())
             .item(savedItem)
-            .title(sendingKeyword.getKeywordName() + " 키워드 알림")
+            .title(recipient.title())
             .description(savedItem.getTitle())
             .deeplink(deeplinkKeywordUrl + savedItem.getItemId())
             .build();
@@ -0,0 +1,183 @@
+package LinkerBell.campus_market_spring.service;
+
+import LinkerBell.campus_market_spring.dto.FcmMessageDto;
+import LinkerBell.campus_market_spring.global.push.CircuitBreaker;
+import LinkerBell.campus_market_spring.global.push.PushFailedException;
+import LinkerBell.campus_market_spring.global.push.PushPriority;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * 푸시를 우선순위별 lane으로 나누어 보낸다. lane마다 작업 스레드, 크기가 정해진 대기열, 제한 시간, circuit breaker를 따로 두므로 키워드 알림이
+ * 몰리거나 FCM이 느려져도 채팅 푸시의 대기열과 스레드는 영향을 받지 않고, 호출한 STOMP 스레드도 기다리지 않는다.
+ * <p>
+ * 대기열이 가득 찼거나 circuit이 열려 있으면 RejectedExecutionException으로 완료된 future를 돌려준다. 제한 시간 안에 시작하지 못한 작업은
+ * 보내지 않고 버린다. 다시 보낼 수 있는 실패가 한 건이라도 남으면 PushFailedException으로 완료해 호출 측(키워드 알림 outbox)이 다시
+ * 시도하게 한다. 대기열 길이는 push.queue.depth, 요청부터 발송 완료까지 시간은 push.latency, 거절 수는 push.rejected로 남긴다.
+ */
+@Service
+@Slf4j
+public class PushDispatcher {
+
+    private final FcmNotificationService fcmNotificationService;
+    private final Map<PushPriority, Lane> lanes = new EnumMap<>(PushPriority.class);
+
+    public PushDispatcher(FcmNotificationService fcmNotificationService,
+        MeterRegistry meterRegistry,
+        @Value("${push.high.workers:4}") int highWorkers,
+        @Value("${push.high.queue_capacity:1000}") int highQueueCapacity,
+        @Value("${push.high.timeout_millis:10000}") long highTimeoutMillis,
+        @Value("${push.low.workers:2}") int lowWorkers,
+        @Value("${push.low.queue_capacity:100}") int lowQueueCapacity,
+        @Value("${push.low.timeout_millis:60000}") long lowTimeoutMillis,
+        @Value("${push.circuit.failure_threshold:5}") int failureThreshold,
+        @Value("${push.circuit.open_millis:30000}") long openMillis) {
+        this.fcmNotificationService = fcmNotificationService;
+        Duration openDuration = Duration.ofMillis(openMillis);
+        lanes.put(PushPriority.HIGH, new Lane(PushPriority.HIGH, highWorkers, highQueueCapacity,
+            Duration.ofMillis(highTimeoutMillis), new CircuitBreaker(failureThreshold,
+            openDuration), meterRegistry));
+        lanes.put(PushPriority.LOW, new Lane(PushPriority.LOW, lowWorkers, lowQueueCapacity,
+            Duration.ofMillis(lowTimeoutMillis), new CircuitBreaker(failureThreshold,
+            openDuration), meterRegistry));
+    }
+
+    /**
+     * 메시지를 priority lane에 넣고 바로 돌아온다. future는 발송이 끝나면 완료되고, 거절되거나 제한 시간이 지나면 예외로 완료된다.
+     */
+    public CompletableFuture<Void> dispatch(PushPriority priority, List<FcmMessageDto> messages) {
+        if (messages.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return lanes.get(priority).submit(messages);
+    }
+
+    CircuitBreaker.State getCircuitState(PushPriority priority) {
+        return lanes.get(priority).circuitBreaker.getState();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        for (Lane lane : lanes.values()) {
+            lane.executor.shutdown();
+        }
+        for (Lane lane : lanes.values()) {
+            if (!lane.executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                lane.executor.shutdownNow();
+            }
+        }
+    }
+
+    private class Lane {
+
+        private final PushPriority priority;
+        private final Duration timeout;
+        private final CircuitBreaker circuitBreaker;
+        private final ThreadPoolExecutor executor;
+        private final Timer latency;
+        private final Counter rejectedByQueue;
+        private final Counter rejectedByCircuit;
+        private final Counter expired;
+
+        private Lane(PushPriority priority, int workers, int queueCapacity, Duration timeout,
+            CircuitBreaker circuitBreaker, MeterRegistry meterRegistry) {
+            this.priority = priority;
+            this.timeout = timeout;
+            this.circuitBreaker = circuitBreaker;
+            this.executor = new ThreadPoolExecutor(workers, workers, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("push-" + priority.name().toLowerCase() + "-"));
+            String lane = priority.name().toLowerCase();
+            Gauge.builder("push.queue.depth", executor, e -> e.getQueue().size())
+                .tag("lane", lane)
+                .register(meterRegistry);
+            Gauge.builder("push.circuit.open", circuitBreaker,
+                    breaker -> breaker.getState() == CircuitBreaker.State.CLOSED ? 0 : 1)
+                .tag("lane", lane)
+                .register(meterRegistry);
+            this.latency = Timer.builder("push.latency")
+                .tag("lane", lane)
+                .register(meterRegistry);
+            this.rejectedByQueue = rejectedCounter(meterRegistry, lane, "queue_full");
+            this.rejectedByCircuit = rejectedCounter(meterRegistry, lane, "circuit_open");
+            this.expired = rejectedCounter(meterRegistry, lane, "expired");
+        }
+
+        private CompletableFuture<Void> submit(List<FcmMessageDto> messages) {
+            CompletableFuture<Void> future = new CompletableFuture<>();
+            if (!circuitBreaker.allowRequest()) {
+                rejectedByCircuit.increment();
+                future.completeExceptionally(
+                    new RejectedExecutionException(priority + " push circuit is open"));
+                return future;
+            }
+            long enqueuedAt = System.nanoTime();
+            try {
+                executor.execute(() -> send(messages, enqueuedAt, future));
+            } catch (RejectedExecutionException e) {
+                rejectedByQueue.increment();
+                circuitBreaker.releaseTrial();
+                future.completeExceptionally(e);
+            }
+            return future;
+        }
+
+        private void send(List<FcmMessageDto> messages, long enqueuedAt,
+            CompletableFuture<Void> future) {
+            if (System.nanoTime() - enqueuedAt > timeout.toNanos()) {
+                expired.increment();
+                circuitBreaker.releaseTrial();
+                log.warn("{} push expired in queue. size = {}", priority, messages.size());
+                future.completeExceptionally(
+                    new RejectedExecutionException(priority + " push expired in queue"));
+                return;
+            }
+            RuntimeException failure = null;
+            try {
+                int failedCount = fcmNotificationService.sendNotifications(messages);
+                // 한 건도 보내지 못했으면 FCM 장애로 본다.
+                if (failedCount == messages.size()) {
+                    circuitBreaker.recordFailure();
+                } else {
+                    circuitBreaker.recordSuccess();
+                }
+                if (failedCount > 0) {
+                    failure = new PushFailedException(failedCount, messages.size());
+                }
+            } catch (RuntimeException e) {
+                circuitBreaker.recordFailure();
+                failure = e;
+            }
+            latency.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+            if (failure == null) {
+                future.complete(null);
+            } else {
+                future.completeExceptionally(failure);
+            }
+        }
+
+        private Counter rejectedCounter(MeterRegistry meterRegistry, String lane,
+            String reason) {
+            return Counter.builder("push.rejected")
+                .tag("lane", lane)
+                .tag("reason", reason)
+                .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+-- 채팅방 목록에서 메시지 테이블을 읽지 않도록 참여자별 마지막으로 읽은 메시지 id를 둔다.
+ALTER TABLE chat_properties ADD COLUMN IF NOT EXISTS last_read_message_id BIGINT NULL;
+
+-- 기존 참여자 채우기
+UPDATE chat_properties cp
+SET cp.last_read_message_id = (SELECT MAX(m.message_id)
+                               FROM chat_message m
+                               WHERE m.chat_room_id = cp.chat_room_id
+                                 AND m.user_id <> cp.user_id
+                                 AND m.is_read = true);
@@ -0,0 +1,29 @@
+-- 목록/상세/채팅/알림에서 자주 실행되는 조건에 맞춘 복합 인덱스.
+-- 엔티티의 @Table(indexes = ...)와 이름을 맞추어 ddl-auto로 생성된 환경에서도 중복 생성되지 않도록 한다.
+
+-- ItemRepositoryImpl.itemSearch, itemSearchByCursor : campus + 삭제 여부 + 판매 상태 + 최신순
+CREATE INDEX IF NOT EXISTS idx_item_campus_deleted_status_created
+    ON item (campus_id, is_deleted, item_status, created_date);
+-- 판매 상태 필터가 없는 첫 화면 목록
+CREATE INDEX IF NOT EXISTS idx_item_campus_deleted_created
+    ON item (campus_id, is_deleted, created_date);
+
+-- LikeRepository.findByUserAndItem, existsByUser_userIdAndItem_itemId, findLikedItemIds
+CREATE INDEX IF NOT EXISTS idx_likes_user_item
+    ON likes (user_id, item_id);
+
+-- ChatRoomRepository.existsByUser_userIdAndItem_itemId, findByUser
+CREATE INDEX IF NOT EXISTS idx_chat_room_user_item
+    ON chat_room (user_id, item_id);
+
+-- ChatPropertiesRepository.findByUserAndChatRoom
+CREATE INDEX IF NOT EXISTS idx_chat_properties_user_chat_room
+    ON chat_properties (user_id, chat_room_id);
+
+-- UserFcmTokenRepository.findFcmTokenByUser_UserId, deleteByUser_UserId
+CREATE INDEX IF NOT EXISTS idx_user_fcm_token_user
+    ON user_fcm_token (user_id);
+-- UserFcmTokenRepository.findByFcmToken, deleteByFcmToken
+-- fcm_token(varchar 1050)은 utf8mb4 인덱스 키 길이 제한(3072 bytes)을 넘으므로 앞 191자만 인덱싱한다.
+CREATE INDEX IF NOT EXISTS idx_user_fcm_token_token
+    ON user_fcm_token (fcm_token(191));
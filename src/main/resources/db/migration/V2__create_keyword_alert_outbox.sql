@@ -0,0 +1,19 @@
+-- 아이템 등록 트랜잭션에서 저장되고 KeywordAlertDispatcher가 처리하는 키워드 알림 작업.
+-- 엔티티(KeywordAlertOutbox)와 이름을 맞추어 ddl-auto로 생성된 환경에서도 중복 생성되지 않도록 한다.
+CREATE TABLE IF NOT EXISTS keyword_alert_outbox
+(
+    keyword_alert_outbox_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    item_id                 BIGINT,
+    status                  VARCHAR(20),
+    attempt_count           INT          NOT NULL,
+    history_saved           BIT          NOT NULL,
+    next_attempt_at         DATETIME(6),
+    locked_until            DATETIME(6),
+    last_error              VARCHAR(500),
+    created_date            DATETIME(6),
+    last_modified_date      DATETIME(6)
+);
+
+-- KeywordAlertOutboxRepository.findDispatchableIds, claim
+CREATE INDEX IF NOT EXISTS idx_keyword_alert_outbox_status_next
+    ON keyword_alert_outbox (status, next_attempt_at);
@@ -0,0 +1,7 @@
+-- 알림 읽음 여부. 기존 알림은 읽은 것으로 보고 배지에 포함하지 않는다.
+ALTER TABLE notification_history ADD COLUMN IF NOT EXISTS is_read BIT(1) NOT NULL DEFAULT 1;
+ALTER TABLE notification_history ALTER COLUMN is_read SET DEFAULT 0;
+
+-- NotificationHistoryRepository.findPageBefore, 사용자별 보존 개수 purge : 사용자 + 최신순
+CREATE INDEX IF NOT EXISTS idx_notification_history_user_id
+    ON notification_history (user_id, notification_history_id);
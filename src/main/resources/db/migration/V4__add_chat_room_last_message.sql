@@ -0,0 +1,26 @@
+-- 채팅방 목록에서 메시지 테이블을 읽지 않도록 마지막 메시지와 최근 활동 시각을 채팅방에 둔다.
+ALTER TABLE chat_room ADD COLUMN IF NOT EXISTS last_message_id BIGINT NULL;
+ALTER TABLE chat_room ADD COLUMN IF NOT EXISTS last_message_preview VARCHAR(100) NULL;
+ALTER TABLE chat_room ADD COLUMN IF NOT EXISTS last_activity_at DATETIME(6) NULL;
+
+-- 참여자별 안 읽은 메시지 개수
+ALTER TABLE chat_properties ADD COLUMN IF NOT EXISTS unread_count INT NOT NULL DEFAULT 0;
+
+-- 기존 채팅방 채우기
+UPDATE chat_room cr
+    LEFT JOIN (SELECT chat_room_id, MAX(message_id) AS message_id
+               FROM chat_message GROUP BY chat_room_id) last ON last.chat_room_id = cr.chat_room_id
+    LEFT JOIN chat_message m ON m.message_id = last.message_id
+SET cr.last_message_id      = m.message_id,
+    cr.last_message_preview = CASE m.content_type
+                                  WHEN 'IMAGE' THEN '사진'
+                                  WHEN 'TIMETABLE' THEN '시간표'
+                                  ELSE LEFT(m.content, 100) END,
+    cr.last_activity_at     = COALESCE(m.created_date, cr.created_date);
+
+UPDATE chat_properties cp
+SET cp.unread_count = (SELECT COUNT(*)
+                       FROM chat_message m
+                       WHERE m.chat_room_id = cp.chat_room_id
+                         AND m.user_id <> cp.user_id
+                         AND m.is_read = false);
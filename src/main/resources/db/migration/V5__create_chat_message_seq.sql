@@ -0,0 +1,9 @@
+-- 채팅 메시지 id를 저장 전에 나눠 주기 위한 sequence. ChatMessage.ID_BLOCK_SIZE와 같은 크기로 증가해야 한다.
+-- 값 v는 [v - 999, v] 블록의 끝이므로, 첫 블록이 기존 메시지 id 다음에서 시작하도록 max + 1000부터 시작한다.
+SET @chat_message_seq_start = (SELECT COALESCE(MAX(message_id), 0) + 1000 FROM chat_message);
+SET @create_chat_message_seq = CONCAT(
+    'CREATE SEQUENCE IF NOT EXISTS chat_message_seq START WITH ', @chat_message_seq_start,
+    ' INCREMENT BY 1000 MINVALUE 1 NOCACHE');
+PREPARE create_chat_message_seq FROM @create_chat_message_seq;
+EXECUTE create_chat_message_seq;
+DEALLOCATE PREPARE create_chat_message_seq;
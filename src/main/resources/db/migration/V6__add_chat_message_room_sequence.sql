@@ -0,0 +1,19 @@
+-- 채팅방별 메시지 순번. 동기화 API가 (채팅방, 순번) 범위로 읽는다.
+ALTER TABLE chat_message ADD COLUMN IF NOT EXISTS room_sequence BIGINT NULL;
+ALTER TABLE chat_room ADD COLUMN IF NOT EXISTS last_sequence BIGINT NULL;
+
+-- 기존 메시지는 채팅방 안에서 id 순서대로 번호를 매긴다.
+UPDATE chat_message m
+    JOIN (SELECT message_id,
+                 ROW_NUMBER() OVER (PARTITION BY chat_room_id ORDER BY message_id) AS room_sequence
+          FROM chat_message) numbered ON numbered.message_id = m.message_id
+SET m.room_sequence = numbered.room_sequence;
+
+UPDATE chat_room cr
+    JOIN (SELECT chat_room_id, MAX(room_sequence) AS last_sequence
+          FROM chat_message GROUP BY chat_room_id) last ON last.chat_room_id = cr.chat_room_id
+SET cr.last_sequence = last.last_sequence;
+
+-- ChatMessageRepository.findMessagesAfter : 채팅방 + 순번 범위
+CREATE INDEX IF NOT EXISTS idx_chat_message_room_sequence
+    ON chat_message (chat_room_id, room_sequence);
@@ -0,0 +1,16 @@
+-- 브로드캐스트했지만 chat_message에 저장하지 못한 메시지 (ChatMessageWriteBuffer)
+CREATE TABLE IF NOT EXISTS chat_message_dead_letter
+(
+    chat_message_dead_letter_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    message_id                  BIGINT,
+    chat_room_id                BIGINT,
+    user_id                     BIGINT,
+    content                     VARCHAR(2000),
+    content_type                VARCHAR(255),
+    room_sequence               BIGINT,
+    received_at                 DATETIME(6),
+    reason                      VARCHAR(30),
+    last_error                  VARCHAR(500),
+    created_date                DATETIME(6),
+    last_modified_date          DATETIME(6)
+);
@@ -0,0 +1,12 @@
+-- 목록 조회에서 join + countDistinct를 피하기 위한 아이템별 채팅방, 좋아요 개수 (Item.chatCount, likeCount)
+ALTER TABLE item ADD COLUMN IF NOT EXISTS chat_count INT NOT NULL DEFAULT 0;
+ALTER TABLE item ADD COLUMN IF NOT EXISTS like_count INT NOT NULL DEFAULT 0;
+
+-- 기존 아이템 채우기. ItemRepository.reconcileCounts와 같은 기준이다.
+UPDATE item i
+    LEFT JOIN (SELECT item_id, COUNT(*) AS like_count FROM likes GROUP BY item_id) l
+    ON l.item_id = i.item_id
+    LEFT JOIN (SELECT item_id, COUNT(*) AS chat_count FROM chat_room GROUP BY item_id) c
+    ON c.item_id = i.item_id
+SET i.like_count = COALESCE(l.like_count, 0),
+    i.chat_count = COALESCE(c.chat_count, 0);
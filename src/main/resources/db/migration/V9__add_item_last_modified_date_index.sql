@@ -0,0 +1,3 @@
+-- ItemSearchIndexService.syncModifiedItems : 30초마다 최근 수정된 아이템 조회
+CREATE INDEX IF NOT EXISTS idx_item_last_modified_date
+    ON item (last_modified_date);
@@ -1,19 +1,26 @@
 package LinkerBell.campus_market_spring.admin.controller;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.assertArg;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import LinkerBell.campus_market_spring.admin.service.AdminService;
 import LinkerBell.campus_market_spring.dto.AuthUserDto;
 import LinkerBell.campus_market_spring.global.error.GlobalExceptionHandler;
+import java.io.Writer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -24,6 +31,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.core.MethodParameter;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
@@ -55,6 +63,28 @@ class AdminControllerTest {
             .build();
     }
 
+    @Test
+    @DisplayName("아이템 CSV 내보내기 테스트")
+    public void exportItemsTest() throws Exception {
+        // given
+        willAnswer(invocation -> {
+            Writer writer = invocation.getArgument(0);
+            writer.write("\"itemId\"\n\"1\"\n");
+            return null;
+        }).given(adminService).exportItems(any(Writer.class), isNull(), isNull(), isNull(),
+            isNull(), isNull(), eq(3L), isNull());
+
+        // when & then
+        mockMvc.perform(get("/admin/api/v1/items/export")
+                .queryParam("campusId", "3"))
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"items.csv\""))
+            .andExpect(content().contentTypeCompatibleWith("text/csv"))
+            .andExpect(content().string("\uFEFF\"itemId\"\n\"1\"\n"));
+    }
+
     @Test
     @DisplayName("상품 신고 목록 리스트 테스트")
     public void getItemReportListTest() throws Exception {
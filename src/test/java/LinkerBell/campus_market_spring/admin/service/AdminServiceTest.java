@@ -12,8 +12,10 @@ import static org.mockito.BDDMockito.then;
 import static org.mockito.BDDMockito.times;
 
 import LinkerBell.campus_market_spring.admin.dto.AdminCampusesResponseDto;
+import LinkerBell.campus_market_spring.admin.dto.AdminItemSearchResponseDto;
 import LinkerBell.campus_market_spring.domain.Campus;
 import LinkerBell.campus_market_spring.domain.ItemReport;
+import LinkerBell.campus_market_spring.domain.ItemStatus;
 import LinkerBell.campus_market_spring.domain.QA;
 import LinkerBell.campus_market_spring.domain.Role;
 import LinkerBell.campus_market_spring.domain.User;
@@ -25,14 +27,17 @@ import LinkerBell.campus_market_spring.global.jwt.JwtUtils;
 import LinkerBell.campus_market_spring.repository.BlacklistRepository;
 import LinkerBell.campus_market_spring.repository.CampusRepository;
 import LinkerBell.campus_market_spring.repository.ItemReportRepository;
+import LinkerBell.campus_market_spring.repository.ItemRepository;
 import LinkerBell.campus_market_spring.repository.QaRepository;
 import LinkerBell.campus_market_spring.repository.UserReportRepository;
 import LinkerBell.campus_market_spring.repository.UserRepository;
 import LinkerBell.campus_market_spring.service.FcmService;
 import LinkerBell.campus_market_spring.service.GoogleAuthService;
+import java.io.StringWriter;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -79,6 +84,9 @@ class AdminServiceTest {
     @Mock
     private JwtUtils jwtUtils;
 
+    @Mock
+    private ItemRepository itemRepository;
+
     @Test
     @DisplayName("관리자 로그인 테스트")
     public void adminLoginTest() {
@@ -376,6 +384,31 @@ class AdminServiceTest {
         then(campusRepository).should(times(1)).findAll();
     }
 
+    @Test
+    @DisplayName("아이템 목록을 CSV로 내보내고 수식으로 해석될 값은 이스케이프하는 테스트")
+    public void exportItemsTest() {
+        // given
+        AdminItemSearchResponseDto item = new AdminItemSearchResponseDto(1L, 2L, "\t=1+1",
+            "thumbnail", "=HYPERLINK(\"x\")", 10000, 1, 2, ItemStatus.FORSALE, null,
+            "Ajou University", "Suwon", 3L, LocalDateTime.of(2024, 1, 1, 0, 0),
+            LocalDateTime.of(2024, 1, 2, 0, 0), false);
+        given(itemRepository.streamAdminItems(null, null, null, null, null, 3L, null))
+            .willReturn(Stream.of(item));
+        StringWriter writer = new StringWriter();
+
+        // when
+        adminService.exportItems(writer, null, null, null, null, null, 3L, null);
+
+        // then
+        String[] lines = writer.toString().split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).startsWith("\"itemId\",\"userId\",\"nickname\",\"title\"");
+        assertThat(lines[1]).contains("\"'=HYPERLINK(\"\"x\"\")\"")
+            .contains("\"'\t=1+1\"")
+            .contains("\"Ajou University\"")
+            .contains("\"2024-01-01T00:00\"");
+    }
+
     private User createAdmin() {
         return User.builder()
             .loginEmail("test@example.com")
@@ -0,0 +1,132 @@
+package LinkerBell.campus_market_spring.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import LinkerBell.campus_market_spring.domain.ContentType;
+import LinkerBell.campus_market_spring.dto.ChatMessageResponseDto;
+import LinkerBell.campus_market_spring.global.error.ErrorCode;
+import LinkerBell.campus_market_spring.global.error.GlobalExceptionHandler;
+import LinkerBell.campus_market_spring.service.ChatMessageService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+@ExtendWith(MockitoExtension.class)
+class ChatMessageControllerTest {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    ChatMessageService chatMessageService;
+
+    @BeforeEach
+    public void setUp() {
+        ChatMessageController chatMessageController = new ChatMessageController(
+            chatMessageService, new ObjectMapper().findAndRegisterModules());
+        mockMvc = MockMvcBuilders.standaloneSetup(chatMessageController)
+            .setControllerAdvice(GlobalExceptionHandler.class)
+            .build();
+    }
+
+    @Test
+    @DisplayName("메시지 내용을 조회한 순서대로 흘려 보내고 없는 id를 마지막에 알려주는 테스트")
+    void getMessageContents_shouldStreamMessagesAndMissingIds() throws Exception {
+        // given
+        when(chatMessageService.fetchMessageContents(eq(List.of(2L, 3L, 1L)), any()))
+            .thenAnswer(invocation -> {
+                Consumer<ChatMessageResponseDto> consumer = invocation.getArgument(1);
+                consumer.accept(message(2L));
+                consumer.accept(message(1L));
+                return List.of(3L);
+            });
+
+        // when
+        MvcResult mvcResult = mockMvc.perform(post("/api/v1/chat/message")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"messageIdList\": [2, 3, 1]}"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(mvcResult))
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.messageList.length()").value(2))
+            .andExpect(jsonPath("$.messageList[0].messageId").value(2L))
+            .andExpect(jsonPath("$.messageList[0].content").value("hello 2"))
+            .andExpect(jsonPath("$.messageList[1].messageId").value(1L))
+            .andExpect(jsonPath("$.missingMessageIdList[0]").value(3L));
+    }
+
+    @Test
+    @DisplayName("id 목록이 없으면 빈 목록을 돌려주는 테스트")
+    void getMessageContents_withoutIds() throws Exception {
+        // given
+        when(chatMessageService.fetchMessageContents(eq(List.of()), any())).thenReturn(List.of());
+
+        // when
+        MvcResult mvcResult = mockMvc.perform(post("/api/v1/chat/message")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{}"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(mvcResult))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.messageList").isEmpty())
+            .andExpect(jsonPath("$.missingMessageIdList").isEmpty());
+    }
+
+    @Test
+    @DisplayName("id가 1000개를 넘으면 응답을 흘려 보내기 전에 400으로 거절하는 테스트")
+    void getMessageContents_withTooManyIds() throws Exception {
+        // given
+        String messageIdList = LongStream.rangeClosed(1, 1001)
+            .mapToObj(String::valueOf)
+            .collect(Collectors.joining(", "));
+
+        // when, then
+        mockMvc.perform(post("/api/v1/chat/message")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"messageIdList\": [" + messageIdList + "]}"))
+            .andExpect(request().asyncNotStarted())
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.code").value(ErrorCode.TOO_MANY_MESSAGE_IDS.getCode()));
+        verifyNoInteractions(chatMessageService);
+    }
+
+    private ChatMessageResponseDto message(Long messageId) {
+        return ChatMessageResponseDto.builder()
+            .messageId(messageId)
+            .chatRoomId(10L)
+            .userId(2L)
+            .content("hello " + messageId)
+            .contentType(ContentType.TEXT)
+            .createdAt(LocalDateTime.now())
+            .roomSequence(messageId)
+            .build();
+    }
+}
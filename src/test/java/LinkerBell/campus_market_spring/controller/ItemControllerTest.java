@@ -3,6 +3,7 @@ package LinkerBell.campus_market_spring.controller;
 import static LinkerBell.campus_market_spring.global.error.ErrorCode.DUPLICATE_ITEM_PHOTOS;
 import static LinkerBell.campus_market_spring.global.error.ErrorCode.EMPTY_ITEM_THUMBNAIL;
 import static LinkerBell.campus_market_spring.global.error.ErrorCode.INVALID_CATEGORY;
+import static LinkerBell.campus_market_spring.global.error.ErrorCode.INVALID_CURSOR;
 import static LinkerBell.campus_market_spring.global.error.ErrorCode.INVALID_DESCRIPTION;
 import static LinkerBell.campus_market_spring.global.error.ErrorCode.INVALID_ITEM_BUYER;
 import static LinkerBell.campus_market_spring.global.error.ErrorCode.INVALID_ITEM_ID;
@@ -29,13 +30,19 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import LinkerBell.campus_market_spring.domain.Category;
+import LinkerBell.campus_market_spring.domain.ItemStatus;
+import LinkerBell.campus_market_spring.domain.PriceBucket;
 import LinkerBell.campus_market_spring.dto.AuthUserDto;
+import LinkerBell.campus_market_spring.dto.ItemFacetsResponseDto;
 import LinkerBell.campus_market_spring.dto.ItemRegisterRequestDto;
 import LinkerBell.campus_market_spring.dto.ItemRegisterResponseDto;
+import LinkerBell.campus_market_spring.dto.ItemSearchCursor;
 import LinkerBell.campus_market_spring.dto.ItemStatusChangeRequestDto;
 import LinkerBell.campus_market_spring.global.error.GlobalExceptionHandler;
 import LinkerBell.campus_market_spring.global.error.exception.CustomException;
 import LinkerBell.campus_market_spring.service.ItemService;
+import java.time.LocalDateTime;
+import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -262,6 +269,57 @@ class ItemControllerTest {
         }));
     }
 
+    @Test
+    @DisplayName("빈 cursor로 첫 페이지를 keyset 방식으로 조회하는 테스트")
+    public void firstCursorPageTest() throws Exception {
+        mockMvc.perform(get("/api/v1/items")
+                .param("cursor", "")
+                .param("size", "20")
+                .contentType(MediaType.APPLICATION_JSON))
+            .andDo(print())
+            .andExpect(status().isOk());
+
+        verify(itemService, times(0)).itemSearch(any(Long.class), any());
+        verify(itemService).itemSearchByCursor(any(Long.class), Mockito.argThat(dto -> {
+            Pageable pageable = dto.getPageable();
+            return dto.getCursor() == null &&
+                pageable.getPageSize() == 20 &&
+                pageable.getSort().equals(Sort.by(Sort.Direction.DESC, "createdDate"));
+        }));
+    }
+
+    @Test
+    @DisplayName("cursor 값을 디코딩해서 전달하는 테스트")
+    public void nextCursorPageTest() throws Exception {
+        ItemSearchCursor cursor = new ItemSearchCursor(15L,
+            LocalDateTime.of(2023, 10, 15, 0, 0, 0), 1000);
+
+        mockMvc.perform(get("/api/v1/items")
+                .param("cursor", cursor.encode())
+                .param("sort", "price,asc")
+                .contentType(MediaType.APPLICATION_JSON))
+            .andDo(print())
+            .andExpect(status().isOk());
+
+        verify(itemService).itemSearchByCursor(any(Long.class), Mockito.argThat(dto ->
+            dto.getCursor().getItemId() == 15L &&
+                dto.getCursor().getPrice() == 1000 &&
+                dto.getCursor().getCreatedDate().equals(LocalDateTime.of(2023, 10, 15, 0, 0, 0))));
+    }
+
+    @Test
+    @DisplayName("잘못된 cursor 값 테스트")
+    public void invalidCursorTest() throws Exception {
+        mockMvc.perform(get("/api/v1/items")
+                .param("cursor", "not-a-cursor")
+                .contentType(MediaType.APPLICATION_JSON))
+            .andDo(print())
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.code").value(INVALID_CURSOR.getCode()));
+
+        verify(itemService, times(0)).itemSearchByCursor(any(Long.class), any());
+    }
+
     @Test
     @DisplayName("가격 오름차순으로 정렬하는 테스트")
     public void PriceAscSortingTest() throws Exception {
@@ -626,6 +684,24 @@ class ItemControllerTest {
 
     }
 
+    @Test
+    @DisplayName("캠퍼스별 필터 개수를 가져오는 테스트")
+    public void getItemFacetsTest() throws Exception {
+        ItemFacetsResponseDto responseDto = ItemFacetsResponseDto.of(
+            Map.of(Category.ELECTRONICS_IT, 3L), Map.of(ItemStatus.FORSALE, 3L),
+            Map.of(PriceBucket.UNDER_5000, 3L));
+        when(itemService.getItemFacets(any(Long.class))).thenReturn(responseDto);
+
+        mockMvc.perform(get("/api/v1/items/facets")
+                .contentType(MediaType.APPLICATION_JSON))
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.categories.ELECTRONICS_IT").value(3))
+            .andExpect(jsonPath("$.itemStatuses.SOLDOUT").value(0))
+            .andExpect(jsonPath("$.priceBuckets[0].maxPrice").value(5000))
+            .andExpect(jsonPath("$.priceBuckets[0].count").value(3));
+    }
+
     @Test
     @DisplayName("itemId에 null이 들어올 때")
     public void NullItemIdTest() throws Exception {
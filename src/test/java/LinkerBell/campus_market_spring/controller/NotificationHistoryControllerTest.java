@@ -1,5 +1,6 @@
 package LinkerBell.campus_market_spring.controller;
 
+import static LinkerBell.campus_market_spring.global.error.ErrorCode.INVALID_CURSOR;
 import static LinkerBell.campus_market_spring.global.error.ErrorCode.INVALID_NOTIFICATION_ID;
 import static LinkerBell.campus_market_spring.global.error.ErrorCode.INVALID_PAGEABLE_PAGE;
 import static LinkerBell.campus_market_spring.global.error.ErrorCode.INVALID_PAGEABLE_SIZE;
@@ -9,11 +10,13 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import LinkerBell.campus_market_spring.dto.AuthUserDto;
+import LinkerBell.campus_market_spring.dto.CursorSliceResponse;
 import LinkerBell.campus_market_spring.dto.NotificationHistoryResponseDto;
 import LinkerBell.campus_market_spring.dto.SliceResponse;
 import LinkerBell.campus_market_spring.global.error.GlobalExceptionHandler;
@@ -69,8 +72,8 @@ class NotificationHistoryControllerTest {
     @DisplayName("notificationHistory 목록 받아오기 테스트")
     void getNotificationHistory_shouldReturnNotifications() throws Exception {
         List<NotificationHistoryResponseDto> mockContent = List.of(
-            new NotificationHistoryResponseDto(1L, "title1", "content1", "deeplink1"),
-            new NotificationHistoryResponseDto(2L, "title2", "content2", "deeplink2")
+            new NotificationHistoryResponseDto(1L, "title1", "content1", "deeplink1", false),
+            new NotificationHistoryResponseDto(2L, "title2", "content2", "deeplink2", false)
         );
 
         SliceImpl<NotificationHistoryResponseDto> mockSlice = new SliceImpl<>(
@@ -132,6 +135,60 @@ class NotificationHistoryControllerTest {
 
     }
 
+    @Test
+    @DisplayName("cursor로 notificationHistory 목록 받아오기 테스트")
+    void getNotificationHistoryByCursor_shouldReturnNotifications() throws Exception {
+        List<NotificationHistoryResponseDto> mockContent = List.of(
+            new NotificationHistoryResponseDto(9L, "title9", "content9", "deeplink9", false),
+            new NotificationHistoryResponseDto(7L, "title7", "content7", "deeplink7", true)
+        );
+        when(notificationHistoryService.getNotificationHistoryByCursor(1L, 10L, 2))
+            .thenReturn(new CursorSliceResponse<>(mockContent, 2, true, "7"));
+
+        mockMvc.perform(get("/api/v1/notification-history")
+                .param("cursor", "10")
+                .param("size", "2")
+                .contentType(MediaType.APPLICATION_JSON))
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content[0].notificationHistoryId").value(9L))
+            .andExpect(jsonPath("$.content[1].isRead").value(true))
+            .andExpect(jsonPath("$.nextCursor").value("7"));
+
+        verify(notificationHistoryService).getNotificationHistoryByCursor(1L, 10L, 2);
+    }
+
+    @Test
+    @DisplayName("잘못된 cursor 값 테스트")
+    void getNotificationHistoryByCursor_shouldThrowWhenInvalidCursor() throws Exception {
+        mockMvc.perform(get("/api/v1/notification-history")
+                .param("cursor", "xxx")
+                .contentType(MediaType.APPLICATION_JSON))
+            .andDo(print())
+            .andExpect(jsonPath("$.code").value(INVALID_CURSOR.getCode()));
+    }
+
+    @Test
+    @DisplayName("안 읽은 알림 수 받아오기 테스트")
+    void getUnreadCount_shouldReturnCount() throws Exception {
+        when(notificationHistoryService.getUnreadCount(1L)).thenReturn(4L);
+
+        mockMvc.perform(get("/api/v1/notification-history/unread-count")
+                .contentType(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.unreadCount").value(4L));
+    }
+
+    @Test
+    @DisplayName("notificationHistory 1개 읽음 처리 테스트")
+    void readNotificationHistory_shouldReadNotification() throws Exception {
+        mockMvc.perform(patch("/api/v1/notification-history/{notificationId}/read", 1L)
+                .contentType(MediaType.APPLICATION_JSON))
+            .andExpect(status().isNoContent());
+
+        verify(notificationHistoryService).readNotification(1L, 1L);
+    }
+
     @Test
     @DisplayName("notificationHistory 1개 delete 테스트")
     void deleteNotificationHistory_shouldDeleteNotification() throws Exception {
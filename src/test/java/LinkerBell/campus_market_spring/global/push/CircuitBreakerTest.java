@@ -0,0 +1,86 @@
+package LinkerBell.campus_market_spring.global.push;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import LinkerBell.campus_market_spring.global.push.CircuitBreaker.State;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CircuitBreakerTest {
+
+    MutableClock clock = new MutableClock();
+    CircuitBreaker circuitBreaker = new CircuitBreaker(3, Duration.ofSeconds(30), clock);
+
+    @Test
+    @DisplayName("연속 실패가 기준을 넘으면 열리고 시간이 지나면 시험 요청 하나만 통과시키는 테스트")
+    public void openAndHalfOpenTest() {
+        // given
+        circuitBreaker.recordFailure();
+        circuitBreaker.recordFailure();
+        circuitBreaker.recordSuccess();
+        circuitBreaker.recordFailure();
+        circuitBreaker.recordFailure();
+        assertThat(circuitBreaker.getState()).isEqualTo(State.CLOSED);
+
+        // when
+        circuitBreaker.recordFailure();
+
+        // then
+        assertThat(circuitBreaker.allowRequest()).isFalse();
+        clock.advance(Duration.ofSeconds(30));
+        assertThat(circuitBreaker.allowRequest()).isTrue();
+        assertThat(circuitBreaker.getState()).isEqualTo(State.HALF_OPEN);
+        assertThat(circuitBreaker.allowRequest()).isFalse();
+    }
+
+    @Test
+    @DisplayName("시험 요청이 성공하면 닫고 실패하면 다시 여는 테스트")
+    public void halfOpenResultTest() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            circuitBreaker.recordFailure();
+        }
+        clock.advance(Duration.ofSeconds(30));
+
+        // when
+        circuitBreaker.allowRequest();
+        circuitBreaker.recordFailure();
+
+        // then
+        assertThat(circuitBreaker.getState()).isEqualTo(State.OPEN);
+        clock.advance(Duration.ofSeconds(30));
+        circuitBreaker.allowRequest();
+        circuitBreaker.recordSuccess();
+        assertThat(circuitBreaker.getState()).isEqualTo(State.CLOSED);
+        assertThat(circuitBreaker.allowRequest()).isTrue();
+    }
+
+    static class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
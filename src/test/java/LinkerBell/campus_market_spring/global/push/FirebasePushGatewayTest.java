@@ -0,0 +1,96 @@
+package LinkerBell.campus_market_spring.global.push;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import LinkerBell.campus_market_spring.dto.FcmMessageDto;
+import LinkerBell.campus_market_spring.global.push.PushResult.Status;
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.SendResponse;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class FirebasePushGatewayTest {
+
+    @Mock
+    FirebaseMessaging firebaseMessaging;
+
+    FirebasePushGateway firebasePushGateway;
+
+    @BeforeEach
+    void beforeEach() {
+        firebasePushGateway = new FirebasePushGateway(firebaseMessaging);
+    }
+
+    @Test
+    @DisplayName("메시지별 응답을 입력 순서대로 결과로 바꾸는 테스트")
+    public void sendBatchTest() throws Exception {
+        // given
+        BatchResponse batchResponse = mock(BatchResponse.class);
+        when(batchResponse.getResponses()).thenReturn(List.of(
+            successResponse(),
+            failedResponse(MessagingErrorCode.UNREGISTERED),
+            failedResponse(MessagingErrorCode.UNAVAILABLE)));
+        when(firebaseMessaging.sendEach(anyList())).thenReturn(batchResponse);
+
+        // when
+        List<PushResult> results = firebasePushGateway.sendBatch(createMessages(3));
+
+        // then
+        assertThat(results).extracting(PushResult::status)
+            .containsExactly(Status.SUCCESS, Status.INVALID_TOKEN, Status.FAILED);
+        assertThat(results.get(1).targetToken()).isEqualTo("token1");
+    }
+
+    @Test
+    @DisplayName("요청 전체가 실패하면 모든 메시지를 FAILED로 돌려주는 테스트")
+    public void sendBatchFailedTest() throws Exception {
+        // given
+        when(firebaseMessaging.sendEach(anyList())).thenThrow(
+            mock(FirebaseMessagingException.class));
+
+        // when
+        List<PushResult> results = firebasePushGateway.sendBatch(createMessages(2));
+
+        // then
+        assertThat(results).extracting(PushResult::status)
+            .containsExactly(Status.FAILED, Status.FAILED);
+    }
+
+    private SendResponse successResponse() {
+        SendResponse response = mock(SendResponse.class);
+        when(response.isSuccessful()).thenReturn(true);
+        return response;
+    }
+
+    private SendResponse failedResponse(MessagingErrorCode errorCode) {
+        FirebaseMessagingException exception = mock(FirebaseMessagingException.class);
+        when(exception.getMessagingErrorCode()).thenReturn(errorCode);
+        SendResponse response = mock(SendResponse.class);
+        when(response.isSuccessful()).thenReturn(false);
+        when(response.getException()).thenReturn(exception);
+        return response;
+    }
+
+    private List<FcmMessageDto> createMessages(int count) {
+        return IntStream.range(0, count)
+            .mapToObj(i -> FcmMessageDto.builder()
+                .targetToken("token" + i)
+                .title("title")
+                .body("body")
+                .build())
+            .toList();
+    }
+}
@@ -0,0 +1,204 @@
+package LinkerBell.campus_market_spring.global.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import LinkerBell.campus_market_spring.domain.ChatMessage;
+import LinkerBell.campus_market_spring.domain.ChatRoom;
+import LinkerBell.campus_market_spring.repository.ChatRoomRepository;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+@Testcontainers
+class ChatRoomSequenceTest {
+
+    @Container
+    public static GenericContainer redis = new GenericContainer(DockerImageName.parse("redis:6-alpine"))
+        .withExposedPorts(6379);
+
+    LettuceConnectionFactory connectionFactory;
+    StringRedisTemplate stringRedisTemplate;
+    ChatRoomRepository chatRoomRepository;
+    ChatRoomSequence chatRoomSequence;
+
+    @BeforeEach
+    public void setUp() {
+        connectionFactory = new LettuceConnectionFactory(
+            new RedisStandaloneConfiguration(redis.getHost(), redis.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+        stringRedisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+
+        chatRoomRepository = mock(ChatRoomRepository.class);
+        chatRoomSequence = new ChatRoomSequence(stringRedisTemplate, chatRoomRepository, 60_000L);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("처음 쓰는 채팅방만 DB 순번에서 시작하고 이후에는 1씩 올리는 테스트")
+    public void nextTest() {
+        // given
+        when(chatRoomRepository.findLastSequence(1L)).thenReturn(Optional.of(5L));
+        when(chatRoomRepository.findLastSequence(2L)).thenReturn(Optional.empty());
+
+        // when
+        long first = chatRoomSequence.next(1L);
+        long second = chatRoomSequence.next(1L);
+        long otherRoom = chatRoomSequence.next(2L);
+
+        // then
+        assertThat(first).isEqualTo(5L + ChatRoomSequence.SAFETY_GAP + 1);
+        assertThat(second).isEqualTo(first + 1);
+        assertThat(otherRoom).isEqualTo(ChatRoomSequence.SAFETY_GAP + 1);
+        verify(chatRoomRepository, times(1)).findLastSequence(1L);
+    }
+
+    @Test
+    @DisplayName("키가 사라져도 DB에 저장된 순번보다 큰 번호를 주는 테스트")
+    public void reinitializeTest() {
+        // given
+        when(chatRoomRepository.findLastSequence(1L)).thenReturn(Optional.empty());
+        long beforeEviction = chatRoomSequence.next(1L);
+        stringRedisTemplate.delete("chat:sequence:room:1");
+        when(chatRoomRepository.findLastSequence(1L)).thenReturn(Optional.of(beforeEviction));
+
+        // when
+        long afterEviction = chatRoomSequence.next(1L);
+
+        // then
+        assertThat(afterEviction).isGreaterThan(beforeEviction);
+    }
+
+    @Test
+    @DisplayName("여러 서버가 동시에 받아도 같은 채팅방 순번이 겹치지 않는 테스트")
+    public void concurrentNextTest() throws InterruptedException {
+        // given
+        when(chatRoomRepository.findLastSequence(1L)).thenReturn(Optional.empty());
+        ChatRoomSequence otherServer = new ChatRoomSequence(stringRedisTemplate,
+            chatRoomRepository, 60_000L);
+        ConcurrentLinkedQueue<Long> sequences = new ConcurrentLinkedQueue<>();
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+
+        // when
+        for (int i = 0; i < 200; i++) {
+            ChatRoomSequence server = i % 2 == 0 ? chatRoomSequence : otherServer;
+            executorService.submit(() -> sequences.add(server.next(1L)));
+        }
+        executorService.shutdown();
+        executorService.awaitTermination(10, TimeUnit.SECONDS);
+
+        // then
+        assertThat(sequences).hasSize(200).doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("다른 서버가 받은 작은 순번이 저장될 때까지 watermark가 그 앞에 머무는 테스트")
+    public void multiWriterWatermarkTest() {
+        // given
+        when(chatRoomRepository.findLastSequence(1L)).thenReturn(Optional.of(0L));
+        ChatRoomSequence serverA = chatRoomSequence;
+        ChatRoomSequence serverB = new ChatRoomSequence(stringRedisTemplate, chatRoomRepository,
+            60_000L);
+        long persisted = serverA.next(1L);
+        serverA.complete(List.of(message(1L, persisted)));
+
+        // when
+        long sequenceA = serverA.next(1L);
+        long sequenceB = serverB.next(1L);
+        // B의 flusher가 A보다 먼저 저장했다.
+        serverB.complete(List.of(message(1L, sequenceB)));
+        long whileAPending = serverB.getWatermarks(List.of(1L)).get(1L);
+        serverA.complete(List.of(message(1L, sequenceA)));
+        long afterAPersisted = serverB.getWatermarks(List.of(1L)).get(1L);
+
+        // then
+        assertThat(sequenceB).isEqualTo(sequenceA + 1);
+        assertThat(whileAPending).isEqualTo(persisted);
+        assertThat(afterAPersisted).isEqualTo(sequenceB);
+    }
+
+    @Test
+    @DisplayName("순번 키가 없는 채팅방은 watermark로 자르지 않는 테스트")
+    public void noWatermarkTest() {
+        // given
+        when(chatRoomRepository.findLastSequence(1L)).thenReturn(Optional.empty());
+        long sequence = chatRoomSequence.next(1L);
+
+        // when
+        Map<Long, Long> watermarks = chatRoomSequence.getWatermarks(List.of(1L, 2L));
+
+        // then
+        assertThat(watermarks.get(1L)).isEqualTo(sequence - 1);
+        assertThat(watermarks.get(2L)).isEqualTo(ChatRoomSequence.NO_WATERMARK);
+    }
+
+    @Test
+    @DisplayName("저장 완료를 알리지 못하고 죽은 서버의 순번은 pendingTimeout 뒤 무시하는 테스트")
+    public void stalePendingTest() throws InterruptedException {
+        // given
+        when(chatRoomRepository.findLastSequence(1L)).thenReturn(Optional.empty());
+        ChatRoomSequence shortTimeout = new ChatRoomSequence(stringRedisTemplate,
+            chatRoomRepository, 50L);
+        long lost = shortTimeout.next(1L);
+        long persisted = shortTimeout.next(1L);
+        shortTimeout.complete(List.of(message(1L, persisted)));
+        assertThat(shortTimeout.getWatermarks(List.of(1L)).get(1L)).isEqualTo(lost - 1);
+
+        // when
+        Thread.sleep(100L);
+        long watermark = shortTimeout.getWatermarks(List.of(1L)).get(1L);
+
+        // then
+        assertThat(watermark).isEqualTo(persisted);
+        assertThat(stringRedisTemplate.opsForZSet().size("chat:sequence:pending:1")).isZero();
+    }
+
+    @Test
+    @DisplayName("대기열에 넣지 못해 버린 순번이 watermark를 막지 않는 테스트")
+    public void abandonTest() {
+        // given
+        when(chatRoomRepository.findLastSequence(1L)).thenReturn(Optional.empty());
+        long rejected = chatRoomSequence.next(1L);
+        long persisted = chatRoomSequence.next(1L);
+        chatRoomSequence.complete(List.of(message(1L, persisted)));
+        assertThat(chatRoomSequence.getWatermarks(List.of(1L)).get(1L)).isEqualTo(rejected - 1);
+
+        // when
+        chatRoomSequence.abandon(1L, rejected);
+
+        // then
+        assertThat(chatRoomSequence.getWatermarks(List.of(1L)).get(1L)).isEqualTo(persisted);
+    }
+
+    private ChatMessage message(Long chatRoomId, long roomSequence) {
+        ChatRoom chatRoom = new ChatRoom();
+        chatRoom.setChatRoomId(chatRoomId);
+        return ChatMessage.builder()
+            .chatRoom(chatRoom)
+            .roomSequence(roomSequence)
+            .build();
+    }
+}
@@ -0,0 +1,116 @@
+package LinkerBell.campus_market_spring.global.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import LinkerBell.campus_market_spring.dto.UserFcmTokenDto;
+import LinkerBell.campus_market_spring.global.event.FcmTokenChangedEvent;
+import LinkerBell.campus_market_spring.repository.UserFcmTokenRepository;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+@Testcontainers
+class FcmTokenStoreTest {
+
+    @Container
+    public static GenericContainer redis = new GenericContainer(DockerImageName.parse("redis:6-alpine"))
+        .withExposedPorts(6379);
+
+    LettuceConnectionFactory connectionFactory;
+    StringRedisTemplate stringRedisTemplate;
+    UserFcmTokenRepository userFcmTokenRepository;
+    FcmTokenStore fcmTokenStore;
+
+    @BeforeEach
+    public void setUp() {
+        connectionFactory = new LettuceConnectionFactory(
+            new RedisStandaloneConfiguration(redis.getHost(), redis.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+        stringRedisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+
+        userFcmTokenRepository = mock(UserFcmTokenRepository.class);
+        fcmTokenStore = new FcmTokenStore(stringRedisTemplate, userFcmTokenRepository);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("처음 조회한 사용자만 DB에서 한 번에 가져오고 이후에는 캐시로 조회하는 테스트")
+    public void getTokensTest() {
+        // given
+        when(userFcmTokenRepository.findUserFcmTokensByUserIdIn(anyCollection())).thenReturn(
+            List.of(new UserFcmTokenDto(1L, "token1"), new UserFcmTokenDto(1L, "token2")));
+
+        // when
+        Map<Long, List<String>> first = fcmTokenStore.getTokens(List.of(1L, 2L, 1L));
+        Map<Long, List<String>> second = fcmTokenStore.getTokens(List.of(1L, 2L));
+
+        // then
+        assertThat(first.get(1L)).containsExactlyInAnyOrder("token1", "token2");
+        assertThat(first.get(2L)).isEmpty();
+        assertThat(second.get(1L)).containsExactlyInAnyOrder("token1", "token2");
+        assertThat(second.get(2L)).isEmpty();
+        verify(userFcmTokenRepository, times(1)).findUserFcmTokensByUserIdIn(List.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("토큰 변경 이벤트로 해당 사용자의 캐시를 지우는 테스트")
+    public void fcmTokenChangedTest() {
+        // given
+        when(userFcmTokenRepository.findUserFcmTokensByUserIdIn(anyCollection()))
+            .thenReturn(List.of(new UserFcmTokenDto(1L, "token1")))
+            .thenReturn(List.of(new UserFcmTokenDto(1L, "token1"),
+                new UserFcmTokenDto(1L, "token3")));
+        fcmTokenStore.getTokens(List.of(1L));
+
+        // when
+        fcmTokenStore.onFcmTokenChanged(new FcmTokenChangedEvent(List.of(1L)));
+        Map<Long, List<String>> tokens = fcmTokenStore.getTokens(List.of(1L));
+
+        // then
+        assertThat(tokens.get(1L)).containsExactlyInAnyOrder("token1", "token3");
+    }
+
+    @Test
+    @DisplayName("DB 조회 중에 토큰이 바뀌면 조회한 토큰을 캐싱하지 않는 테스트")
+    public void fcmTokenChangedWhileLoadingTest() {
+        // given
+        when(userFcmTokenRepository.findUserFcmTokensByUserIdIn(anyCollection()))
+            .thenAnswer(invocation -> {
+                // 옛 토큰을 읽은 뒤 변경이 커밋되어 캐시가 지워진다.
+                fcmTokenStore.onFcmTokenChanged(new FcmTokenChangedEvent(List.of(1L)));
+                return List.of(new UserFcmTokenDto(1L, "token1"));
+            })
+            .thenReturn(List.of(new UserFcmTokenDto(1L, "token3")));
+
+        // when
+        Map<Long, List<String>> first = fcmTokenStore.getTokens(List.of(1L));
+        Map<Long, List<String>> second = fcmTokenStore.getTokens(List.of(1L));
+        Map<Long, List<String>> third = fcmTokenStore.getTokens(List.of(1L));
+
+        // then
+        assertThat(first.get(1L)).containsExactly("token1");
+        assertThat(second.get(1L)).containsExactly("token3");
+        assertThat(third.get(1L)).containsExactly("token3");
+        verify(userFcmTokenRepository, times(2)).findUserFcmTokensByUserIdIn(List.of(1L));
+    }
+}
@@ -0,0 +1,145 @@
+package LinkerBell.campus_market_spring.global.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import LinkerBell.campus_market_spring.domain.Category;
+import LinkerBell.campus_market_spring.domain.ItemStatus;
+import LinkerBell.campus_market_spring.domain.PriceBucket;
+import LinkerBell.campus_market_spring.dto.ItemFacetCountDto;
+import LinkerBell.campus_market_spring.dto.ItemFacetsResponseDto;
+import LinkerBell.campus_market_spring.global.event.ItemFacetChangedEvent;
+import LinkerBell.campus_market_spring.global.event.ItemFacetChangedEvent.ItemFacet;
+import LinkerBell.campus_market_spring.repository.ItemRepository;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+@Testcontainers
+class ItemFacetStoreTest {
+
+    @Container
+    public static GenericContainer redis = new GenericContainer(DockerImageName.parse("redis:6-alpine"))
+        .withExposedPorts(6379);
+
+    LettuceConnectionFactory connectionFactory;
+    StringRedisTemplate stringRedisTemplate;
+    ItemRepository itemRepository;
+    ItemFacetStore itemFacetStore;
+
+    @BeforeEach
+    public void setUp() {
+        connectionFactory = new LettuceConnectionFactory(
+            new RedisStandaloneConfiguration(redis.getHost(), redis.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+        stringRedisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+
+        itemRepository = mock(ItemRepository.class);
+        itemFacetStore = new ItemFacetStore(stringRedisTemplate, itemRepository);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("집계 전에는 값을 돌려주지 않아 DB로 조회하게 하는 테스트")
+    public void notReadyTest() {
+        // when, then
+        assertThat(itemFacetStore.getFacets(1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("DB 집계 결과로 캠퍼스별 개수를 채우는 테스트")
+    public void rebuildTest() {
+        // given
+        when(itemRepository.countFacets(isNull())).thenReturn(List.of(
+            new ItemFacetCountDto(1L, Category.ELECTRONICS_IT, ItemStatus.FORSALE,
+                PriceBucket.UNDER_5000, 2L),
+            new ItemFacetCountDto(1L, Category.ELECTRONICS_IT, ItemStatus.SOLDOUT,
+                PriceBucket.OVER_300000, 1L),
+            new ItemFacetCountDto(2L, Category.OTHER, ItemStatus.FORSALE,
+                PriceBucket.UNDER_5000, 5L)));
+
+        // when
+        itemFacetStore.rebuildIfNotReady();
+
+        // then
+        ItemFacetsResponseDto facets = itemFacetStore.getFacets(1L).orElseThrow();
+        assertThat(facets.getCategories().get(Category.ELECTRONICS_IT)).isEqualTo(3L);
+        assertThat(facets.getCategories().get(Category.OTHER)).isEqualTo(0L);
+        assertThat(facets.getItemStatuses().get(ItemStatus.FORSALE)).isEqualTo(2L);
+        assertThat(facets.getItemStatuses().get(ItemStatus.SOLDOUT)).isEqualTo(1L);
+        assertThat(facets.getPriceBuckets()).hasSize(PriceBucket.values().length);
+        assertThat(facets.getPriceBuckets().get(0).getCount()).isEqualTo(2L);
+        assertThat(facets.getPriceBuckets().get(PriceBucket.OVER_300000.ordinal()).getCount())
+            .isEqualTo(1L);
+        assertThat(itemFacetStore.getFacets(2L).orElseThrow().getCategories()
+            .get(Category.OTHER)).isEqualTo(5L);
+    }
+
+    @Test
+    @DisplayName("등록, 상태 변경, 삭제 이벤트로 바뀐 항목만 증감하는 테스트")
+    public void itemFacetChangedTest() {
+        // given
+        when(itemRepository.countFacets(isNull())).thenReturn(List.of());
+        itemFacetStore.rebuildIfNotReady();
+        ItemFacet forSale = new ItemFacet(Category.ELECTRONICS_IT, ItemStatus.FORSALE,
+            PriceBucket.UNDER_10000);
+        ItemFacet soldOut = new ItemFacet(Category.ELECTRONICS_IT, ItemStatus.SOLDOUT,
+            PriceBucket.UNDER_10000);
+
+        // when
+        itemFacetStore.onItemFacetChanged(new ItemFacetChangedEvent(1L, null, forSale));
+        itemFacetStore.onItemFacetChanged(new ItemFacetChangedEvent(1L, null, forSale));
+        itemFacetStore.onItemFacetChanged(new ItemFacetChangedEvent(1L, forSale, soldOut));
+        itemFacetStore.onItemFacetChanged(new ItemFacetChangedEvent(1L, forSale, null));
+
+        // then
+        ItemFacetsResponseDto facets = itemFacetStore.getFacets(1L).orElseThrow();
+        assertThat(facets.getCategories().get(Category.ELECTRONICS_IT)).isEqualTo(1L);
+        assertThat(facets.getItemStatuses().get(ItemStatus.FORSALE)).isEqualTo(0L);
+        assertThat(facets.getItemStatuses().get(ItemStatus.SOLDOUT)).isEqualTo(1L);
+        assertThat(facets.getPriceBuckets().get(PriceBucket.UNDER_10000.ordinal()).getCount())
+            .isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("재집계 중에 반영된 증감을 교체한 값에도 남기는 테스트")
+    public void itemFacetChangedWhileRebuildingTest() {
+        // given
+        ItemFacet forSale = new ItemFacet(Category.ELECTRONICS_IT, ItemStatus.FORSALE,
+            PriceBucket.UNDER_5000);
+        when(itemRepository.countFacets(isNull())).thenAnswer(invocation -> {
+            // DB 집계 이후 커밋된 등록
+            itemFacetStore.onItemFacetChanged(new ItemFacetChangedEvent(1L, null, forSale));
+            itemFacetStore.onItemFacetChanged(new ItemFacetChangedEvent(2L, null, forSale));
+            return List.of(new ItemFacetCountDto(1L, Category.ELECTRONICS_IT, ItemStatus.FORSALE,
+                PriceBucket.UNDER_5000, 2L));
+        });
+
+        // when
+        itemFacetStore.rebuild();
+        itemFacetStore.onItemFacetChanged(new ItemFacetChangedEvent(1L, null, forSale));
+
+        // then
+        assertThat(itemFacetStore.getFacets(1L).orElseThrow().getCategories()
+            .get(Category.ELECTRONICS_IT)).isEqualTo(4L);
+        assertThat(itemFacetStore.getFacets(2L).orElseThrow().getItemStatuses()
+            .get(ItemStatus.FORSALE)).isEqualTo(1L);
+        assertThat(stringRedisTemplate.keys("facets:delta:*")).isEmpty();
+    }
+}
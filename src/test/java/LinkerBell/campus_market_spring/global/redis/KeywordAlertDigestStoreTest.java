@@ -0,0 +1,82 @@
+package LinkerBell.campus_market_spring.global.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import LinkerBell.campus_market_spring.global.redis.KeywordAlertDigestStore.DigestEntry;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+@Testcontainers
+class KeywordAlertDigestStoreTest {
+
+    @Container
+    public static GenericContainer redis = new GenericContainer(DockerImageName.parse("redis:6-alpine"))
+        .withExposedPorts(6379);
+
+    LettuceConnectionFactory connectionFactory;
+    StringRedisTemplate stringRedisTemplate;
+    KeywordAlertDigestStore keywordAlertDigestStore;
+
+    @BeforeEach
+    public void setUp() {
+        connectionFactory = new LettuceConnectionFactory(
+            new RedisStandaloneConfiguration(redis.getHost(), redis.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+        stringRedisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+
+        keywordAlertDigestStore = new KeywordAlertDigestStore(stringRedisTemplate, 1L);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("window 안의 두 번째 알림부터 모았다가 window가 끝나면 한 번에 꺼내는 테스트")
+    public void admitAndPollDueTest() throws Exception {
+        // when
+        boolean first = keywordAlertDigestStore.admit(1L, 10L, "아이패드 프로");
+        boolean second = keywordAlertDigestStore.admit(1L, 11L, "아이패드 케이스");
+        boolean third = keywordAlertDigestStore.admit(1L, 12L, "아이패드 펜슬: 2세대");
+        boolean otherUser = keywordAlertDigestStore.admit(2L, 11L, "아이패드 케이스");
+        Map<Long, List<DigestEntry>> beforeDue = keywordAlertDigestStore.pollDue(10);
+        Thread.sleep(1100);
+        Map<Long, List<DigestEntry>> afterDue = keywordAlertDigestStore.pollDue(10);
+        Map<Long, List<DigestEntry>> polledAgain = keywordAlertDigestStore.pollDue(10);
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(third).isFalse();
+        assertThat(otherUser).isTrue();
+        assertThat(beforeDue).isEmpty();
+        assertThat(afterDue).containsOnlyKeys(1L);
+        assertThat(afterDue.get(1L)).containsExactly(new DigestEntry(11L, "아이패드 케이스"),
+            new DigestEntry(12L, "아이패드 펜슬: 2세대"));
+        assertThat(polledAgain).isEmpty();
+    }
+
+    @Test
+    @DisplayName("window가 0이면 모든 알림을 바로 보내는 테스트")
+    public void disabledTest() {
+        // given
+        keywordAlertDigestStore = new KeywordAlertDigestStore(stringRedisTemplate, 0L);
+
+        // when, then
+        assertThat(keywordAlertDigestStore.admit(1L, 10L, "title")).isTrue();
+        assertThat(keywordAlertDigestStore.admit(1L, 11L, "title")).isTrue();
+    }
+}
@@ -0,0 +1,127 @@
+package LinkerBell.campus_market_spring.global.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import LinkerBell.campus_market_spring.dto.LikeIdsDto;
+import LinkerBell.campus_market_spring.global.event.LikeChangedEvent;
+import LinkerBell.campus_market_spring.global.redis.LikeMembershipStore.LikeState;
+import LinkerBell.campus_market_spring.repository.LikeRepository;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+@Testcontainers
+class LikeMembershipStoreTest {
+
+    @Container
+    public static GenericContainer redis = new GenericContainer(DockerImageName.parse("redis:6-alpine"))
+        .withExposedPorts(6379);
+
+    LettuceConnectionFactory connectionFactory;
+    StringRedisTemplate stringRedisTemplate;
+    LikeRepository likeRepository;
+    LikeMembershipStore likeMembershipStore;
+
+    @BeforeEach
+    public void setUp() {
+        connectionFactory = new LettuceConnectionFactory(
+            new RedisStandaloneConfiguration(redis.getHost(), redis.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+        stringRedisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+
+        likeRepository = mock(LikeRepository.class);
+        likeMembershipStore = new LikeMembershipStore(stringRedisTemplate, likeRepository);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("적재 전에는 값을 돌려주지 않아 DB로 조회하게 하는 테스트")
+    public void notReadyTest() {
+        // when, then
+        assertThat(likeMembershipStore.getLikeState(1L, 1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Likes 테이블에서 적재한 뒤 좋아요 여부와 개수를 확인하는 테스트")
+    public void rebuildTest() {
+        // given
+        when(likeRepository.findLikeIdsAfter(eq(0L), any(Pageable.class))).thenReturn(List.of(
+            new LikeIdsDto(1L, 10L, 1L),
+            new LikeIdsDto(2L, 10L, 2L),
+            new LikeIdsDto(3L, 11L, 1L)));
+
+        // when
+        likeMembershipStore.rebuildIfNotReady();
+
+        // then
+        assertThat(likeMembershipStore.getLikeState(10L, 1L))
+            .contains(new LikeState(true, 2L));
+        assertThat(likeMembershipStore.getLikeState(10L, 3L))
+            .contains(new LikeState(false, 2L));
+        assertThat(likeMembershipStore.getLikeState(12L, 1L))
+            .contains(new LikeState(false, 0L));
+    }
+
+    @Test
+    @DisplayName("좋아요 추가, 취소 이벤트가 반영되는 테스트")
+    public void likeChangedTest() {
+        // given
+        when(likeRepository.findLikeIdsAfter(eq(0L), any(Pageable.class))).thenReturn(List.of());
+        likeMembershipStore.rebuildIfNotReady();
+
+        // when
+        likeMembershipStore.onLikeChanged(new LikeChangedEvent(10L, 1L, true));
+        likeMembershipStore.onLikeChanged(new LikeChangedEvent(10L, 2L, true));
+        likeMembershipStore.onLikeChanged(new LikeChangedEvent(10L, 1L, false));
+
+        // then
+        assertThat(likeMembershipStore.getLikeState(10L, 1L))
+            .contains(new LikeState(false, 1L));
+        assertThat(likeMembershipStore.getLikeState(10L, 2L))
+            .contains(new LikeState(true, 1L));
+    }
+
+    @Test
+    @DisplayName("묶음을 읽은 뒤 취소된 좋아요가 적재로 되살아나지 않는 테스트")
+    public void unlikeWhileRebuildingTest() {
+        // given
+        when(likeRepository.findLikeIdsAfter(eq(0L), any(Pageable.class))).thenAnswer(
+            invocation -> {
+                List<LikeIdsDto> likes = List.of(new LikeIdsDto(1L, 10L, 1L),
+                    new LikeIdsDto(2L, 10L, 2L));
+                // 묶음을 읽은 뒤, 적재하기 전에 다른 서버에서 취소, 추가가 커밋된다.
+                likeMembershipStore.onLikeChanged(new LikeChangedEvent(10L, 1L, false));
+                likeMembershipStore.onLikeChanged(new LikeChangedEvent(11L, 3L, true));
+                return likes;
+            });
+
+        // when
+        likeMembershipStore.rebuild();
+
+        // then
+        assertThat(likeMembershipStore.getLikeState(10L, 1L))
+            .contains(new LikeState(false, 1L));
+        assertThat(likeMembershipStore.getLikeState(11L, 3L))
+            .contains(new LikeState(true, 1L));
+        assertThat(stringRedisTemplate.hasKey("likes:rebuild:changes")).isFalse();
+    }
+}
@@ -0,0 +1,100 @@
+package LinkerBell.campus_market_spring.global.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import LinkerBell.campus_market_spring.global.event.NotificationUnreadChangedEvent;
+import LinkerBell.campus_market_spring.repository.NotificationHistoryRepository;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+@Testcontainers
+class NotificationUnreadCounterTest {
+
+    @Container
+    public static GenericContainer redis = new GenericContainer(DockerImageName.parse("redis:6-alpine"))
+        .withExposedPorts(6379);
+
+    LettuceConnectionFactory connectionFactory;
+    StringRedisTemplate stringRedisTemplate;
+    NotificationHistoryRepository notificationHistoryRepository;
+    NotificationUnreadCounter notificationUnreadCounter;
+
+    @BeforeEach
+    public void setUp() {
+        connectionFactory = new LettuceConnectionFactory(
+            new RedisStandaloneConfiguration(redis.getHost(), redis.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+        stringRedisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+
+        notificationHistoryRepository = mock(NotificationHistoryRepository.class);
+        notificationUnreadCounter = new NotificationUnreadCounter(stringRedisTemplate,
+            notificationHistoryRepository);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("처음 조회할 때만 DB에서 세고 이후에는 변화량만 반영하는 테스트")
+    public void getUnreadCountTest() {
+        // given
+        when(notificationHistoryRepository.countByUser_UserIdAndIsReadFalse(1L)).thenReturn(3L);
+
+        // when
+        long first = notificationUnreadCounter.getUnreadCount(1L);
+        notificationUnreadCounter.onNotificationUnreadChanged(
+            new NotificationUnreadChangedEvent(Map.of(1L, 2L, 2L, 1L), List.of()));
+        notificationUnreadCounter.onNotificationUnreadChanged(
+            NotificationUnreadChangedEvent.of(1L, -1L));
+        long second = notificationUnreadCounter.getUnreadCount(1L);
+
+        // then
+        assertThat(first).isEqualTo(3L);
+        assertThat(second).isEqualTo(4L);
+        verify(notificationHistoryRepository, times(1)).countByUser_UserIdAndIsReadFalse(1L);
+        // 적재되지 않은 사용자의 변화량은 무시하고 다음 조회 때 DB에서 센다.
+        assertThat(stringRedisTemplate.hasKey("notification:unread:user:2")).isFalse();
+    }
+
+    @Test
+    @DisplayName("음수가 되거나 evict된 사용자는 다음 조회 때 DB에서 다시 세는 테스트")
+    public void evictTest() {
+        // given
+        when(notificationHistoryRepository.countByUser_UserIdAndIsReadFalse(1L))
+            .thenReturn(1L, 0L);
+        when(notificationHistoryRepository.countByUser_UserIdAndIsReadFalse(2L))
+            .thenReturn(5L, 2L);
+        notificationUnreadCounter.getUnreadCount(1L);
+        notificationUnreadCounter.getUnreadCount(2L);
+
+        // when
+        notificationUnreadCounter.onNotificationUnreadChanged(
+            NotificationUnreadChangedEvent.of(1L, -2L));
+        notificationUnreadCounter.onNotificationUnreadChanged(
+            NotificationUnreadChangedEvent.evict(List.of(2L)));
+
+        // then
+        assertThat(notificationUnreadCounter.getUnreadCount(1L)).isZero();
+        assertThat(notificationUnreadCounter.getUnreadCount(2L)).isEqualTo(2L);
+        verify(notificationHistoryRepository, times(2)).countByUser_UserIdAndIsReadFalse(1L);
+        verify(notificationHistoryRepository, times(2)).countByUser_UserIdAndIsReadFalse(2L);
+    }
+}
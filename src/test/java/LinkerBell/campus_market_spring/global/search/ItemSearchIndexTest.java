@@ -0,0 +1,138 @@
+package LinkerBell.campus_market_spring.global.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ItemSearchIndexTest {
+
+    @TempDir
+    Path indexPath;
+
+    ItemSearchIndex itemSearchIndex;
+
+    @BeforeEach
+    public void setUp() {
+        itemSearchIndex = new ItemSearchIndex(indexPath.toString(), 2);
+        itemSearchIndex.addAll(List.of(
+            new ItemSearchDocument(1L, 1L, "아이폰 15 프로 판매합니다"),
+            new ItemSearchDocument(2L, 1L, "AirPods Pro 팝니다"),
+            new ItemSearchDocument(3L, 1L, "아이폰 충전기"),
+            new ItemSearchDocument(4L, 2L, "아이폰 케이스")));
+        itemSearchIndex.commitAll(LocalDateTime.of(2024, 1, 1, 0, 0));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        itemSearchIndex.close();
+    }
+
+    @Test
+    @DisplayName("일치한 아이템이 maxHits보다 많으면 잘린 결과 대신 LIKE 검색으로 넘기는 테스트")
+    public void truncatedSearchTest() {
+        // given
+        itemSearchIndex.upsert(new ItemSearchDocument(5L, 1L, "아이폰 13 미니"));
+        // when, then
+        assertThat(itemSearchIndex.search(1L, "아이폰")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("형태소 단위 검색 결과를 최신순으로 반환하는 테스트")
+    public void searchTest() {
+        // when
+        List<Long> itemIds = itemSearchIndex.search(1L, "아이폰").orElseThrow();
+        // then
+        assertThat(itemIds).containsExactly(3L, 1L);
+    }
+
+    @Test
+    @DisplayName("토큰 접두어로 검색되는지 테스트")
+    public void prefixSearchTest() {
+        // when
+        List<Long> itemIds = itemSearchIndex.search(1L, "air").orElseThrow();
+        // then
+        assertThat(itemIds).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("다른 캠퍼스의 아이템은 검색되지 않는 테스트")
+    public void campusIsolationTest() {
+        // when
+        List<Long> itemIds = itemSearchIndex.search(2L, "아이폰").orElseThrow();
+        List<Long> emptyCampusItemIds = itemSearchIndex.search(3L, "아이폰").orElseThrow();
+        // then
+        assertThat(itemIds).containsExactly(4L);
+        assertThat(emptyCampusItemIds).isEmpty();
+    }
+
+    @Test
+    @DisplayName("수정, 삭제가 바로 반영되는지 테스트")
+    public void upsertAndDeleteTest() {
+        // when
+        itemSearchIndex.upsert(new ItemSearchDocument(1L, 1L, "맥북 에어 판매"));
+        itemSearchIndex.delete(1L, 3L);
+        // then
+        assertThat(itemSearchIndex.search(1L, "아이폰").orElseThrow()).isEmpty();
+        assertThat(itemSearchIndex.search(1L, "맥북").orElseThrow()).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("커밋 전 변경은 바로 검색되고 commitAll 뒤에는 다시 열어도 남아 있는 테스트")
+    public void commitTest() {
+        // given
+        itemSearchIndex.upsert(new ItemSearchDocument(5L, 1L, "갤럭시 버즈"));
+        assertThat(itemSearchIndex.search(1L, "갤럭시").orElseThrow()).containsExactly(5L);
+
+        // when
+        itemSearchIndex.commitAll(LocalDateTime.of(2024, 1, 1, 0, 1));
+        itemSearchIndex.close();
+        itemSearchIndex = new ItemSearchIndex(indexPath.toString(), 2);
+
+        // then
+        assertThat(itemSearchIndex.search(1L, "갤럭시").orElseThrow()).containsExactly(5L);
+    }
+
+    @Test
+    @DisplayName("커밋한 syncedUntil을 다시 열었을 때 캠퍼스 색인 중 가장 이른 값으로 읽는 테스트")
+    public void committedSyncedUntilTest() {
+        // given
+        LocalDateTime syncedUntil = LocalDateTime.of(2024, 1, 1, 0, 1, 30);
+        itemSearchIndex.upsert(new ItemSearchDocument(5L, 1L, "갤럭시 버즈"));
+
+        // when
+        itemSearchIndex.commitAll(syncedUntil);
+        itemSearchIndex.close();
+        itemSearchIndex = new ItemSearchIndex(indexPath.toString(), 2);
+
+        // then
+        // 캠퍼스 2 색인은 바뀐 것이 없어 setUp에서 커밋한 값이 남아 있다.
+        assertThat(itemSearchIndex.getCommittedSyncedUntil())
+            .contains(LocalDateTime.of(2024, 1, 1, 0, 0));
+    }
+
+    @Test
+    @DisplayName("열 수 있는 캠퍼스 색인이 없으면 syncedUntil을 돌려주지 않는 테스트")
+    public void committedSyncedUntilMissingTest() {
+        // given
+        ItemSearchIndex emptyIndex = new ItemSearchIndex(indexPath.resolve("empty").toString(), 2);
+
+        // when, then
+        assertThat(emptyIndex.getCommittedSyncedUntil()).isEmpty();
+        emptyIndex.close();
+    }
+
+    @Test
+    @DisplayName("토큰이 없는 검색어는 색인을 사용하지 않는 테스트")
+    public void noTokenSearchTest() {
+        // when, then
+        assertThat(itemSearchIndex.search(1L, " ")).isEmpty();
+        assertThat(itemSearchIndex.isEmpty()).isFalse();
+    }
+}
@@ -0,0 +1,66 @@
+package LinkerBell.campus_market_spring.global.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import LinkerBell.campus_market_spring.global.search.KeywordAutomaton.KeywordMatch;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class KeywordAutomatonTest {
+
+    KeywordAutomaton automaton;
+
+    @BeforeEach
+    public void setUp() {
+        automaton = new KeywordAutomaton();
+    }
+
+    @Test
+    @DisplayName("제목에 포함된 키워드를 겹치는 경우까지 모두 찾는 테스트")
+    public void matchTest() {
+        // given
+        automaton.add(1L, 10L, "아이폰");
+        automaton.add(2L, 11L, "아이폰15");
+        automaton.add(3L, 12L, "폰");
+        automaton.add(4L, 13L, "갤럭시");
+        automaton.add(5L, 14L, "he");
+        automaton.add(6L, 15L, "she");
+        automaton.add(7L, 16L, "hers");
+
+        // when, then
+        assertThat(automaton.match("아이폰15 프로 팝니다")).containsExactlyInAnyOrder(
+            new KeywordMatch(1L, 10L), new KeywordMatch(2L, 11L), new KeywordMatch(3L, 12L));
+        assertThat(automaton.match("ushers")).containsExactlyInAnyOrder(
+            new KeywordMatch(5L, 14L), new KeywordMatch(6L, 15L), new KeywordMatch(7L, 16L));
+        assertThat(automaton.match("책상")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("매칭 이후에 추가, 삭제한 키워드가 다음 매칭에 반영되는 테스트")
+    public void incrementalUpdateTest() {
+        // given
+        automaton.add(1L, 10L, "camera");
+        assertThat(automaton.match("sony camera")).containsExactly(new KeywordMatch(1L, 10L));
+
+        // when
+        automaton.add(2L, 11L, "sony");
+        automaton.remove(1L);
+
+        // then
+        assertThat(automaton.match("sony camera")).containsExactly(new KeywordMatch(2L, 11L));
+        assertThat(automaton.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 키워드를 여러 사용자가 등록하면 모두 찾는 테스트")
+    public void sameKeywordTest() {
+        // given
+        automaton.add(1L, 10L, "table");
+        automaton.add(2L, 11L, "table");
+
+        // when, then
+        assertThat(automaton.match("wood table")).containsExactlyInAnyOrder(
+            new KeywordMatch(1L, 10L), new KeywordMatch(2L, 11L));
+    }
+}
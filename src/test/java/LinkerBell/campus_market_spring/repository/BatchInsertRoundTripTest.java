@@ -0,0 +1,158 @@
+package LinkerBell.campus_market_spring.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import LinkerBell.campus_market_spring.domain.Item;
+import LinkerBell.campus_market_spring.domain.NotificationHistory;
+import LinkerBell.campus_market_spring.domain.User;
+import jakarta.persistence.EntityManagerFactory;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MariaDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * 알림 내역 1,000건을 저장할 때 DB로 보내는 요청 수를 비교한다. JPA saveAll은 Hibernate가 준비한 statement 수로, BatchInsertRepository는
+ * JDBC execute / executeBatch 호출 수로 센다. (MariaDB 드라이버는 executeBatch 한 번을 bulk 요청 한 번으로 보낸다)
+ */
+@DataJpaTest
+@Testcontainers
+@TestInstance(Lifecycle.PER_CLASS)
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BatchInsertRoundTripTest {
+
+    private static final int ROW_COUNT = 1000;
+
+    @Container
+    public static MariaDBContainer<?> mariaDB = new MariaDBContainer<>(
+        DockerImageName.parse("mariadb:10.11"));
+
+    @DynamicPropertySource
+    static void mariaDBProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", mariaDB::getJdbcUrl);
+        registry.add("spring.datasource.username", mariaDB::getUsername);
+        registry.add("spring.datasource.password", mariaDB::getPassword);
+        registry.add("spring.datasource.driver-class-name", mariaDB::getDriverClassName);
+        registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.MariaDBDialect");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create");
+        registry.add("spring.jpa.properties.hibernate.generate_statistics", () -> "true");
+    }
+
+    @Autowired
+    DataSource dataSource;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    NotificationHistoryRepository notificationHistoryRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    ItemRepository itemRepository;
+
+    User user;
+    Item item;
+
+    @BeforeAll
+    public void setUp() {
+        user = userRepository.save(User.builder().loginEmail("user@example.com").build());
+        item = itemRepository.save(Item.builder().user(user).title("sony camera").build());
+    }
+
+    @Test
+    @DisplayName("JPA saveAll은 행마다, BatchInsertRepository는 batch마다 요청을 보내는 테스트")
+    public void notificationHistoryRoundTripTest() {
+        // given
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        AtomicInteger jdbcRoundTrips = new AtomicInteger();
+        BatchInsertRepository batchInsertRepository = new BatchInsertRepository(
+            new JdbcTemplate(countingDataSource(dataSource, jdbcRoundTrips)));
+
+        // when
+        statistics.clear();
+        notificationHistoryRepository.saveAll(createNotificationHistories());
+        long jpaRoundTrips = statistics.getPrepareStatementCount();
+
+        batchInsertRepository.saveNotificationHistories(createNotificationHistories());
+
+        // then
+        assertThat(jpaRoundTrips).isGreaterThanOrEqualTo(ROW_COUNT);
+        assertThat(jdbcRoundTrips.get()).isEqualTo(
+            (ROW_COUNT + BatchInsertRepository.BATCH_SIZE - 1) / BatchInsertRepository.BATCH_SIZE);
+        assertThat(notificationHistoryRepository.count()).isEqualTo(ROW_COUNT * 2L);
+    }
+
+    private List<NotificationHistory> createNotificationHistories() {
+        List<NotificationHistory> notificationHistories = new ArrayList<>();
+        for (int i = 0; i < ROW_COUNT; i++) {
+            notificationHistories.add(NotificationHistory.builder()
+                .user(user)
+                .item(item)
+                .title("camera 키워드 알림")
+                .description(item.getTitle())
+                .deeplink("deeplink/" + item.getItemId())
+                .build());
+        }
+        return notificationHistories;
+    }
+
+    // DataSource -> Connection -> PreparedStatement를 감싸 execute로 시작하는 호출 수를 센다.
+    private DataSource countingDataSource(DataSource target, AtomicInteger roundTrips) {
+        return proxy(DataSource.class, target, (method, result) -> result instanceof Connection
+            ? proxy(Connection.class, result, (connectionMethod, statement) ->
+            statement instanceof PreparedStatement ? proxy(PreparedStatement.class, statement,
+                (statementMethod, executed) -> {
+                    if (statementMethod.getName().startsWith("execute")) {
+                        roundTrips.incrementAndGet();
+                    }
+                    return executed;
+                }) : statement)
+            : result);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T proxy(Class<T> type, Object target, ResultMapper resultMapper) {
+        return (T) Proxy.newProxyInstance(getClass().getClassLoader(), new Class[]{type},
+            (proxy, method, args) -> {
+                try {
+                    return resultMapper.map(method, method.invoke(target, args));
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            });
+    }
+
+    private interface ResultMapper {
+
+        Object map(Method method, Object result);
+    }
+}
@@ -0,0 +1,204 @@
+package LinkerBell.campus_market_spring.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import LinkerBell.campus_market_spring.domain.ChatDeadLetterReason;
+import LinkerBell.campus_market_spring.domain.ChatMessage;
+import LinkerBell.campus_market_spring.domain.ChatRoom;
+import LinkerBell.campus_market_spring.domain.ContentType;
+import LinkerBell.campus_market_spring.domain.Item;
+import LinkerBell.campus_market_spring.domain.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@DataJpaTest
+class ChatMessageIdAllocatorTest {
+
+    @Autowired
+    DataSource dataSource;
+
+    @Autowired
+    ChatMessageRepository chatMessageRepository;
+
+    @Autowired
+    ChatRoomRepository chatRoomRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    ItemRepository itemRepository;
+
+    @PersistenceContext
+    EntityManager em;
+
+    ChatMessageIdAllocator chatMessageIdAllocator;
+    BatchInsertRepository batchInsertRepository;
+    User user;
+    ChatRoom chatRoom;
+
+    @BeforeEach
+    void beforeEach() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        chatMessageIdAllocator = new ChatMessageIdAllocator(jdbcTemplate);
+        batchInsertRepository = new BatchInsertRepository(jdbcTemplate);
+
+        user = userRepository.save(User.builder().nickname("buyer").build());
+        User seller = userRepository.save(User.builder().nickname("seller").build());
+        Item item = itemRepository.save(Item.builder().user(seller).title("camera").build());
+        chatRoom = chatRoomRepository.save(
+            ChatRoom.builder().user(user).item(item).userCount(2).build());
+    }
+
+    @Test
+    @DisplayName("allocator가 나눠 준 id와 JPA save가 받은 id가 겹치지 않는 테스트")
+    public void allocatorAndJpaDoNotOverlapTest() {
+        // given
+        Set<Long> ids = new HashSet<>();
+
+        // when
+        for (int i = 0; i < ChatMessage.ID_BLOCK_SIZE + 10; i++) {
+            ids.add(chatMessageIdAllocator.nextId());
+            if (i % 100 == 0) {
+                ids.add(chatMessageRepository.save(message(null)).getMessageId());
+            }
+        }
+
+        // then
+        assertThat(ids).hasSize(ChatMessage.ID_BLOCK_SIZE + 10 + 11);
+        assertThat(ids).allMatch(id -> id >= 1);
+    }
+
+    @Test
+    @DisplayName("allocator와 JPA가 번갈아 블록 경계를 넘어도 id가 겹치지 않는 테스트")
+    public void allocatorAndJpaDoNotOverlapAcrossBlocksTest() {
+        // given
+        int count = ChatMessage.ID_BLOCK_SIZE * 2 + 1;
+        Set<Long> allocatorIds = new HashSet<>();
+        Set<Long> jpaIds = new HashSet<>();
+
+        // when
+        for (int i = 0; i < count; i++) {
+            allocatorIds.add(chatMessageIdAllocator.nextId());
+            ChatMessage saved = message(null);
+            em.persist(saved);
+            jpaIds.add(saved.getMessageId());
+            if (i % 500 == 0) {
+                em.flush();
+                em.clear();
+            }
+        }
+        em.flush();
+
+        // then
+        assertThat(allocatorIds).hasSize(count).allMatch(id -> id >= 1);
+        assertThat(jpaIds).hasSize(count).doesNotContainAnyElementsOf(allocatorIds);
+    }
+
+    @Test
+    @DisplayName("sequence 값 하나를 블록 끝까지 포함해 나눠 주는 테스트")
+    public void blockBoundaryTest() {
+        // given
+        long[] values = {1L, 1001L, 2001L};
+        int[] call = {0};
+        ChatMessageIdAllocator allocator = new ChatMessageIdAllocator(null) {
+            @Override
+            protected long nextSequenceValue() {
+                return values[call[0]++];
+            }
+        };
+
+        // when
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < ChatMessage.ID_BLOCK_SIZE + 1; i++) {
+            ids.add(allocator.nextId());
+        }
+
+        // then
+        // 첫 값 1은 버리고 1001로 [2, 1001], 2001로 [1002, 2001]을 쓴다. (Hibernate pooled optimizer와 같은 범위)
+        assertThat(ids.get(0)).isEqualTo(2L);
+        assertThat(ids.get(ChatMessage.ID_BLOCK_SIZE - 1)).isEqualTo(1001L);
+        assertThat(ids.get(ChatMessage.ID_BLOCK_SIZE)).isEqualTo(1002L);
+    }
+
+    @Test
+    @DisplayName("미리 받은 id로 batch 저장한 메시지를 그 id로 조회하는 테스트")
+    public void saveChatMessagesTest() {
+        // given
+        List<ChatMessage> chatMessages = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            ChatMessage chatMessage = message(chatMessageIdAllocator.nextId());
+            chatMessage.setCreatedDate(LocalDateTime.now());
+            chatMessages.add(chatMessage);
+        }
+
+        // when
+        batchInsertRepository.saveChatMessages(chatMessages);
+        em.clear();
+
+        // then
+        for (ChatMessage chatMessage : chatMessages) {
+            ChatMessage saved = chatMessageRepository.findById(chatMessage.getMessageId())
+                .orElseThrow();
+            assertThat(saved.getChatRoom().getChatRoomId()).isEqualTo(chatRoom.getChatRoomId());
+            assertThat(saved.getContent()).isEqualTo("hello");
+            assertThat(saved.getCreatedDate()).isNotNull();
+        }
+    }
+
+    @Test
+    @DisplayName("삭제된 채팅방, 중복 id 메시지도 dead letter로 남기는 테스트")
+    public void saveChatMessageDeadLettersTest() {
+        // given
+        ChatMessage chatMessage = message(chatMessageIdAllocator.nextId());
+        chatMessage.setCreatedDate(LocalDateTime.now());
+        ChatMessage deletedRoomMessage = ChatMessage.builder()
+            .messageId(chatMessage.getMessageId())
+            .chatRoom(ChatRoom.builder().chatRoomId(-1L).build())
+            .user(User.builder().userId(user.getUserId()).build())
+            .content("hello")
+            .contentType(ContentType.TEXT)
+            .build();
+
+        // when
+        batchInsertRepository.saveChatMessageDeadLetters(
+            List.of(chatMessage, deletedRoomMessage), ChatDeadLetterReason.DUPLICATE_ID,
+            "Duplicate entry");
+
+        // then
+        List<Map<String, Object>> rows = new JdbcTemplate(dataSource).queryForList(
+            "select message_id, chat_room_id, reason, received_at from chat_message_dead_letter "
+                + "order by chat_message_dead_letter_id");
+        assertThat(rows).hasSize(2);
+        assertThat(rows).extracting(row -> ((Number) row.get("MESSAGE_ID")).longValue())
+            .containsOnly(chatMessage.getMessageId());
+        assertThat(rows.get(1).get("CHAT_ROOM_ID")).isEqualTo(-1L);
+        assertThat(rows.get(0).get("REASON")).isEqualTo("DUPLICATE_ID");
+        assertThat(rows.get(0).get("RECEIVED_AT")).isNotNull();
+        assertThat(rows.get(1).get("RECEIVED_AT")).isNull();
+    }
+
+    private ChatMessage message(Long messageId) {
+        return ChatMessage.builder()
+            .messageId(messageId)
+            .chatRoom(ChatRoom.builder().chatRoomId(chatRoom.getChatRoomId()).build())
+            .user(User.builder().userId(user.getUserId()).build())
+            .content("hello")
+            .contentType(ContentType.TEXT)
+            .roomSequence(messageId)
+            .build();
+    }
+}
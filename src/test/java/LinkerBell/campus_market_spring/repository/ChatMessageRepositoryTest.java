@@ -1,8 +1,18 @@
 package LinkerBell.campus_market_spring.repository;
 
 import LinkerBell.campus_market_spring.domain.ChatMessage;
+import LinkerBell.campus_market_spring.domain.ChatProperties;
 import LinkerBell.campus_market_spring.domain.ChatRoom;
+import LinkerBell.campus_market_spring.domain.ContentType;
+import LinkerBell.campus_market_spring.domain.Item;
 import LinkerBell.campus_market_spring.domain.User;
+import LinkerBell.campus_market_spring.dto.ChatMessageResponseDto;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -11,11 +21,14 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 @ExtendWith(SpringExtension.class)
-@DataJpaTest
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 class ChatMessageRepositoryTest {
 
     @Autowired
@@ -24,9 +37,52 @@ class ChatMessageRepositoryTest {
     @Autowired
     private ChatRoomRepository chatRoomRepository;
 
+    @Autowired
+    private ChatPropertiesRepository chatPropertiesRepository;
+
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @PersistenceContext
+    private EntityManager em;
+
+    private User buyer;
+    private User seller;
+    private ChatRoom syncChatRoom;
+    private ChatRoom otherChatRoom;
+
+    @BeforeEach
+    void beforeEach() {
+        buyer = userRepository.save(User.builder().nickname("buyer").build());
+        seller = userRepository.save(User.builder().nickname("seller").build());
+        User otherBuyer = userRepository.save(User.builder().nickname("otherBuyer").build());
+        Item item = itemRepository.save(Item.builder().user(seller).title("camera").build());
+
+        syncChatRoom = createChatRoom(buyer, item, false);
+        otherChatRoom = createChatRoom(buyer,
+            itemRepository.save(Item.builder().user(otherBuyer).title("lens").build()), false);
+        ChatRoom exitedChatRoom = createChatRoom(buyer,
+            itemRepository.save(Item.builder().user(otherBuyer).title("tripod").build()), true);
+        // buyer가 참여하지 않은 채팅방
+        ChatRoom notParticipated = createChatRoom(otherBuyer, item, false);
+
+        for (long sequence = 1; sequence <= 3; sequence++) {
+            createMessage(syncChatRoom, seller, sequence);
+            createMessage(otherChatRoom, buyer, sequence);
+            createMessage(exitedChatRoom, otherBuyer, sequence);
+            createMessage(notParticipated, otherBuyer, sequence);
+        }
+
+        em.flush();
+        em.clear();
+    }
+
     @Test
     @DisplayName("findLastReadMessage()로 가장 최근의 읽음 처리된 메시지를 조회")
     void findLastReadMessage_ShouldReturnMostRecentReadMessage() {
@@ -80,4 +136,93 @@ class ChatMessageRepositoryTest {
             message3.getCreatedDate()); // 생성 날짜 확인
         assertThat(lastReadMessage.isRead()).isTrue(); // isRead가 true인지 확인
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("참여 중인 채팅방의 커서 이후 메시지를 채팅방, 순번 순으로 쿼리 한 번에 가져오는 테스트")
+    public void findMessagesAfterTest() {
+        // given
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        List<ChatMessageResponseDto> messages = chatMessageRepository.findMessagesAfter(
+            buyer.getUserId(), Map.of(syncChatRoom.getChatRoomId(), 1L), 10);
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1L);
+        assertThat(messages)
+            .extracting(ChatMessageResponseDto::getChatRoomId,
+                ChatMessageResponseDto::getRoomSequence)
+            .containsExactly(
+                tuple(syncChatRoom.getChatRoomId(), 2L),
+                tuple(syncChatRoom.getChatRoomId(), 3L),
+                tuple(otherChatRoom.getChatRoomId(), 1L),
+                tuple(otherChatRoom.getChatRoomId(), 2L),
+                tuple(otherChatRoom.getChatRoomId(), 3L));
+        assertThat(messages.get(0).getUserId()).isEqualTo(seller.getUserId());
+        assertThat(messages.get(0).getContent()).isEqualTo("hello 2");
+        assertThat(messages.get(0).getCreatedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("커서가 없으면 처음부터 limit개까지만 가져오는 테스트")
+    public void findMessagesAfterWithLimitTest() {
+        // when
+        List<ChatMessageResponseDto> messages = chatMessageRepository.findMessagesAfter(
+            buyer.getUserId(), Map.of(), 2);
+
+        // then
+        assertThat(messages)
+            .extracting(ChatMessageResponseDto::getChatRoomId,
+                ChatMessageResponseDto::getRoomSequence)
+            .containsExactly(
+                tuple(syncChatRoom.getChatRoomId(), 1L),
+                tuple(syncChatRoom.getChatRoomId(), 2L));
+    }
+
+    @Test
+    @DisplayName("여러 메시지 내용을 채팅방, 사용자 조회 없이 쿼리 한 번에 가져오는 테스트")
+    public void findMessageContentsByIdsTest() {
+        // given
+        List<Long> messageIds = chatMessageRepository.findAll().stream()
+            .filter(message -> message.getChatRoom().getChatRoomId()
+                .equals(syncChatRoom.getChatRoomId()))
+            .map(ChatMessage::getMessageId)
+            .sorted()
+            .toList();
+        em.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        List<ChatMessageResponseDto> messages = chatMessageRepository.findMessageContentsByIds(
+            List.of(messageIds.get(0), messageIds.get(2), -1L));
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1L);
+        assertThat(messages)
+            .extracting(ChatMessageResponseDto::getMessageId, ChatMessageResponseDto::getUserId,
+                ChatMessageResponseDto::getContent)
+            .containsExactlyInAnyOrder(
+                tuple(messageIds.get(0), seller.getUserId(), "hello 1"),
+                tuple(messageIds.get(2), seller.getUserId(), "hello 3"));
+    }
+
+    private ChatRoom createChatRoom(User roomBuyer, Item item, boolean buyerExited) {
+        ChatRoom savedChatRoom = chatRoomRepository.save(
+            ChatRoom.builder().user(roomBuyer).item(item).userCount(2).build());
+        chatPropertiesRepository.save(ChatProperties.builder().user(roomBuyer)
+            .chatRoom(savedChatRoom).isAlarm(true).title(item.getUser().getNickname())
+            .isExited(buyerExited).build());
+        chatPropertiesRepository.save(ChatProperties.builder().user(item.getUser())
+            .chatRoom(savedChatRoom).isAlarm(true).title(roomBuyer.getNickname())
+            .isExited(false).build());
+        return savedChatRoom;
+    }
+
+    private void createMessage(ChatRoom room, User sender, long roomSequence) {
+        chatMessageRepository.save(ChatMessage.builder().chatRoom(room).user(sender)
+            .content("hello " + roomSequence).contentType(ContentType.TEXT)
+            .roomSequence(roomSequence).build());
+    }
+}
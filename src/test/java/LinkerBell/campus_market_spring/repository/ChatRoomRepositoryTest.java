@@ -0,0 +1,251 @@
+package LinkerBell.campus_market_spring.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import LinkerBell.campus_market_spring.domain.ChatMessage;
+import LinkerBell.campus_market_spring.domain.ChatProperties;
+import LinkerBell.campus_market_spring.domain.ChatRoom;
+import LinkerBell.campus_market_spring.domain.ContentType;
+import LinkerBell.campus_market_spring.domain.Item;
+import LinkerBell.campus_market_spring.domain.User;
+import LinkerBell.campus_market_spring.dto.ChatRoomDataResponseDto;
+import LinkerBell.campus_market_spring.dto.ChatRoomMembersDto;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ChatRoomRepositoryTest {
+
+    @Autowired
+    ChatRoomRepository chatRoomRepository;
+
+    @Autowired
+    ChatPropertiesRepository chatPropertiesRepository;
+
+    @Autowired
+    ChatMessageRepository chatMessageRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    ItemRepository itemRepository;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @PersistenceContext
+    EntityManager em;
+
+    User buyer;
+    User seller;
+    User otherBuyer;
+    ChatRoom chatRoom;
+    ChatRoom otherChatRoom;
+    ChatRoom exitedChatRoom;
+    Long firstMessageId;
+    Long lastReadMessageId;
+    Long lastMessageId;
+    long lastSequence;
+
+    @BeforeEach
+    void beforeEach() {
+        buyer = userRepository.save(User.builder().nickname("buyer").build());
+        seller = userRepository.save(User.builder().nickname("seller").build());
+        otherBuyer = userRepository.save(User.builder().nickname("otherBuyer").build());
+
+        Item item = itemRepository.save(
+            Item.builder().user(seller).title("camera").thumbnail("thumbnail").build());
+        Item otherItem = itemRepository.save(
+            Item.builder().user(otherBuyer).title("lens").thumbnail("thumbnail2").build());
+
+        chatRoom = createChatRoom(buyer, item);
+        otherChatRoom = createChatRoom(otherBuyer, item);
+        // buyer가 판매자인 채팅방은 조회하지 않고, buyer가 나간 채팅방도 조회하지 않는다.
+        createChatRoom(seller, otherItem);
+        exitedChatRoom = createChatRoom(buyer, otherItem);
+        em.createQuery("update ChatProperties cp set cp.isExited = true " +
+                "where cp.chatRoom = :chatRoom and cp.user = :user")
+            .setParameter("chatRoom", exitedChatRoom)
+            .setParameter("user", buyer)
+            .executeUpdate();
+
+        firstMessageId = createMessage(chatRoom, buyer, true).getMessageId();
+        ChatMessage lastRead = createMessage(chatRoom, seller, true);
+        lastMessageId = createMessage(chatRoom, seller, false).getMessageId();
+        lastReadMessageId = lastRead.getMessageId();
+
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    @DisplayName("구매자 기준 채팅방 목록을 상대방 정보로 채워 가져오는 테스트")
+    public void findChatRoomDataByBuyerTest() {
+        // when
+        List<ChatRoomDataResponseDto> chatRooms = chatRoomRepository.findChatRoomDataByUserId(
+            buyer.getUserId());
+
+        // then
+        assertThat(chatRooms).hasSize(1);
+        ChatRoomDataResponseDto chatRoomData = chatRooms.get(0);
+        assertThat(chatRoomData.getChatRoomId()).isEqualTo(chatRoom.getChatRoomId());
+        assertThat(chatRoomData.getUserId()).isEqualTo(seller.getUserId());
+        assertThat(chatRoomData.getTitle()).isEqualTo("seller");
+        assertThat(chatRoomData.getThumbnail()).isEqualTo("thumbnail");
+        assertThat(chatRoomData.getIsAlarm()).isTrue();
+        assertThat(chatRoomData.getMessageId()).isEqualTo(lastReadMessageId);
+        assertThat(chatRoomData.getLastMessageId()).isEqualTo(lastMessageId);
+        assertThat(chatRoomData.getLastMessagePreview()).isEqualTo("hello");
+        assertThat(chatRoomData.getUnreadCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("판매자 기준 채팅방 목록을 최근 활동 순으로 쿼리 한 번에 가져오는 테스트")
+    public void findChatRoomDataBySellerTest() {
+        // given
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        List<ChatRoomDataResponseDto> chatRooms = chatRoomRepository.findChatRoomDataByUserId(
+            seller.getUserId());
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1L);
+        assertThat(chatRooms).extracting(ChatRoomDataResponseDto::getChatRoomId)
+            .containsExactly(chatRoom.getChatRoomId(), otherChatRoom.getChatRoomId());
+        assertThat(chatRooms.get(0).getUserId()).isEqualTo(buyer.getUserId());
+        // 판매자가 읽은 것은 구매자가 보낸 첫 메시지뿐이다.
+        assertThat(chatRooms.get(0).getMessageId()).isEqualTo(firstMessageId);
+        assertThat(chatRooms.get(0).getTitle()).isEqualTo("buyer");
+        assertThat(chatRooms.get(0).getUnreadCount()).isEqualTo(0);
+        assertThat(chatRooms.get(1).getTitle()).isEqualTo("otherBuyer");
+        assertThat(chatRooms.get(1).getMessageId()).isEqualTo(-1L);
+        assertThat(chatRooms.get(1).getLastMessageId()).isNull();
+    }
+
+    @Test
+    @DisplayName("나간 채팅방도 1개 조회로는 가져오는 테스트")
+    public void findChatRoomDataByUserIdAndChatRoomIdTest() {
+        // when
+        Optional<ChatRoomDataResponseDto> exited = chatRoomRepository
+            .findChatRoomDataByUserIdAndChatRoomId(buyer.getUserId(),
+                exitedChatRoom.getChatRoomId());
+        Optional<ChatRoomDataResponseDto> notParticipated = chatRoomRepository
+            .findChatRoomDataByUserIdAndChatRoomId(buyer.getUserId(),
+                otherChatRoom.getChatRoomId());
+
+        // then
+        assertThat(exited).isPresent();
+        assertThat(exited.get().getTitle()).isEqualTo("otherBuyer");
+        assertThat(notParticipated).isEmpty();
+    }
+
+    @Test
+    @DisplayName("먼저 읽은 메시지로는 읽은 위치를 되돌리지 않는 테스트")
+    public void updateLastReadMessageIdTest() {
+        // when
+        int updated = chatPropertiesRepository.updateLastReadMessageId(chatRoom.getChatRoomId(),
+            seller.getUserId(), firstMessageId);
+
+        // then
+        assertThat(updated).isEqualTo(0);
+        assertThat(chatRoomRepository.findChatRoomDataByUserIdAndChatRoomId(buyer.getUserId(),
+            chatRoom.getChatRoomId()).orElseThrow().getMessageId()).isEqualTo(lastReadMessageId);
+    }
+
+    @Test
+    @DisplayName("채팅방 참여자와 나갔는지 여부를 함께 가져오는 테스트")
+    public void findMembersByChatRoomIdTest() {
+        // when
+        ChatRoomMembersDto members = chatRoomRepository.findMembersByChatRoomId(
+            exitedChatRoom.getChatRoomId()).orElseThrow();
+
+        // then
+        assertThat(members.buyerId()).isEqualTo(buyer.getUserId());
+        assertThat(members.sellerId()).isEqualTo(otherBuyer.getUserId());
+        assertThat(members.contains(buyer.getUserId())).isFalse();
+        assertThat(members.contains(otherBuyer.getUserId())).isTrue();
+        assertThat(chatRoomRepository.findMembersByChatRoomId(chatRoom.getChatRoomId())
+            .orElseThrow().contains(buyer.getUserId())).isTrue();
+    }
+
+    @Test
+    @DisplayName("채팅방 순번이 더 작은 메시지로는 마지막 메시지를 덮어쓰지 않는 테스트")
+    public void updateLastMessageTest() {
+        // when
+        int updated = chatRoomRepository.updateLastMessage(chatRoom.getChatRoomId(),
+            lastReadMessageId, 2L, "old", LocalDateTime.now());
+
+        // then
+        assertThat(updated).isEqualTo(0);
+        assertThat(chatRoomRepository.findById(chatRoom.getChatRoomId()).orElseThrow()
+            .getLastMessagePreview()).isEqualTo("hello");
+        assertThat(chatRoomRepository.findLastSequence(chatRoom.getChatRoomId()))
+            .contains(3L);
+        assertThat(chatRoomRepository.findLastSequence(otherChatRoom.getChatRoomId()))
+            .isEmpty();
+    }
+
+    @Test
+    @DisplayName("불러온 채팅방을 고쳐 저장해도 그 사이 갱신된 마지막 메시지를 덮어쓰지 않는 테스트")
+    public void dynamicUpdateTest() {
+        // given
+        ChatRoom loaded = chatRoomRepository.findById(chatRoom.getChatRoomId()).orElseThrow();
+        chatRoomRepository.updateLastMessage(chatRoom.getChatRoomId(), lastMessageId + 1,
+            lastSequence + 1, "newer", LocalDateTime.now());
+
+        // when
+        loaded.setUserCount(1);
+        em.flush();
+        em.clear();
+
+        // then
+        ChatRoom saved = chatRoomRepository.findById(chatRoom.getChatRoomId()).orElseThrow();
+        assertThat(saved.getUserCount()).isEqualTo(1);
+        assertThat(saved.getLastMessagePreview()).isEqualTo("newer");
+        assertThat(saved.getLastSequence()).isEqualTo(lastSequence + 1);
+    }
+
+    private ChatRoom createChatRoom(User roomBuyer, Item item) {
+        ChatRoom savedChatRoom = chatRoomRepository.save(
+            ChatRoom.builder().user(roomBuyer).item(item).userCount(2)
+                .lastActivityAt(LocalDateTime.now().minusDays(1)).build());
+        chatPropertiesRepository.save(ChatProperties.builder().user(roomBuyer)
+            .chatRoom(savedChatRoom).isAlarm(true).title(item.getUser().getNickname())
+            .isExited(false).build());
+        chatPropertiesRepository.save(ChatProperties.builder().user(item.getUser())
+            .chatRoom(savedChatRoom).isAlarm(true).title(roomBuyer.getNickname())
+            .isExited(false).build());
+        return savedChatRoom;
+    }
+
+    // ChatMessageWriter, ChatMessageService처럼 저장하면서 마지막 메시지와 안 읽은 개수를 갱신한다.
+    private ChatMessage createMessage(ChatRoom room, User sender, boolean isRead) {
+        ChatMessage chatMessage = chatMessageRepository.save(ChatMessage.builder().chatRoom(room)
+            .user(sender).content("hello").contentType(ContentType.TEXT).isRead(isRead)
+            .roomSequence(++lastSequence).build());
+        chatRoomRepository.updateLastMessage(room.getChatRoomId(), chatMessage.getMessageId(),
+            chatMessage.getRoomSequence(), chatMessage.getContent(), LocalDateTime.now());
+        chatPropertiesRepository.increaseUnreadCount(room.getChatRoomId(), sender.getUserId(), 1);
+        if (isRead) {
+            chatPropertiesRepository.decreaseUnreadCount(room.getChatRoomId(),
+                sender.getUserId());
+            chatPropertiesRepository.updateLastReadMessageId(room.getChatRoomId(),
+                sender.getUserId(), chatMessage.getMessageId());
+        }
+        return chatMessage;
+    }
+}
@@ -0,0 +1,203 @@
+package LinkerBell.campus_market_spring.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MariaDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * 운영과 같은 MariaDB에서 스키마와 db/migration 스크립트를 적용하고, 자주 실행되는 조건의 실행 계획을 확인한다. 인덱스 없이 전체 스캔(type = ALL)으로
+ * 떨어지는 쿼리가 있으면 실패한다.
+ */
+@DataJpaTest
+@Testcontainers
+@TestInstance(Lifecycle.PER_CLASS)
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class HotQueryIndexExplainTest {
+
+    private static final String MIGRATION_SCRIPT = "db/migration/V1__add_hot_query_indexes.sql";
+
+    @Container
+    public static MariaDBContainer<?> mariaDB = new MariaDBContainer<>(
+        DockerImageName.parse("mariadb:10.11"));
+
+    @DynamicPropertySource
+    static void mariaDBProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", mariaDB::getJdbcUrl);
+        registry.add("spring.datasource.username", mariaDB::getUsername);
+        registry.add("spring.datasource.password", mariaDB::getPassword);
+        registry.add("spring.datasource.driver-class-name", mariaDB::getDriverClassName);
+        registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.MariaDBDialect");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create");
+    }
+
+    @Autowired
+    DataSource dataSource;
+
+    JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    public void setUp() throws Exception {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        try (Connection connection = dataSource.getConnection()) {
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource(MIGRATION_SCRIPT));
+        }
+
+        // 캠퍼스 20개, 사용자 400명, 아이템 20000개 규모로 채워 옵티마이저가 실제 분포로 계획을 세우게 한다.
+        jdbcTemplate.execute("INSERT INTO campus (university_name, region, email, created_date, last_modified_date) "
+            + "SELECT CONCAT('univ', seq), 'region', 'ajou.ac.kr', NOW(), NOW() FROM seq_1_to_20");
+        jdbcTemplate.execute("INSERT INTO users (campus_id, login_email, rating, role, is_deleted, created_date, last_modified_date) "
+            + "SELECT (SELECT MIN(campus_id) FROM campus) + seq % 20, CONCAT('user', seq, '@example.com'), "
+            + "0, 'USER', false, NOW(), NOW() FROM seq_1_to_400");
+        jdbcTemplate.execute("INSERT INTO item (user_id, campus_id, title, description, price, category, item_status, "
+            + "thumbnail, is_deleted, chat_count, like_count, created_date, last_modified_date) "
+            + "SELECT u.user_id, u.campus_id, CONCAT('item', s.seq), 'description', s.seq * 100, 'ELECTRONICS_IT', "
+            + "IF(s.seq % 4 = 0, 'SOLDOUT', 'FORSALE'), 'thumbnail', s.seq % 10 = 0, 0, 0, "
+            + "NOW() - INTERVAL s.seq MINUTE, NOW() - INTERVAL s.seq MINUTE FROM seq_1_to_50 s CROSS JOIN users u");
+        jdbcTemplate.execute("INSERT INTO likes (user_id, item_id, created_date, last_modified_date) "
+            + "SELECT u.user_id, i.item_id, NOW(), NOW() FROM users u JOIN item i "
+            + "ON i.item_id % 400 = u.user_id % 400 AND i.item_id % 7 = 0");
+        jdbcTemplate.execute("INSERT INTO chat_room (user_id, item_id, user_count, created_date, last_modified_date) "
+            + "SELECT u.user_id, i.item_id, 2, NOW(), NOW() FROM users u JOIN item i "
+            + "ON i.item_id % 400 = (u.user_id + 1) % 400 AND i.item_id % 5 = 0");
+        jdbcTemplate.execute("INSERT INTO chat_properties (user_id, chat_room_id, is_alarm, title, is_exited, unread_count, created_date, last_modified_date) "
+            + "SELECT c.user_id, c.chat_room_id, true, 'title', false, 0, NOW(), NOW() FROM chat_room c");
+        jdbcTemplate.execute("INSERT INTO user_fcm_token (user_id, fcm_token, created_date, last_modified_date) "
+            + "SELECT u.user_id, CONCAT('fcm-token-', u.user_id, '-', s.seq), NOW(), NOW() "
+            + "FROM users u CROSS JOIN seq_1_to_3 s");
+
+        jdbcTemplate.execute("ANALYZE TABLE item, likes, chat_room, chat_properties, user_fcm_token");
+    }
+
+    @Test
+    @DisplayName("캠퍼스 + 판매 상태 목록 조회가 인덱스 순서로 최신순 정렬까지 처리하는 테스트")
+    public void itemSearchWithStatusTest() {
+        List<Map<String, Object>> plan = explain(
+            "SELECT item_id FROM item WHERE campus_id = ? AND is_deleted = false "
+                + "AND item_status = 'FORSALE' ORDER BY created_date DESC LIMIT 21", campusId());
+
+        assertIndexed(plan, "item");
+        assertNoFilesort(plan, "item");
+    }
+
+    @Test
+    @DisplayName("판매 상태 필터가 없는 캠퍼스 목록 조회가 인덱스를 쓰는 테스트")
+    public void itemSearchTest() {
+        List<Map<String, Object>> plan = explain(
+            "SELECT item_id FROM item WHERE campus_id = ? AND is_deleted = false "
+                + "ORDER BY created_date DESC LIMIT 21", campusId());
+
+        assertIndexed(plan, "item");
+        assertNoFilesort(plan, "item");
+    }
+
+    @Test
+    @DisplayName("검색 색인 동기화의 최근 수정 아이템 조회가 인덱스를 쓰는 테스트")
+    public void itemModifiedSinceTest() {
+        // ItemSearchIndexService.syncModifiedItems
+        List<Map<String, Object>> plan = explain(
+            "SELECT item_id FROM item WHERE last_modified_date >= NOW() - INTERVAL 40 SECOND");
+
+        assertIndexed(plan, "item");
+    }
+
+    @Test
+    @DisplayName("좋아요 여부, 페이지 단위 좋아요 조회가 인덱스를 쓰는 테스트")
+    public void likesTest() {
+        Long userId = userId();
+
+        assertIndexed(explain(
+            "SELECT like_id FROM likes WHERE user_id = ? AND item_id = ? LIMIT 1", userId, 7L), "likes");
+        assertIndexed(explain(
+            "SELECT item_id FROM likes WHERE user_id = ? AND item_id IN (7, 14, 21, 28)", userId), "likes");
+    }
+
+    @Test
+    @DisplayName("채팅방 존재 여부, 사용자 채팅방 목록 조회가 인덱스를 쓰는 테스트")
+    public void chatRoomTest() {
+        Long userId = userId();
+
+        assertIndexed(explain(
+            "SELECT chat_room_id FROM chat_room WHERE user_id = ? AND item_id = ? LIMIT 1", userId, 5L),
+            "chat_room");
+        assertIndexed(explain(
+            "SELECT chat_room_id FROM chat_room WHERE user_id = ?", userId), "chat_room");
+    }
+
+    @Test
+    @DisplayName("사용자, 채팅방으로 채팅방 설정을 찾는 조회가 인덱스를 쓰는 테스트")
+    public void chatPropertiesTest() {
+        Map<String, Object> chatRoom = jdbcTemplate.queryForMap(
+            "SELECT user_id, chat_room_id FROM chat_room LIMIT 1");
+
+        assertIndexed(explain(
+            "SELECT chat_properties_id FROM chat_properties WHERE user_id = ? AND chat_room_id = ?",
+            chatRoom.get("user_id"), chatRoom.get("chat_room_id")), "chat_properties");
+    }
+
+    @Test
+    @DisplayName("사용자 id, 토큰 값으로 FCM 토큰을 찾는 조회가 인덱스를 쓰는 테스트")
+    public void userFcmTokenTest() {
+        Long userId = userId();
+
+        assertIndexed(explain(
+            "SELECT fcm_token FROM user_fcm_token WHERE user_id = ?", userId), "user_fcm_token");
+        assertIndexed(explain(
+            "SELECT user_fcm_token_id FROM user_fcm_token WHERE fcm_token = ?",
+            "fcm-token-" + userId + "-1"), "user_fcm_token");
+    }
+
+    private List<Map<String, Object>> explain(String sql, Object... args) {
+        return jdbcTemplate.queryForList("EXPLAIN " + sql, args);
+    }
+
+    private void assertIndexed(List<Map<String, Object>> plan, String table) {
+        Map<String, Object> row = findRow(plan, table);
+        assertThat(row.get("type")).as("full scan on %s: %s", table, plan).isNotEqualTo("ALL");
+        assertThat(row.get("key")).as("no index on %s: %s", table, plan).isNotNull();
+    }
+
+    private void assertNoFilesort(List<Map<String, Object>> plan, String table) {
+        Object extra = findRow(plan, table).get("Extra");
+        assertThat(extra == null ? "" : extra.toString()).as("filesort on %s: %s", table, plan)
+            .doesNotContain("filesort");
+    }
+
+    private Map<String, Object> findRow(List<Map<String, Object>> plan, String table) {
+        return plan.stream()
+            .filter(row -> table.equals(row.get("table")))
+            .findFirst()
+            .orElseThrow(() -> new AssertionError("no plan row for " + table + ": " + plan));
+    }
+
+    private Long campusId() {
+        return jdbcTemplate.queryForObject("SELECT MIN(campus_id) FROM campus", Long.class);
+    }
+
+    private Long userId() {
+        return jdbcTemplate.queryForObject("SELECT MIN(user_id) FROM users", Long.class);
+    }
+}
@@ -12,16 +12,23 @@ import LinkerBell.campus_market_spring.domain.Item;
 import LinkerBell.campus_market_spring.domain.ItemPhotos;
 import LinkerBell.campus_market_spring.domain.ItemStatus;
 import LinkerBell.campus_market_spring.domain.Like;
+import LinkerBell.campus_market_spring.domain.PriceBucket;
 import LinkerBell.campus_market_spring.domain.Role;
 import LinkerBell.campus_market_spring.domain.User;
+import LinkerBell.campus_market_spring.dto.CursorSliceResponse;
 import LinkerBell.campus_market_spring.dto.ItemDetailsViewResponseDto;
+import LinkerBell.campus_market_spring.dto.ItemFacetCountDto;
+import LinkerBell.campus_market_spring.dto.ItemSearchCursor;
 import LinkerBell.campus_market_spring.dto.ItemSearchResponseDto;
 import LinkerBell.campus_market_spring.dto.SliceResponse;
 import LinkerBell.campus_market_spring.global.error.ErrorCode;
 import LinkerBell.campus_market_spring.global.error.exception.CustomException;
+import jakarta.persistence.EntityManager;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -53,6 +60,9 @@ class ItemRepositoryTest {
     @Autowired
     ItemPhotosRepository itemPhotosRepository;
 
+    @Autowired
+    EntityManager entityManager;
+
     List<Item> items;
     List<User> users;
     List<Campus> campuses;
@@ -170,6 +180,7 @@ class ItemRepositoryTest {
             chatRoomRepository.save(chatRoom);
             chatRooms.add(chatRoom);
         }
+        itemRepository.reconcileCounts(0L, Long.MAX_VALUE);
 
     }
 
@@ -198,7 +209,8 @@ class ItemRepositoryTest {
         PageRequest pageRequest = PageRequest.of(0, 2, sort);
         //when
         SliceResponse<ItemSearchResponseDto> itemSearchResponseDtoSliceResponse = itemRepository.itemSearch(
-            userId, campusId, name, category, minPrice, maxPrice, itemStatus, pageRequest);
+            userId, campusId, name, null, category, minPrice, maxPrice, itemStatus,
+            pageRequest);
 
         //then
         assertThat(itemSearchResponseDtoSliceResponse.getContent().size()).isEqualTo(2);
@@ -249,7 +261,8 @@ class ItemRepositoryTest {
         PageRequest pageRequest = PageRequest.of(0, 2, sort);
         //when
         SliceResponse<ItemSearchResponseDto> itemSearchResponseDtoSliceResponse = itemRepository.itemSearch(
-            userId, campusId, name, category, minPrice, maxPrice, itemStatus, pageRequest);
+            userId, campusId, name, null, category, minPrice, maxPrice, itemStatus,
+            pageRequest);
 
         //then
         assertThat(itemSearchResponseDtoSliceResponse.getContent().size()).isEqualTo(2);
@@ -298,7 +311,8 @@ class ItemRepositoryTest {
         PageRequest pageRequest = PageRequest.of(0, 2, sort);
         //when
         SliceResponse<ItemSearchResponseDto> itemSearchResponseDtoSliceResponse = itemRepository.itemSearch(
-            userId, campusId, name, category, minPrice, maxPrice, itemStatus, pageRequest);
+            userId, campusId, name, null, category, minPrice, maxPrice, itemStatus,
+            pageRequest);
 
         //then
         assertThat(itemSearchResponseDtoSliceResponse.getContent().size()).isEqualTo(2);
@@ -347,7 +361,8 @@ class ItemRepositoryTest {
         PageRequest pageRequest = PageRequest.of(0, 2, sort);
         //when
         SliceResponse<ItemSearchResponseDto> itemSearchResponseDtoSliceResponse = itemRepository.itemSearch(
-            userId, campusId, name, category, minPrice, maxPrice, itemStatus, pageRequest);
+            userId, campusId, name, null, category, minPrice, maxPrice, itemStatus,
+            pageRequest);
 
         //then
         assertThat(itemSearchResponseDtoSliceResponse.getContent().size()).isEqualTo(2);
@@ -396,7 +411,8 @@ class ItemRepositoryTest {
         PageRequest pageRequest = PageRequest.of(0, 2, sort);
         //when
         SliceResponse<ItemSearchResponseDto> itemSearchResponseDtoSliceResponse = itemRepository.itemSearch(
-            userId, campusId, name, category, minPrice, maxPrice, itemStatus, pageRequest);
+            userId, campusId, name, null, category, minPrice, maxPrice, itemStatus,
+            pageRequest);
 
         //then
         assertThat(itemSearchResponseDtoSliceResponse.getContent().size()).isEqualTo(2);
@@ -445,7 +461,8 @@ class ItemRepositoryTest {
         PageRequest pageRequest = PageRequest.of(0, 2, sort);
         //when
         SliceResponse<ItemSearchResponseDto> itemSearchResponseDtoSliceResponse = itemRepository.itemSearch(
-            userId, campusId, name, category, minPrice, maxPrice, itemStatus, pageRequest);
+            userId, campusId, name, null, category, minPrice, maxPrice, itemStatus,
+            pageRequest);
 
         //then
         assertThat(itemSearchResponseDtoSliceResponse.getContent().size()).isEqualTo(2);
@@ -494,7 +511,8 @@ class ItemRepositoryTest {
         PageRequest pageRequest = PageRequest.of(0, 2, sort);
         //when
         SliceResponse<ItemSearchResponseDto> itemSearchResponseDtoSliceResponse = itemRepository.itemSearch(
-            userId, campusId, name, category, minPrice, maxPrice, itemStatus, pageRequest);
+            userId, campusId, name, null, category, minPrice, maxPrice, itemStatus,
+            pageRequest);
 
         //then
         assertThat(itemSearchResponseDtoSliceResponse.getContent().size()).isEqualTo(2);
@@ -558,7 +576,8 @@ class ItemRepositoryTest {
         PageRequest pageRequest = PageRequest.of(0, 2, sort);
         //when
         SliceResponse<ItemSearchResponseDto> itemSearchResponseDtoSliceResponse = itemRepository.itemSearch(
-            userId, campusId, name, category, minPrice, maxPrice, itemStatus, pageRequest);
+            userId, campusId, name, null, category, minPrice, maxPrice, itemStatus,
+            pageRequest);
 
         //then
         assertThat(itemSearchResponseDtoSliceResponse.getContent().size()).isEqualTo(2);
@@ -1086,6 +1105,132 @@ class ItemRepositoryTest {
         assertThat(response.getContent().get(1).getIsDeleted()).isTrue();
     }
 
+    @Test
+    @DisplayName("cursor로 이어서 조회한 결과가 offset 조회 결과와 같은지 test")
+    public void cursorSearchTest() throws Exception {
+        //given
+        Long userId = users.get(1).getUserId();
+        Long campusId = users.get(1).getCampus().getCampusId();
+        Sort sort = Sort.by("price").descending();
+        PageRequest pageRequest = PageRequest.of(0, 4, sort);
+
+        //when
+        CursorSliceResponse<ItemSearchResponseDto> firstPage = itemRepository.itemSearchByCursor(
+            userId, campusId, null, null, null, null, null, null, null, pageRequest);
+        CursorSliceResponse<ItemSearchResponseDto> secondPage = itemRepository.itemSearchByCursor(
+            userId, campusId, null, null, null, null, null, null,
+            ItemSearchCursor.decode(firstPage.getNextCursor()), pageRequest);
+        SliceResponse<ItemSearchResponseDto> offsetSecondPage = itemRepository.itemSearch(
+            userId, campusId, null, null, null, null, null, null, PageRequest.of(1, 4, sort));
+
+        //then
+        assertThat(firstPage.getContent().size()).isEqualTo(4);
+        assertThat(firstPage.isHasNext()).isTrue();
+        assertThat(firstPage.getNextCursor()).isNotNull();
+        assertThat(secondPage.getContent())
+            .extracting(ItemSearchResponseDto::getItemId)
+            .containsExactlyElementsOf(offsetSecondPage.getContent().stream()
+                .map(ItemSearchResponseDto::getItemId)
+                .toList());
+    }
+
+    @Test
+    @DisplayName("마지막 cursor 이후에는 다음 페이지가 없는지 test")
+    public void lastCursorSearchTest() throws Exception {
+        //given
+        Long userId = users.get(0).getUserId();
+        Long campusId = users.get(0).getCampus().getCampusId();
+        Sort sort = Sort.by("createdDate").descending();
+        PageRequest pageRequest = PageRequest.of(0, 3, sort);
+
+        //when
+        CursorSliceResponse<ItemSearchResponseDto> firstPage = itemRepository.itemSearchByCursor(
+            userId, campusId, null, null, null, null, null, null, null, pageRequest);
+        CursorSliceResponse<ItemSearchResponseDto> lastPage = itemRepository.itemSearchByCursor(
+            userId, campusId, null, null, null, null, null, null,
+            ItemSearchCursor.decode(firstPage.getNextCursor()), pageRequest);
+
+        //then
+        assertThat(firstPage.getContent())
+            .extracting(ItemSearchResponseDto::getItemId)
+            .containsExactly(items.get(4).getItemId(), items.get(3).getItemId(),
+                items.get(2).getItemId());
+        assertThat(lastPage.getContent())
+            .extracting(ItemSearchResponseDto::getItemId)
+            .containsExactly(items.get(1).getItemId(), items.get(0).getItemId());
+        assertThat(lastPage.isHasNext()).isFalse();
+        assertThat(lastPage.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("page size 50에서 isLiked 계산이 행 수와 관계없이 쿼리 2번으로 끝나는지 test")
+    public void itemSearchIsLikedQueryCountTest() throws Exception {
+        //given
+        User user = users.get(2);
+        Long campusId = user.getCampus().getCampusId();
+        List<Like> extraLikes = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            Item item = itemRepository.save(Item.builder()
+                .user(users.get(1))
+                .campus(campuses.get(1))
+                .category(Category.ELECTRONICS_IT)
+                .title("benchmark" + i)
+                .price(i)
+                .thumbnail("https://defaultImage.com")
+                .build());
+            if (i % 2 == 0) {
+                extraLikes.add(Like.builder().item(item).user(user).build());
+            }
+        }
+        likeRepository.saveAll(extraLikes);
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory()
+            .unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        PageRequest pageRequest = PageRequest.of(0, 50, Sort.by("createdDate").descending());
+
+        //when
+        SliceResponse<ItemSearchResponseDto> response = itemRepository.itemSearch(
+            user.getUserId(), campusId, null, null, null, null, null, null, pageRequest);
+
+        //then
+        assertThat(response.getContent().size()).isEqualTo(50);
+        assertThat(response.getContent().stream().filter(ItemSearchResponseDto::isLiked).count())
+            .isEqualTo(25);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("캠퍼스별 카테고리, 판매 상태, 가격 구간 개수를 group by로 집계하는 테스트")
+    public void countFacetsTest() {
+        //given
+        Item item = items.get(5);
+        item.setPrice(350_000);
+        item.setItemStatus(ItemStatus.SOLDOUT);
+        items.get(6).setDeleted(true);
+        itemRepository.flush();
+
+        //when
+        List<ItemFacetCountDto> campusFacets = itemRepository.countFacets(
+            campuses.get(1).getCampusId());
+        List<ItemFacetCountDto> allFacets = itemRepository.countFacets(null);
+
+        //then
+        assertThat(campusFacets).containsExactlyInAnyOrder(
+            new ItemFacetCountDto(campuses.get(1).getCampusId(),
+                Category.BOOKS_EDUCATIONAL_MATERIALS, ItemStatus.FORSALE, PriceBucket.UNDER_5000,
+                8L),
+            new ItemFacetCountDto(campuses.get(1).getCampusId(),
+                Category.BOOKS_EDUCATIONAL_MATERIALS, ItemStatus.SOLDOUT, PriceBucket.OVER_300000,
+                1L),
+            new ItemFacetCountDto(campuses.get(1).getCampusId(),
+                Category.FASHION_ACCESSORIES, ItemStatus.FORSALE, PriceBucket.UNDER_5000, 10L));
+        assertThat(allFacets).hasSize(4);
+    }
+
     private void updateItemPhotos(List<ItemPhotos> existingItemPhotos,
         List<String> newImageAddresses,
         Item item) {
@@ -0,0 +1,82 @@
+package LinkerBell.campus_market_spring.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import LinkerBell.campus_market_spring.domain.KeywordAlertOutbox;
+import LinkerBell.campus_market_spring.domain.OutboxStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+
+@DataJpaTest
+class KeywordAlertOutboxRepositoryTest {
+
+    @Autowired
+    KeywordAlertOutboxRepository keywordAlertOutboxRepository;
+
+    @PersistenceContext
+    EntityManager em;
+
+    @Test
+    @DisplayName("처리할 차례인 작업과 lock 시간이 지난 작업만 가져오는 테스트")
+    public void findDispatchableIdsTest() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        KeywordAlertOutbox ready = save(OutboxStatus.PENDING, now.minusSeconds(1), null);
+        KeywordAlertOutbox waiting = save(OutboxStatus.PENDING, now.plusMinutes(1), null);
+        KeywordAlertOutbox expired = save(OutboxStatus.PROCESSING, now.minusMinutes(10),
+            now.minusSeconds(1));
+        KeywordAlertOutbox processing = save(OutboxStatus.PROCESSING, now.minusMinutes(10),
+            now.plusMinutes(5));
+        KeywordAlertOutbox done = save(OutboxStatus.DONE, now.minusMinutes(10), null);
+
+        // when
+        List<Long> outboxIds = keywordAlertOutboxRepository.findDispatchableIds(
+            OutboxStatus.PENDING, OutboxStatus.PROCESSING, now, PageRequest.of(0, 10));
+
+        // then
+        assertThat(outboxIds).containsExactly(ready.getKeywordAlertOutboxId(),
+            expired.getKeywordAlertOutboxId());
+    }
+
+    @Test
+    @DisplayName("같은 작업은 한 번만 가져가고 시도 횟수가 증가하는 테스트")
+    public void claimTest() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        KeywordAlertOutbox outbox = save(OutboxStatus.PENDING, now.minusSeconds(1), null);
+        Long outboxId = outbox.getKeywordAlertOutboxId();
+
+        // when
+        int first = keywordAlertOutboxRepository.claim(outboxId, OutboxStatus.PENDING,
+            OutboxStatus.PROCESSING, now, now.plusMinutes(5));
+        int second = keywordAlertOutboxRepository.claim(outboxId, OutboxStatus.PENDING,
+            OutboxStatus.PROCESSING, now, now.plusMinutes(5));
+        em.clear();
+
+        // then
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isEqualTo(0);
+        KeywordAlertOutbox claimed = keywordAlertOutboxRepository.findById(outboxId).orElseThrow();
+        assertThat(claimed.getStatus()).isEqualTo(OutboxStatus.PROCESSING);
+        assertThat(claimed.getAttemptCount()).isEqualTo(1);
+    }
+
+    private KeywordAlertOutbox save(OutboxStatus status, LocalDateTime nextAttemptAt,
+        LocalDateTime lockedUntil) {
+        KeywordAlertOutbox outbox = keywordAlertOutboxRepository.save(KeywordAlertOutbox.builder()
+            .itemId(1L)
+            .status(status)
+            .nextAttemptAt(nextAttemptAt)
+            .lockedUntil(lockedUntil)
+            .build());
+        em.flush();
+        return outbox;
+    }
+}
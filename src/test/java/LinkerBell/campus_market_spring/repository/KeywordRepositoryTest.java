@@ -6,6 +6,7 @@ import LinkerBell.campus_market_spring.domain.Campus;
 import LinkerBell.campus_market_spring.domain.Keyword;
 import LinkerBell.campus_market_spring.domain.Role;
 import LinkerBell.campus_market_spring.domain.User;
+import LinkerBell.campus_market_spring.dto.KeywordIndexDto;
 import java.util.ArrayList;
 import java.util.List;
 import org.junit.jupiter.api.AfterEach;
@@ -14,6 +15,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
 
 @DataJpaTest
 class KeywordRepositoryTest {
@@ -115,6 +117,37 @@ class KeywordRepositoryTest {
 
     }
 
+    @Test
+    @DisplayName("키워드 id 이후의 키워드를 캠퍼스 id와 함께 순서대로 가져오는 함수 test")
+    public void findKeywordIndexAfterTest() throws Exception {
+        //given
+        Long lastKeywordId = keywords.get(2).getKeywordId();
+
+        //when
+        List<KeywordIndexDto> keywordIndex = keywordRepository.findKeywordIndexAfter(lastKeywordId,
+            PageRequest.of(0, 3));
+
+        //then
+        assertThat(keywordIndex).containsExactly(
+            new KeywordIndexDto(keywords.get(3).getKeywordId(), users.get(6).getUserId(),
+                campuses.get(2).getCampusId(), "second3"),
+            new KeywordIndexDto(keywords.get(4).getKeywordId(), users.get(6).getUserId(),
+                campuses.get(2).getCampusId(), "second4"),
+            new KeywordIndexDto(keywords.get(5).getKeywordId(), users.get(6).getUserId(),
+                campuses.get(2).getCampusId(), "second5"));
+    }
+
+    @Test
+    @DisplayName("키워드 id 목록으로 유저와 캠퍼스를 함께 가져오는 함수 test")
+    public void findKeywordsWithUserAndCampusByKeywordIdInTest() throws Exception {
+        //when
+        List<Keyword> found = keywordRepository.findKeywordsWithUserAndCampusByKeywordIdIn(
+            List.of(keywords.get(0).getKeywordId(), keywords.get(9).getKeywordId()));
+
+        //then
+        assertThat(found).containsExactlyInAnyOrder(keywords.get(0), keywords.get(9));
+    }
+
     @Test
     @DisplayName("userId를 바탕으로 유저 별로 쓴 키워드 가져오는 함수 test")
     public void findKeywordByUser_UserIdTest() throws Exception {
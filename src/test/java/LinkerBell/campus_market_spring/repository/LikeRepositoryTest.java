@@ -57,8 +57,10 @@ class LikeRepositoryTest {
         item = itemRepository.save(item);
         item2 = itemRepository.save(item2);
 
-        ChatRoom chatRoom = new ChatRoom(1L, user, item, 2);
-        ChatRoom chatRoom2 = new ChatRoom(2L, user, item2, 2);
+        ChatRoom chatRoom = ChatRoom.builder().chatRoomId(1L).user(user).item(item).userCount(2)
+            .build();
+        ChatRoom chatRoom2 = ChatRoom.builder().chatRoomId(2L).user(user).item(item2).userCount(2)
+            .build();
         chatRoom = chatRoomRepository.save(chatRoom);
         chatRoom2 = chatRoomRepository.save(chatRoom2);
     }
@@ -89,6 +91,7 @@ class LikeRepositoryTest {
 
 
         likeRepository.saveAll(Lists.newArrayList(like, like2, like3, like4));
+        itemRepository.reconcileCounts(0L, Long.MAX_VALUE);
 
         Sort sort = Sort.by("createdDate").descending();
         PageRequest pageRequest = PageRequest.of(0, 10, sort);
@@ -144,6 +147,7 @@ class LikeRepositoryTest {
         itemRepository.save(item2);
 
         likeRepository.saveAll(Lists.newArrayList(like, like2, like3, like4));
+        itemRepository.reconcileCounts(0L, Long.MAX_VALUE);
 
         Sort sort = Sort.by("createdDate").descending();
         PageRequest pageRequest = PageRequest.of(0, 10, sort);
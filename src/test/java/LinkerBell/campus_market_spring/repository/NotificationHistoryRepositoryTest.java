@@ -148,6 +148,47 @@ class NotificationHistoryRepositoryTest {
 
     }
 
+    @Test
+    @DisplayName("id 커서 이전의 알림 히스토리를 최신순으로 가져오는 테스트")
+    public void findPageBeforeTest() throws Exception {
+        //given
+        Long userId = users.get(0).getUserId();
+
+        //when
+        List<NotificationHistory> firstPage = notificationHistoryRepository.findPageBefore(
+            userId, Long.MAX_VALUE, PageRequest.of(0, 2));
+        List<NotificationHistory> secondPage = notificationHistoryRepository.findPageBefore(
+            userId, firstPage.get(1).getNotificationHistoryId(), PageRequest.of(0, 2));
+
+        //then
+        assertThat(firstPage).containsExactly(notificationHistories.get(2),
+            notificationHistories.get(1));
+        assertThat(secondPage).containsExactly(notificationHistories.get(0));
+    }
+
+    @Test
+    @DisplayName("안 읽은 알림 수를 세고 전체 읽음 처리하는 테스트")
+    public void readAllByUserIdTest() throws Exception {
+        //given
+        Long userId = users.get(0).getUserId();
+        notificationHistories.get(0).read();
+        em.flush();
+
+        //when
+        long unreadBefore = notificationHistoryRepository.countByUser_UserIdAndIsReadFalse(
+            userId);
+        int readCount = notificationHistoryRepository.readAllByUserId(userId);
+        em.clear();
+
+        //then
+        assertThat(unreadBefore).isEqualTo(2L);
+        assertThat(readCount).isEqualTo(2);
+        assertThat(notificationHistoryRepository.countByUser_UserIdAndIsReadFalse(userId))
+            .isZero();
+        assertThat(notificationHistoryRepository.countByUser_UserIdAndIsReadFalse(
+            users.get(1).getUserId())).isEqualTo(3L);
+    }
+
     @Test
     @DisplayName("userId로 delete되는지 테스트")
     public void deleteByUserId() throws Exception {
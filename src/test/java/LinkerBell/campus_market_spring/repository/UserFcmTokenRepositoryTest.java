@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import LinkerBell.campus_market_spring.domain.User;
 import LinkerBell.campus_market_spring.domain.UserFcmToken;
+import LinkerBell.campus_market_spring.dto.UserFcmTokenDto;
 import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
@@ -59,4 +60,30 @@ class UserFcmTokenRepositoryTest {
         assertThat(fcmTokens.size()).isEqualTo(2);
         assertThat(fcmTokens).contains(userFcmToken1.getFcmToken(), userFcmToken2.getFcmToken());
     }
+
+    @Test
+    @DisplayName("여러 사용자의 fcmToken을 한 번에 가져오는 테스트")
+    public void findUserFcmTokensByUserIdInTest() {
+        // given
+        User user1 = userRepository.save(User.builder().loginEmail("test1@example.com").build());
+        User user2 = userRepository.save(User.builder().loginEmail("test2@example.com").build());
+        User user3 = userRepository.save(User.builder().loginEmail("test3@example.com").build());
+        userFcmTokenRepository.save(UserFcmToken.builder().user(user1).fcmToken("fcmToken1").build());
+        userFcmTokenRepository.save(UserFcmToken.builder().user(user1).fcmToken("fcmToken2").build());
+        userFcmTokenRepository.save(UserFcmToken.builder().user(user2).fcmToken("fcmToken3").build());
+        userFcmTokenRepository.save(UserFcmToken.builder().user(user3).fcmToken("fcmToken4").build());
+
+        // when
+        List<UserFcmTokenDto> fcmTokens = userFcmTokenRepository.findUserFcmTokensByUserIdIn(
+            List.of(user1.getUserId(), user2.getUserId()));
+        List<Long> userIds = userFcmTokenRepository.findUserIdsByFcmTokenIn(
+            List.of("fcmToken2", "fcmToken4"));
+
+        // then
+        assertThat(fcmTokens).containsExactlyInAnyOrder(
+            new UserFcmTokenDto(user1.getUserId(), "fcmToken1"),
+            new UserFcmTokenDto(user1.getUserId(), "fcmToken2"),
+            new UserFcmTokenDto(user2.getUserId(), "fcmToken3"));
+        assertThat(userIds).containsExactlyInAnyOrder(user1.getUserId(), user3.getUserId());
+    }
 }
@@ -3,11 +3,17 @@ package LinkerBell.campus_market_spring.service;
 import LinkerBell.campus_market_spring.domain.ChatMessage;
 import LinkerBell.campus_market_spring.domain.ChatRoom;
 import LinkerBell.campus_market_spring.domain.User;
+import LinkerBell.campus_market_spring.domain.ContentType;
 import LinkerBell.campus_market_spring.dto.ChatMessageResponseDto;
+import LinkerBell.campus_market_spring.dto.ChatSyncCursorDto;
+import LinkerBell.campus_market_spring.dto.ChatSyncRequestDto;
+import LinkerBell.campus_market_spring.dto.ChatSyncResponseDto;
 import LinkerBell.campus_market_spring.dto.RecentChatMessageResponseDto;
 import LinkerBell.campus_market_spring.global.error.ErrorCode;
 import LinkerBell.campus_market_spring.global.error.exception.CustomException;
+import LinkerBell.campus_market_spring.global.redis.ChatRoomSequence;
 import LinkerBell.campus_market_spring.repository.ChatMessageRepository;
+import LinkerBell.campus_market_spring.repository.ChatPropertiesRepository;
 import LinkerBell.campus_market_spring.repository.ChatRoomRepository;
 import LinkerBell.campus_market_spring.repository.UserRepository;
 import org.junit.jupiter.api.Disabled;
@@ -18,13 +24,17 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -37,9 +47,15 @@ class ChatMessageServiceTest {
     @Mock
     private ChatRoomRepository chatRoomRepository;
 
+    @Mock
+    private ChatPropertiesRepository chatPropertiesRepository;
+
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ChatRoomSequence chatRoomSequence;
+
     @InjectMocks
     private ChatMessageService chatMessageService;
 
@@ -123,6 +139,8 @@ class ChatMessageServiceTest {
         ChatMessage chatMessage = new ChatMessage();
         chatMessage.setMessageId(messageId);
         chatMessage.setRead(false);
+        chatMessage.setChatRoom(ChatRoom.builder().chatRoomId(10L).build());
+        chatMessage.setUser(User.builder().userId(1L).build());
 
         when(chatMessageRepository.findById(messageId)).thenReturn(Optional.of(chatMessage));
 
@@ -132,62 +150,174 @@ class ChatMessageServiceTest {
         // then
         assertThat(chatMessage.isRead()).isTrue(); // dirty checking으로 변경 여부 확인
         verify(chatMessageRepository, times(1)).findById(messageId); // findById가 호출되었는지 검증
+        verify(chatPropertiesRepository, times(1)).decreaseUnreadCount(10L, 1L);
+        verify(chatPropertiesRepository, times(1)).updateLastReadMessageId(10L, 1L, messageId);
     }
 
     @Test
-    void getMessageContents_Success() {
+    void readMessage_AlreadyRead() {
+        // given
+        Long messageId = 100L;
+        ChatMessage chatMessage = new ChatMessage();
+        chatMessage.setMessageId(messageId);
+        chatMessage.setRead(true);
+
+        when(chatMessageRepository.findById(messageId)).thenReturn(Optional.of(chatMessage));
+
+        // when
+        chatMessageService.readMessage(messageId);
+
+        // then
+        verifyNoInteractions(chatPropertiesRepository);
+    }
+
+    @Test
+    void fetchMessageContents_Success() {
         // given
         Long messageId1 = 100L;
         Long messageId2 = 101L;
+        Long missingMessageId = 102L;
         Long chatRoomId = 10L;
-        Long userId = 1L;
 
-        ChatRoom chatRoom = ChatRoom.builder().chatRoomId(chatRoomId).build();
-        User user = User.builder().userId(userId).build();
+        List<Long> messageIdList = Arrays.asList(messageId2, missingMessageId, messageId1,
+            messageId2);
+        // DB는 요청 순서와 다르게 돌려줄 수 있다.
+        when(chatMessageRepository.findMessageContentsByIds(
+            List.of(messageId2, missingMessageId, messageId1)))
+            .thenReturn(List.of(message(messageId1, chatRoomId, 1L),
+                message(messageId2, chatRoomId, 2L)));
+        List<ChatMessageResponseDto> messageList = new ArrayList<>();
+
+        // when
+        List<Long> missingMessageIdList = chatMessageService.fetchMessageContents(messageIdList,
+            messageList::add);
+
+        // then
+        assertThat(messageList).extracting(ChatMessageResponseDto::getMessageId)
+            .containsExactly(messageId2, messageId1);
+        assertThat(missingMessageIdList).containsExactly(missingMessageId);
+        verify(chatMessageRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    void fetchMessageContents_Chunked() {
+        // given
+        // 요청 id 수에 제한이 없고, 500개씩 나눠 조회한다.
+        List<Long> messageIdList = LongStream.rangeClosed(1, 1200).boxed().toList();
+        when(chatMessageRepository.findMessageContentsByIds(anyList()))
+            .thenAnswer(invocation -> invocation.<List<Long>>getArgument(0).stream()
+                .filter(messageId -> messageId != 700L)
+                .map(messageId -> message(messageId, 10L, messageId))
+                .toList());
+        List<ChatMessageResponseDto> messageList = new ArrayList<>();
+
+        // when
+        List<Long> missingMessageIdList = chatMessageService.fetchMessageContents(messageIdList,
+            messageList::add);
 
-        ChatMessage chatMessage1 = new ChatMessage();
-        chatMessage1.setMessageId(messageId1);
-        chatMessage1.setContent("Hello");
-        chatMessage1.setChatRoom(chatRoom);
-        chatMessage1.setUser(user);
+        // then
+        assertThat(messageList).extracting(ChatMessageResponseDto::getMessageId)
+            .containsExactlyElementsOf(messageIdList.stream()
+                .filter(messageId -> messageId != 700L)
+                .toList());
+        assertThat(missingMessageIdList).containsExactly(700L);
+        verify(chatMessageRepository, times(3)).findMessageContentsByIds(anyList());
+    }
+
+    @Test
+    void fetchMessageContents_EmptyList() {
+        // given
+        List<Long> messageIdList = Collections.emptyList();
+        List<ChatMessageResponseDto> messageList = new ArrayList<>();
 
-        ChatMessage chatMessage2 = new ChatMessage();
-        chatMessage2.setMessageId(messageId2);
-        chatMessage2.setContent("Hi there!");
-        chatMessage2.setChatRoom(chatRoom);
-        chatMessage2.setUser(user);
+        // when
+        List<Long> missingMessageIdList = chatMessageService.fetchMessageContents(messageIdList,
+            messageList::add);
 
-        List<Long> messageIdList = Arrays.asList(messageId1, messageId2);
-        when(chatMessageRepository.findById(messageId1)).thenReturn(Optional.of(chatMessage1));
-        when(chatMessageRepository.findById(messageId2)).thenReturn(Optional.of(chatMessage2));
+        // then
+        assertThat(messageList).isEmpty();
+        assertThat(missingMessageIdList).isEmpty();
+        verify(chatMessageRepository, never()).findMessageContentsByIds(anyList());
+    }
+
+    @Test
+    void syncMessages_ShouldReturnNextCursorsAndHasMore() {
+        // given
+        Long userId = 1L;
+        ChatSyncRequestDto requestDto = ChatSyncRequestDto.builder()
+            .cursors(List.of(new ChatSyncCursorDto(10L, 3L), new ChatSyncCursorDto(20L, 7L)))
+            .size(2)
+            .build();
+        when(chatMessageRepository.findMessagesAfter(userId, Map.of(10L, 3L, 20L, 7L), 3))
+            .thenReturn(List.of(message(100L, 10L, 4L), message(101L, 10L, 5L),
+                message(102L, 30L, 1L)));
 
         // when
-        List<ChatMessageResponseDto> result = chatMessageService.getMessageContents(messageIdList);
+        ChatSyncResponseDto result = chatMessageService.syncMessages(userId, requestDto);
 
         // then
-        assertThat(result).hasSize(2);
+        assertThat(result.isHasMore()).isTrue();
+        assertThat(result.getMessageList()).extracting(ChatMessageResponseDto::getMessageId)
+            .containsExactly(100L, 101L);
+        // 받지 못한 채팅방의 커서는 그대로 돌려준다.
+        assertThat(result.getCursors())
+            .extracting(ChatSyncCursorDto::getChatRoomId, ChatSyncCursorDto::getRoomSequence)
+            .containsExactly(tuple(10L, 5L), tuple(20L, 7L));
+    }
 
-        ChatMessageResponseDto responseDto1 = result.get(0);
-        assertThat(responseDto1.getMessageId()).isEqualTo(messageId1);
-        assertThat(responseDto1.getContent()).isEqualTo("Hello");
+    @Test
+    void syncMessages_WithoutCursors() {
+        // given
+        Long userId = 1L;
+        when(chatMessageRepository.findMessagesAfter(userId, Map.of(), 101))
+            .thenReturn(List.of(message(100L, 10L, 1L)));
 
-        ChatMessageResponseDto responseDto2 = result.get(1);
-        assertThat(responseDto2.getMessageId()).isEqualTo(messageId2);
-        assertThat(responseDto2.getContent()).isEqualTo("Hi there!");
+        // when
+        ChatSyncResponseDto result = chatMessageService.syncMessages(userId,
+            new ChatSyncRequestDto());
 
-        verify(chatMessageRepository, times(2)).findById(anyLong());
+        // then
+        assertThat(result.isHasMore()).isFalse();
+        assertThat(result.getMessageList()).hasSize(1);
+        assertThat(result.getCursors())
+            .extracting(ChatSyncCursorDto::getChatRoomId, ChatSyncCursorDto::getRoomSequence)
+            .containsExactly(tuple(10L, 1L));
     }
 
     @Test
-    void getMessageContents_EmptyList() {
+    void syncMessages_ShouldNotPassUnpersistedSequence() {
         // given
-        List<Long> messageIdList = Collections.emptyList();
+        // 10번 방: 서버 A가 4, 서버 B가 5를 발급했고 B의 5만 저장되었다. 20번 방은 대기 중인 순번이 없다.
+        Long userId = 1L;
+        ChatSyncRequestDto requestDto = ChatSyncRequestDto.builder()
+            .cursors(List.of(new ChatSyncCursorDto(10L, 3L), new ChatSyncCursorDto(20L, 7L)))
+            .build();
+        when(chatPropertiesRepository.findActiveChatRoomIds(userId)).thenReturn(List.of(10L, 20L));
+        when(chatRoomSequence.getWatermarks(List.of(10L, 20L))).thenReturn(Map.of(10L, 3L, 20L, 8L));
+        when(chatMessageRepository.findMessagesAfter(userId, Map.of(10L, 3L, 20L, 7L), 101))
+            .thenReturn(List.of(message(101L, 10L, 5L), message(102L, 20L, 8L)));
 
         // when
-        List<ChatMessageResponseDto> result = chatMessageService.getMessageContents(messageIdList);
+        ChatSyncResponseDto result = chatMessageService.syncMessages(userId, requestDto);
 
         // then
-        assertThat(result).isEmpty();
-        verify(chatMessageRepository, never()).findById(anyLong());
+        assertThat(result.getMessageList()).extracting(ChatMessageResponseDto::getMessageId)
+            .containsExactly(102L);
+        // 4가 저장되기 전까지 10번 방 커서는 넘어가지 않는다.
+        assertThat(result.getCursors())
+            .extracting(ChatSyncCursorDto::getChatRoomId, ChatSyncCursorDto::getRoomSequence)
+            .containsExactly(tuple(10L, 3L), tuple(20L, 8L));
+    }
+
+    private ChatMessageResponseDto message(Long messageId, Long chatRoomId, Long roomSequence) {
+        return ChatMessageResponseDto.builder()
+            .messageId(messageId)
+            .chatRoomId(chatRoomId)
+            .userId(2L)
+            .content("hello")
+            .contentType(ContentType.TEXT)
+            .createdAt(LocalDateTime.now())
+            .roomSequence(roomSequence)
+            .build();
     }
 }
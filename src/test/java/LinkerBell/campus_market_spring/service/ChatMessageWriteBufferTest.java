@@ -0,0 +1,266 @@
+package LinkerBell.campus_market_spring.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+
+import LinkerBell.campus_market_spring.domain.ChatDeadLetterReason;
+import LinkerBell.campus_market_spring.domain.ChatMessage;
+import LinkerBell.campus_market_spring.domain.ChatRoom;
+import LinkerBell.campus_market_spring.domain.ContentType;
+import LinkerBell.campus_market_spring.domain.User;
+import LinkerBell.campus_market_spring.global.error.ErrorCode;
+import LinkerBell.campus_market_spring.global.error.exception.CustomException;
+import LinkerBell.campus_market_spring.global.redis.ChatRoomSequence;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.QueryTimeoutException;
+
+@ExtendWith(MockitoExtension.class)
+class ChatMessageWriteBufferTest {
+
+    @Mock
+    ChatMessageWriter chatMessageWriter;
+
+    @Mock
+    ChatRoomSequence chatRoomSequence;
+
+    SimpleMeterRegistry meterRegistry;
+    ChatMessageWriteBuffer chatMessageWriteBuffer;
+
+    // 저장된 묶음. 버퍼는 묶음 list를 다시 쓰므로 복사해 둔다.
+    List<List<Long>> writtenBatches = Collections.synchronizedList(new ArrayList<>());
+
+    @BeforeEach
+    void beforeEach() {
+        meterRegistry = new SimpleMeterRegistry();
+        // 대기열 3, 묶음 최대 10, 가득 차면 20ms 기다림, 종료 중 재시도 2번, 재시도 간격 10ms
+        chatMessageWriteBuffer = new ChatMessageWriteBuffer(chatMessageWriter, chatRoomSequence,
+            meterRegistry, 3, 10, 20, 2, 10, 5000);
+    }
+
+    @AfterEach
+    void afterEach() throws InterruptedException {
+        chatMessageWriteBuffer.shutdown();
+    }
+
+    @Test
+    @DisplayName("저장하는 동안 쌓인 메시지를 다음 묶음 하나로 저장하는 테스트")
+    public void microBatchTest() throws Exception {
+        // given
+        CountDownLatch firstWriteStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            List<ChatMessage> batch = invocation.getArgument(0);
+            writtenBatches.add(batch.stream().map(ChatMessage::getMessageId).toList());
+            firstWriteStarted.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(chatMessageWriter).write(anyList());
+        chatMessageWriteBuffer.start();
+
+        // when
+        chatMessageWriteBuffer.submit(message(1L));
+        assertThat(firstWriteStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        chatMessageWriteBuffer.submit(message(2L));
+        chatMessageWriteBuffer.submit(message(3L));
+        chatMessageWriteBuffer.submit(message(4L));
+        release.countDown();
+        chatMessageWriteBuffer.shutdown();
+
+        // then
+        assertThat(writtenBatches).containsExactly(List.of(1L), List.of(2L, 3L, 4L));
+        assertThat(meterRegistry.get("chat.flush.size").summary().count()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 CHAT_SERVER_BUSY로 거절하는 테스트")
+    public void backpressureTest() throws Exception {
+        // given
+        CountDownLatch writeStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            writeStarted.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(chatMessageWriter).write(anyList());
+        chatMessageWriteBuffer.start();
+        chatMessageWriteBuffer.submit(message(1L));
+        assertThat(writeStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        chatMessageWriteBuffer.submit(message(2L));
+        chatMessageWriteBuffer.submit(message(3L));
+        chatMessageWriteBuffer.submit(message(4L));
+
+        // when, then
+        assertThatThrownBy(() -> chatMessageWriteBuffer.submit(message(5L)))
+            .isInstanceOf(CustomException.class)
+            .extracting("errorCode")
+            .isEqualTo(ErrorCode.CHAT_SERVER_BUSY);
+        assertThat(meterRegistry.get("chat.buffer.rejected").counter().count()).isEqualTo(1.0);
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("종료할 때 대기열에 남은 메시지를 모두 저장하는 테스트")
+    public void drainOnShutdownTest() throws Exception {
+        // given
+        doAnswer(invocation -> {
+            List<ChatMessage> batch = invocation.getArgument(0);
+            writtenBatches.add(batch.stream().map(ChatMessage::getMessageId).toList());
+            return null;
+        }).when(chatMessageWriter).write(anyList());
+        chatMessageWriteBuffer.submit(message(1L));
+        chatMessageWriteBuffer.submit(message(2L));
+        chatMessageWriteBuffer.submit(message(3L));
+        chatMessageWriteBuffer.start();
+
+        // when
+        chatMessageWriteBuffer.shutdown();
+
+        // then
+        assertThat(writtenBatches.stream().flatMap(List::stream).toList())
+            .containsExactly(1L, 2L, 3L);
+        assertThat(chatMessageWriteBuffer.getQueueSize()).isZero();
+        assertThatThrownBy(() -> chatMessageWriteBuffer.submit(message(4L)))
+            .isInstanceOf(CustomException.class);
+    }
+
+    @Test
+    @DisplayName("DB 오류가 나면 같은 묶음을 다시 저장하는 테스트")
+    public void retryTest() throws Exception {
+        // given
+        AtomicInteger attempts = new AtomicInteger();
+        doAnswer(invocation -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new QueryTimeoutException("timeout");
+            }
+            List<ChatMessage> batch = invocation.getArgument(0);
+            writtenBatches.add(batch.stream().map(ChatMessage::getMessageId).toList());
+            return null;
+        }).when(chatMessageWriter).write(anyList());
+        chatMessageWriteBuffer.submit(message(1L));
+        chatMessageWriteBuffer.start();
+
+        // when
+        chatMessageWriteBuffer.shutdown();
+
+        // then
+        assertThat(attempts.get()).isEqualTo(2);
+        assertThat(writtenBatches).containsExactly(List.of(1L));
+        assertThat(meterRegistry.get("chat.flush.dropped").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("특정 메시지 때문에 묶음이 실패하면 그 메시지만 dead letter로 남기는 테스트")
+    public void dropInvalidMessageTest() throws Exception {
+        // given
+        doAnswer(invocation -> {
+            List<ChatMessage> batch = invocation.getArgument(0);
+            if (batch.stream().anyMatch(chatMessage -> chatMessage.getMessageId() == 2L)) {
+                throw new DataIntegrityViolationException("chat room deleted");
+            }
+            writtenBatches.add(batch.stream().map(ChatMessage::getMessageId).toList());
+            return null;
+        }).when(chatMessageWriter).write(anyList());
+        List<Long> completed = Collections.synchronizedList(new ArrayList<>());
+        doAnswer(invocation -> {
+            List<ChatMessage> batch = invocation.getArgument(0);
+            batch.forEach(chatMessage -> completed.add(chatMessage.getMessageId()));
+            return null;
+        }).when(chatRoomSequence).complete(anyList());
+        chatMessageWriteBuffer.submit(message(1L));
+        chatMessageWriteBuffer.submit(message(2L));
+        chatMessageWriteBuffer.submit(message(3L));
+
+        // when
+        chatMessageWriteBuffer.start();
+        chatMessageWriteBuffer.shutdown();
+
+        // then
+        assertThat(writtenBatches.stream().flatMap(List::stream).toList())
+            .containsExactly(1L, 3L);
+        verify(chatMessageWriter).writeDeadLetters(
+            argThat(batch -> batch.size() == 1 && batch.get(0).getMessageId() == 2L),
+            eq(ChatDeadLetterReason.CONSTRAINT_VIOLATION), anyString());
+        assertThat(meterRegistry.get("chat.flush.dead_lettered").counter().count())
+            .isEqualTo(1.0);
+        assertThat(meterRegistry.get("chat.flush.duplicate_id").counter().count()).isZero();
+        assertThat(meterRegistry.get("chat.flush.dropped").counter().count()).isZero();
+        // dead letter로 남긴 메시지도 저장 대기 순번에서 빠져야 동기화 watermark가 멈추지 않는다.
+        assertThat(completed).containsExactlyInAnyOrder(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("message_id 중복은 따로 세고 dead letter로 남기는 테스트")
+    public void duplicateIdTest() throws Exception {
+        // given
+        doThrow(new DuplicateKeyException("Duplicate entry '1' for key 'PRIMARY'"))
+            .when(chatMessageWriter).write(anyList());
+        chatMessageWriteBuffer.submit(message(1L));
+
+        // when
+        chatMessageWriteBuffer.start();
+        chatMessageWriteBuffer.shutdown();
+
+        // then
+        verify(chatMessageWriter).writeDeadLetters(anyList(),
+            eq(ChatDeadLetterReason.DUPLICATE_ID), anyString());
+        assertThat(meterRegistry.get("chat.flush.duplicate_id").counter().count())
+            .isEqualTo(1.0);
+        assertThat(meterRegistry.get("chat.flush.dead_lettered").counter().count())
+            .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("dead letter도 저장하지 못하면 잃은 메시지로 세는 테스트")
+    public void deadLetterFailureTest() throws Exception {
+        // given
+        doThrow(new DataIntegrityViolationException("chat room deleted"))
+            .when(chatMessageWriter).write(anyList());
+        doThrow(new QueryTimeoutException("db down"))
+            .when(chatMessageWriter).writeDeadLetters(anyList(), any(), anyString());
+        chatMessageWriteBuffer.submit(message(1L));
+
+        // when
+        chatMessageWriteBuffer.start();
+        chatMessageWriteBuffer.shutdown();
+
+        // then
+        assertThat(meterRegistry.get("chat.flush.dead_lettered").counter().count()).isZero();
+        assertThat(meterRegistry.get("chat.flush.dropped").counter().count()).isEqualTo(1.0);
+    }
+
+    private ChatMessage message(Long messageId) {
+        ChatMessage chatMessage = ChatMessage.builder()
+            .messageId(messageId)
+            .chatRoom(ChatRoom.builder().chatRoomId(1L).build())
+            .user(User.builder().userId(1L).build())
+            .content("hello")
+            .contentType(ContentType.TEXT)
+            .build();
+        chatMessage.setCreatedDate(LocalDateTime.now());
+        return chatMessage;
+    }
+}
@@ -7,14 +7,18 @@ import LinkerBell.campus_market_spring.dto.ChatRoomRequestDto;
 import LinkerBell.campus_market_spring.dto.ChatRoomResponseDto;
 import LinkerBell.campus_market_spring.global.error.ErrorCode;
 import LinkerBell.campus_market_spring.global.error.exception.CustomException;
+import LinkerBell.campus_market_spring.global.event.ChatRoomExitedEvent;
+import LinkerBell.campus_market_spring.global.event.ItemChangedEvent;
 import LinkerBell.campus_market_spring.repository.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.List;
 import java.util.Optional;
@@ -40,7 +44,10 @@ class ChatRoomServiceTest {
     private ChatPropertiesRepository chatPropertiesRepository;
 
     @Mock
-    private ChatMessageRepository chatMessageRepository;
+    private BatchInsertRepository batchInsertRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     private ChatRoomService chatRoomService;
@@ -50,7 +57,6 @@ class ChatRoomServiceTest {
     private Item item;
     private ChatRoom chatRoom;
     private ChatProperties chatProperties;
-    private ChatMessage chatMessage;
     private AuthUserDto authUserDto;
     private ChatRoomRequestDto requestDto;
 
@@ -67,6 +73,7 @@ class ChatRoomServiceTest {
         item = new Item();
         item.setItemId(1L);
         item.setUser(seller);
+        item.setCampus(Campus.builder().campusId(1L).build());
 
         chatRoom = new ChatRoom();
         chatRoom.setChatRoomId(1L);
@@ -76,9 +83,6 @@ class ChatRoomServiceTest {
         chatProperties = new ChatProperties();
         chatProperties.setAlarm(true);
 
-        chatMessage = new ChatMessage();
-        chatMessage.setMessageId(100L);
-
         authUserDto = new AuthUserDto(buyer.getUserId(), "loginEmail");
         requestDto = new ChatRoomRequestDto(buyer.getUserId(), item.getItemId());
     }
@@ -106,7 +110,9 @@ class ChatRoomServiceTest {
         verify(userRepository, times(1)).findById(buyer.getUserId());
         verify(itemRepository, times(1)).findById(item.getItemId());
         verify(chatRoomRepository, times(1)).save(any(ChatRoom.class));
-        verify(chatPropertiesRepository, times(2)).save(any(ChatProperties.class));
+        verify(itemRepository, times(1)).increaseChatCount(item.getItemId());
+        verify(eventPublisher, times(1)).publishEvent(any(ItemChangedEvent.class));
+        verify(batchInsertRepository, times(1)).saveChatProperties(anyList());
     }
 
     @Test
@@ -147,52 +153,93 @@ class ChatRoomServiceTest {
     @DisplayName("사용자가 참여한 채팅방 목록 조회 테스트")
     void getChatRooms_UserIsBuyer() {
         // given
-        when(userRepository.findById(buyer.getUserId())).thenReturn(Optional.of(buyer));
-        when(chatRoomRepository.findAll()).thenReturn(List.of(chatRoom));
-        when(chatPropertiesRepository.findByUserAndChatRoom(buyer, chatRoom)).thenReturn(
-            chatProperties);
-        when(chatMessageRepository.findTopByIsReadTrueOrderByCreatedDateDesc()).thenReturn(
-            chatMessage);
+        ChatRoomDataResponseDto chatRoomData = ChatRoomDataResponseDto.builder()
+            .chatRoomId(chatRoom.getChatRoomId()).userId(seller.getUserId())
+            .itemId(item.getItemId()).title(seller.getNickname())
+            .isAlarm(true).messageId(100L).lastMessageId(101L).unreadCount(1).build();
+        when(userRepository.existsById(buyer.getUserId())).thenReturn(true);
+        when(chatRoomRepository.findChatRoomDataByUserId(buyer.getUserId())).thenReturn(
+            List.of(chatRoomData));
 
         // when
         List<ChatRoomDataResponseDto> chatRooms = chatRoomService.getChatRooms(authUserDto);
 
         // then
-        assertThat(chatRooms).hasSize(1);
-        ChatRoomDataResponseDto responseDto = chatRooms.get(0);
-        assertEquals(chatRoom.getChatRoomId(), responseDto.getChatRoomId());
-        assertEquals(seller.getUserId(), responseDto.getUserId());
-        assertEquals(item.getItemId(), responseDto.getItemId());
-        assertEquals(seller.getNickname(), responseDto.getTitle());
-        assertEquals(chatProperties.isAlarm(), responseDto.getIsAlarm());
-        assertEquals(chatMessage.getMessageId(), responseDto.getMessageId());
+        assertThat(chatRooms).containsExactly(chatRoomData);
+        verify(chatRoomRepository, never()).findAll();
+        verifyNoInteractions(chatPropertiesRepository);
     }
 
     @Test
-    @DisplayName("사용자가 판매자인 경우 채팅방 목록 조회 테스트")
-    void getChatRooms_UserIsSeller() {
+    @DisplayName("존재하지 않는 사용자의 채팅방 목록 조회 테스트")
+    void getChatRooms_UserNotFound() {
         // given
-        AuthUserDto sellerAuthUserDto = new AuthUserDto(seller.getUserId(), "loginEmail"
-        ); // 판매자로 설정
-        when(userRepository.findById(seller.getUserId())).thenReturn(Optional.of(seller));
-        when(chatRoomRepository.findAll()).thenReturn(List.of(chatRoom));
-        when(chatPropertiesRepository.findByUserAndChatRoom(seller, chatRoom)).thenReturn(
-            chatProperties);
-        when(chatMessageRepository.findTopByIsReadTrueOrderByCreatedDateDesc()).thenReturn(
-            chatMessage);
+        when(userRepository.existsById(buyer.getUserId())).thenReturn(false);
+
+        // when & then
+        CustomException exception = assertThrows(CustomException.class,
+            () -> chatRoomService.getChatRooms(authUserDto));
+        assertEquals(ErrorCode.USER_NOT_FOUND, exception.getErrorCode());
+        verify(chatRoomRepository, never()).findChatRoomDataByUserId(any());
+    }
+
+    @Test
+    @DisplayName("채팅방 1개 조회 시 저장된 마지막 메시지와 안 읽은 개수를 돌려주는 테스트")
+    void getChatRoom_Success() {
+        // given
+        ChatRoomDataResponseDto chatRoomData = ChatRoomDataResponseDto.builder()
+            .chatRoomId(chatRoom.getChatRoomId()).userId(seller.getUserId())
+            .lastMessageId(101L).lastMessagePreview("hello").unreadCount(3).build();
+        when(chatRoomRepository.findChatRoomDataByUserIdAndChatRoomId(buyer.getUserId(),
+            chatRoom.getChatRoomId())).thenReturn(Optional.of(chatRoomData));
 
         // when
-        List<ChatRoomDataResponseDto> chatRooms = chatRoomService.getChatRooms(sellerAuthUserDto);
+        ChatRoomDataResponseDto result = chatRoomService.getChatRoom(buyer.getUserId(),
+            chatRoom.getChatRoomId());
 
         // then
-        assertThat(chatRooms).hasSize(1);
-        ChatRoomDataResponseDto responseDto = chatRooms.get(0);
-        assertEquals(chatRoom.getChatRoomId(), responseDto.getChatRoomId());
-        assertEquals(buyer.getUserId(), responseDto.getUserId());
-        assertEquals(item.getItemId(), responseDto.getItemId());
-        assertEquals(buyer.getNickname(), responseDto.getTitle());
-        assertEquals(chatProperties.isAlarm(), responseDto.getIsAlarm());
-        assertEquals(chatMessage.getMessageId(), responseDto.getMessageId());
+        assertThat(result.getUnreadCount()).isEqualTo(3);
+        assertThat(result.getLastMessagePreview()).isEqualTo("hello");
+        verify(chatRoomRepository, never()).findById(any());
+        verifyNoInteractions(chatPropertiesRepository);
+    }
+
+    @Test
+    @DisplayName("참여하지 않은 채팅방 1개 조회 테스트")
+    void getChatRoom_ChatPropertiesNotFound() {
+        // given
+        when(chatRoomRepository.findChatRoomDataByUserIdAndChatRoomId(buyer.getUserId(),
+            chatRoom.getChatRoomId())).thenReturn(Optional.empty());
+        when(userRepository.existsById(buyer.getUserId())).thenReturn(true);
+        when(chatRoomRepository.existsById(chatRoom.getChatRoomId())).thenReturn(true);
+
+        // when & then
+        CustomException exception = assertThrows(CustomException.class,
+            () -> chatRoomService.getChatRoom(buyer.getUserId(), chatRoom.getChatRoomId()));
+        assertEquals(ErrorCode.CHAT_PROPERTIES_NOT_FOUND, exception.getErrorCode());
     }
 
+    @Test
+    @DisplayName("채팅방을 나가면 참여자 캐시를 지우도록 이벤트를 발행하는 테스트")
+    void leaveChatRoom_Success() {
+        // given
+        chatRoom.setUserCount(2);
+        when(chatRoomRepository.findById(chatRoom.getChatRoomId())).thenReturn(
+            Optional.of(chatRoom));
+        when(userRepository.findById(buyer.getUserId())).thenReturn(Optional.of(buyer));
+        when(chatPropertiesRepository.findByUserAndChatRoom(buyer, chatRoom)).thenReturn(
+            chatProperties);
+
+        // when
+        chatRoomService.leaveChatRoom(chatRoom.getChatRoomId(), authUserDto);
+
+        // then
+        assertTrue(chatProperties.isExited());
+        assertEquals(1, chatRoom.getUserCount());
+        ArgumentCaptor<ChatRoomExitedEvent> captor = ArgumentCaptor.forClass(
+            ChatRoomExitedEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertEquals(chatRoom.getChatRoomId(), captor.getValue().getChatRoomId());
+        assertEquals(buyer.getUserId(), captor.getValue().getUserId());
+    }
 }
@@ -4,21 +4,23 @@ import LinkerBell.campus_market_spring.domain.ChatMessage;
 import LinkerBell.campus_market_spring.domain.ChatRoom;
 import LinkerBell.campus_market_spring.domain.ContentType;
 import LinkerBell.campus_market_spring.domain.User;
+import LinkerBell.campus_market_spring.dto.ChatRoomMembersDto;
 import LinkerBell.campus_market_spring.dto.ChattingRequestDto;
 import LinkerBell.campus_market_spring.dto.ChattingResponseDto;
 
 import LinkerBell.campus_market_spring.global.error.ErrorCode;
 import LinkerBell.campus_market_spring.global.error.exception.CustomException;
-import LinkerBell.campus_market_spring.repository.ChatMessageRepository;
+import LinkerBell.campus_market_spring.global.redis.ChatRoomSequence;
+import LinkerBell.campus_market_spring.repository.ChatMessageIdAllocator;
+import LinkerBell.campus_market_spring.repository.ChatPropertiesRepository;
 import LinkerBell.campus_market_spring.repository.ChatRoomRepository;
 import LinkerBell.campus_market_spring.repository.UserRepository;
-import java.time.LocalDateTime;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -30,14 +32,26 @@ class ChattingServiceTest {
     private ChattingService chattingService;
 
     @Mock
-    private ChatMessageRepository chatMessageRepository;
+    private ChatRoomRepository chatRoomRepository;
 
     @Mock
-    private ChatRoomRepository chatRoomRepository;
+    private ChatPropertiesRepository chatPropertiesRepository;
 
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ChatRoomMemberCache chatRoomMemberCache;
+
+    @Mock
+    private ChatMessageIdAllocator chatMessageIdAllocator;
+
+    @Mock
+    private ChatMessageWriteBuffer chatMessageWriteBuffer;
+
+    @Mock
+    private ChatRoomSequence chatRoomSequence;
+
     private User user;
     private ChatRoom chatRoom;
 
@@ -54,7 +68,7 @@ class ChattingServiceTest {
     }
 
     @Test
-    void makeChattingResponseDto_ShouldSaveMessageAndReturnDto() {
+    void makeChattingResponseDto_ShouldSubmitMessageAndReturnDto() {
         // Given
         Long userId = user.getUserId();
         Long chatRoomId = chatRoom.getChatRoomId();
@@ -64,36 +78,10 @@ class ChattingServiceTest {
             .contentType(ContentType.TEXT)
             .build();
 
-        // Mocking repository responses
-        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-        when(chatRoomRepository.findById(chatRoomId)).thenReturn(Optional.of(chatRoom));
-
-        // Prepare the ChatMessage without setting createdDate
-        ChatMessage chatMessage = ChatMessage.builder()
-            .content(chattingRequestDto.getContent())
-            .contentType(chattingRequestDto.getContentType())
-            .isRead(false)
-            .chatRoom(chatRoom) // chatRoom 추가
-            .user(user) // user 추가
-            .build();
-
-        // Prepare the savedMessage to return
-        ChatMessage savedMessage = ChatMessage.builder()
-            .messageId(1L) // Assume an ID is assigned
-            .content(chatMessage.getContent())
-            .contentType(chatMessage.getContentType())
-            .isRead(false)
-            .chatRoom(chatRoom)
-            .user(user)
-            .build();
-
-        // Here we mock the save operation, but we should let JPA handle createdDate
-        when(chatMessageRepository.save(any(ChatMessage.class))).thenAnswer(invocation -> {
-            ChatMessage msg = invocation.getArgument(0);
-            msg.setMessageId(1L); // Setting a mock ID
-            msg.setCreatedDate(LocalDateTime.now()); // Simulating createdDate setting
-            return msg;
-        });
+        when(chatRoomMemberCache.get(chatRoomId)).thenReturn(
+            new ChatRoomMembersDto(chatRoomId, userId, 2L, false, false));
+        when(chatMessageIdAllocator.nextId()).thenReturn(1L);
+        when(chatRoomSequence.next(chatRoomId)).thenReturn(7L);
 
         // When
         ChattingResponseDto responseDto = chattingService.makeChattingResponseDto(userId,
@@ -101,39 +89,68 @@ class ChattingServiceTest {
 
         // Then
         assertThat(responseDto).isNotNull();
-        assertThat(responseDto.getMessageId()).isEqualTo(savedMessage.getMessageId());
+        assertThat(responseDto.getMessageId()).isEqualTo(1L);
         assertThat(responseDto.getChatRoomId()).isEqualTo(chatRoomId);
         assertThat(responseDto.getUserId()).isEqualTo(userId);
         assertThat(responseDto.getContent()).isEqualTo("Hello World");
         assertThat(responseDto.getContentType()).isEqualTo(chattingRequestDto.getContentType());
         assertThat(responseDto.getCreatedAt()).isNotNull();
-
-        // Verify interactions with repositories
-        verify(userRepository).findById(userId);
-        verify(chatRoomRepository).findById(chatRoomId);
-        verify(chatMessageRepository).save(any(ChatMessage.class)); // Mocked save call verification
+        assertThat(responseDto.getRoomSequence()).isEqualTo(7L);
+
+        // 저장은 대기열에 넘기고, 사용자, 채팅방을 DB에서 조회하지 않는다.
+        ArgumentCaptor<ChatMessage> captor = ArgumentCaptor.forClass(ChatMessage.class);
+        verify(chatMessageWriteBuffer).submit(captor.capture());
+        ChatMessage submitted = captor.getValue();
+        assertThat(submitted.getMessageId()).isEqualTo(1L);
+        assertThat(submitted.getChatRoom().getChatRoomId()).isEqualTo(chatRoomId);
+        assertThat(submitted.getUser().getUserId()).isEqualTo(userId);
+        assertThat(submitted.getCreatedDate()).isEqualTo(responseDto.getCreatedAt());
+        assertThat(submitted.getRoomSequence()).isEqualTo(7L);
+        verifyNoInteractions(userRepository, chatRoomRepository, chatPropertiesRepository);
     }
 
+    @Test
+    void makeChattingResponseDto_ShouldThrowWhenUserIsNotMember() {
+        // Given
+        Long userId = user.getUserId();
+        Long chatRoomId = chatRoom.getChatRoomId();
+        ChattingRequestDto chattingRequestDto = ChattingRequestDto.builder()
+            .content("Hello World")
+            .contentType(ContentType.TEXT)
+            .build();
+
+        when(chatRoomMemberCache.get(chatRoomId)).thenReturn(
+            new ChatRoomMembersDto(chatRoomId, 2L, 3L, false, false));
+
+        // When & Then
+        CustomException thrown = org.junit.jupiter.api.Assertions.assertThrows(
+            CustomException.class, () -> {
+                chattingService.makeChattingResponseDto(userId, chatRoomId, chattingRequestDto);
+            });
+        assertThat(thrown.getErrorCode()).isEqualTo(ErrorCode.CHAT_PROPERTIES_NOT_FOUND);
+        verifyNoInteractions(chatMessageIdAllocator, chatMessageWriteBuffer, chatRoomSequence);
+    }
 
     @Test
-    void makeChattingResponseDto_ShouldThrowUserNotFoundException() {
+    void makeChattingResponseDto_ShouldThrowWhenUserHasExited() {
         // Given
-        Long userId = 1L;  // 존재하지 않는 사용자 ID
+        Long userId = user.getUserId();
         Long chatRoomId = chatRoom.getChatRoomId();
         ChattingRequestDto chattingRequestDto = ChattingRequestDto.builder()
             .content("Hello World")
             .contentType(ContentType.TEXT)
             .build();
 
-        // Mocking repository responses
-        when(userRepository.findById(userId)).thenReturn(Optional.empty());
+        when(chatRoomMemberCache.get(chatRoomId)).thenReturn(
+            new ChatRoomMembersDto(chatRoomId, userId, 2L, true, false));
 
         // When & Then
         CustomException thrown = org.junit.jupiter.api.Assertions.assertThrows(
             CustomException.class, () -> {
                 chattingService.makeChattingResponseDto(userId, chatRoomId, chattingRequestDto);
             });
-        assertThat(thrown.getErrorCode()).isEqualTo(ErrorCode.USER_NOT_FOUND);
+        assertThat(thrown.getErrorCode()).isEqualTo(ErrorCode.CHAT_PROPERTIES_NOT_FOUND);
+        verifyNoInteractions(chatMessageIdAllocator, chatMessageWriteBuffer, chatRoomSequence);
     }
 
     @Test
@@ -146,9 +163,8 @@ class ChattingServiceTest {
             .contentType(ContentType.TEXT)
             .build();
 
-        // Mocking repository responses
-        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-        when(chatRoomRepository.findById(chatRoomId)).thenReturn(Optional.empty());
+        when(chatRoomMemberCache.get(chatRoomId)).thenThrow(
+            new CustomException(ErrorCode.CHATROOM_NOT_FOUND));
 
         // When & Then
         CustomException thrown = org.junit.jupiter.api.Assertions.assertThrows(
@@ -157,4 +173,31 @@ class ChattingServiceTest {
             });
         assertThat(thrown.getErrorCode()).isEqualTo(ErrorCode.CHATROOM_NOT_FOUND);
     }
+
+    @Test
+    void makeChattingResponseDto_ShouldThrowWhenBufferIsFull() {
+        // Given
+        Long userId = user.getUserId();
+        Long chatRoomId = chatRoom.getChatRoomId();
+        ChattingRequestDto chattingRequestDto = ChattingRequestDto.builder()
+            .content("Hello World")
+            .contentType(ContentType.TEXT)
+            .build();
+
+        when(chatRoomMemberCache.get(chatRoomId)).thenReturn(
+            new ChatRoomMembersDto(chatRoomId, userId, 2L, false, false));
+        when(chatMessageIdAllocator.nextId()).thenReturn(1L);
+        when(chatRoomSequence.next(chatRoomId)).thenReturn(7L);
+        doThrow(new CustomException(ErrorCode.CHAT_SERVER_BUSY))
+            .when(chatMessageWriteBuffer).submit(any(ChatMessage.class));
+
+        // When & Then
+        CustomException thrown = org.junit.jupiter.api.Assertions.assertThrows(
+            CustomException.class, () -> {
+                chattingService.makeChattingResponseDto(userId, chatRoomId, chattingRequestDto);
+            });
+        assertThat(thrown.getErrorCode()).isEqualTo(ErrorCode.CHAT_SERVER_BUSY);
+        // 거절된 메시지의 순번이 동기화 watermark를 막지 않도록 바로 뺀다.
+        verify(chatRoomSequence).abandon(chatRoomId, 7L);
+    }
 }
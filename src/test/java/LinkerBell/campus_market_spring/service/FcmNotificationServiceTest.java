@@ -0,0 +1,130 @@
+package LinkerBell.campus_market_spring.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import LinkerBell.campus_market_spring.dto.FcmMessageDto;
+import LinkerBell.campus_market_spring.global.event.FcmTokenChangedEvent;
+import LinkerBell.campus_market_spring.global.push.FakePushGateway;
+import LinkerBell.campus_market_spring.global.push.FakePushGateway.FakeError;
+import LinkerBell.campus_market_spring.repository.UserFcmTokenRepository;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+@ExtendWith(MockitoExtension.class)
+class FcmNotificationServiceTest {
+
+    @Mock
+    UserFcmTokenRepository userFcmTokenRepository;
+
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
+    FakePushGateway pushGateway;
+    FcmNotificationService fcmNotificationService;
+
+    @BeforeEach
+    void beforeEach() {
+        pushGateway = new FakePushGateway();
+        fcmNotificationService = new FcmNotificationService(userFcmTokenRepository, pushGateway,
+            eventPublisher);
+    }
+
+    @Test
+    @DisplayName("500개씩 나누어 한 번의 요청으로 보내는 테스트")
+    public void sendNotificationsBatchTest() {
+        // given
+        List<FcmMessageDto> messages = createMessages(1200);
+
+        // when
+        fcmNotificationService.sendNotifications(messages);
+
+        // then
+        assertThat(pushGateway.getRequestCount()).isEqualTo(3);
+        assertThat(pushGateway.getSentMessages()).hasSize(1200);
+        verify(userFcmTokenRepository, never()).deleteByFcmTokenIn(anyCollection());
+        verify(eventPublisher, never()).publishEvent(any(FcmTokenChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("잘못된 토큰은 모아서 한 번에 삭제하고 토큰 캐시를 지우는 테스트")
+    public void invalidTokenTest() {
+        // given
+        List<FcmMessageDto> messages = createMessages(600);
+        pushGateway.addInvalidToken("token1");
+        pushGateway.addInvalidToken("token550");
+        when(userFcmTokenRepository.findUserIdsByFcmTokenIn(List.of("token1", "token550")))
+            .thenReturn(List.of(3L));
+
+        // when
+        fcmNotificationService.sendNotifications(messages);
+
+        // then
+        assertThat(pushGateway.getSentMessages()).hasSize(598);
+        verify(userFcmTokenRepository).deleteByFcmTokenIn(List.of("token1", "token550"));
+        ArgumentCaptor<FcmTokenChangedEvent> captor = ArgumentCaptor.forClass(
+            FcmTokenChangedEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertThat(captor.getValue().getUserIds()).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("INVALID_ARGUMENT만 삭제하고 시간 초과된 토큰은 삭제하지 않는 테스트")
+    public void timeoutTokenTest() {
+        // given
+        List<FcmMessageDto> messages = createMessages(3);
+        pushGateway.addError("token0", FakeError.INVALID_ARGUMENT);
+        pushGateway.addError("token1", FakeError.TIMEOUT);
+        when(userFcmTokenRepository.findUserIdsByFcmTokenIn(List.of("token0")))
+            .thenReturn(List.of(1L));
+
+        // when
+        fcmNotificationService.sendNotifications(messages);
+
+        // then
+        assertThat(pushGateway.getSentCount()).isEqualTo(1L);
+        verify(userFcmTokenRepository).deleteByFcmTokenIn(List.of("token0"));
+    }
+
+    @Test
+    @DisplayName("요청 전체가 시간 초과되면 토큰을 삭제하지 않는 테스트")
+    public void batchTimeoutTest() {
+        // given
+        pushGateway = new FakePushGateway(Duration.ZERO, 0, 1, Duration.ZERO, true);
+        fcmNotificationService = new FcmNotificationService(userFcmTokenRepository, pushGateway,
+            eventPublisher);
+
+        // when
+        fcmNotificationService.sendNotifications(createMessages(10));
+
+        // then
+        assertThat(pushGateway.getRequestCount()).isEqualTo(1);
+        assertThat(pushGateway.getSentCount()).isZero();
+        verify(userFcmTokenRepository, never()).deleteByFcmTokenIn(anyCollection());
+    }
+
+    private List<FcmMessageDto> createMessages(int count) {
+        List<FcmMessageDto> messages = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            messages.add(FcmMessageDto.builder()
+                .targetToken("token" + i)
+                .title("camera 키워드 알림")
+                .body("sony camera")
+                .build());
+        }
+        return messages;
+    }
+}
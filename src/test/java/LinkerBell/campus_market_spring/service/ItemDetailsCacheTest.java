@@ -0,0 +1,121 @@
+package LinkerBell.campus_market_spring.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import LinkerBell.campus_market_spring.dto.ItemDetailsSnapshot;
+import LinkerBell.campus_market_spring.dto.ItemDetailsViewResponseDto;
+import LinkerBell.campus_market_spring.global.error.ErrorCode;
+import LinkerBell.campus_market_spring.global.error.exception.CustomException;
+import LinkerBell.campus_market_spring.global.event.ItemChangeType;
+import LinkerBell.campus_market_spring.global.event.ItemChangedEvent;
+import LinkerBell.campus_market_spring.repository.ItemRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ItemDetailsCacheTest {
+
+    @Mock
+    ItemRepository itemRepository;
+
+    ItemDetailsCache itemDetailsCache;
+    ItemDetailsSnapshot snapshot;
+
+    @BeforeEach
+    public void setUp() {
+        itemDetailsCache = new ItemDetailsCache(itemRepository);
+        snapshot = new ItemDetailsSnapshot(ItemDetailsViewResponseDto.builder()
+            .itemId(1L)
+            .title("item")
+            .images(List.of())
+            .likeCount(3)
+            .build(), "campus", false);
+    }
+
+    @Test
+    @DisplayName("같은 아이템에 대한 동시 조회는 한 번만 로드하는 테스트")
+    public void concurrentMissTest() throws Exception {
+        // given
+        CountDownLatch start = new CountDownLatch(1);
+        when(itemRepository.findItemDetailsSnapshot(1L)).thenAnswer(invocation -> {
+            Thread.sleep(100);
+            return Optional.of(snapshot);
+        });
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        List<Future<ItemDetailsSnapshot>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < 8; i++) {
+            futures.add(executorService.submit(() -> {
+                start.await();
+                return itemDetailsCache.get(1L);
+            }));
+        }
+        start.countDown();
+        for (Future<ItemDetailsSnapshot> future : futures) {
+            assertThat(future.get(5, TimeUnit.SECONDS)).isSameAs(snapshot);
+        }
+        executorService.shutdown();
+
+        // then
+        verify(itemRepository, times(1)).findItemDetailsSnapshot(1L);
+    }
+
+    @Test
+    @DisplayName("아이템 변경 이벤트 후에는 다시 로드하는 테스트")
+    public void invalidateTest() {
+        // given
+        when(itemRepository.findItemDetailsSnapshot(1L)).thenReturn(Optional.of(snapshot));
+        itemDetailsCache.get(1L);
+        itemDetailsCache.get(1L);
+
+        // when
+        itemDetailsCache.onItemChanged(new ItemChangedEvent(1L, 1L, ItemChangeType.LIKED));
+        itemDetailsCache.get(1L);
+
+        // then
+        verify(itemRepository, times(2)).findItemDetailsSnapshot(1L);
+    }
+
+    @Test
+    @DisplayName("없는 아이템은 캐시하지 않고 예외를 던지는 테스트")
+    public void notFoundTest() {
+        // given
+        when(itemRepository.findItemDetailsSnapshot(2L)).thenReturn(Optional.empty());
+
+        // when, then
+        assertThatThrownBy(() -> itemDetailsCache.get(2L))
+            .isInstanceOf(CustomException.class)
+            .hasMessageContaining(ErrorCode.ITEM_NOT_FOUND.getMessage());
+        assertThatThrownBy(() -> itemDetailsCache.get(2L))
+            .isInstanceOf(CustomException.class);
+        verify(itemRepository, times(2)).findItemDetailsSnapshot(2L);
+    }
+
+    @Test
+    @DisplayName("응답은 공유 스냅샷을 바꾸지 않고 isLiked만 채우는 테스트")
+    public void toResponseTest() {
+        // when
+        ItemDetailsViewResponseDto liked = snapshot.toResponse(true);
+        // then
+        assertThat(liked.isLiked()).isTrue();
+        assertThat(liked.getLikeCount()).isEqualTo(3);
+        assertThat(snapshot.details().isLiked()).isFalse();
+    }
+}
@@ -0,0 +1,86 @@
+package LinkerBell.campus_market_spring.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import LinkerBell.campus_market_spring.dto.ItemSearchRequestDto;
+import LinkerBell.campus_market_spring.dto.ItemSearchResponseDto;
+import LinkerBell.campus_market_spring.dto.SliceResponse;
+import LinkerBell.campus_market_spring.global.event.ItemChangeType;
+import LinkerBell.campus_market_spring.global.event.ItemChangedEvent;
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+
+class ItemFeedCacheTest {
+
+    ItemFeedCache itemFeedCache;
+    AtomicInteger loadCount;
+
+    @BeforeEach
+    public void setUp() {
+        itemFeedCache = new ItemFeedCache();
+        loadCount = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("같은 캠퍼스, 같은 조건의 첫 페이지는 한 번만 조회하는 테스트")
+    public void cacheHitTest() {
+        // given
+        ItemSearchRequestDto requestDto = createRequest(0);
+        // when
+        itemFeedCache.get(1L, requestDto, this::load);
+        itemFeedCache.get(1L, requestDto, this::load);
+        itemFeedCache.get(2L, requestDto, this::load);
+        // then
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("아이템 변경 이벤트가 오면 해당 캠퍼스만 다시 조회하는 테스트")
+    public void invalidateTest() {
+        // given
+        ItemSearchRequestDto requestDto = createRequest(0);
+        itemFeedCache.get(1L, requestDto, this::load);
+        itemFeedCache.get(2L, requestDto, this::load);
+        // when
+        itemFeedCache.onItemChanged(new ItemChangedEvent(10L, 1L, ItemChangeType.LIKED));
+        itemFeedCache.get(1L, requestDto, this::load);
+        itemFeedCache.get(2L, requestDto, this::load);
+        // then
+        assertThat(loadCount.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("검색어, 가격 필터, 뒤쪽 페이지는 캐시하지 않는 테스트")
+    public void isCacheableTest() {
+        // given
+        ItemSearchRequestDto nameRequest = createRequest(0);
+        nameRequest.setName("아이폰");
+        ItemSearchRequestDto priceRequest = createRequest(0);
+        priceRequest.setMaxPrice(10000);
+        // when, then
+        assertThat(itemFeedCache.isCacheable(createRequest(0))).isTrue();
+        assertThat(itemFeedCache.isCacheable(createRequest(5))).isFalse();
+        assertThat(itemFeedCache.isCacheable(nameRequest)).isFalse();
+        assertThat(itemFeedCache.isCacheable(priceRequest)).isFalse();
+    }
+
+    private SliceResponse<ItemSearchResponseDto> load() {
+        loadCount.incrementAndGet();
+        return new SliceResponse<>(
+            new SliceImpl<ItemSearchResponseDto>(new ArrayList<>(), createRequest(0).getPageable(),
+                false));
+    }
+
+    private ItemSearchRequestDto createRequest(int page) {
+        return ItemSearchRequestDto.builder()
+            .pageable(PageRequest.of(page, 10, Sort.by(Direction.DESC, "createdDate")))
+            .build();
+    }
+}
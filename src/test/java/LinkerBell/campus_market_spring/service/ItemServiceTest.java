@@ -4,6 +4,8 @@ import static LinkerBell.campus_market_spring.global.error.ErrorCode.ALREADY_SOL
 import static LinkerBell.campus_market_spring.global.error.ErrorCode.DO_NOT_ROLL_BACK_ITEM_STATUS_FOR_SALE;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import LinkerBell.campus_market_spring.domain.Campus;
@@ -17,6 +19,8 @@ import LinkerBell.campus_market_spring.domain.Role;
 import LinkerBell.campus_market_spring.domain.User;
 import LinkerBell.campus_market_spring.dto.ItemStatusChangeRequestDto;
 import LinkerBell.campus_market_spring.global.error.exception.CustomException;
+import LinkerBell.campus_market_spring.global.event.ItemChangedEvent;
+import LinkerBell.campus_market_spring.global.event.ItemFacetChangedEvent;
 import LinkerBell.campus_market_spring.repository.CampusRepository;
 import LinkerBell.campus_market_spring.repository.ChatRoomRepository;
 import LinkerBell.campus_market_spring.repository.ItemPhotosRepository;
@@ -34,6 +38,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 public class ItemServiceTest {
@@ -59,6 +64,9 @@ public class ItemServiceTest {
     @Mock
     ItemPhotosRepository itemPhotosRepository;
 
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
     List<Item> items;
     List<User> users;
     List<Campus> campuses;
@@ -285,6 +293,8 @@ public class ItemServiceTest {
 
         assertThat(item.getItemStatus()).isEqualTo(itemStatusChangeRequestDto.getItemStatus());
         assertThat(item.getUserBuyer()).isEqualTo(userBuyer);
+        verify(eventPublisher).publishEvent(any(ItemChangedEvent.class));
+        verify(eventPublisher).publishEvent(any(ItemFacetChangedEvent.class));
     }
 
 }
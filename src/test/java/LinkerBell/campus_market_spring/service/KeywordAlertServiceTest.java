@@ -0,0 +1,133 @@
+package LinkerBell.campus_market_spring.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import LinkerBell.campus_market_spring.domain.Campus;
+import LinkerBell.campus_market_spring.domain.Item;
+import LinkerBell.campus_market_spring.domain.Keyword;
+import LinkerBell.campus_market_spring.domain.KeywordAlertOutbox;
+import LinkerBell.campus_market_spring.domain.OutboxStatus;
+import LinkerBell.campus_market_spring.domain.User;
+import LinkerBell.campus_market_spring.repository.ItemRepository;
+import LinkerBell.campus_market_spring.repository.KeywordAlertOutboxRepository;
+import LinkerBell.campus_market_spring.service.KeywordAlertService.KeywordAlert;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class KeywordAlertServiceTest {
+
+    @InjectMocks
+    KeywordAlertService keywordAlertService;
+
+    @Mock
+    KeywordAlertOutboxRepository keywordAlertOutboxRepository;
+
+    @Mock
+    ItemRepository itemRepository;
+
+    @Mock
+    KeywordService keywordService;
+
+    @Mock
+    NotificationHistoryService notificationHistoryService;
+
+    Item item;
+    Keyword keyword;
+
+    @BeforeEach
+    void beforeEach() {
+        ReflectionTestUtils.setField(keywordAlertService, "maxAttempts", 3);
+        ReflectionTestUtils.setField(keywordAlertService, "initialBackoffSeconds", 5L);
+        ReflectionTestUtils.setField(keywordAlertService, "maxBackoffSeconds", 60L);
+
+        Campus campus = Campus.builder().campusId(1L).build();
+        User seller = User.builder().userId(1L).campus(campus).build();
+        User subscriber = User.builder().userId(2L).campus(campus).build();
+        item = Item.builder().itemId(1L).user(seller).campus(campus).title("sony camera").build();
+        keyword = Keyword.builder().keywordId(1L).keywordName("camera").user(subscriber).build();
+    }
+
+    @Test
+    @DisplayName("처음 처리할 때만 알림 내역을 저장하는 테스트")
+    public void prepareTest() {
+        // given
+        KeywordAlertOutbox outbox = processing(1);
+        when(keywordAlertOutboxRepository.findById(1L)).thenReturn(Optional.of(outbox));
+        when(itemRepository.findById(1L)).thenReturn(Optional.of(item));
+        when(keywordService.findKeywordsWithSameItemCampusAndTitle(item)).thenReturn(
+            List.of(keyword));
+
+        // when
+        Optional<KeywordAlert> first = keywordAlertService.prepare(1L);
+        Optional<KeywordAlert> retried = keywordAlertService.prepare(1L);
+
+        // then
+        assertThat(first).isPresent();
+        assertThat(first.get().keywords()).containsExactly(keyword);
+        assertThat(retried).isPresent();
+        assertThat(outbox.isHistorySaved()).isTrue();
+        verify(notificationHistoryService).saveNotificationHistory(List.of(keyword), item);
+    }
+
+    @Test
+    @DisplayName("삭제된 아이템의 작업은 발송하지 않고 완료 처리하는 테스트")
+    public void prepareDeletedItemTest() {
+        // given
+        KeywordAlertOutbox outbox = processing(1);
+        item.setDeleted(true);
+        when(keywordAlertOutboxRepository.findById(1L)).thenReturn(Optional.of(outbox));
+        when(itemRepository.findById(1L)).thenReturn(Optional.of(item));
+
+        // when
+        Optional<KeywordAlert> keywordAlert = keywordAlertService.prepare(1L);
+
+        // then
+        assertThat(keywordAlert).isEmpty();
+        assertThat(outbox.getStatus()).isEqualTo(OutboxStatus.DONE);
+        verify(notificationHistoryService, never()).saveNotificationHistory(anyList(), any());
+    }
+
+    @Test
+    @DisplayName("실패하면 backoff 뒤로 미루고 최대 시도 횟수를 넘으면 FAILED로 남기는 테스트")
+    public void failTest() {
+        // given
+        KeywordAlertOutbox retrying = processing(2);
+        KeywordAlertOutbox exhausted = processing(3);
+        when(keywordAlertOutboxRepository.findById(1L)).thenReturn(Optional.of(retrying));
+        when(keywordAlertOutboxRepository.findById(2L)).thenReturn(Optional.of(exhausted));
+        LocalDateTime before = LocalDateTime.now();
+
+        // when
+        keywordAlertService.fail(1L, new IllegalStateException("fcm"));
+        keywordAlertService.fail(2L, new IllegalStateException("fcm"));
+
+        // then
+        assertThat(retrying.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(retrying.getNextAttemptAt()).isAfterOrEqualTo(before.plusSeconds(10));
+        assertThat(retrying.getLastError()).contains("fcm");
+        assertThat(exhausted.getStatus()).isEqualTo(OutboxStatus.FAILED);
+    }
+
+    private KeywordAlertOutbox processing(int attemptCount) {
+        return KeywordAlertOutbox.builder()
+            .itemId(1L)
+            .status(OutboxStatus.PROCESSING)
+            .attemptCount(attemptCount)
+            .build();
+    }
+}
@@ -0,0 +1,73 @@
+package LinkerBell.campus_market_spring.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import LinkerBell.campus_market_spring.dto.KeywordIndexDto;
+import LinkerBell.campus_market_spring.global.event.KeywordChangedEvent;
+import LinkerBell.campus_market_spring.repository.KeywordRepository;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+@ExtendWith(MockitoExtension.class)
+class KeywordMatchServiceTest {
+
+    @InjectMocks
+    KeywordMatchService keywordMatchService;
+
+    @Mock
+    KeywordRepository keywordRepository;
+
+    @Test
+    @DisplayName("적재 전에는 값을 돌려주지 않아 DB로 조회하게 하는 테스트")
+    public void notReadyTest() {
+        // when, then
+        assertThat(keywordMatchService.findMatchedKeywordIds(1L, "camera", 1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 캠퍼스의 다른 사용자 키워드만 찾는 테스트")
+    public void rebuildTest() {
+        // given
+        when(keywordRepository.findKeywordIndexAfter(eq(0L), any(Pageable.class))).thenReturn(
+            List.of(new KeywordIndexDto(1L, 1L, 1L, "camera"),
+                new KeywordIndexDto(2L, 2L, 1L, "camera"),
+                new KeywordIndexDto(3L, 3L, 2L, "camera"),
+                new KeywordIndexDto(4L, 2L, 1L, "table")));
+
+        // when
+        keywordMatchService.rebuild();
+
+        // then
+        assertThat(keywordMatchService.findMatchedKeywordIds(1L, "sony camera", 2L))
+            .contains(List.of(1L));
+        assertThat(keywordMatchService.findMatchedKeywordIds(3L, "sony camera", 2L))
+            .contains(List.of());
+    }
+
+    @Test
+    @DisplayName("키워드 추가, 삭제 이벤트가 반영되는 테스트")
+    public void keywordChangedTest() {
+        // given
+        when(keywordRepository.findKeywordIndexAfter(eq(0L), any(Pageable.class)))
+            .thenReturn(List.of());
+        keywordMatchService.rebuild();
+
+        // when
+        keywordMatchService.onKeywordChanged(new KeywordChangedEvent(1L, 1L, 1L, "camera", true));
+        keywordMatchService.onKeywordChanged(new KeywordChangedEvent(2L, 2L, 1L, "sony", true));
+        keywordMatchService.onKeywordChanged(new KeywordChangedEvent(2L, 2L, 1L, "sony", false));
+
+        // then
+        assertThat(keywordMatchService.findMatchedKeywordIds(1L, "sony camera", 3L))
+            .contains(List.of(1L));
+    }
+}
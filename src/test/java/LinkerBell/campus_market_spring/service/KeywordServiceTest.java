@@ -7,7 +7,9 @@ import static LinkerBell.campus_market_spring.global.error.ErrorCode.NOT_MATCH_U
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import LinkerBell.campus_market_spring.domain.Campus;
@@ -19,6 +21,7 @@ import LinkerBell.campus_market_spring.dto.KeywordRegisterRequestDto;
 import LinkerBell.campus_market_spring.dto.KeywordRegisterResponseDto;
 import LinkerBell.campus_market_spring.dto.KeywordResponseDto;
 import LinkerBell.campus_market_spring.global.error.exception.CustomException;
+import LinkerBell.campus_market_spring.global.event.KeywordChangedEvent;
 import LinkerBell.campus_market_spring.repository.KeywordRepository;
 import LinkerBell.campus_market_spring.repository.UserRepository;
 import java.util.ArrayList;
@@ -31,6 +34,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 class KeywordServiceTest {
@@ -44,6 +48,12 @@ class KeywordServiceTest {
     @Mock
     UserRepository userRepository;
 
+    @Mock
+    KeywordMatchService keywordMatchService;
+
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
     List<Keyword> keywords;
     List<Campus> campuses;
     List<User> users;
@@ -125,6 +135,50 @@ class KeywordServiceTest {
         assertThat(targetKeyword.get(0).getUser().getUserId()).isEqualTo(users.get(0).getUserId());
     }
 
+    @Test
+    @DisplayName("오토마톤이 찾은 키워드만 DB에서 다시 조회해 확인하는 테스트")
+    public void findKeywordsWithMatchedKeywordIdsTest() throws Exception {
+        //given
+        Item savedItem = Item.builder()
+            .title("sony camera")
+            .user(users.get(1))
+            .campus(campuses.get(0))
+            .build();
+        when(keywordMatchService.findMatchedKeywordIds(campuses.get(0).getCampusId(),
+            "sony camera", users.get(1).getUserId())).thenReturn(Optional.of(List.of(1L)));
+        when(keywordRepository.findKeywordsWithUserAndCampusByKeywordIdIn(List.of(1L)))
+            .thenReturn(List.of(keywords.get(0)));
+
+        //when
+        List<Keyword> targetKeyword = keywordService.findKeywordsWithSameItemCampusAndTitle(
+            savedItem);
+
+        //then
+        assertThat(targetKeyword).containsExactly(keywords.get(0));
+        verify(keywordRepository, never()).findKeywordsWithUserAndCampus();
+    }
+
+    @Test
+    @DisplayName("오토마톤에서 찾은 키워드가 없으면 DB를 조회하지 않는 테스트")
+    public void findKeywordsWithoutMatchTest() throws Exception {
+        //given
+        Item savedItem = Item.builder()
+            .title("desk")
+            .user(users.get(1))
+            .campus(campuses.get(0))
+            .build();
+        when(keywordMatchService.findMatchedKeywordIds(any(), any(), any()))
+            .thenReturn(Optional.of(List.of()));
+
+        //when
+        List<Keyword> targetKeyword = keywordService.findKeywordsWithSameItemCampusAndTitle(
+            savedItem);
+
+        //then
+        assertThat(targetKeyword).isEmpty();
+        verifyNoInteractions(keywordRepository);
+    }
+
     @Test
     @DisplayName("사용자가 새로운 키워드를 성공적으로 추가할 수 있는지 테스트")
     public void addKeywordTest() {
@@ -150,6 +204,7 @@ class KeywordServiceTest {
 
         // then
         assertThat(response.getKeywordId()).isEqualTo(keywordToSave.getKeywordId());
+        verify(eventPublisher).publishEvent(any(KeywordChangedEvent.class));
     }
 
     @Test
@@ -236,6 +291,7 @@ class KeywordServiceTest {
 
         // then
         verify(keywordRepository).delete(keywordToDelete);
+        verify(eventPublisher).publishEvent(any(KeywordChangedEvent.class));
     }
 
     @Test
@@ -3,6 +3,7 @@ package LinkerBell.campus_market_spring.service;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
 
+import LinkerBell.campus_market_spring.domain.Campus;
 import LinkerBell.campus_market_spring.domain.Category;
 import LinkerBell.campus_market_spring.domain.Item;
 import LinkerBell.campus_market_spring.domain.ItemStatus;
@@ -13,6 +14,8 @@ import LinkerBell.campus_market_spring.dto.LikeDeleteResponseDto;
 import LinkerBell.campus_market_spring.dto.LikeResponseDto;
 import LinkerBell.campus_market_spring.dto.LikeSearchResponseDto;
 import LinkerBell.campus_market_spring.dto.SliceResponse;
+import LinkerBell.campus_market_spring.global.event.ItemChangedEvent;
+import LinkerBell.campus_market_spring.global.event.LikeChangedEvent;
 import LinkerBell.campus_market_spring.repository.ItemRepository;
 import LinkerBell.campus_market_spring.repository.LikeRepository;
 import LinkerBell.campus_market_spring.repository.UserRepository;
@@ -26,6 +29,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
@@ -44,6 +48,9 @@ class LikeServiceTest {
     @Mock
     ItemRepository itemRepository;
 
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     LikeService likeService;
 
@@ -81,6 +88,9 @@ class LikeServiceTest {
         assertThat(responseDto.getItemId()).isEqualTo(item.getItemId());
         assertThat(responseDto.getLikeId()).isEqualTo(like.getLikeId());
         assertThat(responseDto.isLike()).isTrue();
+        then(itemRepository).should(times(1)).increaseLikeCount(item.getItemId());
+        then(eventPublisher).should(times(1)).publishEvent(any(ItemChangedEvent.class));
+        then(eventPublisher).should(times(1)).publishEvent(any(LikeChangedEvent.class));
     }
 
     @Test
@@ -119,6 +129,7 @@ class LikeServiceTest {
         then(likeRepository).should(times(1)).deleteById(assertArg( id -> {
             assertThat(id).isEqualTo(like.getLikeId());
         }));
+        then(itemRepository).should(times(1)).decreaseLikeCount(item.getItemId());
         assertThat(responseDto).isNotNull();
         assertThat(responseDto.getItemId()).isEqualTo(item.getItemId());
         assertThat(responseDto.isLike()).isFalse();
@@ -137,6 +148,7 @@ class LikeServiceTest {
         LikeDeleteResponseDto responseDto = likeService.deleteLike(user.getUserId(), item.getItemId());
         // then
         then(likeRepository).should(times(0)).deleteById(anyLong());
+        then(itemRepository).should(times(0)).decreaseLikeCount(anyLong());
 
         assertThat(responseDto).isNotNull();
         assertThat(responseDto.getItemId()).isEqualTo(item.getItemId());
@@ -163,6 +175,7 @@ class LikeServiceTest {
             .itemStatus(ItemStatus.FORSALE)
             .thumbnail("default image" + id)
             .user(user)
+            .campus(Campus.builder().campusId(1L).build())
             .build();
     }
 }
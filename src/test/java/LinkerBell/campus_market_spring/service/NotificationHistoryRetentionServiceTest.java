@@ -0,0 +1,137 @@
+package LinkerBell.campus_market_spring.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import LinkerBell.campus_market_spring.global.event.NotificationUnreadChangedEvent;
+import LinkerBell.campus_market_spring.repository.NotificationHistoryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationHistoryRetentionServiceTest {
+
+    private static final int CHUNK = NotificationHistoryRetentionService.PURGE_CHUNK_SIZE;
+
+    @Mock
+    NotificationHistoryRepository notificationHistoryRepository;
+
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
+    SimpleMeterRegistry meterRegistry;
+    NotificationHistoryRetentionService notificationHistoryRetentionService;
+
+    @BeforeEach
+    void beforeEach() {
+        meterRegistry = new SimpleMeterRegistry();
+        notificationHistoryRetentionService = new NotificationHistoryRetentionService(
+            notificationHistoryRepository, eventPublisher, meterRegistry, 90L, 300L);
+    }
+
+    @Test
+    @DisplayName("오래된 알림을 PK 구간마다 지우고 남은 행이 있는 구간에서 멈추는 테스트")
+    public void purgeExpiredTest() {
+        // given
+        LocalDateTime createdBefore = LocalDateTime.now().minusDays(90);
+        when(notificationHistoryRepository.findMinNotificationHistoryId()).thenReturn(1L);
+        when(notificationHistoryRepository.findMaxNotificationHistoryId()).thenReturn(5000L);
+        when(notificationHistoryRepository.findUnreadUserIdsCreatedBeforeBetween(1L, (long) CHUNK,
+            createdBefore)).thenReturn(List.of(1L, 2L));
+        when(notificationHistoryRepository.deleteCreatedBeforeBetween(1L, (long) CHUNK,
+            createdBefore)).thenReturn(CHUNK);
+        when(notificationHistoryRepository.findUnreadUserIdsCreatedBeforeBetween(CHUNK + 1L,
+            2L * CHUNK, createdBefore)).thenReturn(List.of(2L, 3L));
+        when(notificationHistoryRepository.countBetween(1L, (long) CHUNK)).thenReturn(0L);
+        when(notificationHistoryRepository.deleteCreatedBeforeBetween(CHUNK + 1L, 2L * CHUNK,
+            createdBefore)).thenReturn(400);
+        when(notificationHistoryRepository.countBetween(CHUNK + 1L, 2L * CHUNK)).thenReturn(600L);
+
+        // when
+        int purged = notificationHistoryRetentionService.purgeExpired(createdBefore);
+
+        // then
+        assertThat(purged).isEqualTo(CHUNK + 400);
+        verify(notificationHistoryRepository, never()).deleteCreatedBeforeBetween(
+            2L * CHUNK + 1, 3L * CHUNK, createdBefore);
+        assertThat(meterRegistry.get("notification_history.purged").tag("policy", "age")
+            .counter().count()).isEqualTo(CHUNK + 400);
+        ArgumentCaptor<NotificationUnreadChangedEvent> eventCaptor = ArgumentCaptor.forClass(
+            NotificationUnreadChangedEvent.class);
+        verify(eventPublisher).publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getValue().getEvictedUserIds()).containsExactlyInAnyOrder(1L, 2L,
+            3L);
+    }
+
+    @Test
+    @DisplayName("지운 오래된 알림이 모두 읽은 알림이면 안 읽은 알림 수 캐시를 비우지 않는 테스트")
+    public void purgeExpiredReadOnlyTest() {
+        // given
+        LocalDateTime createdBefore = LocalDateTime.now().minusDays(90);
+        when(notificationHistoryRepository.findMinNotificationHistoryId()).thenReturn(1L);
+        when(notificationHistoryRepository.findMaxNotificationHistoryId()).thenReturn(10L);
+        when(notificationHistoryRepository.findUnreadUserIdsCreatedBeforeBetween(1L, (long) CHUNK,
+            createdBefore)).thenReturn(List.of());
+        when(notificationHistoryRepository.deleteCreatedBeforeBetween(1L, (long) CHUNK,
+            createdBefore)).thenReturn(10);
+        when(notificationHistoryRepository.countBetween(1L, (long) CHUNK)).thenReturn(0L);
+
+        // when
+        int purged = notificationHistoryRetentionService.purgeExpired(createdBefore);
+
+        // then
+        assertThat(purged).isEqualTo(10);
+        verify(eventPublisher, never()).publishEvent(any(NotificationUnreadChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("비어 있는 테이블이면 아무것도 지우지 않는 테스트")
+    public void purgeExpiredEmptyTest() {
+        // given
+        when(notificationHistoryRepository.findMinNotificationHistoryId()).thenReturn(0L);
+        when(notificationHistoryRepository.findMaxNotificationHistoryId()).thenReturn(0L);
+
+        // when
+        int purged = notificationHistoryRetentionService.purgeExpired(LocalDateTime.now());
+
+        // then
+        assertThat(purged).isZero();
+        verify(notificationHistoryRepository, never()).deleteCreatedBeforeBetween(anyLong(),
+            anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("사용자마다 최신 N개보다 오래된 알림을 chunk 단위로 지우는 테스트")
+    public void purgeExceededTest() {
+        // given
+        when(notificationHistoryRepository.findUserIdsHavingMoreThan(300L)).thenReturn(
+            List.of(1L));
+        when(notificationHistoryRepository.findNotificationHistoryIdAtOffset(1L, 299L))
+            .thenReturn(7000L);
+        when(notificationHistoryRepository.deleteByUserIdBefore(1L, 7000L, CHUNK))
+            .thenReturn(CHUNK, 10);
+
+        // when
+        notificationHistoryRetentionService.purge();
+
+        // then
+        assertThat(meterRegistry.get("notification_history.purged").tag("policy", "count")
+            .counter().count()).isEqualTo(CHUNK + 10);
+        assertThat(meterRegistry.get("notification_history.purge").timer().count())
+            .isEqualTo(1L);
+        verify(eventPublisher).publishEvent(any(NotificationUnreadChangedEvent.class));
+    }
+}
@@ -4,7 +4,9 @@ import static LinkerBell.campus_market_spring.global.error.ErrorCode.INVALID_NOT
 import static LinkerBell.campus_market_spring.global.error.ErrorCode.NOT_MATCH_USER_ID_WITH_NOTIFICATION_USER_ID;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -14,9 +16,13 @@ import LinkerBell.campus_market_spring.domain.Item;
 import LinkerBell.campus_market_spring.domain.Keyword;
 import LinkerBell.campus_market_spring.domain.NotificationHistory;
 import LinkerBell.campus_market_spring.domain.User;
+import LinkerBell.campus_market_spring.dto.CursorSliceResponse;
 import LinkerBell.campus_market_spring.dto.NotificationHistoryResponseDto;
 import LinkerBell.campus_market_spring.dto.SliceResponse;
 import LinkerBell.campus_market_spring.global.error.exception.CustomException;
+import LinkerBell.campus_market_spring.global.event.NotificationUnreadChangedEvent;
+import LinkerBell.campus_market_spring.global.redis.NotificationUnreadCounter;
+import LinkerBell.campus_market_spring.repository.BatchInsertRepository;
 import LinkerBell.campus_market_spring.repository.NotificationHistoryRepository;
 import LinkerBell.campus_market_spring.repository.UserRepository;
 import java.util.List;
@@ -24,9 +30,11 @@ import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.SliceImpl;
@@ -44,6 +52,15 @@ class NotificationHistoryServiceTest {
     @Mock
     UserRepository userRepository;
 
+    @Mock
+    BatchInsertRepository batchInsertRepository;
+
+    @Mock
+    NotificationUnreadCounter notificationUnreadCounter;
+
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
     String deeplinkKeywordUrl = "deeplink/";
 
     @Test
@@ -53,21 +70,132 @@ class NotificationHistoryServiceTest {
         Item item = Item.builder().itemId(1L).title("testItem").build();
         Keyword keyword = Keyword.builder().keywordName("testKeyword").user(user).build();
         List<Keyword> keywords = List.of(keyword);
-        List<NotificationHistory> notificationHistories = keywords.stream()
-            .map(k -> NotificationHistory.builder()
-                .user(k.getUser())
-                .item(item)
-                .title(k.getKeywordName() + " 키워드 알림")
-                .description(item.getTitle())
-                .deeplink(deeplinkKeywordUrl + item.getItemId())
-                .build())
-            .toList();
-
-        when(notificationHistoryRepository.saveAll(anyList())).thenReturn(notificationHistories);
+        notificationHistoryService.saveNotificationHistory(keywords, item);
 
+        verify(batchInsertRepository, times(1)).saveNotificationHistories(anyList());
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 키워드가 여러 개 매칭되면 알림 히스토리를 한 건으로 저장하는 테스트")
+    void saveNotificationHistory_shouldCoalescePerUser() {
+        // given
+        User user1 = User.builder().userId(1L).nickname("user1").build();
+        User user2 = User.builder().userId(2L).nickname("user2").build();
+        Item item = Item.builder().itemId(1L).title("아이패드 프로 케이스").build();
+        List<Keyword> keywords = List.of(
+            Keyword.builder().keywordName("아이패드").user(user1).build(),
+            Keyword.builder().keywordName("케이스").user(user2).build(),
+            Keyword.builder().keywordName("프로").user(user1).build());
+
+        // when
         notificationHistoryService.saveNotificationHistory(keywords, item);
 
-        verify(notificationHistoryRepository, times(1)).saveAll(anyList());
+        // then
+        ArgumentCaptor<List<NotificationHistory>> captor = ArgumentCaptor.forClass(List.class);
+        verify(batchInsertRepository).saveNotificationHistories(captor.capture());
+        assertThat(captor.getValue()).hasSize(2);
+        assertThat(captor.getValue().get(0).getUser()).isEqualTo(user1);
+        assertThat(captor.getValue().get(0).getTitle()).isEqualTo("아이패드, 프로 키워드 알림");
+        assertThat(captor.getValue().get(1).getTitle()).isEqualTo("케이스 키워드 알림");
+
+        ArgumentCaptor<NotificationUnreadChangedEvent> eventCaptor = ArgumentCaptor.forClass(
+            NotificationUnreadChangedEvent.class);
+        verify(eventPublisher).publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getValue().getDeltaByUserId()).containsEntry(1L, 1L)
+            .containsEntry(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("알림 히스토리를 id 커서로 가져오고 다음 커서를 만드는 테스트")
+    void getNotificationHistoryByCursor_shouldReturnNextCursor() {
+        // given
+        Campus campus = Campus.builder().campusId(1L).universityName("testCampus").build();
+        User user = User.builder().userId(1L).nickname("testUser").campus(campus).build();
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(notificationHistoryRepository.findPageBefore(1L, 10L, PageRequest.of(0, 3)))
+            .thenReturn(List.of(
+                NotificationHistory.builder().notificationHistoryId(9L).build(),
+                NotificationHistory.builder().notificationHistoryId(7L).build(),
+                NotificationHistory.builder().notificationHistoryId(4L).build()));
+
+        // when
+        CursorSliceResponse<NotificationHistoryResponseDto> result =
+            notificationHistoryService.getNotificationHistoryByCursor(1L, 10L, 2);
+
+        // then
+        assertThat(result.getContent()).extracting("notificationHistoryId")
+            .containsExactly(9L, 7L);
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(result.getNextCursor()).isEqualTo("7");
+    }
+
+    @Test
+    @DisplayName("첫 페이지가 마지막 페이지이면 다음 커서가 없는 테스트")
+    void getNotificationHistoryByCursor_shouldReturnLastPage() {
+        // given
+        Campus campus = Campus.builder().campusId(1L).universityName("testCampus").build();
+        User user = User.builder().userId(1L).nickname("testUser").campus(campus).build();
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(notificationHistoryRepository.findPageBefore(1L, Long.MAX_VALUE,
+            PageRequest.of(0, 3))).thenReturn(List.of(
+            NotificationHistory.builder().notificationHistoryId(2L).build()));
+
+        // when
+        CursorSliceResponse<NotificationHistoryResponseDto> result =
+            notificationHistoryService.getNotificationHistoryByCursor(1L, null, 2);
+
+        // then
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.isHasNext()).isFalse();
+        assertThat(result.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("안 읽은 알림을 읽으면 안 읽은 알림 수를 하나 줄이는 테스트")
+    void readNotification_shouldDecrementUnreadCount() {
+        // given
+        Campus campus = Campus.builder().campusId(1L).universityName("testCampus").build();
+        User user = User.builder().userId(1L).nickname("testUser").campus(campus).build();
+        NotificationHistory notificationHistory = NotificationHistory.builder()
+            .notificationHistoryId(1L)
+            .user(user)
+            .build();
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(notificationHistoryRepository.findByIdWithUserAndItem(1L))
+            .thenReturn(Optional.of(notificationHistory));
+
+        // when
+        notificationHistoryService.readNotification(1L, 1L);
+        notificationHistoryService.readNotification(1L, 1L);
+
+        // then
+        assertThat(notificationHistory.isRead()).isTrue();
+        ArgumentCaptor<NotificationUnreadChangedEvent> eventCaptor = ArgumentCaptor.forClass(
+            NotificationUnreadChangedEvent.class);
+        verify(eventPublisher, times(1)).publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getValue().getDeltaByUserId()).containsEntry(1L, -1L);
+    }
+
+    @Test
+    @DisplayName("읽은 알림을 삭제하면 안 읽은 알림 수를 바꾸지 않는 테스트")
+    void deleteNotification_shouldNotDecrementWhenAlreadyRead() {
+        // given
+        Campus campus = Campus.builder().campusId(1L).universityName("testCampus").build();
+        User user = User.builder().userId(1L).nickname("testUser").campus(campus).build();
+        NotificationHistory notificationHistory = NotificationHistory.builder()
+            .notificationHistoryId(1L)
+            .user(user)
+            .isRead(true)
+            .build();
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(notificationHistoryRepository.findByIdWithUserAndItem(1L))
+            .thenReturn(Optional.of(notificationHistory));
+
+        // when
+        notificationHistoryService.deleteNotification(1L, 1L);
+
+        // then
+        verify(eventPublisher, never()).publishEvent(any(NotificationUnreadChangedEvent.class));
     }
 
     @Test
@@ -0,0 +1,153 @@
+package LinkerBell.campus_market_spring.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import LinkerBell.campus_market_spring.dto.FcmMessageDto;
+import LinkerBell.campus_market_spring.global.push.CircuitBreaker.State;
+import LinkerBell.campus_market_spring.global.push.FakePushGateway;
+import LinkerBell.campus_market_spring.global.push.FakePushGateway.FakeError;
+import LinkerBell.campus_market_spring.global.push.PushFailedException;
+import LinkerBell.campus_market_spring.global.push.PushPriority;
+import LinkerBell.campus_market_spring.repository.UserFcmTokenRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+@ExtendWith(MockitoExtension.class)
+class PushDispatcherTest {
+
+    @Mock
+    FcmNotificationService fcmNotificationService;
+
+    @Mock
+    UserFcmTokenRepository userFcmTokenRepository;
+
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
+    SimpleMeterRegistry meterRegistry;
+    PushDispatcher pushDispatcher;
+
+    List<FcmMessageDto> messages = List.of(
+        FcmMessageDto.builder().targetToken("token1").title("title").body("body").build());
+
+    @BeforeEach
+    void beforeEach() {
+        meterRegistry = new SimpleMeterRegistry();
+        // HIGH : 작업 스레드 1, 대기열 1 / LOW : 작업 스레드 1, 대기열 1 / 연속 실패 2번이면 열린다.
+        pushDispatcher = new PushDispatcher(fcmNotificationService, meterRegistry,
+            1, 1, 10000, 1, 1, 10000, 2, 60000);
+    }
+
+    @AfterEach
+    void afterEach() throws InterruptedException {
+        pushDispatcher.shutdown();
+    }
+
+    @Test
+    @DisplayName("LOW lane이 막혀 있어도 HIGH lane 푸시는 바로 보내는 테스트")
+    public void laneIsolationTest() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        List<FcmMessageDto> keywordMessages = List.of(
+            FcmMessageDto.builder().targetToken("keyword").title("title").body("body").build());
+        when(fcmNotificationService.sendNotifications(keywordMessages)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return 0;
+        });
+        when(fcmNotificationService.sendNotifications(messages)).thenReturn(0);
+        CompletableFuture<Void> running = pushDispatcher.dispatch(PushPriority.LOW,
+            keywordMessages);
+        CompletableFuture<Void> queued = pushDispatcher.dispatch(PushPriority.LOW,
+            keywordMessages);
+
+        // when
+        CompletableFuture<Void> rejected = pushDispatcher.dispatch(PushPriority.LOW,
+            keywordMessages);
+        CompletableFuture<Void> chat = pushDispatcher.dispatch(PushPriority.HIGH, messages);
+
+        // then
+        chat.get(1, TimeUnit.SECONDS);
+        assertThatThrownBy(rejected::join).isInstanceOf(CompletionException.class)
+            .hasCauseInstanceOf(RejectedExecutionException.class);
+        release.countDown();
+        running.get(5, TimeUnit.SECONDS);
+        queued.get(5, TimeUnit.SECONDS);
+        assertThat(meterRegistry.get("push.rejected").tag("lane", "low")
+            .tag("reason", "queue_full").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("push.latency").tag("lane", "high").timer().count())
+            .isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("다시 보낼 수 있는 실패가 남으면 future를 실패로 완료하고 잘못된 토큰만 있으면 성공으로 완료하는 테스트")
+    public void retryableFailureTest() throws Exception {
+        // given
+        FakePushGateway pushGateway = new FakePushGateway();
+        pushGateway.addError("unavailable", FakeError.UNAVAILABLE);
+        pushGateway.addInvalidToken("unregistered");
+        when(userFcmTokenRepository.findUserIdsByFcmTokenIn(anyList())).thenReturn(List.of());
+        PushDispatcher fakeDispatcher = new PushDispatcher(
+            new FcmNotificationService(userFcmTokenRepository, pushGateway, eventPublisher),
+            new SimpleMeterRegistry(), 1, 1, 10000, 1, 1, 10000, 2, 60000);
+
+        try {
+            // when
+            CompletableFuture<Void> unavailable = fakeDispatcher.dispatch(PushPriority.LOW,
+                List.of(message("token1"), message("unavailable")));
+            CompletableFuture<Void> unregistered = fakeDispatcher.dispatch(PushPriority.LOW,
+                List.of(message("token2"), message("unregistered")));
+
+            // then
+            assertThatThrownBy(unavailable::join).isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(PushFailedException.class);
+            unregistered.get(1, TimeUnit.SECONDS);
+            assertThat(pushGateway.getSentCount()).isEqualTo(2L);
+            assertThat(fakeDispatcher.getCircuitState(PushPriority.LOW)).isEqualTo(State.CLOSED);
+        } finally {
+            fakeDispatcher.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("연속으로 한 건도 보내지 못하면 circuit을 열고 이후 요청을 거절하는 테스트")
+    public void circuitOpenTest() throws Exception {
+        // given
+        when(fcmNotificationService.sendNotifications(anyList())).thenReturn(messages.size());
+
+        // when
+        CompletableFuture<Void> first = pushDispatcher.dispatch(PushPriority.HIGH, messages);
+        CompletableFuture<Void> second = pushDispatcher.dispatch(PushPriority.HIGH, messages);
+        assertThatThrownBy(first::join).hasCauseInstanceOf(PushFailedException.class);
+        assertThatThrownBy(second::join).hasCauseInstanceOf(PushFailedException.class);
+        CompletableFuture<Void> rejected = pushDispatcher.dispatch(PushPriority.HIGH, messages);
+
+        // then
+        assertThat(pushDispatcher.getCircuitState(PushPriority.HIGH)).isEqualTo(State.OPEN);
+        assertThat(pushDispatcher.getCircuitState(PushPriority.LOW)).isEqualTo(State.CLOSED);
+        assertThatThrownBy(rejected::join).hasCauseInstanceOf(RejectedExecutionException.class);
+        verify(fcmNotificationService, times(2)).sendNotifications(anyList());
+    }
+
+    private FcmMessageDto message(String targetToken) {
+        return FcmMessageDto.builder().targetToken(targetToken).title("title").body("body")
+            .build();
+    }
+}